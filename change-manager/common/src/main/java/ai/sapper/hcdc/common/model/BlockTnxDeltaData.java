@@ -0,0 +1,704 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+/**
+ * Protobuf type {@code ai_sapper_hcdc_common_model.BlockTnxDeltaData}
+ */
+public  final class BlockTnxDeltaData extends
+    com.google.protobuf.GeneratedMessage
+    implements BlockTnxDeltaDataOrBuilder {
+  // Use BlockTnxDeltaData.newBuilder() to construct.
+  private BlockTnxDeltaData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+    this.unknownFields = builder.getUnknownFields();
+  }
+  private BlockTnxDeltaData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+  private static final BlockTnxDeltaData defaultInstance;
+  public static BlockTnxDeltaData getDefaultInstance() {
+    return defaultInstance;
+  }
+
+  public BlockTnxDeltaData getDefaultInstanceForType() {
+    return defaultInstance;
+  }
+
+  private final com.google.protobuf.UnknownFieldSet unknownFields;
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+    return this.unknownFields;
+  }
+  private BlockTnxDeltaData(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    initFields();
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownField(input, unknownFields,
+                                   extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            bitField0_ |= 0x00000001;
+            tnxId_ = input.readInt64();
+            break;
+          }
+          case 16: {
+            bitField0_ |= 0x00000002;
+            startOffset_ = input.readInt64();
+            break;
+          }
+          case 24: {
+            bitField0_ |= 0x00000004;
+            endOffset_ = input.readInt64();
+            break;
+          }
+          case 32: {
+            bitField0_ |= 0x00000008;
+            timestamp_ = input.readUInt64();
+            break;
+          }
+          case 40: {
+            bitField0_ |= 0x00000010;
+            deleted_ = input.readBool();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e.getMessage()).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            ai.sapper.hcdc.common.model.BlockTnxDeltaData.class, ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder.class);
+  }
+
+  public static com.google.protobuf.Parser<BlockTnxDeltaData> PARSER =
+      new com.google.protobuf.AbstractParser<BlockTnxDeltaData>() {
+    public BlockTnxDeltaData parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new BlockTnxDeltaData(input, extensionRegistry);
+    }
+  };
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BlockTnxDeltaData> getParserForType() {
+    return PARSER;
+  }
+
+  private int bitField0_;
+  // required int64 tnxId = 1;
+  public static final int TNXID_FIELD_NUMBER = 1;
+  private long tnxId_;
+  /**
+   * <code>required int64 tnxId = 1;</code>
+   */
+  public boolean hasTnxId() {
+    return ((bitField0_ & 0x00000001) == 0x00000001);
+  }
+  /**
+   * <code>required int64 tnxId = 1;</code>
+   */
+  public long getTnxId() {
+    return tnxId_;
+  }
+
+  // required int64 startOffset = 2;
+  public static final int STARTOFFSET_FIELD_NUMBER = 2;
+  private long startOffset_;
+  /**
+   * <code>required int64 startOffset = 2;</code>
+   */
+  public boolean hasStartOffset() {
+    return ((bitField0_ & 0x00000002) == 0x00000002);
+  }
+  /**
+   * <code>required int64 startOffset = 2;</code>
+   */
+  public long getStartOffset() {
+    return startOffset_;
+  }
+
+  // required int64 endOffset = 3;
+  public static final int ENDOFFSET_FIELD_NUMBER = 3;
+  private long endOffset_;
+  /**
+   * <code>required int64 endOffset = 3;</code>
+   */
+  public boolean hasEndOffset() {
+    return ((bitField0_ & 0x00000004) == 0x00000004);
+  }
+  /**
+   * <code>required int64 endOffset = 3;</code>
+   */
+  public long getEndOffset() {
+    return endOffset_;
+  }
+
+  // required uint64 timestamp = 4;
+  public static final int TIMESTAMP_FIELD_NUMBER = 4;
+  private long timestamp_;
+  /**
+   * <code>required uint64 timestamp = 4;</code>
+   */
+  public boolean hasTimestamp() {
+    return ((bitField0_ & 0x00000008) == 0x00000008);
+  }
+  /**
+   * <code>required uint64 timestamp = 4;</code>
+   */
+  public long getTimestamp() {
+    return timestamp_;
+  }
+
+  // optional bool deleted = 5;
+  public static final int DELETED_FIELD_NUMBER = 5;
+  private boolean deleted_;
+  /**
+   * <code>optional bool deleted = 5;</code>
+   */
+  public boolean hasDeleted() {
+    return ((bitField0_ & 0x00000010) == 0x00000010);
+  }
+  /**
+   * <code>optional bool deleted = 5;</code>
+   */
+  public boolean getDeleted() {
+    return deleted_;
+  }
+
+  private void initFields() {
+    tnxId_ = 0L;
+    startOffset_ = 0L;
+    endOffset_ = 0L;
+    timestamp_ = 0L;
+    deleted_ = false;
+  }
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized != -1) return isInitialized == 1;
+
+    if (!hasTnxId()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasStartOffset()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasEndOffset()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasTimestamp()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      output.writeInt64(1, tnxId_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      output.writeInt64(2, startOffset_);
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      output.writeInt64(3, endOffset_);
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      output.writeUInt64(4, timestamp_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      output.writeBool(5, deleted_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  private int memoizedSerializedSize = -1;
+  public int getSerializedSize() {
+    int size = memoizedSerializedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, tnxId_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, startOffset_);
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, endOffset_);
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(4, timestamp_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(5, deleted_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSerializedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  protected java.lang.Object writeReplace()
+      throws java.io.ObjectStreamException {
+    return super.writeReplace();
+  }
+
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.BlockTnxDeltaData parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+
+  public static Builder newBuilder() { return Builder.create(); }
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder(ai.sapper.hcdc.common.model.BlockTnxDeltaData prototype) {
+    return newBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() { return newBuilder(this); }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ai_sapper_hcdc_common_model.BlockTnxDeltaData}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder>
+     implements ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ai.sapper.hcdc.common.model.BlockTnxDeltaData.class, ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder.class);
+    }
+
+    // Construct using ai.sapper.hcdc.common.model.BlockTnxDeltaData.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+      }
+    }
+    private static Builder create() {
+      return new Builder();
+    }
+
+    public Builder clear() {
+      super.clear();
+      tnxId_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      startOffset_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      endOffset_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      timestamp_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      deleted_ = false;
+      bitField0_ = (bitField0_ & ~0x00000010);
+      return this;
+    }
+
+    public Builder clone() {
+      return create().mergeFrom(buildPartial());
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_descriptor;
+    }
+
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaData getDefaultInstanceForType() {
+      return ai.sapper.hcdc.common.model.BlockTnxDeltaData.getDefaultInstance();
+    }
+
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaData build() {
+      ai.sapper.hcdc.common.model.BlockTnxDeltaData result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaData buildPartial() {
+      ai.sapper.hcdc.common.model.BlockTnxDeltaData result = new ai.sapper.hcdc.common.model.BlockTnxDeltaData(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.tnxId_ = tnxId_;
+      if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.startOffset_ = startOffset_;
+      if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      result.endOffset_ = endOffset_;
+      if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        to_bitField0_ |= 0x00000008;
+      }
+      result.timestamp_ = timestamp_;
+      if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        to_bitField0_ |= 0x00000010;
+      }
+      result.deleted_ = deleted_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof ai.sapper.hcdc.common.model.BlockTnxDeltaData) {
+        return mergeFrom((ai.sapper.hcdc.common.model.BlockTnxDeltaData)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(ai.sapper.hcdc.common.model.BlockTnxDeltaData other) {
+      if (other == ai.sapper.hcdc.common.model.BlockTnxDeltaData.getDefaultInstance()) return this;
+      if (other.hasTnxId()) {
+        setTnxId(other.getTnxId());
+      }
+      if (other.hasStartOffset()) {
+        setStartOffset(other.getStartOffset());
+      }
+      if (other.hasEndOffset()) {
+        setEndOffset(other.getEndOffset());
+      }
+      if (other.hasTimestamp()) {
+        setTimestamp(other.getTimestamp());
+      }
+      if (other.hasDeleted()) {
+        setDeleted(other.getDeleted());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      if (!hasTnxId()) {
+        
+        return false;
+      }
+      if (!hasStartOffset()) {
+        
+        return false;
+      }
+      if (!hasEndOffset()) {
+        
+        return false;
+      }
+      if (!hasTimestamp()) {
+        
+        return false;
+      }
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      ai.sapper.hcdc.common.model.BlockTnxDeltaData parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (ai.sapper.hcdc.common.model.BlockTnxDeltaData) e.getUnfinishedMessage();
+        throw e;
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    // required int64 tnxId = 1;
+    private long tnxId_ ;
+    /**
+     * <code>required int64 tnxId = 1;</code>
+     */
+    public boolean hasTnxId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int64 tnxId = 1;</code>
+     */
+    public long getTnxId() {
+      return tnxId_;
+    }
+    /**
+     * <code>required int64 tnxId = 1;</code>
+     */
+    public Builder setTnxId(long value) {
+      bitField0_ |= 0x00000001;
+      tnxId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 tnxId = 1;</code>
+     */
+    public Builder clearTnxId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      tnxId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 startOffset = 2;
+    private long startOffset_ ;
+    /**
+     * <code>required int64 startOffset = 2;</code>
+     */
+    public boolean hasStartOffset() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int64 startOffset = 2;</code>
+     */
+    public long getStartOffset() {
+      return startOffset_;
+    }
+    /**
+     * <code>required int64 startOffset = 2;</code>
+     */
+    public Builder setStartOffset(long value) {
+      bitField0_ |= 0x00000002;
+      startOffset_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 startOffset = 2;</code>
+     */
+    public Builder clearStartOffset() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      startOffset_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 endOffset = 3;
+    private long endOffset_ ;
+    /**
+     * <code>required int64 endOffset = 3;</code>
+     */
+    public boolean hasEndOffset() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required int64 endOffset = 3;</code>
+     */
+    public long getEndOffset() {
+      return endOffset_;
+    }
+    /**
+     * <code>required int64 endOffset = 3;</code>
+     */
+    public Builder setEndOffset(long value) {
+      bitField0_ |= 0x00000004;
+      endOffset_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 endOffset = 3;</code>
+     */
+    public Builder clearEndOffset() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      endOffset_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 timestamp = 4;
+    private long timestamp_ ;
+    /**
+     * <code>required uint64 timestamp = 4;</code>
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required uint64 timestamp = 4;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+    /**
+     * <code>required uint64 timestamp = 4;</code>
+     */
+    public Builder setTimestamp(long value) {
+      bitField0_ |= 0x00000008;
+      timestamp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 timestamp = 4;</code>
+     */
+    public Builder clearTimestamp() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      timestamp_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // optional bool deleted = 5;
+    private boolean deleted_ ;
+    /**
+     * <code>optional bool deleted = 5;</code>
+     */
+    public boolean hasDeleted() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool deleted = 5;</code>
+     */
+    public boolean getDeleted() {
+      return deleted_;
+    }
+    /**
+     * <code>optional bool deleted = 5;</code>
+     */
+    public Builder setDeleted(boolean value) {
+      bitField0_ |= 0x00000010;
+      deleted_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool deleted = 5;</code>
+     */
+    public Builder clearDeleted() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      deleted_ = false;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.BlockTnxDeltaData)
+  }
+
+  static {
+    defaultInstance = new BlockTnxDeltaData(true);
+    defaultInstance.initFields();
+  }
+
+  // @@protoc_insertion_point(class_scope:ai_sapper_hcdc_common_model.BlockTnxDeltaData)
+}
+
@@ -0,0 +1,58 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public interface BlockTnxDeltaDataOrBuilder
+    extends com.google.protobuf.MessageOrBuilder {
+
+  // required int64 tnxId = 1;
+  /**
+   * <code>required int64 tnxId = 1;</code>
+   */
+  boolean hasTnxId();
+  /**
+   * <code>required int64 tnxId = 1;</code>
+   */
+  long getTnxId();
+
+  // required int64 startOffset = 2;
+  /**
+   * <code>required int64 startOffset = 2;</code>
+   */
+  boolean hasStartOffset();
+  /**
+   * <code>required int64 startOffset = 2;</code>
+   */
+  long getStartOffset();
+
+  // required int64 endOffset = 3;
+  /**
+   * <code>required int64 endOffset = 3;</code>
+   */
+  boolean hasEndOffset();
+  /**
+   * <code>required int64 endOffset = 3;</code>
+   */
+  long getEndOffset();
+
+  // required uint64 timestamp = 4;
+  /**
+   * <code>required uint64 timestamp = 4;</code>
+   */
+  boolean hasTimestamp();
+  /**
+   * <code>required uint64 timestamp = 4;</code>
+   */
+  long getTimestamp();
+
+  // optional bool deleted = 5;
+  /**
+   * <code>optional bool deleted = 5;</code>
+   */
+  boolean hasDeleted();
+  /**
+   * <code>optional bool deleted = 5;</code>
+   */
+  boolean getDeleted();
+}
@@ -147,21 +147,29 @@ public final class DFSBlockProto {
       "FSFile\022\016\n\006length\030\004 \002(\004\022C\n\004opts\030\005 \001(\01625.a" +
       "i_sapper_hcdc_common_model.DFSRenameFile" +
       ".RenameOpts\"3\n\nRenameOpts\022\010\n\004NONE\020\000\022\r\n\tO",
-      "VERWRITE\020\001\022\014\n\010TO_TRASH\020\002\"\223\001\n\013DFSIgnoreTx" +
+      "VERWRITE\020\001\022\014\n\010TO_TRASH\020\002\"\255\001\n\013DFSIgnoreTx" +
       "\022@\n\013transaction\030\001 \002(\0132+.ai_sapper_hcdc_c" +
       "ommon_model.DFSTransaction\022\016\n\006opCode\030\002 \002" +
       "(\t\0222\n\004file\030\003 \001(\0132$.ai_sapper_hcdc_common" +
-      "_model.DFSFile\"\306\001\n\010DFSError\022@\n\013transacti" +
-      "on\030\001 \002(\0132+.ai_sapper_hcdc_common_model.D" +
-      "FSTransaction\022=\n\004code\030\002 \002(\0162/.ai_sapper_" +
-      "hcdc_common_model.DFSError.ErrorCode\022\017\n\007" +
-      "message\030\003 \002(\t\"(\n\tErrorCode\022\020\n\014SYNC_STOPP" +
-      "ED\020\000\022\t\n\005FATAL\020\001\"\224\001\n\016DFSChangeDelta\022\021\n\tna",
-      "mespace\030\001 \002(\t\022\014\n\004txId\030\002 \002(\t\022\016\n\006entity\030\003 " +
-      "\002(\t\022\014\n\004type\030\004 \002(\t\022\021\n\ttimestamp\030\005 \002(\004\022\014\n\004" +
-      "body\030\006 \002(\014\022\016\n\006domain\030\007 \001(\t\022\022\n\nentityName" +
-      "\030\010 \001(\tB.\n\033ai.sapper.hcdc.common.modelB\rD" +
-      "FSBlockProtoP\001"
+      "_model.DFSFile\022\030\n\020endTransactionId\030\004 \001(\003" +
+      "\"\306\001\n\010DFSError\022@\n\013transaction\030\001 \002(\0132+.ai_" +
+      "sapper_hcdc_common_model.DFSTransaction\022" +
+      "=\n\004code\030\002 \002(\0162/.ai_sapper_hcdc_common_mo" +
+      "del.DFSError.ErrorCode\022\017\n\007message\030\003 \002(\t\"" +
+      "(\n\tErrorCode\022\020\n\014SYNC_STOPPED\020\000\022\t\n\005FATAL\020",
+      "\001\"\265\003\n\016DFSChangeDelta\022\021\n\tnamespace\030\001 \002(\t\022" +
+      "\014\n\004txId\030\002 \001(\t\022\016\n\006entity\030\003 \002(\t\022\014\n\004type\030\004 " +
+      "\001(\t\022\021\n\ttimestamp\030\005 \002(\004\022\014\n\004body\030\006 \002(\014\022\016\n\006" +
+      "domain\030\007 \001(\t\022\022\n\nentityName\030\010 \001(\t\022\017\n\007vers" +
+      "ion\030\t \001(\r\022\025\n\rtransactionId\030\n \001(\003\022H\n\tdelt" +
+      "aType\030\013 \001(\01625.ai_sapper_hcdc_common_mode" +
+      "l.DFSChangeDelta.DeltaType\"\254\001\n\tDeltaType" +
+      "\022\014\n\010ADD_FILE\020\000\022\017\n\013APPEND_FILE\020\001\022\017\n\013DELET" +
+      "E_FILE\020\002\022\r\n\tADD_BLOCK\020\003\022\021\n\rUPDATE_BLOCKS" +
+      "\020\004\022\022\n\016TRUNCATE_BLOCK\020\005\022\016\n\nCLOSE_FILE\020\006\022\017",
+      "\n\013RENAME_FILE\020\007\022\r\n\tIGNORE_TX\020\010\022\t\n\005ERROR\020" +
+      "\tB.\n\033ai.sapper.hcdc.common.modelB\rDFSBlo" +
+      "ckProtoP\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -239,7 +247,7 @@ public final class DFSBlockProto {
           internal_static_ai_sapper_hcdc_common_model_DFSIgnoreTx_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_ai_sapper_hcdc_common_model_DFSIgnoreTx_descriptor,
-              new java.lang.String[] { "Transaction", "OpCode", "File", });
+              new java.lang.String[] { "Transaction", "OpCode", "File", "EndTransactionId", });
           internal_static_ai_sapper_hcdc_common_model_DFSError_descriptor =
             getDescriptor().getMessageTypes().get(12);
           internal_static_ai_sapper_hcdc_common_model_DFSError_fieldAccessorTable = new
@@ -251,7 +259,7 @@ public final class DFSBlockProto {
           internal_static_ai_sapper_hcdc_common_model_DFSChangeDelta_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_ai_sapper_hcdc_common_model_DFSChangeDelta_descriptor,
-              new java.lang.String[] { "Namespace", "TxId", "Entity", "Type", "Timestamp", "Body", "Domain", "EntityName", });
+              new java.lang.String[] { "Namespace", "TxId", "Entity", "Type", "Timestamp", "Body", "Domain", "EntityName", "Version", "TransactionId", "DeltaType", });
           return null;
         }
       };
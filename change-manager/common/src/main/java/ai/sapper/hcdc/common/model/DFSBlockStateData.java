@@ -0,0 +1,1643 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+/**
+ * Protobuf type {@code ai_sapper_hcdc_common_model.DFSBlockStateData}
+ */
+public  final class DFSBlockStateData extends
+    com.google.protobuf.GeneratedMessage
+    implements DFSBlockStateDataOrBuilder {
+  // Use DFSBlockStateData.newBuilder() to construct.
+  private DFSBlockStateData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+    this.unknownFields = builder.getUnknownFields();
+  }
+  private DFSBlockStateData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+  private static final DFSBlockStateData defaultInstance;
+  public static DFSBlockStateData getDefaultInstance() {
+    return defaultInstance;
+  }
+
+  public DFSBlockStateData getDefaultInstanceForType() {
+    return defaultInstance;
+  }
+
+  private final com.google.protobuf.UnknownFieldSet unknownFields;
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+    return this.unknownFields;
+  }
+  private DFSBlockStateData(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    initFields();
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownField(input, unknownFields,
+                                   extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            bitField0_ |= 0x00000001;
+            blockId_ = input.readInt64();
+            break;
+          }
+          case 16: {
+            bitField0_ |= 0x00000002;
+            prevBlockId_ = input.readInt64();
+            break;
+          }
+          case 24: {
+            bitField0_ |= 0x00000004;
+            createdTime_ = input.readUInt64();
+            break;
+          }
+          case 32: {
+            bitField0_ |= 0x00000008;
+            updatedTime_ = input.readUInt64();
+            break;
+          }
+          case 40: {
+            bitField0_ |= 0x00000010;
+            dataSize_ = input.readInt64();
+            break;
+          }
+          case 48: {
+            bitField0_ |= 0x00000020;
+            blockSize_ = input.readInt64();
+            break;
+          }
+          case 56: {
+            bitField0_ |= 0x00000040;
+            lastTnxId_ = input.readInt64();
+            break;
+          }
+          case 64: {
+            bitField0_ |= 0x00000080;
+            generationStamp_ = input.readInt64();
+            break;
+          }
+          case 74: {
+            bitField0_ |= 0x00000100;
+            blockChecksum_ = input.readBytes();
+            break;
+          }
+          case 80: {
+            bitField0_ |= 0x00000200;
+            stored_ = input.readBool();
+            break;
+          }
+          case 90: {
+            bitField0_ |= 0x00000400;
+            state_ = input.readBytes();
+            break;
+          }
+          case 98: {
+            if (!((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+              transactions_ = new java.util.ArrayList<ai.sapper.hcdc.common.model.BlockTnxDeltaData>();
+              mutable_bitField0_ |= 0x00000800;
+            }
+            transactions_.add(input.readMessage(ai.sapper.hcdc.common.model.BlockTnxDeltaData.PARSER, extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e.getMessage()).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+        transactions_ = java.util.Collections.unmodifiableList(transactions_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            ai.sapper.hcdc.common.model.DFSBlockStateData.class, ai.sapper.hcdc.common.model.DFSBlockStateData.Builder.class);
+  }
+
+  public static com.google.protobuf.Parser<DFSBlockStateData> PARSER =
+      new com.google.protobuf.AbstractParser<DFSBlockStateData>() {
+    public DFSBlockStateData parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new DFSBlockStateData(input, extensionRegistry);
+    }
+  };
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DFSBlockStateData> getParserForType() {
+    return PARSER;
+  }
+
+  private int bitField0_;
+  // required int64 blockId = 1;
+  public static final int BLOCKID_FIELD_NUMBER = 1;
+  private long blockId_;
+  /**
+   * <code>required int64 blockId = 1;</code>
+   */
+  public boolean hasBlockId() {
+    return ((bitField0_ & 0x00000001) == 0x00000001);
+  }
+  /**
+   * <code>required int64 blockId = 1;</code>
+   */
+  public long getBlockId() {
+    return blockId_;
+  }
+
+  // optional int64 prevBlockId = 2 [default = -1];
+  public static final int PREVBLOCKID_FIELD_NUMBER = 2;
+  private long prevBlockId_;
+  /**
+   * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+   */
+  public boolean hasPrevBlockId() {
+    return ((bitField0_ & 0x00000002) == 0x00000002);
+  }
+  /**
+   * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+   */
+  public long getPrevBlockId() {
+    return prevBlockId_;
+  }
+
+  // required uint64 createdTime = 3;
+  public static final int CREATEDTIME_FIELD_NUMBER = 3;
+  private long createdTime_;
+  /**
+   * <code>required uint64 createdTime = 3;</code>
+   */
+  public boolean hasCreatedTime() {
+    return ((bitField0_ & 0x00000004) == 0x00000004);
+  }
+  /**
+   * <code>required uint64 createdTime = 3;</code>
+   */
+  public long getCreatedTime() {
+    return createdTime_;
+  }
+
+  // required uint64 updatedTime = 4;
+  public static final int UPDATEDTIME_FIELD_NUMBER = 4;
+  private long updatedTime_;
+  /**
+   * <code>required uint64 updatedTime = 4;</code>
+   */
+  public boolean hasUpdatedTime() {
+    return ((bitField0_ & 0x00000008) == 0x00000008);
+  }
+  /**
+   * <code>required uint64 updatedTime = 4;</code>
+   */
+  public long getUpdatedTime() {
+    return updatedTime_;
+  }
+
+  // required int64 dataSize = 5;
+  public static final int DATASIZE_FIELD_NUMBER = 5;
+  private long dataSize_;
+  /**
+   * <code>required int64 dataSize = 5;</code>
+   */
+  public boolean hasDataSize() {
+    return ((bitField0_ & 0x00000010) == 0x00000010);
+  }
+  /**
+   * <code>required int64 dataSize = 5;</code>
+   */
+  public long getDataSize() {
+    return dataSize_;
+  }
+
+  // required int64 blockSize = 6;
+  public static final int BLOCKSIZE_FIELD_NUMBER = 6;
+  private long blockSize_;
+  /**
+   * <code>required int64 blockSize = 6;</code>
+   */
+  public boolean hasBlockSize() {
+    return ((bitField0_ & 0x00000020) == 0x00000020);
+  }
+  /**
+   * <code>required int64 blockSize = 6;</code>
+   */
+  public long getBlockSize() {
+    return blockSize_;
+  }
+
+  // required int64 lastTnxId = 7;
+  public static final int LASTTNXID_FIELD_NUMBER = 7;
+  private long lastTnxId_;
+  /**
+   * <code>required int64 lastTnxId = 7;</code>
+   */
+  public boolean hasLastTnxId() {
+    return ((bitField0_ & 0x00000040) == 0x00000040);
+  }
+  /**
+   * <code>required int64 lastTnxId = 7;</code>
+   */
+  public long getLastTnxId() {
+    return lastTnxId_;
+  }
+
+  // optional int64 generationStamp = 8;
+  public static final int GENERATIONSTAMP_FIELD_NUMBER = 8;
+  private long generationStamp_;
+  /**
+   * <code>optional int64 generationStamp = 8;</code>
+   */
+  public boolean hasGenerationStamp() {
+    return ((bitField0_ & 0x00000080) == 0x00000080);
+  }
+  /**
+   * <code>optional int64 generationStamp = 8;</code>
+   */
+  public long getGenerationStamp() {
+    return generationStamp_;
+  }
+
+  // optional string blockChecksum = 9;
+  public static final int BLOCKCHECKSUM_FIELD_NUMBER = 9;
+  private java.lang.Object blockChecksum_;
+  /**
+   * <code>optional string blockChecksum = 9;</code>
+   */
+  public boolean hasBlockChecksum() {
+    return ((bitField0_ & 0x00000100) == 0x00000100);
+  }
+  /**
+   * <code>optional string blockChecksum = 9;</code>
+   */
+  public java.lang.String getBlockChecksum() {
+    java.lang.Object ref = blockChecksum_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        blockChecksum_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>optional string blockChecksum = 9;</code>
+   */
+  public com.google.protobuf.ByteString
+      getBlockChecksumBytes() {
+    java.lang.Object ref = blockChecksum_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      blockChecksum_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // optional bool stored = 10;
+  public static final int STORED_FIELD_NUMBER = 10;
+  private boolean stored_;
+  /**
+   * <code>optional bool stored = 10;</code>
+   */
+  public boolean hasStored() {
+    return ((bitField0_ & 0x00000200) == 0x00000200);
+  }
+  /**
+   * <code>optional bool stored = 10;</code>
+   */
+  public boolean getStored() {
+    return stored_;
+  }
+
+  // required string state = 11;
+  public static final int STATE_FIELD_NUMBER = 11;
+  private java.lang.Object state_;
+  /**
+   * <code>required string state = 11;</code>
+   */
+  public boolean hasState() {
+    return ((bitField0_ & 0x00000400) == 0x00000400);
+  }
+  /**
+   * <code>required string state = 11;</code>
+   */
+  public java.lang.String getState() {
+    java.lang.Object ref = state_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        state_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string state = 11;</code>
+   */
+  public com.google.protobuf.ByteString
+      getStateBytes() {
+    java.lang.Object ref = state_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      state_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;
+  public static final int TRANSACTIONS_FIELD_NUMBER = 12;
+  private java.util.List<ai.sapper.hcdc.common.model.BlockTnxDeltaData> transactions_;
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  public java.util.List<ai.sapper.hcdc.common.model.BlockTnxDeltaData> getTransactionsList() {
+    return transactions_;
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  public java.util.List<? extends ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder> 
+      getTransactionsOrBuilderList() {
+    return transactions_;
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  public int getTransactionsCount() {
+    return transactions_.size();
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  public ai.sapper.hcdc.common.model.BlockTnxDeltaData getTransactions(int index) {
+    return transactions_.get(index);
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  public ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder getTransactionsOrBuilder(
+      int index) {
+    return transactions_.get(index);
+  }
+
+  private void initFields() {
+    blockId_ = 0L;
+    prevBlockId_ = -1L;
+    createdTime_ = 0L;
+    updatedTime_ = 0L;
+    dataSize_ = 0L;
+    blockSize_ = 0L;
+    lastTnxId_ = 0L;
+    generationStamp_ = 0L;
+    blockChecksum_ = "";
+    stored_ = false;
+    state_ = "";
+    transactions_ = java.util.Collections.emptyList();
+  }
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized != -1) return isInitialized == 1;
+
+    if (!hasBlockId()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasCreatedTime()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasUpdatedTime()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasDataSize()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasBlockSize()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasLastTnxId()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasState()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    for (int i = 0; i < getTransactionsCount(); i++) {
+      if (!getTransactions(i).isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      output.writeInt64(1, blockId_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      output.writeInt64(2, prevBlockId_);
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      output.writeUInt64(3, createdTime_);
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      output.writeUInt64(4, updatedTime_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      output.writeInt64(5, dataSize_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      output.writeInt64(6, blockSize_);
+    }
+    if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      output.writeInt64(7, lastTnxId_);
+    }
+    if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      output.writeInt64(8, generationStamp_);
+    }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      output.writeBytes(9, getBlockChecksumBytes());
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      output.writeBool(10, stored_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      output.writeBytes(11, getStateBytes());
+    }
+    for (int i = 0; i < transactions_.size(); i++) {
+      output.writeMessage(12, transactions_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  private int memoizedSerializedSize = -1;
+  public int getSerializedSize() {
+    int size = memoizedSerializedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, blockId_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, prevBlockId_);
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(3, createdTime_);
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(4, updatedTime_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(5, dataSize_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(6, blockSize_);
+    }
+    if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, lastTnxId_);
+    }
+    if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(8, generationStamp_);
+    }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(9, getBlockChecksumBytes());
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(10, stored_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(11, getStateBytes());
+    }
+    for (int i = 0; i < transactions_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(12, transactions_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSerializedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  protected java.lang.Object writeReplace()
+      throws java.io.ObjectStreamException {
+    return super.writeReplace();
+  }
+
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSBlockStateData parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+
+  public static Builder newBuilder() { return Builder.create(); }
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder(ai.sapper.hcdc.common.model.DFSBlockStateData prototype) {
+    return newBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() { return newBuilder(this); }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ai_sapper_hcdc_common_model.DFSBlockStateData}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder>
+     implements ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ai.sapper.hcdc.common.model.DFSBlockStateData.class, ai.sapper.hcdc.common.model.DFSBlockStateData.Builder.class);
+    }
+
+    // Construct using ai.sapper.hcdc.common.model.DFSBlockStateData.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        getTransactionsFieldBuilder();
+      }
+    }
+    private static Builder create() {
+      return new Builder();
+    }
+
+    public Builder clear() {
+      super.clear();
+      blockId_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      prevBlockId_ = -1L;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      createdTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      updatedTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      dataSize_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000010);
+      blockSize_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000020);
+      lastTnxId_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000040);
+      generationStamp_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000080);
+      blockChecksum_ = "";
+      bitField0_ = (bitField0_ & ~0x00000100);
+      stored_ = false;
+      bitField0_ = (bitField0_ & ~0x00000200);
+      state_ = "";
+      bitField0_ = (bitField0_ & ~0x00000400);
+      if (transactionsBuilder_ == null) {
+        transactions_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000800);
+      } else {
+        transactionsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public Builder clone() {
+      return create().mergeFrom(buildPartial());
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_descriptor;
+    }
+
+    public ai.sapper.hcdc.common.model.DFSBlockStateData getDefaultInstanceForType() {
+      return ai.sapper.hcdc.common.model.DFSBlockStateData.getDefaultInstance();
+    }
+
+    public ai.sapper.hcdc.common.model.DFSBlockStateData build() {
+      ai.sapper.hcdc.common.model.DFSBlockStateData result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public ai.sapper.hcdc.common.model.DFSBlockStateData buildPartial() {
+      ai.sapper.hcdc.common.model.DFSBlockStateData result = new ai.sapper.hcdc.common.model.DFSBlockStateData(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.blockId_ = blockId_;
+      if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.prevBlockId_ = prevBlockId_;
+      if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      result.createdTime_ = createdTime_;
+      if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        to_bitField0_ |= 0x00000008;
+      }
+      result.updatedTime_ = updatedTime_;
+      if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        to_bitField0_ |= 0x00000010;
+      }
+      result.dataSize_ = dataSize_;
+      if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+        to_bitField0_ |= 0x00000020;
+      }
+      result.blockSize_ = blockSize_;
+      if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+        to_bitField0_ |= 0x00000040;
+      }
+      result.lastTnxId_ = lastTnxId_;
+      if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+        to_bitField0_ |= 0x00000080;
+      }
+      result.generationStamp_ = generationStamp_;
+      if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+        to_bitField0_ |= 0x00000100;
+      }
+      result.blockChecksum_ = blockChecksum_;
+      if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+        to_bitField0_ |= 0x00000200;
+      }
+      result.stored_ = stored_;
+      if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+        to_bitField0_ |= 0x00000400;
+      }
+      result.state_ = state_;
+      if (transactionsBuilder_ == null) {
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          transactions_ = java.util.Collections.unmodifiableList(transactions_);
+          bitField0_ = (bitField0_ & ~0x00000800);
+        }
+        result.transactions_ = transactions_;
+      } else {
+        result.transactions_ = transactionsBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof ai.sapper.hcdc.common.model.DFSBlockStateData) {
+        return mergeFrom((ai.sapper.hcdc.common.model.DFSBlockStateData)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(ai.sapper.hcdc.common.model.DFSBlockStateData other) {
+      if (other == ai.sapper.hcdc.common.model.DFSBlockStateData.getDefaultInstance()) return this;
+      if (other.hasBlockId()) {
+        setBlockId(other.getBlockId());
+      }
+      if (other.hasPrevBlockId()) {
+        setPrevBlockId(other.getPrevBlockId());
+      }
+      if (other.hasCreatedTime()) {
+        setCreatedTime(other.getCreatedTime());
+      }
+      if (other.hasUpdatedTime()) {
+        setUpdatedTime(other.getUpdatedTime());
+      }
+      if (other.hasDataSize()) {
+        setDataSize(other.getDataSize());
+      }
+      if (other.hasBlockSize()) {
+        setBlockSize(other.getBlockSize());
+      }
+      if (other.hasLastTnxId()) {
+        setLastTnxId(other.getLastTnxId());
+      }
+      if (other.hasGenerationStamp()) {
+        setGenerationStamp(other.getGenerationStamp());
+      }
+      if (other.hasBlockChecksum()) {
+        bitField0_ |= 0x00000100;
+        blockChecksum_ = other.blockChecksum_;
+        onChanged();
+      }
+      if (other.hasStored()) {
+        setStored(other.getStored());
+      }
+      if (other.hasState()) {
+        bitField0_ |= 0x00000400;
+        state_ = other.state_;
+        onChanged();
+      }
+      if (transactionsBuilder_ == null) {
+        if (!other.transactions_.isEmpty()) {
+          if (transactions_.isEmpty()) {
+            transactions_ = other.transactions_;
+            bitField0_ = (bitField0_ & ~0x00000800);
+          } else {
+            ensureTransactionsIsMutable();
+            transactions_.addAll(other.transactions_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.transactions_.isEmpty()) {
+          if (transactionsBuilder_.isEmpty()) {
+            transactionsBuilder_.dispose();
+            transactionsBuilder_ = null;
+            transactions_ = other.transactions_;
+            bitField0_ = (bitField0_ & ~0x00000800);
+            transactionsBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 getTransactionsFieldBuilder() : null;
+          } else {
+            transactionsBuilder_.addAllMessages(other.transactions_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      if (!hasBlockId()) {
+        
+        return false;
+      }
+      if (!hasCreatedTime()) {
+        
+        return false;
+      }
+      if (!hasUpdatedTime()) {
+        
+        return false;
+      }
+      if (!hasDataSize()) {
+        
+        return false;
+      }
+      if (!hasBlockSize()) {
+        
+        return false;
+      }
+      if (!hasLastTnxId()) {
+        
+        return false;
+      }
+      if (!hasState()) {
+        
+        return false;
+      }
+      for (int i = 0; i < getTransactionsCount(); i++) {
+        if (!getTransactions(i).isInitialized()) {
+          
+          return false;
+        }
+      }
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      ai.sapper.hcdc.common.model.DFSBlockStateData parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (ai.sapper.hcdc.common.model.DFSBlockStateData) e.getUnfinishedMessage();
+        throw e;
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    // required int64 blockId = 1;
+    private long blockId_ ;
+    /**
+     * <code>required int64 blockId = 1;</code>
+     */
+    public boolean hasBlockId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int64 blockId = 1;</code>
+     */
+    public long getBlockId() {
+      return blockId_;
+    }
+    /**
+     * <code>required int64 blockId = 1;</code>
+     */
+    public Builder setBlockId(long value) {
+      bitField0_ |= 0x00000001;
+      blockId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 blockId = 1;</code>
+     */
+    public Builder clearBlockId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      blockId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // optional int64 prevBlockId = 2 [default = -1];
+    private long prevBlockId_ = -1L;
+    /**
+     * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+     */
+    public boolean hasPrevBlockId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+     */
+    public long getPrevBlockId() {
+      return prevBlockId_;
+    }
+    /**
+     * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+     */
+    public Builder setPrevBlockId(long value) {
+      bitField0_ |= 0x00000002;
+      prevBlockId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+     */
+    public Builder clearPrevBlockId() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      prevBlockId_ = -1L;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 createdTime = 3;
+    private long createdTime_ ;
+    /**
+     * <code>required uint64 createdTime = 3;</code>
+     */
+    public boolean hasCreatedTime() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required uint64 createdTime = 3;</code>
+     */
+    public long getCreatedTime() {
+      return createdTime_;
+    }
+    /**
+     * <code>required uint64 createdTime = 3;</code>
+     */
+    public Builder setCreatedTime(long value) {
+      bitField0_ |= 0x00000004;
+      createdTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 createdTime = 3;</code>
+     */
+    public Builder clearCreatedTime() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      createdTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 updatedTime = 4;
+    private long updatedTime_ ;
+    /**
+     * <code>required uint64 updatedTime = 4;</code>
+     */
+    public boolean hasUpdatedTime() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required uint64 updatedTime = 4;</code>
+     */
+    public long getUpdatedTime() {
+      return updatedTime_;
+    }
+    /**
+     * <code>required uint64 updatedTime = 4;</code>
+     */
+    public Builder setUpdatedTime(long value) {
+      bitField0_ |= 0x00000008;
+      updatedTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 updatedTime = 4;</code>
+     */
+    public Builder clearUpdatedTime() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      updatedTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 dataSize = 5;
+    private long dataSize_ ;
+    /**
+     * <code>required int64 dataSize = 5;</code>
+     */
+    public boolean hasDataSize() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required int64 dataSize = 5;</code>
+     */
+    public long getDataSize() {
+      return dataSize_;
+    }
+    /**
+     * <code>required int64 dataSize = 5;</code>
+     */
+    public Builder setDataSize(long value) {
+      bitField0_ |= 0x00000010;
+      dataSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 dataSize = 5;</code>
+     */
+    public Builder clearDataSize() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      dataSize_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 blockSize = 6;
+    private long blockSize_ ;
+    /**
+     * <code>required int64 blockSize = 6;</code>
+     */
+    public boolean hasBlockSize() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>required int64 blockSize = 6;</code>
+     */
+    public long getBlockSize() {
+      return blockSize_;
+    }
+    /**
+     * <code>required int64 blockSize = 6;</code>
+     */
+    public Builder setBlockSize(long value) {
+      bitField0_ |= 0x00000020;
+      blockSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 blockSize = 6;</code>
+     */
+    public Builder clearBlockSize() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      blockSize_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 lastTnxId = 7;
+    private long lastTnxId_ ;
+    /**
+     * <code>required int64 lastTnxId = 7;</code>
+     */
+    public boolean hasLastTnxId() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>required int64 lastTnxId = 7;</code>
+     */
+    public long getLastTnxId() {
+      return lastTnxId_;
+    }
+    /**
+     * <code>required int64 lastTnxId = 7;</code>
+     */
+    public Builder setLastTnxId(long value) {
+      bitField0_ |= 0x00000040;
+      lastTnxId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 lastTnxId = 7;</code>
+     */
+    public Builder clearLastTnxId() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      lastTnxId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // optional int64 generationStamp = 8;
+    private long generationStamp_ ;
+    /**
+     * <code>optional int64 generationStamp = 8;</code>
+     */
+    public boolean hasGenerationStamp() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional int64 generationStamp = 8;</code>
+     */
+    public long getGenerationStamp() {
+      return generationStamp_;
+    }
+    /**
+     * <code>optional int64 generationStamp = 8;</code>
+     */
+    public Builder setGenerationStamp(long value) {
+      bitField0_ |= 0x00000080;
+      generationStamp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 generationStamp = 8;</code>
+     */
+    public Builder clearGenerationStamp() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      generationStamp_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // optional string blockChecksum = 9;
+    private java.lang.Object blockChecksum_ = "";
+    /**
+     * <code>optional string blockChecksum = 9;</code>
+     */
+    public boolean hasBlockChecksum() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string blockChecksum = 9;</code>
+     */
+    public java.lang.String getBlockChecksum() {
+      java.lang.Object ref = blockChecksum_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        blockChecksum_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string blockChecksum = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getBlockChecksumBytes() {
+      java.lang.Object ref = blockChecksum_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        blockChecksum_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string blockChecksum = 9;</code>
+     */
+    public Builder setBlockChecksum(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+      blockChecksum_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string blockChecksum = 9;</code>
+     */
+    public Builder clearBlockChecksum() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      blockChecksum_ = getDefaultInstance().getBlockChecksum();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string blockChecksum = 9;</code>
+     */
+    public Builder setBlockChecksumBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+      blockChecksum_ = value;
+      onChanged();
+      return this;
+    }
+
+    // optional bool stored = 10;
+    private boolean stored_ ;
+    /**
+     * <code>optional bool stored = 10;</code>
+     */
+    public boolean hasStored() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional bool stored = 10;</code>
+     */
+    public boolean getStored() {
+      return stored_;
+    }
+    /**
+     * <code>optional bool stored = 10;</code>
+     */
+    public Builder setStored(boolean value) {
+      bitField0_ |= 0x00000200;
+      stored_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool stored = 10;</code>
+     */
+    public Builder clearStored() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      stored_ = false;
+      onChanged();
+      return this;
+    }
+
+    // required string state = 11;
+    private java.lang.Object state_ = "";
+    /**
+     * <code>required string state = 11;</code>
+     */
+    public boolean hasState() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>required string state = 11;</code>
+     */
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        state_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string state = 11;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string state = 11;</code>
+     */
+    public Builder setState(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+      state_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string state = 11;</code>
+     */
+    public Builder clearState() {
+      bitField0_ = (bitField0_ & ~0x00000400);
+      state_ = getDefaultInstance().getState();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string state = 11;</code>
+     */
+    public Builder setStateBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+      state_ = value;
+      onChanged();
+      return this;
+    }
+
+    // repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;
+    private java.util.List<ai.sapper.hcdc.common.model.BlockTnxDeltaData> transactions_ =
+      java.util.Collections.emptyList();
+    private void ensureTransactionsIsMutable() {
+      if (!((bitField0_ & 0x00000800) == 0x00000800)) {
+        transactions_ = new java.util.ArrayList<ai.sapper.hcdc.common.model.BlockTnxDeltaData>(transactions_);
+        bitField0_ |= 0x00000800;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        ai.sapper.hcdc.common.model.BlockTnxDeltaData, ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder, ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder> transactionsBuilder_;
+
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public java.util.List<ai.sapper.hcdc.common.model.BlockTnxDeltaData> getTransactionsList() {
+      if (transactionsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(transactions_);
+      } else {
+        return transactionsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public int getTransactionsCount() {
+      if (transactionsBuilder_ == null) {
+        return transactions_.size();
+      } else {
+        return transactionsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaData getTransactions(int index) {
+      if (transactionsBuilder_ == null) {
+        return transactions_.get(index);
+      } else {
+        return transactionsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder setTransactions(
+        int index, ai.sapper.hcdc.common.model.BlockTnxDeltaData value) {
+      if (transactionsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTransactionsIsMutable();
+        transactions_.set(index, value);
+        onChanged();
+      } else {
+        transactionsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder setTransactions(
+        int index, ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder builderForValue) {
+      if (transactionsBuilder_ == null) {
+        ensureTransactionsIsMutable();
+        transactions_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        transactionsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder addTransactions(ai.sapper.hcdc.common.model.BlockTnxDeltaData value) {
+      if (transactionsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTransactionsIsMutable();
+        transactions_.add(value);
+        onChanged();
+      } else {
+        transactionsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder addTransactions(
+        int index, ai.sapper.hcdc.common.model.BlockTnxDeltaData value) {
+      if (transactionsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTransactionsIsMutable();
+        transactions_.add(index, value);
+        onChanged();
+      } else {
+        transactionsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder addTransactions(
+        ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder builderForValue) {
+      if (transactionsBuilder_ == null) {
+        ensureTransactionsIsMutable();
+        transactions_.add(builderForValue.build());
+        onChanged();
+      } else {
+        transactionsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder addTransactions(
+        int index, ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder builderForValue) {
+      if (transactionsBuilder_ == null) {
+        ensureTransactionsIsMutable();
+        transactions_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        transactionsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder addAllTransactions(
+        java.lang.Iterable<? extends ai.sapper.hcdc.common.model.BlockTnxDeltaData> values) {
+      if (transactionsBuilder_ == null) {
+        ensureTransactionsIsMutable();
+        super.addAll(values, transactions_);
+        onChanged();
+      } else {
+        transactionsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder clearTransactions() {
+      if (transactionsBuilder_ == null) {
+        transactions_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+      } else {
+        transactionsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public Builder removeTransactions(int index) {
+      if (transactionsBuilder_ == null) {
+        ensureTransactionsIsMutable();
+        transactions_.remove(index);
+        onChanged();
+      } else {
+        transactionsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder getTransactionsBuilder(
+        int index) {
+      return getTransactionsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder getTransactionsOrBuilder(
+        int index) {
+      if (transactionsBuilder_ == null) {
+        return transactions_.get(index);  } else {
+        return transactionsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public java.util.List<? extends ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder> 
+         getTransactionsOrBuilderList() {
+      if (transactionsBuilder_ != null) {
+        return transactionsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(transactions_);
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder addTransactionsBuilder() {
+      return getTransactionsFieldBuilder().addBuilder(
+          ai.sapper.hcdc.common.model.BlockTnxDeltaData.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder addTransactionsBuilder(
+        int index) {
+      return getTransactionsFieldBuilder().addBuilder(
+          index, ai.sapper.hcdc.common.model.BlockTnxDeltaData.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+     */
+    public java.util.List<ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder> 
+         getTransactionsBuilderList() {
+      return getTransactionsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        ai.sapper.hcdc.common.model.BlockTnxDeltaData, ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder, ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder> 
+        getTransactionsFieldBuilder() {
+      if (transactionsBuilder_ == null) {
+        transactionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            ai.sapper.hcdc.common.model.BlockTnxDeltaData, ai.sapper.hcdc.common.model.BlockTnxDeltaData.Builder, ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder>(
+                transactions_,
+                ((bitField0_ & 0x00000800) == 0x00000800),
+                getParentForChildren(),
+                isClean());
+        transactions_ = null;
+      }
+      return transactionsBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.DFSBlockStateData)
+  }
+
+  static {
+    defaultInstance = new DFSBlockStateData(true);
+    defaultInstance.initFields();
+  }
+
+  // @@protoc_insertion_point(class_scope:ai_sapper_hcdc_common_model.DFSBlockStateData)
+}
+
@@ -0,0 +1,153 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public interface DFSBlockStateDataOrBuilder
+    extends com.google.protobuf.MessageOrBuilder {
+
+  // required int64 blockId = 1;
+  /**
+   * <code>required int64 blockId = 1;</code>
+   */
+  boolean hasBlockId();
+  /**
+   * <code>required int64 blockId = 1;</code>
+   */
+  long getBlockId();
+
+  // optional int64 prevBlockId = 2 [default = -1];
+  /**
+   * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+   */
+  boolean hasPrevBlockId();
+  /**
+   * <code>optional int64 prevBlockId = 2 [default = -1];</code>
+   */
+  long getPrevBlockId();
+
+  // required uint64 createdTime = 3;
+  /**
+   * <code>required uint64 createdTime = 3;</code>
+   */
+  boolean hasCreatedTime();
+  /**
+   * <code>required uint64 createdTime = 3;</code>
+   */
+  long getCreatedTime();
+
+  // required uint64 updatedTime = 4;
+  /**
+   * <code>required uint64 updatedTime = 4;</code>
+   */
+  boolean hasUpdatedTime();
+  /**
+   * <code>required uint64 updatedTime = 4;</code>
+   */
+  long getUpdatedTime();
+
+  // required int64 dataSize = 5;
+  /**
+   * <code>required int64 dataSize = 5;</code>
+   */
+  boolean hasDataSize();
+  /**
+   * <code>required int64 dataSize = 5;</code>
+   */
+  long getDataSize();
+
+  // required int64 blockSize = 6;
+  /**
+   * <code>required int64 blockSize = 6;</code>
+   */
+  boolean hasBlockSize();
+  /**
+   * <code>required int64 blockSize = 6;</code>
+   */
+  long getBlockSize();
+
+  // required int64 lastTnxId = 7;
+  /**
+   * <code>required int64 lastTnxId = 7;</code>
+   */
+  boolean hasLastTnxId();
+  /**
+   * <code>required int64 lastTnxId = 7;</code>
+   */
+  long getLastTnxId();
+
+  // optional int64 generationStamp = 8;
+  /**
+   * <code>optional int64 generationStamp = 8;</code>
+   */
+  boolean hasGenerationStamp();
+  /**
+   * <code>optional int64 generationStamp = 8;</code>
+   */
+  long getGenerationStamp();
+
+  // optional string blockChecksum = 9;
+  /**
+   * <code>optional string blockChecksum = 9;</code>
+   */
+  boolean hasBlockChecksum();
+  /**
+   * <code>optional string blockChecksum = 9;</code>
+   */
+  java.lang.String getBlockChecksum();
+  /**
+   * <code>optional string blockChecksum = 9;</code>
+   */
+  com.google.protobuf.ByteString
+      getBlockChecksumBytes();
+
+  // optional bool stored = 10;
+  /**
+   * <code>optional bool stored = 10;</code>
+   */
+  boolean hasStored();
+  /**
+   * <code>optional bool stored = 10;</code>
+   */
+  boolean getStored();
+
+  // required string state = 11;
+  /**
+   * <code>required string state = 11;</code>
+   */
+  boolean hasState();
+  /**
+   * <code>required string state = 11;</code>
+   */
+  java.lang.String getState();
+  /**
+   * <code>required string state = 11;</code>
+   */
+  com.google.protobuf.ByteString
+      getStateBytes();
+
+  // repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  java.util.List<ai.sapper.hcdc.common.model.BlockTnxDeltaData> 
+      getTransactionsList();
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  ai.sapper.hcdc.common.model.BlockTnxDeltaData getTransactions(int index);
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  int getTransactionsCount();
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  java.util.List<? extends ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder> 
+      getTransactionsOrBuilderList();
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.BlockTnxDeltaData transactions = 12;</code>
+   */
+  ai.sapper.hcdc.common.model.BlockTnxDeltaDataOrBuilder getTransactionsOrBuilder(
+      int index);
+}
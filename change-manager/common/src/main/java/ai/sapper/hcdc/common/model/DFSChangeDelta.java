@@ -94,6 +94,27 @@ public  final class DFSChangeDelta extends
             entityName_ = input.readBytes();
             break;
           }
+          case 72: {
+            bitField0_ |= 0x00000100;
+            version_ = input.readUInt32();
+            break;
+          }
+          case 80: {
+            bitField0_ |= 0x00000200;
+            transactionId_ = input.readInt64();
+            break;
+          }
+          case 88: {
+            int rawValue = input.readEnum();
+            ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType value = ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType.valueOf(rawValue);
+            if (value == null) {
+              unknownFields.mergeVarintField(11, rawValue);
+            } else {
+              bitField0_ |= 0x00000400;
+              deltaType_ = value;
+            }
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -133,6 +154,159 @@ public  final class DFSChangeDelta extends
     return PARSER;
   }
 
+  /**
+   * Protobuf enum {@code ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType}
+   */
+  public enum DeltaType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>ADD_FILE = 0;</code>
+     */
+    ADD_FILE(0, 0),
+    /**
+     * <code>APPEND_FILE = 1;</code>
+     */
+    APPEND_FILE(1, 1),
+    /**
+     * <code>DELETE_FILE = 2;</code>
+     */
+    DELETE_FILE(2, 2),
+    /**
+     * <code>ADD_BLOCK = 3;</code>
+     */
+    ADD_BLOCK(3, 3),
+    /**
+     * <code>UPDATE_BLOCKS = 4;</code>
+     */
+    UPDATE_BLOCKS(4, 4),
+    /**
+     * <code>TRUNCATE_BLOCK = 5;</code>
+     */
+    TRUNCATE_BLOCK(5, 5),
+    /**
+     * <code>CLOSE_FILE = 6;</code>
+     */
+    CLOSE_FILE(6, 6),
+    /**
+     * <code>RENAME_FILE = 7;</code>
+     */
+    RENAME_FILE(7, 7),
+    /**
+     * <code>IGNORE_TX = 8;</code>
+     */
+    IGNORE_TX(8, 8),
+    /**
+     * <code>ERROR = 9;</code>
+     */
+    ERROR(9, 9),
+    ;
+
+    /**
+     * <code>ADD_FILE = 0;</code>
+     */
+    public static final int ADD_FILE_VALUE = 0;
+    /**
+     * <code>APPEND_FILE = 1;</code>
+     */
+    public static final int APPEND_FILE_VALUE = 1;
+    /**
+     * <code>DELETE_FILE = 2;</code>
+     */
+    public static final int DELETE_FILE_VALUE = 2;
+    /**
+     * <code>ADD_BLOCK = 3;</code>
+     */
+    public static final int ADD_BLOCK_VALUE = 3;
+    /**
+     * <code>UPDATE_BLOCKS = 4;</code>
+     */
+    public static final int UPDATE_BLOCKS_VALUE = 4;
+    /**
+     * <code>TRUNCATE_BLOCK = 5;</code>
+     */
+    public static final int TRUNCATE_BLOCK_VALUE = 5;
+    /**
+     * <code>CLOSE_FILE = 6;</code>
+     */
+    public static final int CLOSE_FILE_VALUE = 6;
+    /**
+     * <code>RENAME_FILE = 7;</code>
+     */
+    public static final int RENAME_FILE_VALUE = 7;
+    /**
+     * <code>IGNORE_TX = 8;</code>
+     */
+    public static final int IGNORE_TX_VALUE = 8;
+    /**
+     * <code>ERROR = 9;</code>
+     */
+    public static final int ERROR_VALUE = 9;
+
+    public final int getNumber() { return value; }
+
+    public static DeltaType valueOf(int value) {
+      switch (value) {
+        case 0: return ADD_FILE;
+        case 1: return APPEND_FILE;
+        case 2: return DELETE_FILE;
+        case 3: return ADD_BLOCK;
+        case 4: return UPDATE_BLOCKS;
+        case 5: return TRUNCATE_BLOCK;
+        case 6: return CLOSE_FILE;
+        case 7: return RENAME_FILE;
+        case 8: return IGNORE_TX;
+        case 9: return ERROR;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<DeltaType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<DeltaType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<DeltaType>() {
+            public DeltaType findValueByNumber(int number) {
+              return DeltaType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return ai.sapper.hcdc.common.model.DFSChangeDelta.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final DeltaType[] VALUES = values();
+
+    public static DeltaType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private DeltaType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType)
+  }
+
   private int bitField0_;
   // required string namespace = 1;
   public static final int NAMESPACE_FIELD_NUMBER = 1;
@@ -177,17 +351,17 @@ public  final class DFSChangeDelta extends
     }
   }
 
-  // required string txId = 2;
+  // optional string txId = 2;
   public static final int TXID_FIELD_NUMBER = 2;
   private java.lang.Object txId_;
   /**
-   * <code>required string txId = 2;</code>
+   * <code>optional string txId = 2;</code>
    */
   public boolean hasTxId() {
     return ((bitField0_ & 0x00000002) == 0x00000002);
   }
   /**
-   * <code>required string txId = 2;</code>
+   * <code>optional string txId = 2;</code>
    */
   public java.lang.String getTxId() {
     java.lang.Object ref = txId_;
@@ -204,7 +378,7 @@ public  final class DFSChangeDelta extends
     }
   }
   /**
-   * <code>required string txId = 2;</code>
+   * <code>optional string txId = 2;</code>
    */
   public com.google.protobuf.ByteString
       getTxIdBytes() {
@@ -263,17 +437,17 @@ public  final class DFSChangeDelta extends
     }
   }
 
-  // required string type = 4;
+  // optional string type = 4;
   public static final int TYPE_FIELD_NUMBER = 4;
   private java.lang.Object type_;
   /**
-   * <code>required string type = 4;</code>
+   * <code>optional string type = 4;</code>
    */
   public boolean hasType() {
     return ((bitField0_ & 0x00000008) == 0x00000008);
   }
   /**
-   * <code>required string type = 4;</code>
+   * <code>optional string type = 4;</code>
    */
   public java.lang.String getType() {
     java.lang.Object ref = type_;
@@ -290,7 +464,7 @@ public  final class DFSChangeDelta extends
     }
   }
   /**
-   * <code>required string type = 4;</code>
+   * <code>optional string type = 4;</code>
    */
   public com.google.protobuf.ByteString
       getTypeBytes() {
@@ -424,6 +598,54 @@ public  final class DFSChangeDelta extends
     }
   }
 
+  // optional uint32 version = 9;
+  public static final int VERSION_FIELD_NUMBER = 9;
+  private int version_;
+  /**
+   * <code>optional uint32 version = 9;</code>
+   */
+  public boolean hasVersion() {
+    return ((bitField0_ & 0x00000100) == 0x00000100);
+  }
+  /**
+   * <code>optional uint32 version = 9;</code>
+   */
+  public int getVersion() {
+    return version_;
+  }
+
+  // optional int64 transactionId = 10;
+  public static final int TRANSACTIONID_FIELD_NUMBER = 10;
+  private long transactionId_;
+  /**
+   * <code>optional int64 transactionId = 10;</code>
+   */
+  public boolean hasTransactionId() {
+    return ((bitField0_ & 0x00000200) == 0x00000200);
+  }
+  /**
+   * <code>optional int64 transactionId = 10;</code>
+   */
+  public long getTransactionId() {
+    return transactionId_;
+  }
+
+  // optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;
+  public static final int DELTATYPE_FIELD_NUMBER = 11;
+  private ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType deltaType_;
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+   */
+  public boolean hasDeltaType() {
+    return ((bitField0_ & 0x00000400) == 0x00000400);
+  }
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+   */
+  public ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType getDeltaType() {
+    return deltaType_;
+  }
+
   private void initFields() {
     namespace_ = "";
     txId_ = "";
@@ -433,6 +655,9 @@ public  final class DFSChangeDelta extends
     body_ = com.google.protobuf.ByteString.EMPTY;
     domain_ = "";
     entityName_ = "";
+    version_ = 0;
+    transactionId_ = 0L;
+    deltaType_ = ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType.ADD_FILE;
   }
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
@@ -443,18 +668,10 @@ public  final class DFSChangeDelta extends
       memoizedIsInitialized = 0;
       return false;
     }
-    if (!hasTxId()) {
-      memoizedIsInitialized = 0;
-      return false;
-    }
     if (!hasEntity()) {
       memoizedIsInitialized = 0;
       return false;
     }
-    if (!hasType()) {
-      memoizedIsInitialized = 0;
-      return false;
-    }
     if (!hasTimestamp()) {
       memoizedIsInitialized = 0;
       return false;
@@ -494,6 +711,15 @@ public  final class DFSChangeDelta extends
     if (((bitField0_ & 0x00000080) == 0x00000080)) {
       output.writeBytes(8, getEntityNameBytes());
     }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      output.writeUInt32(9, version_);
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      output.writeInt64(10, transactionId_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      output.writeEnum(11, deltaType_.getNumber());
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -535,6 +761,18 @@ public  final class DFSChangeDelta extends
       size += com.google.protobuf.CodedOutputStream
         .computeBytesSize(8, getEntityNameBytes());
     }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(9, version_);
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(10, transactionId_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(11, deltaType_.getNumber());
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSerializedSize = size;
     return size;
@@ -667,6 +905,12 @@ public  final class DFSChangeDelta extends
       bitField0_ = (bitField0_ & ~0x00000040);
       entityName_ = "";
       bitField0_ = (bitField0_ & ~0x00000080);
+      version_ = 0;
+      bitField0_ = (bitField0_ & ~0x00000100);
+      transactionId_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000200);
+      deltaType_ = ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType.ADD_FILE;
+      bitField0_ = (bitField0_ & ~0x00000400);
       return this;
     }
 
@@ -727,6 +971,18 @@ public  final class DFSChangeDelta extends
         to_bitField0_ |= 0x00000080;
       }
       result.entityName_ = entityName_;
+      if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+        to_bitField0_ |= 0x00000100;
+      }
+      result.version_ = version_;
+      if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+        to_bitField0_ |= 0x00000200;
+      }
+      result.transactionId_ = transactionId_;
+      if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+        to_bitField0_ |= 0x00000400;
+      }
+      result.deltaType_ = deltaType_;
       result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
@@ -779,6 +1035,15 @@ public  final class DFSChangeDelta extends
         entityName_ = other.entityName_;
         onChanged();
       }
+      if (other.hasVersion()) {
+        setVersion(other.getVersion());
+      }
+      if (other.hasTransactionId()) {
+        setTransactionId(other.getTransactionId());
+      }
+      if (other.hasDeltaType()) {
+        setDeltaType(other.getDeltaType());
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       return this;
     }
@@ -788,18 +1053,10 @@ public  final class DFSChangeDelta extends
         
         return false;
       }
-      if (!hasTxId()) {
-        
-        return false;
-      }
       if (!hasEntity()) {
         
         return false;
       }
-      if (!hasType()) {
-        
-        return false;
-      }
       if (!hasTimestamp()) {
         
         return false;
@@ -904,16 +1161,16 @@ public  final class DFSChangeDelta extends
       return this;
     }
 
-    // required string txId = 2;
+    // optional string txId = 2;
     private java.lang.Object txId_ = "";
     /**
-     * <code>required string txId = 2;</code>
+     * <code>optional string txId = 2;</code>
      */
     public boolean hasTxId() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required string txId = 2;</code>
+     * <code>optional string txId = 2;</code>
      */
     public java.lang.String getTxId() {
       java.lang.Object ref = txId_;
@@ -927,7 +1184,7 @@ public  final class DFSChangeDelta extends
       }
     }
     /**
-     * <code>required string txId = 2;</code>
+     * <code>optional string txId = 2;</code>
      */
     public com.google.protobuf.ByteString
         getTxIdBytes() {
@@ -943,7 +1200,7 @@ public  final class DFSChangeDelta extends
       }
     }
     /**
-     * <code>required string txId = 2;</code>
+     * <code>optional string txId = 2;</code>
      */
     public Builder setTxId(
         java.lang.String value) {
@@ -956,7 +1213,7 @@ public  final class DFSChangeDelta extends
       return this;
     }
     /**
-     * <code>required string txId = 2;</code>
+     * <code>optional string txId = 2;</code>
      */
     public Builder clearTxId() {
       bitField0_ = (bitField0_ & ~0x00000002);
@@ -965,7 +1222,7 @@ public  final class DFSChangeDelta extends
       return this;
     }
     /**
-     * <code>required string txId = 2;</code>
+     * <code>optional string txId = 2;</code>
      */
     public Builder setTxIdBytes(
         com.google.protobuf.ByteString value) {
@@ -1052,16 +1309,16 @@ public  final class DFSChangeDelta extends
       return this;
     }
 
-    // required string type = 4;
+    // optional string type = 4;
     private java.lang.Object type_ = "";
     /**
-     * <code>required string type = 4;</code>
+     * <code>optional string type = 4;</code>
      */
     public boolean hasType() {
       return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>required string type = 4;</code>
+     * <code>optional string type = 4;</code>
      */
     public java.lang.String getType() {
       java.lang.Object ref = type_;
@@ -1075,7 +1332,7 @@ public  final class DFSChangeDelta extends
       }
     }
     /**
-     * <code>required string type = 4;</code>
+     * <code>optional string type = 4;</code>
      */
     public com.google.protobuf.ByteString
         getTypeBytes() {
@@ -1091,7 +1348,7 @@ public  final class DFSChangeDelta extends
       }
     }
     /**
-     * <code>required string type = 4;</code>
+     * <code>optional string type = 4;</code>
      */
     public Builder setType(
         java.lang.String value) {
@@ -1104,7 +1361,7 @@ public  final class DFSChangeDelta extends
       return this;
     }
     /**
-     * <code>required string type = 4;</code>
+     * <code>optional string type = 4;</code>
      */
     public Builder clearType() {
       bitField0_ = (bitField0_ & ~0x00000008);
@@ -1113,7 +1370,7 @@ public  final class DFSChangeDelta extends
       return this;
     }
     /**
-     * <code>required string type = 4;</code>
+     * <code>optional string type = 4;</code>
      */
     public Builder setTypeBytes(
         com.google.protobuf.ByteString value) {
@@ -1343,6 +1600,108 @@ public  final class DFSChangeDelta extends
       return this;
     }
 
+    // optional uint32 version = 9;
+    private int version_ ;
+    /**
+     * <code>optional uint32 version = 9;</code>
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional uint32 version = 9;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+    /**
+     * <code>optional uint32 version = 9;</code>
+     */
+    public Builder setVersion(int value) {
+      bitField0_ |= 0x00000100;
+      version_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional uint32 version = 9;</code>
+     */
+    public Builder clearVersion() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      version_ = 0;
+      onChanged();
+      return this;
+    }
+
+    // optional int64 transactionId = 10;
+    private long transactionId_ ;
+    /**
+     * <code>optional int64 transactionId = 10;</code>
+     */
+    public boolean hasTransactionId() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional int64 transactionId = 10;</code>
+     */
+    public long getTransactionId() {
+      return transactionId_;
+    }
+    /**
+     * <code>optional int64 transactionId = 10;</code>
+     */
+    public Builder setTransactionId(long value) {
+      bitField0_ |= 0x00000200;
+      transactionId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 transactionId = 10;</code>
+     */
+    public Builder clearTransactionId() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      transactionId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;
+    private ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType deltaType_ = ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType.ADD_FILE;
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+     */
+    public boolean hasDeltaType() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+     */
+    public ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType getDeltaType() {
+      return deltaType_;
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+     */
+    public Builder setDeltaType(ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000400;
+      deltaType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+     */
+    public Builder clearDeltaType() {
+      bitField0_ = (bitField0_ & ~0x00000400);
+      deltaType_ = ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType.ADD_FILE;
+      onChanged();
+      return this;
+    }
+
     // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.DFSChangeDelta)
   }
 
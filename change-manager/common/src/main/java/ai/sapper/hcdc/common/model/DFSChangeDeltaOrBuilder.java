@@ -21,17 +21,17 @@ public interface DFSChangeDeltaOrBuilder
   com.google.protobuf.ByteString
       getNamespaceBytes();
 
-  // required string txId = 2;
+  // optional string txId = 2;
   /**
-   * <code>required string txId = 2;</code>
+   * <code>optional string txId = 2;</code>
    */
   boolean hasTxId();
   /**
-   * <code>required string txId = 2;</code>
+   * <code>optional string txId = 2;</code>
    */
   java.lang.String getTxId();
   /**
-   * <code>required string txId = 2;</code>
+   * <code>optional string txId = 2;</code>
    */
   com.google.protobuf.ByteString
       getTxIdBytes();
@@ -51,17 +51,17 @@ public interface DFSChangeDeltaOrBuilder
   com.google.protobuf.ByteString
       getEntityBytes();
 
-  // required string type = 4;
+  // optional string type = 4;
   /**
-   * <code>required string type = 4;</code>
+   * <code>optional string type = 4;</code>
    */
   boolean hasType();
   /**
-   * <code>required string type = 4;</code>
+   * <code>optional string type = 4;</code>
    */
   java.lang.String getType();
   /**
-   * <code>required string type = 4;</code>
+   * <code>optional string type = 4;</code>
    */
   com.google.protobuf.ByteString
       getTypeBytes();
@@ -115,4 +115,34 @@ public interface DFSChangeDeltaOrBuilder
    */
   com.google.protobuf.ByteString
       getEntityNameBytes();
+
+  // optional uint32 version = 9;
+  /**
+   * <code>optional uint32 version = 9;</code>
+   */
+  boolean hasVersion();
+  /**
+   * <code>optional uint32 version = 9;</code>
+   */
+  int getVersion();
+
+  // optional int64 transactionId = 10;
+  /**
+   * <code>optional int64 transactionId = 10;</code>
+   */
+  boolean hasTransactionId();
+  /**
+   * <code>optional int64 transactionId = 10;</code>
+   */
+  long getTransactionId();
+
+  // optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+   */
+  boolean hasDeltaType();
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.DFSChangeDelta.DeltaType deltaType = 11;</code>
+   */
+  ai.sapper.hcdc.common.model.DFSChangeDelta.DeltaType getDeltaType();
 }
@@ -0,0 +1,2035 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+/**
+ * Protobuf type {@code ai_sapper_hcdc_common_model.DFSFileStateData}
+ */
+public  final class DFSFileStateData extends
+    com.google.protobuf.GeneratedMessage
+    implements DFSFileStateDataOrBuilder {
+  // Use DFSFileStateData.newBuilder() to construct.
+  private DFSFileStateData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+    this.unknownFields = builder.getUnknownFields();
+  }
+  private DFSFileStateData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+  private static final DFSFileStateData defaultInstance;
+  public static DFSFileStateData getDefaultInstance() {
+    return defaultInstance;
+  }
+
+  public DFSFileStateData getDefaultInstanceForType() {
+    return defaultInstance;
+  }
+
+  private final com.google.protobuf.UnknownFieldSet unknownFields;
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+    return this.unknownFields;
+  }
+  private DFSFileStateData(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    initFields();
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownField(input, unknownFields,
+                                   extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            bitField0_ |= 0x00000001;
+            id_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            bitField0_ |= 0x00000002;
+            zkPath_ = input.readBytes();
+            break;
+          }
+          case 26: {
+            bitField0_ |= 0x00000004;
+            hdfsFilePath_ = input.readBytes();
+            break;
+          }
+          case 32: {
+            bitField0_ |= 0x00000008;
+            createdTime_ = input.readUInt64();
+            break;
+          }
+          case 40: {
+            bitField0_ |= 0x00000010;
+            updatedTime_ = input.readUInt64();
+            break;
+          }
+          case 48: {
+            bitField0_ |= 0x00000020;
+            numBlocks_ = input.readInt64();
+            break;
+          }
+          case 56: {
+            bitField0_ |= 0x00000040;
+            blockSize_ = input.readInt64();
+            break;
+          }
+          case 64: {
+            bitField0_ |= 0x00000080;
+            dataSize_ = input.readInt64();
+            break;
+          }
+          case 72: {
+            bitField0_ |= 0x00000100;
+            lastTnxId_ = input.readInt64();
+            break;
+          }
+          case 80: {
+            bitField0_ |= 0x00000200;
+            timestamp_ = input.readUInt64();
+            break;
+          }
+          case 90: {
+            bitField0_ |= 0x00000400;
+            fileType_ = input.readBytes();
+            break;
+          }
+          case 98: {
+            bitField0_ |= 0x00000800;
+            storagePath_ = input.readBytes();
+            break;
+          }
+          case 106: {
+            bitField0_ |= 0x00001000;
+            state_ = input.readBytes();
+            break;
+          }
+          case 114: {
+            if (!((mutable_bitField0_ & 0x00002000) == 0x00002000)) {
+              blocks_ = new java.util.ArrayList<ai.sapper.hcdc.common.model.DFSBlockStateData>();
+              mutable_bitField0_ |= 0x00002000;
+            }
+            blocks_.add(input.readMessage(ai.sapper.hcdc.common.model.DFSBlockStateData.PARSER, extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e.getMessage()).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00002000) == 0x00002000)) {
+        blocks_ = java.util.Collections.unmodifiableList(blocks_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            ai.sapper.hcdc.common.model.DFSFileStateData.class, ai.sapper.hcdc.common.model.DFSFileStateData.Builder.class);
+  }
+
+  public static com.google.protobuf.Parser<DFSFileStateData> PARSER =
+      new com.google.protobuf.AbstractParser<DFSFileStateData>() {
+    public DFSFileStateData parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new DFSFileStateData(input, extensionRegistry);
+    }
+  };
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DFSFileStateData> getParserForType() {
+    return PARSER;
+  }
+
+  private int bitField0_;
+  // required int64 id = 1;
+  public static final int ID_FIELD_NUMBER = 1;
+  private long id_;
+  /**
+   * <code>required int64 id = 1;</code>
+   */
+  public boolean hasId() {
+    return ((bitField0_ & 0x00000001) == 0x00000001);
+  }
+  /**
+   * <code>required int64 id = 1;</code>
+   */
+  public long getId() {
+    return id_;
+  }
+
+  // required string zkPath = 2;
+  public static final int ZKPATH_FIELD_NUMBER = 2;
+  private java.lang.Object zkPath_;
+  /**
+   * <code>required string zkPath = 2;</code>
+   */
+  public boolean hasZkPath() {
+    return ((bitField0_ & 0x00000002) == 0x00000002);
+  }
+  /**
+   * <code>required string zkPath = 2;</code>
+   */
+  public java.lang.String getZkPath() {
+    java.lang.Object ref = zkPath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        zkPath_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string zkPath = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getZkPathBytes() {
+    java.lang.Object ref = zkPath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      zkPath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // required string hdfsFilePath = 3;
+  public static final int HDFSFILEPATH_FIELD_NUMBER = 3;
+  private java.lang.Object hdfsFilePath_;
+  /**
+   * <code>required string hdfsFilePath = 3;</code>
+   */
+  public boolean hasHdfsFilePath() {
+    return ((bitField0_ & 0x00000004) == 0x00000004);
+  }
+  /**
+   * <code>required string hdfsFilePath = 3;</code>
+   */
+  public java.lang.String getHdfsFilePath() {
+    java.lang.Object ref = hdfsFilePath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        hdfsFilePath_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string hdfsFilePath = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getHdfsFilePathBytes() {
+    java.lang.Object ref = hdfsFilePath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      hdfsFilePath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // required uint64 createdTime = 4;
+  public static final int CREATEDTIME_FIELD_NUMBER = 4;
+  private long createdTime_;
+  /**
+   * <code>required uint64 createdTime = 4;</code>
+   */
+  public boolean hasCreatedTime() {
+    return ((bitField0_ & 0x00000008) == 0x00000008);
+  }
+  /**
+   * <code>required uint64 createdTime = 4;</code>
+   */
+  public long getCreatedTime() {
+    return createdTime_;
+  }
+
+  // required uint64 updatedTime = 5;
+  public static final int UPDATEDTIME_FIELD_NUMBER = 5;
+  private long updatedTime_;
+  /**
+   * <code>required uint64 updatedTime = 5;</code>
+   */
+  public boolean hasUpdatedTime() {
+    return ((bitField0_ & 0x00000010) == 0x00000010);
+  }
+  /**
+   * <code>required uint64 updatedTime = 5;</code>
+   */
+  public long getUpdatedTime() {
+    return updatedTime_;
+  }
+
+  // required int64 numBlocks = 6;
+  public static final int NUMBLOCKS_FIELD_NUMBER = 6;
+  private long numBlocks_;
+  /**
+   * <code>required int64 numBlocks = 6;</code>
+   */
+  public boolean hasNumBlocks() {
+    return ((bitField0_ & 0x00000020) == 0x00000020);
+  }
+  /**
+   * <code>required int64 numBlocks = 6;</code>
+   */
+  public long getNumBlocks() {
+    return numBlocks_;
+  }
+
+  // required int64 blockSize = 7;
+  public static final int BLOCKSIZE_FIELD_NUMBER = 7;
+  private long blockSize_;
+  /**
+   * <code>required int64 blockSize = 7;</code>
+   */
+  public boolean hasBlockSize() {
+    return ((bitField0_ & 0x00000040) == 0x00000040);
+  }
+  /**
+   * <code>required int64 blockSize = 7;</code>
+   */
+  public long getBlockSize() {
+    return blockSize_;
+  }
+
+  // required int64 dataSize = 8;
+  public static final int DATASIZE_FIELD_NUMBER = 8;
+  private long dataSize_;
+  /**
+   * <code>required int64 dataSize = 8;</code>
+   */
+  public boolean hasDataSize() {
+    return ((bitField0_ & 0x00000080) == 0x00000080);
+  }
+  /**
+   * <code>required int64 dataSize = 8;</code>
+   */
+  public long getDataSize() {
+    return dataSize_;
+  }
+
+  // required int64 lastTnxId = 9;
+  public static final int LASTTNXID_FIELD_NUMBER = 9;
+  private long lastTnxId_;
+  /**
+   * <code>required int64 lastTnxId = 9;</code>
+   */
+  public boolean hasLastTnxId() {
+    return ((bitField0_ & 0x00000100) == 0x00000100);
+  }
+  /**
+   * <code>required int64 lastTnxId = 9;</code>
+   */
+  public long getLastTnxId() {
+    return lastTnxId_;
+  }
+
+  // required uint64 timestamp = 10;
+  public static final int TIMESTAMP_FIELD_NUMBER = 10;
+  private long timestamp_;
+  /**
+   * <code>required uint64 timestamp = 10;</code>
+   */
+  public boolean hasTimestamp() {
+    return ((bitField0_ & 0x00000200) == 0x00000200);
+  }
+  /**
+   * <code>required uint64 timestamp = 10;</code>
+   */
+  public long getTimestamp() {
+    return timestamp_;
+  }
+
+  // required string fileType = 11;
+  public static final int FILETYPE_FIELD_NUMBER = 11;
+  private java.lang.Object fileType_;
+  /**
+   * <code>required string fileType = 11;</code>
+   */
+  public boolean hasFileType() {
+    return ((bitField0_ & 0x00000400) == 0x00000400);
+  }
+  /**
+   * <code>required string fileType = 11;</code>
+   */
+  public java.lang.String getFileType() {
+    java.lang.Object ref = fileType_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        fileType_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string fileType = 11;</code>
+   */
+  public com.google.protobuf.ByteString
+      getFileTypeBytes() {
+    java.lang.Object ref = fileType_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      fileType_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // optional string storagePath = 12;
+  public static final int STORAGEPATH_FIELD_NUMBER = 12;
+  private java.lang.Object storagePath_;
+  /**
+   * <code>optional string storagePath = 12;</code>
+   */
+  public boolean hasStoragePath() {
+    return ((bitField0_ & 0x00000800) == 0x00000800);
+  }
+  /**
+   * <code>optional string storagePath = 12;</code>
+   */
+  public java.lang.String getStoragePath() {
+    java.lang.Object ref = storagePath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        storagePath_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>optional string storagePath = 12;</code>
+   */
+  public com.google.protobuf.ByteString
+      getStoragePathBytes() {
+    java.lang.Object ref = storagePath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      storagePath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // required string state = 13;
+  public static final int STATE_FIELD_NUMBER = 13;
+  private java.lang.Object state_;
+  /**
+   * <code>required string state = 13;</code>
+   */
+  public boolean hasState() {
+    return ((bitField0_ & 0x00001000) == 0x00001000);
+  }
+  /**
+   * <code>required string state = 13;</code>
+   */
+  public java.lang.String getState() {
+    java.lang.Object ref = state_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        state_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string state = 13;</code>
+   */
+  public com.google.protobuf.ByteString
+      getStateBytes() {
+    java.lang.Object ref = state_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      state_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;
+  public static final int BLOCKS_FIELD_NUMBER = 14;
+  private java.util.List<ai.sapper.hcdc.common.model.DFSBlockStateData> blocks_;
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  public java.util.List<ai.sapper.hcdc.common.model.DFSBlockStateData> getBlocksList() {
+    return blocks_;
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  public java.util.List<? extends ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder> 
+      getBlocksOrBuilderList() {
+    return blocks_;
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  public int getBlocksCount() {
+    return blocks_.size();
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  public ai.sapper.hcdc.common.model.DFSBlockStateData getBlocks(int index) {
+    return blocks_.get(index);
+  }
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  public ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder getBlocksOrBuilder(
+      int index) {
+    return blocks_.get(index);
+  }
+
+  private void initFields() {
+    id_ = 0L;
+    zkPath_ = "";
+    hdfsFilePath_ = "";
+    createdTime_ = 0L;
+    updatedTime_ = 0L;
+    numBlocks_ = 0L;
+    blockSize_ = 0L;
+    dataSize_ = 0L;
+    lastTnxId_ = 0L;
+    timestamp_ = 0L;
+    fileType_ = "";
+    storagePath_ = "";
+    state_ = "";
+    blocks_ = java.util.Collections.emptyList();
+  }
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized != -1) return isInitialized == 1;
+
+    if (!hasId()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasZkPath()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasHdfsFilePath()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasCreatedTime()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasUpdatedTime()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasNumBlocks()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasBlockSize()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasDataSize()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasLastTnxId()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasTimestamp()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasFileType()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasState()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    for (int i = 0; i < getBlocksCount(); i++) {
+      if (!getBlocks(i).isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      output.writeInt64(1, id_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      output.writeBytes(2, getZkPathBytes());
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      output.writeBytes(3, getHdfsFilePathBytes());
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      output.writeUInt64(4, createdTime_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      output.writeUInt64(5, updatedTime_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      output.writeInt64(6, numBlocks_);
+    }
+    if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      output.writeInt64(7, blockSize_);
+    }
+    if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      output.writeInt64(8, dataSize_);
+    }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      output.writeInt64(9, lastTnxId_);
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      output.writeUInt64(10, timestamp_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      output.writeBytes(11, getFileTypeBytes());
+    }
+    if (((bitField0_ & 0x00000800) == 0x00000800)) {
+      output.writeBytes(12, getStoragePathBytes());
+    }
+    if (((bitField0_ & 0x00001000) == 0x00001000)) {
+      output.writeBytes(13, getStateBytes());
+    }
+    for (int i = 0; i < blocks_.size(); i++) {
+      output.writeMessage(14, blocks_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  private int memoizedSerializedSize = -1;
+  public int getSerializedSize() {
+    int size = memoizedSerializedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, id_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, getZkPathBytes());
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, getHdfsFilePathBytes());
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(4, createdTime_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(5, updatedTime_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(6, numBlocks_);
+    }
+    if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, blockSize_);
+    }
+    if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(8, dataSize_);
+    }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(9, lastTnxId_);
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(10, timestamp_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(11, getFileTypeBytes());
+    }
+    if (((bitField0_ & 0x00000800) == 0x00000800)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(12, getStoragePathBytes());
+    }
+    if (((bitField0_ & 0x00001000) == 0x00001000)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(13, getStateBytes());
+    }
+    for (int i = 0; i < blocks_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(14, blocks_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSerializedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  protected java.lang.Object writeReplace()
+      throws java.io.ObjectStreamException {
+    return super.writeReplace();
+  }
+
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSFileStateData parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+
+  public static Builder newBuilder() { return Builder.create(); }
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder(ai.sapper.hcdc.common.model.DFSFileStateData prototype) {
+    return newBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() { return newBuilder(this); }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ai_sapper_hcdc_common_model.DFSFileStateData}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder>
+     implements ai.sapper.hcdc.common.model.DFSFileStateDataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ai.sapper.hcdc.common.model.DFSFileStateData.class, ai.sapper.hcdc.common.model.DFSFileStateData.Builder.class);
+    }
+
+    // Construct using ai.sapper.hcdc.common.model.DFSFileStateData.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        getBlocksFieldBuilder();
+      }
+    }
+    private static Builder create() {
+      return new Builder();
+    }
+
+    public Builder clear() {
+      super.clear();
+      id_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      zkPath_ = "";
+      bitField0_ = (bitField0_ & ~0x00000002);
+      hdfsFilePath_ = "";
+      bitField0_ = (bitField0_ & ~0x00000004);
+      createdTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      updatedTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000010);
+      numBlocks_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000020);
+      blockSize_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000040);
+      dataSize_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000080);
+      lastTnxId_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000100);
+      timestamp_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000200);
+      fileType_ = "";
+      bitField0_ = (bitField0_ & ~0x00000400);
+      storagePath_ = "";
+      bitField0_ = (bitField0_ & ~0x00000800);
+      state_ = "";
+      bitField0_ = (bitField0_ & ~0x00001000);
+      if (blocksBuilder_ == null) {
+        blocks_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00002000);
+      } else {
+        blocksBuilder_.clear();
+      }
+      return this;
+    }
+
+    public Builder clone() {
+      return create().mergeFrom(buildPartial());
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_descriptor;
+    }
+
+    public ai.sapper.hcdc.common.model.DFSFileStateData getDefaultInstanceForType() {
+      return ai.sapper.hcdc.common.model.DFSFileStateData.getDefaultInstance();
+    }
+
+    public ai.sapper.hcdc.common.model.DFSFileStateData build() {
+      ai.sapper.hcdc.common.model.DFSFileStateData result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public ai.sapper.hcdc.common.model.DFSFileStateData buildPartial() {
+      ai.sapper.hcdc.common.model.DFSFileStateData result = new ai.sapper.hcdc.common.model.DFSFileStateData(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.id_ = id_;
+      if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.zkPath_ = zkPath_;
+      if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      result.hdfsFilePath_ = hdfsFilePath_;
+      if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        to_bitField0_ |= 0x00000008;
+      }
+      result.createdTime_ = createdTime_;
+      if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        to_bitField0_ |= 0x00000010;
+      }
+      result.updatedTime_ = updatedTime_;
+      if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+        to_bitField0_ |= 0x00000020;
+      }
+      result.numBlocks_ = numBlocks_;
+      if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+        to_bitField0_ |= 0x00000040;
+      }
+      result.blockSize_ = blockSize_;
+      if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+        to_bitField0_ |= 0x00000080;
+      }
+      result.dataSize_ = dataSize_;
+      if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+        to_bitField0_ |= 0x00000100;
+      }
+      result.lastTnxId_ = lastTnxId_;
+      if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+        to_bitField0_ |= 0x00000200;
+      }
+      result.timestamp_ = timestamp_;
+      if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+        to_bitField0_ |= 0x00000400;
+      }
+      result.fileType_ = fileType_;
+      if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+        to_bitField0_ |= 0x00000800;
+      }
+      result.storagePath_ = storagePath_;
+      if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+        to_bitField0_ |= 0x00001000;
+      }
+      result.state_ = state_;
+      if (blocksBuilder_ == null) {
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          blocks_ = java.util.Collections.unmodifiableList(blocks_);
+          bitField0_ = (bitField0_ & ~0x00002000);
+        }
+        result.blocks_ = blocks_;
+      } else {
+        result.blocks_ = blocksBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof ai.sapper.hcdc.common.model.DFSFileStateData) {
+        return mergeFrom((ai.sapper.hcdc.common.model.DFSFileStateData)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(ai.sapper.hcdc.common.model.DFSFileStateData other) {
+      if (other == ai.sapper.hcdc.common.model.DFSFileStateData.getDefaultInstance()) return this;
+      if (other.hasId()) {
+        setId(other.getId());
+      }
+      if (other.hasZkPath()) {
+        bitField0_ |= 0x00000002;
+        zkPath_ = other.zkPath_;
+        onChanged();
+      }
+      if (other.hasHdfsFilePath()) {
+        bitField0_ |= 0x00000004;
+        hdfsFilePath_ = other.hdfsFilePath_;
+        onChanged();
+      }
+      if (other.hasCreatedTime()) {
+        setCreatedTime(other.getCreatedTime());
+      }
+      if (other.hasUpdatedTime()) {
+        setUpdatedTime(other.getUpdatedTime());
+      }
+      if (other.hasNumBlocks()) {
+        setNumBlocks(other.getNumBlocks());
+      }
+      if (other.hasBlockSize()) {
+        setBlockSize(other.getBlockSize());
+      }
+      if (other.hasDataSize()) {
+        setDataSize(other.getDataSize());
+      }
+      if (other.hasLastTnxId()) {
+        setLastTnxId(other.getLastTnxId());
+      }
+      if (other.hasTimestamp()) {
+        setTimestamp(other.getTimestamp());
+      }
+      if (other.hasFileType()) {
+        bitField0_ |= 0x00000400;
+        fileType_ = other.fileType_;
+        onChanged();
+      }
+      if (other.hasStoragePath()) {
+        bitField0_ |= 0x00000800;
+        storagePath_ = other.storagePath_;
+        onChanged();
+      }
+      if (other.hasState()) {
+        bitField0_ |= 0x00001000;
+        state_ = other.state_;
+        onChanged();
+      }
+      if (blocksBuilder_ == null) {
+        if (!other.blocks_.isEmpty()) {
+          if (blocks_.isEmpty()) {
+            blocks_ = other.blocks_;
+            bitField0_ = (bitField0_ & ~0x00002000);
+          } else {
+            ensureBlocksIsMutable();
+            blocks_.addAll(other.blocks_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.blocks_.isEmpty()) {
+          if (blocksBuilder_.isEmpty()) {
+            blocksBuilder_.dispose();
+            blocksBuilder_ = null;
+            blocks_ = other.blocks_;
+            bitField0_ = (bitField0_ & ~0x00002000);
+            blocksBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 getBlocksFieldBuilder() : null;
+          } else {
+            blocksBuilder_.addAllMessages(other.blocks_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      if (!hasId()) {
+        
+        return false;
+      }
+      if (!hasZkPath()) {
+        
+        return false;
+      }
+      if (!hasHdfsFilePath()) {
+        
+        return false;
+      }
+      if (!hasCreatedTime()) {
+        
+        return false;
+      }
+      if (!hasUpdatedTime()) {
+        
+        return false;
+      }
+      if (!hasNumBlocks()) {
+        
+        return false;
+      }
+      if (!hasBlockSize()) {
+        
+        return false;
+      }
+      if (!hasDataSize()) {
+        
+        return false;
+      }
+      if (!hasLastTnxId()) {
+        
+        return false;
+      }
+      if (!hasTimestamp()) {
+        
+        return false;
+      }
+      if (!hasFileType()) {
+        
+        return false;
+      }
+      if (!hasState()) {
+        
+        return false;
+      }
+      for (int i = 0; i < getBlocksCount(); i++) {
+        if (!getBlocks(i).isInitialized()) {
+          
+          return false;
+        }
+      }
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      ai.sapper.hcdc.common.model.DFSFileStateData parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (ai.sapper.hcdc.common.model.DFSFileStateData) e.getUnfinishedMessage();
+        throw e;
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    // required int64 id = 1;
+    private long id_ ;
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    public long getId() {
+      return id_;
+    }
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    public Builder setId(long value) {
+      bitField0_ |= 0x00000001;
+      id_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    public Builder clearId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      id_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required string zkPath = 2;
+    private java.lang.Object zkPath_ = "";
+    /**
+     * <code>required string zkPath = 2;</code>
+     */
+    public boolean hasZkPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string zkPath = 2;</code>
+     */
+    public java.lang.String getZkPath() {
+      java.lang.Object ref = zkPath_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        zkPath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string zkPath = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getZkPathBytes() {
+      java.lang.Object ref = zkPath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        zkPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string zkPath = 2;</code>
+     */
+    public Builder setZkPath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      zkPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string zkPath = 2;</code>
+     */
+    public Builder clearZkPath() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      zkPath_ = getDefaultInstance().getZkPath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string zkPath = 2;</code>
+     */
+    public Builder setZkPathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      zkPath_ = value;
+      onChanged();
+      return this;
+    }
+
+    // required string hdfsFilePath = 3;
+    private java.lang.Object hdfsFilePath_ = "";
+    /**
+     * <code>required string hdfsFilePath = 3;</code>
+     */
+    public boolean hasHdfsFilePath() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required string hdfsFilePath = 3;</code>
+     */
+    public java.lang.String getHdfsFilePath() {
+      java.lang.Object ref = hdfsFilePath_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        hdfsFilePath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string hdfsFilePath = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHdfsFilePathBytes() {
+      java.lang.Object ref = hdfsFilePath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        hdfsFilePath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string hdfsFilePath = 3;</code>
+     */
+    public Builder setHdfsFilePath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      hdfsFilePath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string hdfsFilePath = 3;</code>
+     */
+    public Builder clearHdfsFilePath() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      hdfsFilePath_ = getDefaultInstance().getHdfsFilePath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string hdfsFilePath = 3;</code>
+     */
+    public Builder setHdfsFilePathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      hdfsFilePath_ = value;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 createdTime = 4;
+    private long createdTime_ ;
+    /**
+     * <code>required uint64 createdTime = 4;</code>
+     */
+    public boolean hasCreatedTime() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required uint64 createdTime = 4;</code>
+     */
+    public long getCreatedTime() {
+      return createdTime_;
+    }
+    /**
+     * <code>required uint64 createdTime = 4;</code>
+     */
+    public Builder setCreatedTime(long value) {
+      bitField0_ |= 0x00000008;
+      createdTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 createdTime = 4;</code>
+     */
+    public Builder clearCreatedTime() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      createdTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 updatedTime = 5;
+    private long updatedTime_ ;
+    /**
+     * <code>required uint64 updatedTime = 5;</code>
+     */
+    public boolean hasUpdatedTime() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required uint64 updatedTime = 5;</code>
+     */
+    public long getUpdatedTime() {
+      return updatedTime_;
+    }
+    /**
+     * <code>required uint64 updatedTime = 5;</code>
+     */
+    public Builder setUpdatedTime(long value) {
+      bitField0_ |= 0x00000010;
+      updatedTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 updatedTime = 5;</code>
+     */
+    public Builder clearUpdatedTime() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      updatedTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 numBlocks = 6;
+    private long numBlocks_ ;
+    /**
+     * <code>required int64 numBlocks = 6;</code>
+     */
+    public boolean hasNumBlocks() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>required int64 numBlocks = 6;</code>
+     */
+    public long getNumBlocks() {
+      return numBlocks_;
+    }
+    /**
+     * <code>required int64 numBlocks = 6;</code>
+     */
+    public Builder setNumBlocks(long value) {
+      bitField0_ |= 0x00000020;
+      numBlocks_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 numBlocks = 6;</code>
+     */
+    public Builder clearNumBlocks() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      numBlocks_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 blockSize = 7;
+    private long blockSize_ ;
+    /**
+     * <code>required int64 blockSize = 7;</code>
+     */
+    public boolean hasBlockSize() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>required int64 blockSize = 7;</code>
+     */
+    public long getBlockSize() {
+      return blockSize_;
+    }
+    /**
+     * <code>required int64 blockSize = 7;</code>
+     */
+    public Builder setBlockSize(long value) {
+      bitField0_ |= 0x00000040;
+      blockSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 blockSize = 7;</code>
+     */
+    public Builder clearBlockSize() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      blockSize_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 dataSize = 8;
+    private long dataSize_ ;
+    /**
+     * <code>required int64 dataSize = 8;</code>
+     */
+    public boolean hasDataSize() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>required int64 dataSize = 8;</code>
+     */
+    public long getDataSize() {
+      return dataSize_;
+    }
+    /**
+     * <code>required int64 dataSize = 8;</code>
+     */
+    public Builder setDataSize(long value) {
+      bitField0_ |= 0x00000080;
+      dataSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 dataSize = 8;</code>
+     */
+    public Builder clearDataSize() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      dataSize_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 lastTnxId = 9;
+    private long lastTnxId_ ;
+    /**
+     * <code>required int64 lastTnxId = 9;</code>
+     */
+    public boolean hasLastTnxId() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>required int64 lastTnxId = 9;</code>
+     */
+    public long getLastTnxId() {
+      return lastTnxId_;
+    }
+    /**
+     * <code>required int64 lastTnxId = 9;</code>
+     */
+    public Builder setLastTnxId(long value) {
+      bitField0_ |= 0x00000100;
+      lastTnxId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 lastTnxId = 9;</code>
+     */
+    public Builder clearLastTnxId() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      lastTnxId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 timestamp = 10;
+    private long timestamp_ ;
+    /**
+     * <code>required uint64 timestamp = 10;</code>
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>required uint64 timestamp = 10;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+    /**
+     * <code>required uint64 timestamp = 10;</code>
+     */
+    public Builder setTimestamp(long value) {
+      bitField0_ |= 0x00000200;
+      timestamp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 timestamp = 10;</code>
+     */
+    public Builder clearTimestamp() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      timestamp_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required string fileType = 11;
+    private java.lang.Object fileType_ = "";
+    /**
+     * <code>required string fileType = 11;</code>
+     */
+    public boolean hasFileType() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>required string fileType = 11;</code>
+     */
+    public java.lang.String getFileType() {
+      java.lang.Object ref = fileType_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        fileType_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string fileType = 11;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFileTypeBytes() {
+      java.lang.Object ref = fileType_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string fileType = 11;</code>
+     */
+    public Builder setFileType(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+      fileType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string fileType = 11;</code>
+     */
+    public Builder clearFileType() {
+      bitField0_ = (bitField0_ & ~0x00000400);
+      fileType_ = getDefaultInstance().getFileType();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string fileType = 11;</code>
+     */
+    public Builder setFileTypeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+      fileType_ = value;
+      onChanged();
+      return this;
+    }
+
+    // optional string storagePath = 12;
+    private java.lang.Object storagePath_ = "";
+    /**
+     * <code>optional string storagePath = 12;</code>
+     */
+    public boolean hasStoragePath() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string storagePath = 12;</code>
+     */
+    public java.lang.String getStoragePath() {
+      java.lang.Object ref = storagePath_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        storagePath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string storagePath = 12;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStoragePathBytes() {
+      java.lang.Object ref = storagePath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        storagePath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string storagePath = 12;</code>
+     */
+    public Builder setStoragePath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+      storagePath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string storagePath = 12;</code>
+     */
+    public Builder clearStoragePath() {
+      bitField0_ = (bitField0_ & ~0x00000800);
+      storagePath_ = getDefaultInstance().getStoragePath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string storagePath = 12;</code>
+     */
+    public Builder setStoragePathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+      storagePath_ = value;
+      onChanged();
+      return this;
+    }
+
+    // required string state = 13;
+    private java.lang.Object state_ = "";
+    /**
+     * <code>required string state = 13;</code>
+     */
+    public boolean hasState() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>required string state = 13;</code>
+     */
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        state_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string state = 13;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string state = 13;</code>
+     */
+    public Builder setState(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
+      state_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string state = 13;</code>
+     */
+    public Builder clearState() {
+      bitField0_ = (bitField0_ & ~0x00001000);
+      state_ = getDefaultInstance().getState();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string state = 13;</code>
+     */
+    public Builder setStateBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
+      state_ = value;
+      onChanged();
+      return this;
+    }
+
+    // repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;
+    private java.util.List<ai.sapper.hcdc.common.model.DFSBlockStateData> blocks_ =
+      java.util.Collections.emptyList();
+    private void ensureBlocksIsMutable() {
+      if (!((bitField0_ & 0x00002000) == 0x00002000)) {
+        blocks_ = new java.util.ArrayList<ai.sapper.hcdc.common.model.DFSBlockStateData>(blocks_);
+        bitField0_ |= 0x00002000;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        ai.sapper.hcdc.common.model.DFSBlockStateData, ai.sapper.hcdc.common.model.DFSBlockStateData.Builder, ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder> blocksBuilder_;
+
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public java.util.List<ai.sapper.hcdc.common.model.DFSBlockStateData> getBlocksList() {
+      if (blocksBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(blocks_);
+      } else {
+        return blocksBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public int getBlocksCount() {
+      if (blocksBuilder_ == null) {
+        return blocks_.size();
+      } else {
+        return blocksBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public ai.sapper.hcdc.common.model.DFSBlockStateData getBlocks(int index) {
+      if (blocksBuilder_ == null) {
+        return blocks_.get(index);
+      } else {
+        return blocksBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder setBlocks(
+        int index, ai.sapper.hcdc.common.model.DFSBlockStateData value) {
+      if (blocksBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBlocksIsMutable();
+        blocks_.set(index, value);
+        onChanged();
+      } else {
+        blocksBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder setBlocks(
+        int index, ai.sapper.hcdc.common.model.DFSBlockStateData.Builder builderForValue) {
+      if (blocksBuilder_ == null) {
+        ensureBlocksIsMutable();
+        blocks_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        blocksBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder addBlocks(ai.sapper.hcdc.common.model.DFSBlockStateData value) {
+      if (blocksBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBlocksIsMutable();
+        blocks_.add(value);
+        onChanged();
+      } else {
+        blocksBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder addBlocks(
+        int index, ai.sapper.hcdc.common.model.DFSBlockStateData value) {
+      if (blocksBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBlocksIsMutable();
+        blocks_.add(index, value);
+        onChanged();
+      } else {
+        blocksBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder addBlocks(
+        ai.sapper.hcdc.common.model.DFSBlockStateData.Builder builderForValue) {
+      if (blocksBuilder_ == null) {
+        ensureBlocksIsMutable();
+        blocks_.add(builderForValue.build());
+        onChanged();
+      } else {
+        blocksBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder addBlocks(
+        int index, ai.sapper.hcdc.common.model.DFSBlockStateData.Builder builderForValue) {
+      if (blocksBuilder_ == null) {
+        ensureBlocksIsMutable();
+        blocks_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        blocksBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder addAllBlocks(
+        java.lang.Iterable<? extends ai.sapper.hcdc.common.model.DFSBlockStateData> values) {
+      if (blocksBuilder_ == null) {
+        ensureBlocksIsMutable();
+        super.addAll(values, blocks_);
+        onChanged();
+      } else {
+        blocksBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder clearBlocks() {
+      if (blocksBuilder_ == null) {
+        blocks_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00002000);
+        onChanged();
+      } else {
+        blocksBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public Builder removeBlocks(int index) {
+      if (blocksBuilder_ == null) {
+        ensureBlocksIsMutable();
+        blocks_.remove(index);
+        onChanged();
+      } else {
+        blocksBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public ai.sapper.hcdc.common.model.DFSBlockStateData.Builder getBlocksBuilder(
+        int index) {
+      return getBlocksFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder getBlocksOrBuilder(
+        int index) {
+      if (blocksBuilder_ == null) {
+        return blocks_.get(index);  } else {
+        return blocksBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public java.util.List<? extends ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder> 
+         getBlocksOrBuilderList() {
+      if (blocksBuilder_ != null) {
+        return blocksBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(blocks_);
+      }
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public ai.sapper.hcdc.common.model.DFSBlockStateData.Builder addBlocksBuilder() {
+      return getBlocksFieldBuilder().addBuilder(
+          ai.sapper.hcdc.common.model.DFSBlockStateData.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public ai.sapper.hcdc.common.model.DFSBlockStateData.Builder addBlocksBuilder(
+        int index) {
+      return getBlocksFieldBuilder().addBuilder(
+          index, ai.sapper.hcdc.common.model.DFSBlockStateData.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+     */
+    public java.util.List<ai.sapper.hcdc.common.model.DFSBlockStateData.Builder> 
+         getBlocksBuilderList() {
+      return getBlocksFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        ai.sapper.hcdc.common.model.DFSBlockStateData, ai.sapper.hcdc.common.model.DFSBlockStateData.Builder, ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder> 
+        getBlocksFieldBuilder() {
+      if (blocksBuilder_ == null) {
+        blocksBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            ai.sapper.hcdc.common.model.DFSBlockStateData, ai.sapper.hcdc.common.model.DFSBlockStateData.Builder, ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder>(
+                blocks_,
+                ((bitField0_ & 0x00002000) == 0x00002000),
+                getParentForChildren(),
+                isClean());
+        blocks_ = null;
+      }
+      return blocksBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.DFSFileStateData)
+  }
+
+  static {
+    defaultInstance = new DFSFileStateData(true);
+    defaultInstance.initFields();
+  }
+
+  // @@protoc_insertion_point(class_scope:ai_sapper_hcdc_common_model.DFSFileStateData)
+}
+
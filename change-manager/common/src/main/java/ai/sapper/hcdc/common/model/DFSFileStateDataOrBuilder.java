@@ -0,0 +1,188 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public interface DFSFileStateDataOrBuilder
+    extends com.google.protobuf.MessageOrBuilder {
+
+  // required int64 id = 1;
+  /**
+   * <code>required int64 id = 1;</code>
+   */
+  boolean hasId();
+  /**
+   * <code>required int64 id = 1;</code>
+   */
+  long getId();
+
+  // required string zkPath = 2;
+  /**
+   * <code>required string zkPath = 2;</code>
+   */
+  boolean hasZkPath();
+  /**
+   * <code>required string zkPath = 2;</code>
+   */
+  java.lang.String getZkPath();
+  /**
+   * <code>required string zkPath = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getZkPathBytes();
+
+  // required string hdfsFilePath = 3;
+  /**
+   * <code>required string hdfsFilePath = 3;</code>
+   */
+  boolean hasHdfsFilePath();
+  /**
+   * <code>required string hdfsFilePath = 3;</code>
+   */
+  java.lang.String getHdfsFilePath();
+  /**
+   * <code>required string hdfsFilePath = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getHdfsFilePathBytes();
+
+  // required uint64 createdTime = 4;
+  /**
+   * <code>required uint64 createdTime = 4;</code>
+   */
+  boolean hasCreatedTime();
+  /**
+   * <code>required uint64 createdTime = 4;</code>
+   */
+  long getCreatedTime();
+
+  // required uint64 updatedTime = 5;
+  /**
+   * <code>required uint64 updatedTime = 5;</code>
+   */
+  boolean hasUpdatedTime();
+  /**
+   * <code>required uint64 updatedTime = 5;</code>
+   */
+  long getUpdatedTime();
+
+  // required int64 numBlocks = 6;
+  /**
+   * <code>required int64 numBlocks = 6;</code>
+   */
+  boolean hasNumBlocks();
+  /**
+   * <code>required int64 numBlocks = 6;</code>
+   */
+  long getNumBlocks();
+
+  // required int64 blockSize = 7;
+  /**
+   * <code>required int64 blockSize = 7;</code>
+   */
+  boolean hasBlockSize();
+  /**
+   * <code>required int64 blockSize = 7;</code>
+   */
+  long getBlockSize();
+
+  // required int64 dataSize = 8;
+  /**
+   * <code>required int64 dataSize = 8;</code>
+   */
+  boolean hasDataSize();
+  /**
+   * <code>required int64 dataSize = 8;</code>
+   */
+  long getDataSize();
+
+  // required int64 lastTnxId = 9;
+  /**
+   * <code>required int64 lastTnxId = 9;</code>
+   */
+  boolean hasLastTnxId();
+  /**
+   * <code>required int64 lastTnxId = 9;</code>
+   */
+  long getLastTnxId();
+
+  // required uint64 timestamp = 10;
+  /**
+   * <code>required uint64 timestamp = 10;</code>
+   */
+  boolean hasTimestamp();
+  /**
+   * <code>required uint64 timestamp = 10;</code>
+   */
+  long getTimestamp();
+
+  // required string fileType = 11;
+  /**
+   * <code>required string fileType = 11;</code>
+   */
+  boolean hasFileType();
+  /**
+   * <code>required string fileType = 11;</code>
+   */
+  java.lang.String getFileType();
+  /**
+   * <code>required string fileType = 11;</code>
+   */
+  com.google.protobuf.ByteString
+      getFileTypeBytes();
+
+  // optional string storagePath = 12;
+  /**
+   * <code>optional string storagePath = 12;</code>
+   */
+  boolean hasStoragePath();
+  /**
+   * <code>optional string storagePath = 12;</code>
+   */
+  java.lang.String getStoragePath();
+  /**
+   * <code>optional string storagePath = 12;</code>
+   */
+  com.google.protobuf.ByteString
+      getStoragePathBytes();
+
+  // required string state = 13;
+  /**
+   * <code>required string state = 13;</code>
+   */
+  boolean hasState();
+  /**
+   * <code>required string state = 13;</code>
+   */
+  java.lang.String getState();
+  /**
+   * <code>required string state = 13;</code>
+   */
+  com.google.protobuf.ByteString
+      getStateBytes();
+
+  // repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  java.util.List<ai.sapper.hcdc.common.model.DFSBlockStateData> 
+      getBlocksList();
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  ai.sapper.hcdc.common.model.DFSBlockStateData getBlocks(int index);
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  int getBlocksCount();
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  java.util.List<? extends ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder> 
+      getBlocksOrBuilderList();
+  /**
+   * <code>repeated .ai_sapper_hcdc_common_model.DFSBlockStateData blocks = 14;</code>
+   */
+  ai.sapper.hcdc.common.model.DFSBlockStateDataOrBuilder getBlocksOrBuilder(
+      int index);
+}
@@ -85,6 +85,11 @@ public  final class DFSIgnoreTx extends
             bitField0_ |= 0x00000004;
             break;
           }
+          case 32: {
+            bitField0_ |= 0x00000008;
+            endTransactionId_ = input.readInt64();
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -212,10 +217,27 @@ public  final class DFSIgnoreTx extends
     return file_;
   }
 
+  // optional int64 endTransactionId = 4;
+  public static final int ENDTRANSACTIONID_FIELD_NUMBER = 4;
+  private long endTransactionId_;
+  /**
+   * <code>optional int64 endTransactionId = 4;</code>
+   */
+  public boolean hasEndTransactionId() {
+    return ((bitField0_ & 0x00000008) == 0x00000008);
+  }
+  /**
+   * <code>optional int64 endTransactionId = 4;</code>
+   */
+  public long getEndTransactionId() {
+    return endTransactionId_;
+  }
+
   private void initFields() {
     transaction_ = ai.sapper.hcdc.common.model.DFSTransaction.getDefaultInstance();
     opCode_ = "";
     file_ = ai.sapper.hcdc.common.model.DFSFile.getDefaultInstance();
+    endTransactionId_ = 0L;
   }
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
@@ -256,6 +278,9 @@ public  final class DFSIgnoreTx extends
     if (((bitField0_ & 0x00000004) == 0x00000004)) {
       output.writeMessage(3, file_);
     }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      output.writeInt64(4, endTransactionId_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -277,6 +302,10 @@ public  final class DFSIgnoreTx extends
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(3, file_);
     }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, endTransactionId_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSerializedSize = size;
     return size;
@@ -409,6 +438,8 @@ public  final class DFSIgnoreTx extends
         fileBuilder_.clear();
       }
       bitField0_ = (bitField0_ & ~0x00000004);
+      endTransactionId_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000008);
       return this;
     }
 
@@ -457,6 +488,10 @@ public  final class DFSIgnoreTx extends
       } else {
         result.file_ = fileBuilder_.build();
       }
+      if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        to_bitField0_ |= 0x00000008;
+      }
+      result.endTransactionId_ = endTransactionId_;
       result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
@@ -484,6 +519,9 @@ public  final class DFSIgnoreTx extends
       if (other.hasFile()) {
         mergeFile(other.getFile());
       }
+      if (other.hasEndTransactionId()) {
+        setEndTransactionId(other.getEndTransactionId());
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       return this;
     }
@@ -837,6 +875,39 @@ public  final class DFSIgnoreTx extends
       return fileBuilder_;
     }
 
+    // optional int64 endTransactionId = 4;
+    private long endTransactionId_ ;
+    /**
+     * <code>optional int64 endTransactionId = 4;</code>
+     */
+    public boolean hasEndTransactionId() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 endTransactionId = 4;</code>
+     */
+    public long getEndTransactionId() {
+      return endTransactionId_;
+    }
+    /**
+     * <code>optional int64 endTransactionId = 4;</code>
+     */
+    public Builder setEndTransactionId(long value) {
+      bitField0_ |= 0x00000008;
+      endTransactionId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 endTransactionId = 4;</code>
+     */
+    public Builder clearEndTransactionId() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      endTransactionId_ = 0L;
+      onChanged();
+      return this;
+    }
+
     // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.DFSIgnoreTx)
   }
 
@@ -48,4 +48,14 @@ public interface DFSIgnoreTxOrBuilder
    * <code>optional .ai_sapper_hcdc_common_model.DFSFile file = 3;</code>
    */
   ai.sapper.hcdc.common.model.DFSFileOrBuilder getFileOrBuilder();
+
+  // optional int64 endTransactionId = 4;
+  /**
+   * <code>optional int64 endTransactionId = 4;</code>
+   */
+  boolean hasEndTransactionId();
+  /**
+   * <code>optional int64 endTransactionId = 4;</code>
+   */
+  long getEndTransactionId();
 }
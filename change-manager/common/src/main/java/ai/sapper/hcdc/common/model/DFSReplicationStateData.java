@@ -0,0 +1,1369 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+/**
+ * Protobuf type {@code ai_sapper_hcdc_common_model.DFSReplicationStateData}
+ */
+public  final class DFSReplicationStateData extends
+    com.google.protobuf.GeneratedMessage
+    implements DFSReplicationStateDataOrBuilder {
+  // Use DFSReplicationStateData.newBuilder() to construct.
+  private DFSReplicationStateData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+    this.unknownFields = builder.getUnknownFields();
+  }
+  private DFSReplicationStateData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+  private static final DFSReplicationStateData defaultInstance;
+  public static DFSReplicationStateData getDefaultInstance() {
+    return defaultInstance;
+  }
+
+  public DFSReplicationStateData getDefaultInstanceForType() {
+    return defaultInstance;
+  }
+
+  private final com.google.protobuf.UnknownFieldSet unknownFields;
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+    return this.unknownFields;
+  }
+  private DFSReplicationStateData(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    initFields();
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownField(input, unknownFields,
+                                   extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+            bitField0_ |= 0x00000001;
+            inode_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            bitField0_ |= 0x00000002;
+            hdfsPath_ = input.readBytes();
+            break;
+          }
+          case 26: {
+            ai.sapper.hcdc.common.model.SchemaEntityData.Builder subBuilder = null;
+            if (((bitField0_ & 0x00000004) == 0x00000004)) {
+              subBuilder = entity_.toBuilder();
+            }
+            entity_ = input.readMessage(ai.sapper.hcdc.common.model.SchemaEntityData.PARSER, extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(entity_);
+              entity_ = subBuilder.buildPartial();
+            }
+            bitField0_ |= 0x00000004;
+            break;
+          }
+          case 34: {
+            bitField0_ |= 0x00000008;
+            zkPath_ = input.readBytes();
+            break;
+          }
+          case 40: {
+            bitField0_ |= 0x00000010;
+            enabled_ = input.readBool();
+            break;
+          }
+          case 48: {
+            bitField0_ |= 0x00000020;
+            snapshotTxId_ = input.readInt64();
+            break;
+          }
+          case 56: {
+            bitField0_ |= 0x00000040;
+            lastReplicatedTx_ = input.readInt64();
+            break;
+          }
+          case 64: {
+            bitField0_ |= 0x00000080;
+            snapshotTime_ = input.readUInt64();
+            break;
+          }
+          case 72: {
+            bitField0_ |= 0x00000100;
+            snapshotReady_ = input.readBool();
+            break;
+          }
+          case 80: {
+            bitField0_ |= 0x00000200;
+            lastReplicationTime_ = input.readUInt64();
+            break;
+          }
+          case 88: {
+            bitField0_ |= 0x00000400;
+            updateTime_ = input.readUInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e.getMessage()).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            ai.sapper.hcdc.common.model.DFSReplicationStateData.class, ai.sapper.hcdc.common.model.DFSReplicationStateData.Builder.class);
+  }
+
+  public static com.google.protobuf.Parser<DFSReplicationStateData> PARSER =
+      new com.google.protobuf.AbstractParser<DFSReplicationStateData>() {
+    public DFSReplicationStateData parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new DFSReplicationStateData(input, extensionRegistry);
+    }
+  };
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DFSReplicationStateData> getParserForType() {
+    return PARSER;
+  }
+
+  private int bitField0_;
+  // required int64 inode = 1;
+  public static final int INODE_FIELD_NUMBER = 1;
+  private long inode_;
+  /**
+   * <code>required int64 inode = 1;</code>
+   */
+  public boolean hasInode() {
+    return ((bitField0_ & 0x00000001) == 0x00000001);
+  }
+  /**
+   * <code>required int64 inode = 1;</code>
+   */
+  public long getInode() {
+    return inode_;
+  }
+
+  // required string hdfsPath = 2;
+  public static final int HDFSPATH_FIELD_NUMBER = 2;
+  private java.lang.Object hdfsPath_;
+  /**
+   * <code>required string hdfsPath = 2;</code>
+   */
+  public boolean hasHdfsPath() {
+    return ((bitField0_ & 0x00000002) == 0x00000002);
+  }
+  /**
+   * <code>required string hdfsPath = 2;</code>
+   */
+  public java.lang.String getHdfsPath() {
+    java.lang.Object ref = hdfsPath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        hdfsPath_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string hdfsPath = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getHdfsPathBytes() {
+    java.lang.Object ref = hdfsPath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      hdfsPath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;
+  public static final int ENTITY_FIELD_NUMBER = 3;
+  private ai.sapper.hcdc.common.model.SchemaEntityData entity_;
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+   */
+  public boolean hasEntity() {
+    return ((bitField0_ & 0x00000004) == 0x00000004);
+  }
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+   */
+  public ai.sapper.hcdc.common.model.SchemaEntityData getEntity() {
+    return entity_;
+  }
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+   */
+  public ai.sapper.hcdc.common.model.SchemaEntityDataOrBuilder getEntityOrBuilder() {
+    return entity_;
+  }
+
+  // required string zkPath = 4;
+  public static final int ZKPATH_FIELD_NUMBER = 4;
+  private java.lang.Object zkPath_;
+  /**
+   * <code>required string zkPath = 4;</code>
+   */
+  public boolean hasZkPath() {
+    return ((bitField0_ & 0x00000008) == 0x00000008);
+  }
+  /**
+   * <code>required string zkPath = 4;</code>
+   */
+  public java.lang.String getZkPath() {
+    java.lang.Object ref = zkPath_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        zkPath_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string zkPath = 4;</code>
+   */
+  public com.google.protobuf.ByteString
+      getZkPathBytes() {
+    java.lang.Object ref = zkPath_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      zkPath_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // optional bool enabled = 5;
+  public static final int ENABLED_FIELD_NUMBER = 5;
+  private boolean enabled_;
+  /**
+   * <code>optional bool enabled = 5;</code>
+   */
+  public boolean hasEnabled() {
+    return ((bitField0_ & 0x00000010) == 0x00000010);
+  }
+  /**
+   * <code>optional bool enabled = 5;</code>
+   */
+  public boolean getEnabled() {
+    return enabled_;
+  }
+
+  // optional int64 snapshotTxId = 6 [default = -1];
+  public static final int SNAPSHOTTXID_FIELD_NUMBER = 6;
+  private long snapshotTxId_;
+  /**
+   * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+   */
+  public boolean hasSnapshotTxId() {
+    return ((bitField0_ & 0x00000020) == 0x00000020);
+  }
+  /**
+   * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+   */
+  public long getSnapshotTxId() {
+    return snapshotTxId_;
+  }
+
+  // optional int64 lastReplicatedTx = 7 [default = -1];
+  public static final int LASTREPLICATEDTX_FIELD_NUMBER = 7;
+  private long lastReplicatedTx_;
+  /**
+   * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+   */
+  public boolean hasLastReplicatedTx() {
+    return ((bitField0_ & 0x00000040) == 0x00000040);
+  }
+  /**
+   * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+   */
+  public long getLastReplicatedTx() {
+    return lastReplicatedTx_;
+  }
+
+  // optional uint64 snapshotTime = 8;
+  public static final int SNAPSHOTTIME_FIELD_NUMBER = 8;
+  private long snapshotTime_;
+  /**
+   * <code>optional uint64 snapshotTime = 8;</code>
+   */
+  public boolean hasSnapshotTime() {
+    return ((bitField0_ & 0x00000080) == 0x00000080);
+  }
+  /**
+   * <code>optional uint64 snapshotTime = 8;</code>
+   */
+  public long getSnapshotTime() {
+    return snapshotTime_;
+  }
+
+  // optional bool snapshotReady = 9;
+  public static final int SNAPSHOTREADY_FIELD_NUMBER = 9;
+  private boolean snapshotReady_;
+  /**
+   * <code>optional bool snapshotReady = 9;</code>
+   */
+  public boolean hasSnapshotReady() {
+    return ((bitField0_ & 0x00000100) == 0x00000100);
+  }
+  /**
+   * <code>optional bool snapshotReady = 9;</code>
+   */
+  public boolean getSnapshotReady() {
+    return snapshotReady_;
+  }
+
+  // optional uint64 lastReplicationTime = 10;
+  public static final int LASTREPLICATIONTIME_FIELD_NUMBER = 10;
+  private long lastReplicationTime_;
+  /**
+   * <code>optional uint64 lastReplicationTime = 10;</code>
+   */
+  public boolean hasLastReplicationTime() {
+    return ((bitField0_ & 0x00000200) == 0x00000200);
+  }
+  /**
+   * <code>optional uint64 lastReplicationTime = 10;</code>
+   */
+  public long getLastReplicationTime() {
+    return lastReplicationTime_;
+  }
+
+  // optional uint64 updateTime = 11;
+  public static final int UPDATETIME_FIELD_NUMBER = 11;
+  private long updateTime_;
+  /**
+   * <code>optional uint64 updateTime = 11;</code>
+   */
+  public boolean hasUpdateTime() {
+    return ((bitField0_ & 0x00000400) == 0x00000400);
+  }
+  /**
+   * <code>optional uint64 updateTime = 11;</code>
+   */
+  public long getUpdateTime() {
+    return updateTime_;
+  }
+
+  private void initFields() {
+    inode_ = 0L;
+    hdfsPath_ = "";
+    entity_ = ai.sapper.hcdc.common.model.SchemaEntityData.getDefaultInstance();
+    zkPath_ = "";
+    enabled_ = false;
+    snapshotTxId_ = -1L;
+    lastReplicatedTx_ = -1L;
+    snapshotTime_ = 0L;
+    snapshotReady_ = false;
+    lastReplicationTime_ = 0L;
+    updateTime_ = 0L;
+  }
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized != -1) return isInitialized == 1;
+
+    if (!hasInode()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasHdfsPath()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasZkPath()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      output.writeInt64(1, inode_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      output.writeBytes(2, getHdfsPathBytes());
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      output.writeMessage(3, entity_);
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      output.writeBytes(4, getZkPathBytes());
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      output.writeBool(5, enabled_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      output.writeInt64(6, snapshotTxId_);
+    }
+    if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      output.writeInt64(7, lastReplicatedTx_);
+    }
+    if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      output.writeUInt64(8, snapshotTime_);
+    }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      output.writeBool(9, snapshotReady_);
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      output.writeUInt64(10, lastReplicationTime_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      output.writeUInt64(11, updateTime_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  private int memoizedSerializedSize = -1;
+  public int getSerializedSize() {
+    int size = memoizedSerializedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, inode_);
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, getHdfsPathBytes());
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, entity_);
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(4, getZkPathBytes());
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(5, enabled_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(6, snapshotTxId_);
+    }
+    if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, lastReplicatedTx_);
+    }
+    if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(8, snapshotTime_);
+    }
+    if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(9, snapshotReady_);
+    }
+    if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(10, lastReplicationTime_);
+    }
+    if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(11, updateTime_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSerializedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  protected java.lang.Object writeReplace()
+      throws java.io.ObjectStreamException {
+    return super.writeReplace();
+  }
+
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.DFSReplicationStateData parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+
+  public static Builder newBuilder() { return Builder.create(); }
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder(ai.sapper.hcdc.common.model.DFSReplicationStateData prototype) {
+    return newBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() { return newBuilder(this); }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ai_sapper_hcdc_common_model.DFSReplicationStateData}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder>
+     implements ai.sapper.hcdc.common.model.DFSReplicationStateDataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ai.sapper.hcdc.common.model.DFSReplicationStateData.class, ai.sapper.hcdc.common.model.DFSReplicationStateData.Builder.class);
+    }
+
+    // Construct using ai.sapper.hcdc.common.model.DFSReplicationStateData.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        getEntityFieldBuilder();
+      }
+    }
+    private static Builder create() {
+      return new Builder();
+    }
+
+    public Builder clear() {
+      super.clear();
+      inode_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      hdfsPath_ = "";
+      bitField0_ = (bitField0_ & ~0x00000002);
+      if (entityBuilder_ == null) {
+        entity_ = ai.sapper.hcdc.common.model.SchemaEntityData.getDefaultInstance();
+      } else {
+        entityBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000004);
+      zkPath_ = "";
+      bitField0_ = (bitField0_ & ~0x00000008);
+      enabled_ = false;
+      bitField0_ = (bitField0_ & ~0x00000010);
+      snapshotTxId_ = -1L;
+      bitField0_ = (bitField0_ & ~0x00000020);
+      lastReplicatedTx_ = -1L;
+      bitField0_ = (bitField0_ & ~0x00000040);
+      snapshotTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000080);
+      snapshotReady_ = false;
+      bitField0_ = (bitField0_ & ~0x00000100);
+      lastReplicationTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000200);
+      updateTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000400);
+      return this;
+    }
+
+    public Builder clone() {
+      return create().mergeFrom(buildPartial());
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_descriptor;
+    }
+
+    public ai.sapper.hcdc.common.model.DFSReplicationStateData getDefaultInstanceForType() {
+      return ai.sapper.hcdc.common.model.DFSReplicationStateData.getDefaultInstance();
+    }
+
+    public ai.sapper.hcdc.common.model.DFSReplicationStateData build() {
+      ai.sapper.hcdc.common.model.DFSReplicationStateData result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public ai.sapper.hcdc.common.model.DFSReplicationStateData buildPartial() {
+      ai.sapper.hcdc.common.model.DFSReplicationStateData result = new ai.sapper.hcdc.common.model.DFSReplicationStateData(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.inode_ = inode_;
+      if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.hdfsPath_ = hdfsPath_;
+      if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      if (entityBuilder_ == null) {
+        result.entity_ = entity_;
+      } else {
+        result.entity_ = entityBuilder_.build();
+      }
+      if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        to_bitField0_ |= 0x00000008;
+      }
+      result.zkPath_ = zkPath_;
+      if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        to_bitField0_ |= 0x00000010;
+      }
+      result.enabled_ = enabled_;
+      if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+        to_bitField0_ |= 0x00000020;
+      }
+      result.snapshotTxId_ = snapshotTxId_;
+      if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+        to_bitField0_ |= 0x00000040;
+      }
+      result.lastReplicatedTx_ = lastReplicatedTx_;
+      if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+        to_bitField0_ |= 0x00000080;
+      }
+      result.snapshotTime_ = snapshotTime_;
+      if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+        to_bitField0_ |= 0x00000100;
+      }
+      result.snapshotReady_ = snapshotReady_;
+      if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+        to_bitField0_ |= 0x00000200;
+      }
+      result.lastReplicationTime_ = lastReplicationTime_;
+      if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+        to_bitField0_ |= 0x00000400;
+      }
+      result.updateTime_ = updateTime_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof ai.sapper.hcdc.common.model.DFSReplicationStateData) {
+        return mergeFrom((ai.sapper.hcdc.common.model.DFSReplicationStateData)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(ai.sapper.hcdc.common.model.DFSReplicationStateData other) {
+      if (other == ai.sapper.hcdc.common.model.DFSReplicationStateData.getDefaultInstance()) return this;
+      if (other.hasInode()) {
+        setInode(other.getInode());
+      }
+      if (other.hasHdfsPath()) {
+        bitField0_ |= 0x00000002;
+        hdfsPath_ = other.hdfsPath_;
+        onChanged();
+      }
+      if (other.hasEntity()) {
+        mergeEntity(other.getEntity());
+      }
+      if (other.hasZkPath()) {
+        bitField0_ |= 0x00000008;
+        zkPath_ = other.zkPath_;
+        onChanged();
+      }
+      if (other.hasEnabled()) {
+        setEnabled(other.getEnabled());
+      }
+      if (other.hasSnapshotTxId()) {
+        setSnapshotTxId(other.getSnapshotTxId());
+      }
+      if (other.hasLastReplicatedTx()) {
+        setLastReplicatedTx(other.getLastReplicatedTx());
+      }
+      if (other.hasSnapshotTime()) {
+        setSnapshotTime(other.getSnapshotTime());
+      }
+      if (other.hasSnapshotReady()) {
+        setSnapshotReady(other.getSnapshotReady());
+      }
+      if (other.hasLastReplicationTime()) {
+        setLastReplicationTime(other.getLastReplicationTime());
+      }
+      if (other.hasUpdateTime()) {
+        setUpdateTime(other.getUpdateTime());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      if (!hasInode()) {
+        
+        return false;
+      }
+      if (!hasHdfsPath()) {
+        
+        return false;
+      }
+      if (!hasZkPath()) {
+        
+        return false;
+      }
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      ai.sapper.hcdc.common.model.DFSReplicationStateData parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (ai.sapper.hcdc.common.model.DFSReplicationStateData) e.getUnfinishedMessage();
+        throw e;
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    // required int64 inode = 1;
+    private long inode_ ;
+    /**
+     * <code>required int64 inode = 1;</code>
+     */
+    public boolean hasInode() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int64 inode = 1;</code>
+     */
+    public long getInode() {
+      return inode_;
+    }
+    /**
+     * <code>required int64 inode = 1;</code>
+     */
+    public Builder setInode(long value) {
+      bitField0_ |= 0x00000001;
+      inode_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 inode = 1;</code>
+     */
+    public Builder clearInode() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      inode_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required string hdfsPath = 2;
+    private java.lang.Object hdfsPath_ = "";
+    /**
+     * <code>required string hdfsPath = 2;</code>
+     */
+    public boolean hasHdfsPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string hdfsPath = 2;</code>
+     */
+    public java.lang.String getHdfsPath() {
+      java.lang.Object ref = hdfsPath_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        hdfsPath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string hdfsPath = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHdfsPathBytes() {
+      java.lang.Object ref = hdfsPath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        hdfsPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string hdfsPath = 2;</code>
+     */
+    public Builder setHdfsPath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      hdfsPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string hdfsPath = 2;</code>
+     */
+    public Builder clearHdfsPath() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      hdfsPath_ = getDefaultInstance().getHdfsPath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string hdfsPath = 2;</code>
+     */
+    public Builder setHdfsPathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      hdfsPath_ = value;
+      onChanged();
+      return this;
+    }
+
+    // optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;
+    private ai.sapper.hcdc.common.model.SchemaEntityData entity_ = ai.sapper.hcdc.common.model.SchemaEntityData.getDefaultInstance();
+    private com.google.protobuf.SingleFieldBuilder<
+        ai.sapper.hcdc.common.model.SchemaEntityData, ai.sapper.hcdc.common.model.SchemaEntityData.Builder, ai.sapper.hcdc.common.model.SchemaEntityDataOrBuilder> entityBuilder_;
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public boolean hasEntity() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public ai.sapper.hcdc.common.model.SchemaEntityData getEntity() {
+      if (entityBuilder_ == null) {
+        return entity_;
+      } else {
+        return entityBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public Builder setEntity(ai.sapper.hcdc.common.model.SchemaEntityData value) {
+      if (entityBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        entity_ = value;
+        onChanged();
+      } else {
+        entityBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000004;
+      return this;
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public Builder setEntity(
+        ai.sapper.hcdc.common.model.SchemaEntityData.Builder builderForValue) {
+      if (entityBuilder_ == null) {
+        entity_ = builderForValue.build();
+        onChanged();
+      } else {
+        entityBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000004;
+      return this;
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public Builder mergeEntity(ai.sapper.hcdc.common.model.SchemaEntityData value) {
+      if (entityBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) == 0x00000004) &&
+            entity_ != ai.sapper.hcdc.common.model.SchemaEntityData.getDefaultInstance()) {
+          entity_ =
+            ai.sapper.hcdc.common.model.SchemaEntityData.newBuilder(entity_).mergeFrom(value).buildPartial();
+        } else {
+          entity_ = value;
+        }
+        onChanged();
+      } else {
+        entityBuilder_.mergeFrom(value);
+      }
+      bitField0_ |= 0x00000004;
+      return this;
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public Builder clearEntity() {
+      if (entityBuilder_ == null) {
+        entity_ = ai.sapper.hcdc.common.model.SchemaEntityData.getDefaultInstance();
+        onChanged();
+      } else {
+        entityBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000004);
+      return this;
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public ai.sapper.hcdc.common.model.SchemaEntityData.Builder getEntityBuilder() {
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return getEntityFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    public ai.sapper.hcdc.common.model.SchemaEntityDataOrBuilder getEntityOrBuilder() {
+      if (entityBuilder_ != null) {
+        return entityBuilder_.getMessageOrBuilder();
+      } else {
+        return entity_;
+      }
+    }
+    /**
+     * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        ai.sapper.hcdc.common.model.SchemaEntityData, ai.sapper.hcdc.common.model.SchemaEntityData.Builder, ai.sapper.hcdc.common.model.SchemaEntityDataOrBuilder> 
+        getEntityFieldBuilder() {
+      if (entityBuilder_ == null) {
+        entityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            ai.sapper.hcdc.common.model.SchemaEntityData, ai.sapper.hcdc.common.model.SchemaEntityData.Builder, ai.sapper.hcdc.common.model.SchemaEntityDataOrBuilder>(
+                entity_,
+                getParentForChildren(),
+                isClean());
+        entity_ = null;
+      }
+      return entityBuilder_;
+    }
+
+    // required string zkPath = 4;
+    private java.lang.Object zkPath_ = "";
+    /**
+     * <code>required string zkPath = 4;</code>
+     */
+    public boolean hasZkPath() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required string zkPath = 4;</code>
+     */
+    public java.lang.String getZkPath() {
+      java.lang.Object ref = zkPath_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        zkPath_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string zkPath = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getZkPathBytes() {
+      java.lang.Object ref = zkPath_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        zkPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string zkPath = 4;</code>
+     */
+    public Builder setZkPath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+      zkPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string zkPath = 4;</code>
+     */
+    public Builder clearZkPath() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      zkPath_ = getDefaultInstance().getZkPath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string zkPath = 4;</code>
+     */
+    public Builder setZkPathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+      zkPath_ = value;
+      onChanged();
+      return this;
+    }
+
+    // optional bool enabled = 5;
+    private boolean enabled_ ;
+    /**
+     * <code>optional bool enabled = 5;</code>
+     */
+    public boolean hasEnabled() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool enabled = 5;</code>
+     */
+    public boolean getEnabled() {
+      return enabled_;
+    }
+    /**
+     * <code>optional bool enabled = 5;</code>
+     */
+    public Builder setEnabled(boolean value) {
+      bitField0_ |= 0x00000010;
+      enabled_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool enabled = 5;</code>
+     */
+    public Builder clearEnabled() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      enabled_ = false;
+      onChanged();
+      return this;
+    }
+
+    // optional int64 snapshotTxId = 6 [default = -1];
+    private long snapshotTxId_ = -1L;
+    /**
+     * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+     */
+    public boolean hasSnapshotTxId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+     */
+    public long getSnapshotTxId() {
+      return snapshotTxId_;
+    }
+    /**
+     * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+     */
+    public Builder setSnapshotTxId(long value) {
+      bitField0_ |= 0x00000020;
+      snapshotTxId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+     */
+    public Builder clearSnapshotTxId() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      snapshotTxId_ = -1L;
+      onChanged();
+      return this;
+    }
+
+    // optional int64 lastReplicatedTx = 7 [default = -1];
+    private long lastReplicatedTx_ = -1L;
+    /**
+     * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+     */
+    public boolean hasLastReplicatedTx() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+     */
+    public long getLastReplicatedTx() {
+      return lastReplicatedTx_;
+    }
+    /**
+     * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+     */
+    public Builder setLastReplicatedTx(long value) {
+      bitField0_ |= 0x00000040;
+      lastReplicatedTx_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+     */
+    public Builder clearLastReplicatedTx() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      lastReplicatedTx_ = -1L;
+      onChanged();
+      return this;
+    }
+
+    // optional uint64 snapshotTime = 8;
+    private long snapshotTime_ ;
+    /**
+     * <code>optional uint64 snapshotTime = 8;</code>
+     */
+    public boolean hasSnapshotTime() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional uint64 snapshotTime = 8;</code>
+     */
+    public long getSnapshotTime() {
+      return snapshotTime_;
+    }
+    /**
+     * <code>optional uint64 snapshotTime = 8;</code>
+     */
+    public Builder setSnapshotTime(long value) {
+      bitField0_ |= 0x00000080;
+      snapshotTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional uint64 snapshotTime = 8;</code>
+     */
+    public Builder clearSnapshotTime() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      snapshotTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // optional bool snapshotReady = 9;
+    private boolean snapshotReady_ ;
+    /**
+     * <code>optional bool snapshotReady = 9;</code>
+     */
+    public boolean hasSnapshotReady() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional bool snapshotReady = 9;</code>
+     */
+    public boolean getSnapshotReady() {
+      return snapshotReady_;
+    }
+    /**
+     * <code>optional bool snapshotReady = 9;</code>
+     */
+    public Builder setSnapshotReady(boolean value) {
+      bitField0_ |= 0x00000100;
+      snapshotReady_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional bool snapshotReady = 9;</code>
+     */
+    public Builder clearSnapshotReady() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      snapshotReady_ = false;
+      onChanged();
+      return this;
+    }
+
+    // optional uint64 lastReplicationTime = 10;
+    private long lastReplicationTime_ ;
+    /**
+     * <code>optional uint64 lastReplicationTime = 10;</code>
+     */
+    public boolean hasLastReplicationTime() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional uint64 lastReplicationTime = 10;</code>
+     */
+    public long getLastReplicationTime() {
+      return lastReplicationTime_;
+    }
+    /**
+     * <code>optional uint64 lastReplicationTime = 10;</code>
+     */
+    public Builder setLastReplicationTime(long value) {
+      bitField0_ |= 0x00000200;
+      lastReplicationTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional uint64 lastReplicationTime = 10;</code>
+     */
+    public Builder clearLastReplicationTime() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      lastReplicationTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // optional uint64 updateTime = 11;
+    private long updateTime_ ;
+    /**
+     * <code>optional uint64 updateTime = 11;</code>
+     */
+    public boolean hasUpdateTime() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional uint64 updateTime = 11;</code>
+     */
+    public long getUpdateTime() {
+      return updateTime_;
+    }
+    /**
+     * <code>optional uint64 updateTime = 11;</code>
+     */
+    public Builder setUpdateTime(long value) {
+      bitField0_ |= 0x00000400;
+      updateTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional uint64 updateTime = 11;</code>
+     */
+    public Builder clearUpdateTime() {
+      bitField0_ = (bitField0_ & ~0x00000400);
+      updateTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.DFSReplicationStateData)
+  }
+
+  static {
+    defaultInstance = new DFSReplicationStateData(true);
+    defaultInstance.initFields();
+  }
+
+  // @@protoc_insertion_point(class_scope:ai_sapper_hcdc_common_model.DFSReplicationStateData)
+}
+
@@ -0,0 +1,132 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public interface DFSReplicationStateDataOrBuilder
+    extends com.google.protobuf.MessageOrBuilder {
+
+  // required int64 inode = 1;
+  /**
+   * <code>required int64 inode = 1;</code>
+   */
+  boolean hasInode();
+  /**
+   * <code>required int64 inode = 1;</code>
+   */
+  long getInode();
+
+  // required string hdfsPath = 2;
+  /**
+   * <code>required string hdfsPath = 2;</code>
+   */
+  boolean hasHdfsPath();
+  /**
+   * <code>required string hdfsPath = 2;</code>
+   */
+  java.lang.String getHdfsPath();
+  /**
+   * <code>required string hdfsPath = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getHdfsPathBytes();
+
+  // optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+   */
+  boolean hasEntity();
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+   */
+  ai.sapper.hcdc.common.model.SchemaEntityData getEntity();
+  /**
+   * <code>optional .ai_sapper_hcdc_common_model.SchemaEntityData entity = 3;</code>
+   */
+  ai.sapper.hcdc.common.model.SchemaEntityDataOrBuilder getEntityOrBuilder();
+
+  // required string zkPath = 4;
+  /**
+   * <code>required string zkPath = 4;</code>
+   */
+  boolean hasZkPath();
+  /**
+   * <code>required string zkPath = 4;</code>
+   */
+  java.lang.String getZkPath();
+  /**
+   * <code>required string zkPath = 4;</code>
+   */
+  com.google.protobuf.ByteString
+      getZkPathBytes();
+
+  // optional bool enabled = 5;
+  /**
+   * <code>optional bool enabled = 5;</code>
+   */
+  boolean hasEnabled();
+  /**
+   * <code>optional bool enabled = 5;</code>
+   */
+  boolean getEnabled();
+
+  // optional int64 snapshotTxId = 6 [default = -1];
+  /**
+   * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+   */
+  boolean hasSnapshotTxId();
+  /**
+   * <code>optional int64 snapshotTxId = 6 [default = -1];</code>
+   */
+  long getSnapshotTxId();
+
+  // optional int64 lastReplicatedTx = 7 [default = -1];
+  /**
+   * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+   */
+  boolean hasLastReplicatedTx();
+  /**
+   * <code>optional int64 lastReplicatedTx = 7 [default = -1];</code>
+   */
+  long getLastReplicatedTx();
+
+  // optional uint64 snapshotTime = 8;
+  /**
+   * <code>optional uint64 snapshotTime = 8;</code>
+   */
+  boolean hasSnapshotTime();
+  /**
+   * <code>optional uint64 snapshotTime = 8;</code>
+   */
+  long getSnapshotTime();
+
+  // optional bool snapshotReady = 9;
+  /**
+   * <code>optional bool snapshotReady = 9;</code>
+   */
+  boolean hasSnapshotReady();
+  /**
+   * <code>optional bool snapshotReady = 9;</code>
+   */
+  boolean getSnapshotReady();
+
+  // optional uint64 lastReplicationTime = 10;
+  /**
+   * <code>optional uint64 lastReplicationTime = 10;</code>
+   */
+  boolean hasLastReplicationTime();
+  /**
+   * <code>optional uint64 lastReplicationTime = 10;</code>
+   */
+  long getLastReplicationTime();
+
+  // optional uint64 updateTime = 11;
+  /**
+   * <code>optional uint64 updateTime = 11;</code>
+   */
+  boolean hasUpdateTime();
+  /**
+   * <code>optional uint64 updateTime = 11;</code>
+   */
+  long getUpdateTime();
+}
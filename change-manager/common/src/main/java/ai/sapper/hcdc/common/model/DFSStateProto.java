@@ -0,0 +1,149 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public final class DFSStateProto {
+  private DFSStateProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_descriptor;
+  static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_fieldAccessorTable;
+  static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_descriptor;
+  static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_fieldAccessorTable;
+  static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_descriptor;
+  static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_fieldAccessorTable;
+  static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_descriptor;
+  static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_fieldAccessorTable;
+  static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ai_sapper_hcdc_common_model_SchemaEntityData_descriptor;
+  static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ai_sapper_hcdc_common_model_SchemaEntityData_fieldAccessorTable;
+  static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_descriptor;
+  static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_fieldAccessorTable;
+  static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_descriptor;
+  static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\013state.proto\022\033ai_sapper_hcdc_common_mod" +
+      "el\"n\n\021BlockTnxDeltaData\022\r\n\005tnxId\030\001 \002(\003\022\023" +
+      "\n\013startOffset\030\002 \002(\003\022\021\n\tendOffset\030\003 \002(\003\022\021" +
+      "\n\ttimestamp\030\004 \002(\004\022\017\n\007deleted\030\005 \001(\010\"\264\002\n\021D" +
+      "FSBlockStateData\022\017\n\007blockId\030\001 \002(\003\022\027\n\013pre" +
+      "vBlockId\030\002 \001(\003:\002-1\022\023\n\013createdTime\030\003 \002(\004\022" +
+      "\023\n\013updatedTime\030\004 \002(\004\022\020\n\010dataSize\030\005 \002(\003\022\021" +
+      "\n\tblockSize\030\006 \002(\003\022\021\n\tlastTnxId\030\007 \002(\003\022\027\n\017" +
+      "generationStamp\030\010 \001(\003\022\025\n\rblockChecksum\030\t" +
+      " \001(\t\022\016\n\006stored\030\n \001(\010\022\r\n\005state\030\013 \002(\t\022D\n\014t",
+      "ransactions\030\014 \003(\0132..ai_sapper_hcdc_commo" +
+      "n_model.BlockTnxDeltaData\"\302\002\n\020DFSFileSta" +
+      "teData\022\n\n\002id\030\001 \002(\003\022\016\n\006zkPath\030\002 \002(\t\022\024\n\014hd" +
+      "fsFilePath\030\003 \002(\t\022\023\n\013createdTime\030\004 \002(\004\022\023\n" +
+      "\013updatedTime\030\005 \002(\004\022\021\n\tnumBlocks\030\006 \002(\003\022\021\n" +
+      "\tblockSize\030\007 \002(\003\022\020\n\010dataSize\030\010 \002(\003\022\021\n\tla" +
+      "stTnxId\030\t \002(\003\022\021\n\ttimestamp\030\n \002(\004\022\020\n\010file" +
+      "Type\030\013 \002(\t\022\023\n\013storagePath\030\014 \001(\t\022\r\n\005state" +
+      "\030\r \002(\t\022>\n\006blocks\030\016 \003(\0132..ai_sapper_hcdc_" +
+      "common_model.DFSBlockStateData\"T\n\023NameNo",
+      "deTxStateData\022\021\n\tnamespace\030\001 \002(\t\022\023\n\013upda" +
+      "tedTime\030\002 \002(\004\022\025\n\rprocessedTxId\030\003 \002(\003\"2\n\020" +
+      "SchemaEntityData\022\016\n\006domain\030\001 \001(\t\022\016\n\006enti" +
+      "ty\030\002 \001(\t\"\260\002\n\027DFSReplicationStateData\022\r\n\005" +
+      "inode\030\001 \002(\003\022\020\n\010hdfsPath\030\002 \002(\t\022=\n\006entity\030" +
+      "\003 \001(\0132-.ai_sapper_hcdc_common_model.Sche" +
+      "maEntityData\022\016\n\006zkPath\030\004 \002(\t\022\017\n\007enabled\030" +
+      "\005 \001(\010\022\030\n\014snapshotTxId\030\006 \001(\003:\002-1\022\034\n\020lastR" +
+      "eplicatedTx\030\007 \001(\003:\002-1\022\024\n\014snapshotTime\030\010 " +
+      "\001(\004\022\025\n\rsnapshotReady\030\t \001(\010\022\033\n\023lastReplic",
+      "ationTime\030\n \001(\004\022\022\n\nupdateTime\030\013 \001(\004\"~\n\025K" +
+      "afkaMessageStateData\022\014\n\004path\030\001 \002(\t\022\014\n\004na" +
+      "me\030\002 \002(\t\022\r\n\005topic\030\003 \002(\t\022\021\n\tpartition\030\004 \002" +
+      "(\003\022\016\n\006offset\030\005 \002(\003\022\027\n\017updateTimestamp\030\006 " +
+      "\002(\004B.\n\033ai.sapper.hcdc.common.modelB\rDFSS" +
+      "tateProtoP\001"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ai_sapper_hcdc_common_model_BlockTnxDeltaData_descriptor,
+              new java.lang.String[] { "TnxId", "StartOffset", "EndOffset", "Timestamp", "Deleted", });
+          internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ai_sapper_hcdc_common_model_DFSBlockStateData_descriptor,
+              new java.lang.String[] { "BlockId", "PrevBlockId", "CreatedTime", "UpdatedTime", "DataSize", "BlockSize", "LastTnxId", "GenerationStamp", "BlockChecksum", "Stored", "State", "Transactions", });
+          internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ai_sapper_hcdc_common_model_DFSFileStateData_descriptor,
+              new java.lang.String[] { "Id", "ZkPath", "HdfsFilePath", "CreatedTime", "UpdatedTime", "NumBlocks", "BlockSize", "DataSize", "LastTnxId", "Timestamp", "FileType", "StoragePath", "State", "Blocks", });
+          internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_descriptor,
+              new java.lang.String[] { "Namespace", "UpdatedTime", "ProcessedTxId", });
+          internal_static_ai_sapper_hcdc_common_model_SchemaEntityData_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_ai_sapper_hcdc_common_model_SchemaEntityData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ai_sapper_hcdc_common_model_SchemaEntityData_descriptor,
+              new java.lang.String[] { "Domain", "Entity", });
+          internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_descriptor =
+            getDescriptor().getMessageTypes().get(5);
+          internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ai_sapper_hcdc_common_model_DFSReplicationStateData_descriptor,
+              new java.lang.String[] { "Inode", "HdfsPath", "Entity", "ZkPath", "Enabled", "SnapshotTxId", "LastReplicatedTx", "SnapshotTime", "SnapshotReady", "LastReplicationTime", "UpdateTime", });
+          internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_descriptor =
+            getDescriptor().getMessageTypes().get(6);
+          internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_descriptor,
+              new java.lang.String[] { "Path", "Name", "Topic", "Partition", "Offset", "UpdateTimestamp", });
+          return null;
+        }
+      };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,1001 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+/**
+ * Protobuf type {@code ai_sapper_hcdc_common_model.KafkaMessageStateData}
+ */
+public  final class KafkaMessageStateData extends
+    com.google.protobuf.GeneratedMessage
+    implements KafkaMessageStateDataOrBuilder {
+  // Use KafkaMessageStateData.newBuilder() to construct.
+  private KafkaMessageStateData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+    this.unknownFields = builder.getUnknownFields();
+  }
+  private KafkaMessageStateData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+  private static final KafkaMessageStateData defaultInstance;
+  public static KafkaMessageStateData getDefaultInstance() {
+    return defaultInstance;
+  }
+
+  public KafkaMessageStateData getDefaultInstanceForType() {
+    return defaultInstance;
+  }
+
+  private final com.google.protobuf.UnknownFieldSet unknownFields;
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+    return this.unknownFields;
+  }
+  private KafkaMessageStateData(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    initFields();
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownField(input, unknownFields,
+                                   extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            bitField0_ |= 0x00000001;
+            path_ = input.readBytes();
+            break;
+          }
+          case 18: {
+            bitField0_ |= 0x00000002;
+            name_ = input.readBytes();
+            break;
+          }
+          case 26: {
+            bitField0_ |= 0x00000004;
+            topic_ = input.readBytes();
+            break;
+          }
+          case 32: {
+            bitField0_ |= 0x00000008;
+            partition_ = input.readInt64();
+            break;
+          }
+          case 40: {
+            bitField0_ |= 0x00000010;
+            offset_ = input.readInt64();
+            break;
+          }
+          case 48: {
+            bitField0_ |= 0x00000020;
+            updateTimestamp_ = input.readUInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e.getMessage()).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            ai.sapper.hcdc.common.model.KafkaMessageStateData.class, ai.sapper.hcdc.common.model.KafkaMessageStateData.Builder.class);
+  }
+
+  public static com.google.protobuf.Parser<KafkaMessageStateData> PARSER =
+      new com.google.protobuf.AbstractParser<KafkaMessageStateData>() {
+    public KafkaMessageStateData parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new KafkaMessageStateData(input, extensionRegistry);
+    }
+  };
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<KafkaMessageStateData> getParserForType() {
+    return PARSER;
+  }
+
+  private int bitField0_;
+  // required string path = 1;
+  public static final int PATH_FIELD_NUMBER = 1;
+  private java.lang.Object path_;
+  /**
+   * <code>required string path = 1;</code>
+   */
+  public boolean hasPath() {
+    return ((bitField0_ & 0x00000001) == 0x00000001);
+  }
+  /**
+   * <code>required string path = 1;</code>
+   */
+  public java.lang.String getPath() {
+    java.lang.Object ref = path_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        path_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string path = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getPathBytes() {
+    java.lang.Object ref = path_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      path_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // required string name = 2;
+  public static final int NAME_FIELD_NUMBER = 2;
+  private java.lang.Object name_;
+  /**
+   * <code>required string name = 2;</code>
+   */
+  public boolean hasName() {
+    return ((bitField0_ & 0x00000002) == 0x00000002);
+  }
+  /**
+   * <code>required string name = 2;</code>
+   */
+  public java.lang.String getName() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        name_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string name = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getNameBytes() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      name_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // required string topic = 3;
+  public static final int TOPIC_FIELD_NUMBER = 3;
+  private java.lang.Object topic_;
+  /**
+   * <code>required string topic = 3;</code>
+   */
+  public boolean hasTopic() {
+    return ((bitField0_ & 0x00000004) == 0x00000004);
+  }
+  /**
+   * <code>required string topic = 3;</code>
+   */
+  public java.lang.String getTopic() {
+    java.lang.Object ref = topic_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        topic_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string topic = 3;</code>
+   */
+  public com.google.protobuf.ByteString
+      getTopicBytes() {
+    java.lang.Object ref = topic_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      topic_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // required int64 partition = 4;
+  public static final int PARTITION_FIELD_NUMBER = 4;
+  private long partition_;
+  /**
+   * <code>required int64 partition = 4;</code>
+   */
+  public boolean hasPartition() {
+    return ((bitField0_ & 0x00000008) == 0x00000008);
+  }
+  /**
+   * <code>required int64 partition = 4;</code>
+   */
+  public long getPartition() {
+    return partition_;
+  }
+
+  // required int64 offset = 5;
+  public static final int OFFSET_FIELD_NUMBER = 5;
+  private long offset_;
+  /**
+   * <code>required int64 offset = 5;</code>
+   */
+  public boolean hasOffset() {
+    return ((bitField0_ & 0x00000010) == 0x00000010);
+  }
+  /**
+   * <code>required int64 offset = 5;</code>
+   */
+  public long getOffset() {
+    return offset_;
+  }
+
+  // required uint64 updateTimestamp = 6;
+  public static final int UPDATETIMESTAMP_FIELD_NUMBER = 6;
+  private long updateTimestamp_;
+  /**
+   * <code>required uint64 updateTimestamp = 6;</code>
+   */
+  public boolean hasUpdateTimestamp() {
+    return ((bitField0_ & 0x00000020) == 0x00000020);
+  }
+  /**
+   * <code>required uint64 updateTimestamp = 6;</code>
+   */
+  public long getUpdateTimestamp() {
+    return updateTimestamp_;
+  }
+
+  private void initFields() {
+    path_ = "";
+    name_ = "";
+    topic_ = "";
+    partition_ = 0L;
+    offset_ = 0L;
+    updateTimestamp_ = 0L;
+  }
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized != -1) return isInitialized == 1;
+
+    if (!hasPath()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasName()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasTopic()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasPartition()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasOffset()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasUpdateTimestamp()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      output.writeBytes(1, getPathBytes());
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      output.writeBytes(2, getNameBytes());
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      output.writeBytes(3, getTopicBytes());
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      output.writeInt64(4, partition_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      output.writeInt64(5, offset_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      output.writeUInt64(6, updateTimestamp_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  private int memoizedSerializedSize = -1;
+  public int getSerializedSize() {
+    int size = memoizedSerializedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(1, getPathBytes());
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, getNameBytes());
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, getTopicBytes());
+    }
+    if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, partition_);
+    }
+    if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(5, offset_);
+    }
+    if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(6, updateTimestamp_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSerializedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  protected java.lang.Object writeReplace()
+      throws java.io.ObjectStreamException {
+    return super.writeReplace();
+  }
+
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.KafkaMessageStateData parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+
+  public static Builder newBuilder() { return Builder.create(); }
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder(ai.sapper.hcdc.common.model.KafkaMessageStateData prototype) {
+    return newBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() { return newBuilder(this); }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ai_sapper_hcdc_common_model.KafkaMessageStateData}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder>
+     implements ai.sapper.hcdc.common.model.KafkaMessageStateDataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ai.sapper.hcdc.common.model.KafkaMessageStateData.class, ai.sapper.hcdc.common.model.KafkaMessageStateData.Builder.class);
+    }
+
+    // Construct using ai.sapper.hcdc.common.model.KafkaMessageStateData.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+      }
+    }
+    private static Builder create() {
+      return new Builder();
+    }
+
+    public Builder clear() {
+      super.clear();
+      path_ = "";
+      bitField0_ = (bitField0_ & ~0x00000001);
+      name_ = "";
+      bitField0_ = (bitField0_ & ~0x00000002);
+      topic_ = "";
+      bitField0_ = (bitField0_ & ~0x00000004);
+      partition_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      offset_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000010);
+      updateTimestamp_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000020);
+      return this;
+    }
+
+    public Builder clone() {
+      return create().mergeFrom(buildPartial());
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_KafkaMessageStateData_descriptor;
+    }
+
+    public ai.sapper.hcdc.common.model.KafkaMessageStateData getDefaultInstanceForType() {
+      return ai.sapper.hcdc.common.model.KafkaMessageStateData.getDefaultInstance();
+    }
+
+    public ai.sapper.hcdc.common.model.KafkaMessageStateData build() {
+      ai.sapper.hcdc.common.model.KafkaMessageStateData result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public ai.sapper.hcdc.common.model.KafkaMessageStateData buildPartial() {
+      ai.sapper.hcdc.common.model.KafkaMessageStateData result = new ai.sapper.hcdc.common.model.KafkaMessageStateData(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.path_ = path_;
+      if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.name_ = name_;
+      if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      result.topic_ = topic_;
+      if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        to_bitField0_ |= 0x00000008;
+      }
+      result.partition_ = partition_;
+      if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        to_bitField0_ |= 0x00000010;
+      }
+      result.offset_ = offset_;
+      if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+        to_bitField0_ |= 0x00000020;
+      }
+      result.updateTimestamp_ = updateTimestamp_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof ai.sapper.hcdc.common.model.KafkaMessageStateData) {
+        return mergeFrom((ai.sapper.hcdc.common.model.KafkaMessageStateData)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(ai.sapper.hcdc.common.model.KafkaMessageStateData other) {
+      if (other == ai.sapper.hcdc.common.model.KafkaMessageStateData.getDefaultInstance()) return this;
+      if (other.hasPath()) {
+        bitField0_ |= 0x00000001;
+        path_ = other.path_;
+        onChanged();
+      }
+      if (other.hasName()) {
+        bitField0_ |= 0x00000002;
+        name_ = other.name_;
+        onChanged();
+      }
+      if (other.hasTopic()) {
+        bitField0_ |= 0x00000004;
+        topic_ = other.topic_;
+        onChanged();
+      }
+      if (other.hasPartition()) {
+        setPartition(other.getPartition());
+      }
+      if (other.hasOffset()) {
+        setOffset(other.getOffset());
+      }
+      if (other.hasUpdateTimestamp()) {
+        setUpdateTimestamp(other.getUpdateTimestamp());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      if (!hasPath()) {
+        
+        return false;
+      }
+      if (!hasName()) {
+        
+        return false;
+      }
+      if (!hasTopic()) {
+        
+        return false;
+      }
+      if (!hasPartition()) {
+        
+        return false;
+      }
+      if (!hasOffset()) {
+        
+        return false;
+      }
+      if (!hasUpdateTimestamp()) {
+        
+        return false;
+      }
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      ai.sapper.hcdc.common.model.KafkaMessageStateData parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (ai.sapper.hcdc.common.model.KafkaMessageStateData) e.getUnfinishedMessage();
+        throw e;
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    // required string path = 1;
+    private java.lang.Object path_ = "";
+    /**
+     * <code>required string path = 1;</code>
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string path = 1;</code>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        path_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string path = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string path = 1;</code>
+     */
+    public Builder setPath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      path_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string path = 1;</code>
+     */
+    public Builder clearPath() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      path_ = getDefaultInstance().getPath();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string path = 1;</code>
+     */
+    public Builder setPathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      path_ = value;
+      onChanged();
+      return this;
+    }
+
+    // required string name = 2;
+    private java.lang.Object name_ = "";
+    /**
+     * <code>required string name = 2;</code>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string name = 2;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        name_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string name = 2;</code>
+     */
+    public Builder setName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      name_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string name = 2;</code>
+     */
+    public Builder clearName() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      name_ = getDefaultInstance().getName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string name = 2;</code>
+     */
+    public Builder setNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      name_ = value;
+      onChanged();
+      return this;
+    }
+
+    // required string topic = 3;
+    private java.lang.Object topic_ = "";
+    /**
+     * <code>required string topic = 3;</code>
+     */
+    public boolean hasTopic() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required string topic = 3;</code>
+     */
+    public java.lang.String getTopic() {
+      java.lang.Object ref = topic_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        topic_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string topic = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTopicBytes() {
+      java.lang.Object ref = topic_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        topic_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string topic = 3;</code>
+     */
+    public Builder setTopic(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      topic_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string topic = 3;</code>
+     */
+    public Builder clearTopic() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      topic_ = getDefaultInstance().getTopic();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string topic = 3;</code>
+     */
+    public Builder setTopicBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      topic_ = value;
+      onChanged();
+      return this;
+    }
+
+    // required int64 partition = 4;
+    private long partition_ ;
+    /**
+     * <code>required int64 partition = 4;</code>
+     */
+    public boolean hasPartition() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required int64 partition = 4;</code>
+     */
+    public long getPartition() {
+      return partition_;
+    }
+    /**
+     * <code>required int64 partition = 4;</code>
+     */
+    public Builder setPartition(long value) {
+      bitField0_ |= 0x00000008;
+      partition_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 partition = 4;</code>
+     */
+    public Builder clearPartition() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      partition_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 offset = 5;
+    private long offset_ ;
+    /**
+     * <code>required int64 offset = 5;</code>
+     */
+    public boolean hasOffset() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required int64 offset = 5;</code>
+     */
+    public long getOffset() {
+      return offset_;
+    }
+    /**
+     * <code>required int64 offset = 5;</code>
+     */
+    public Builder setOffset(long value) {
+      bitField0_ |= 0x00000010;
+      offset_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 offset = 5;</code>
+     */
+    public Builder clearOffset() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      offset_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 updateTimestamp = 6;
+    private long updateTimestamp_ ;
+    /**
+     * <code>required uint64 updateTimestamp = 6;</code>
+     */
+    public boolean hasUpdateTimestamp() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>required uint64 updateTimestamp = 6;</code>
+     */
+    public long getUpdateTimestamp() {
+      return updateTimestamp_;
+    }
+    /**
+     * <code>required uint64 updateTimestamp = 6;</code>
+     */
+    public Builder setUpdateTimestamp(long value) {
+      bitField0_ |= 0x00000020;
+      updateTimestamp_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 updateTimestamp = 6;</code>
+     */
+    public Builder clearUpdateTimestamp() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      updateTimestamp_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.KafkaMessageStateData)
+  }
+
+  static {
+    defaultInstance = new KafkaMessageStateData(true);
+    defaultInstance.initFields();
+  }
+
+  // @@protoc_insertion_point(class_scope:ai_sapper_hcdc_common_model.KafkaMessageStateData)
+}
+
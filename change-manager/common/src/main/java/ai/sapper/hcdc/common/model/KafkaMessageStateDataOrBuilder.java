@@ -0,0 +1,83 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public interface KafkaMessageStateDataOrBuilder
+    extends com.google.protobuf.MessageOrBuilder {
+
+  // required string path = 1;
+  /**
+   * <code>required string path = 1;</code>
+   */
+  boolean hasPath();
+  /**
+   * <code>required string path = 1;</code>
+   */
+  java.lang.String getPath();
+  /**
+   * <code>required string path = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getPathBytes();
+
+  // required string name = 2;
+  /**
+   * <code>required string name = 2;</code>
+   */
+  boolean hasName();
+  /**
+   * <code>required string name = 2;</code>
+   */
+  java.lang.String getName();
+  /**
+   * <code>required string name = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  // required string topic = 3;
+  /**
+   * <code>required string topic = 3;</code>
+   */
+  boolean hasTopic();
+  /**
+   * <code>required string topic = 3;</code>
+   */
+  java.lang.String getTopic();
+  /**
+   * <code>required string topic = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getTopicBytes();
+
+  // required int64 partition = 4;
+  /**
+   * <code>required int64 partition = 4;</code>
+   */
+  boolean hasPartition();
+  /**
+   * <code>required int64 partition = 4;</code>
+   */
+  long getPartition();
+
+  // required int64 offset = 5;
+  /**
+   * <code>required int64 offset = 5;</code>
+   */
+  boolean hasOffset();
+  /**
+   * <code>required int64 offset = 5;</code>
+   */
+  long getOffset();
+
+  // required uint64 updateTimestamp = 6;
+  /**
+   * <code>required uint64 updateTimestamp = 6;</code>
+   */
+  boolean hasUpdateTimestamp();
+  /**
+   * <code>required uint64 updateTimestamp = 6;</code>
+   */
+  long getUpdateTimestamp();
+}
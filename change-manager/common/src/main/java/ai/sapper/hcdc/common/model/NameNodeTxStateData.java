@@ -0,0 +1,624 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+/**
+ * Protobuf type {@code ai_sapper_hcdc_common_model.NameNodeTxStateData}
+ */
+public  final class NameNodeTxStateData extends
+    com.google.protobuf.GeneratedMessage
+    implements NameNodeTxStateDataOrBuilder {
+  // Use NameNodeTxStateData.newBuilder() to construct.
+  private NameNodeTxStateData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+    this.unknownFields = builder.getUnknownFields();
+  }
+  private NameNodeTxStateData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+  private static final NameNodeTxStateData defaultInstance;
+  public static NameNodeTxStateData getDefaultInstance() {
+    return defaultInstance;
+  }
+
+  public NameNodeTxStateData getDefaultInstanceForType() {
+    return defaultInstance;
+  }
+
+  private final com.google.protobuf.UnknownFieldSet unknownFields;
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+    return this.unknownFields;
+  }
+  private NameNodeTxStateData(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    initFields();
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownField(input, unknownFields,
+                                   extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            bitField0_ |= 0x00000001;
+            namespace_ = input.readBytes();
+            break;
+          }
+          case 16: {
+            bitField0_ |= 0x00000002;
+            updatedTime_ = input.readUInt64();
+            break;
+          }
+          case 24: {
+            bitField0_ |= 0x00000004;
+            processedTxId_ = input.readInt64();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e.getMessage()).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            ai.sapper.hcdc.common.model.NameNodeTxStateData.class, ai.sapper.hcdc.common.model.NameNodeTxStateData.Builder.class);
+  }
+
+  public static com.google.protobuf.Parser<NameNodeTxStateData> PARSER =
+      new com.google.protobuf.AbstractParser<NameNodeTxStateData>() {
+    public NameNodeTxStateData parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new NameNodeTxStateData(input, extensionRegistry);
+    }
+  };
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NameNodeTxStateData> getParserForType() {
+    return PARSER;
+  }
+
+  private int bitField0_;
+  // required string namespace = 1;
+  public static final int NAMESPACE_FIELD_NUMBER = 1;
+  private java.lang.Object namespace_;
+  /**
+   * <code>required string namespace = 1;</code>
+   */
+  public boolean hasNamespace() {
+    return ((bitField0_ & 0x00000001) == 0x00000001);
+  }
+  /**
+   * <code>required string namespace = 1;</code>
+   */
+  public java.lang.String getNamespace() {
+    java.lang.Object ref = namespace_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        namespace_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string namespace = 1;</code>
+   */
+  public com.google.protobuf.ByteString
+      getNamespaceBytes() {
+    java.lang.Object ref = namespace_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      namespace_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  // required uint64 updatedTime = 2;
+  public static final int UPDATEDTIME_FIELD_NUMBER = 2;
+  private long updatedTime_;
+  /**
+   * <code>required uint64 updatedTime = 2;</code>
+   */
+  public boolean hasUpdatedTime() {
+    return ((bitField0_ & 0x00000002) == 0x00000002);
+  }
+  /**
+   * <code>required uint64 updatedTime = 2;</code>
+   */
+  public long getUpdatedTime() {
+    return updatedTime_;
+  }
+
+  // required int64 processedTxId = 3;
+  public static final int PROCESSEDTXID_FIELD_NUMBER = 3;
+  private long processedTxId_;
+  /**
+   * <code>required int64 processedTxId = 3;</code>
+   */
+  public boolean hasProcessedTxId() {
+    return ((bitField0_ & 0x00000004) == 0x00000004);
+  }
+  /**
+   * <code>required int64 processedTxId = 3;</code>
+   */
+  public long getProcessedTxId() {
+    return processedTxId_;
+  }
+
+  private void initFields() {
+    namespace_ = "";
+    updatedTime_ = 0L;
+    processedTxId_ = 0L;
+  }
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized != -1) return isInitialized == 1;
+
+    if (!hasNamespace()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasUpdatedTime()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasProcessedTxId()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      output.writeBytes(1, getNamespaceBytes());
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      output.writeUInt64(2, updatedTime_);
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      output.writeInt64(3, processedTxId_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  private int memoizedSerializedSize = -1;
+  public int getSerializedSize() {
+    int size = memoizedSerializedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(1, getNamespaceBytes());
+    }
+    if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(2, updatedTime_);
+    }
+    if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, processedTxId_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSerializedSize = size;
+    return size;
+  }
+
+  private static final long serialVersionUID = 0L;
+  @java.lang.Override
+  protected java.lang.Object writeReplace()
+      throws java.io.ObjectStreamException {
+    return super.writeReplace();
+  }
+
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseDelimitedFrom(input, extensionRegistry);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input);
+  }
+  public static ai.sapper.hcdc.common.model.NameNodeTxStateData parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return PARSER.parseFrom(input, extensionRegistry);
+  }
+
+  public static Builder newBuilder() { return Builder.create(); }
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder(ai.sapper.hcdc.common.model.NameNodeTxStateData prototype) {
+    return newBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() { return newBuilder(this); }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code ai_sapper_hcdc_common_model.NameNodeTxStateData}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder>
+     implements ai.sapper.hcdc.common.model.NameNodeTxStateDataOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ai.sapper.hcdc.common.model.NameNodeTxStateData.class, ai.sapper.hcdc.common.model.NameNodeTxStateData.Builder.class);
+    }
+
+    // Construct using ai.sapper.hcdc.common.model.NameNodeTxStateData.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+      }
+    }
+    private static Builder create() {
+      return new Builder();
+    }
+
+    public Builder clear() {
+      super.clear();
+      namespace_ = "";
+      bitField0_ = (bitField0_ & ~0x00000001);
+      updatedTime_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      processedTxId_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      return this;
+    }
+
+    public Builder clone() {
+      return create().mergeFrom(buildPartial());
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return ai.sapper.hcdc.common.model.DFSStateProto.internal_static_ai_sapper_hcdc_common_model_NameNodeTxStateData_descriptor;
+    }
+
+    public ai.sapper.hcdc.common.model.NameNodeTxStateData getDefaultInstanceForType() {
+      return ai.sapper.hcdc.common.model.NameNodeTxStateData.getDefaultInstance();
+    }
+
+    public ai.sapper.hcdc.common.model.NameNodeTxStateData build() {
+      ai.sapper.hcdc.common.model.NameNodeTxStateData result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public ai.sapper.hcdc.common.model.NameNodeTxStateData buildPartial() {
+      ai.sapper.hcdc.common.model.NameNodeTxStateData result = new ai.sapper.hcdc.common.model.NameNodeTxStateData(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.namespace_ = namespace_;
+      if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.updatedTime_ = updatedTime_;
+      if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      result.processedTxId_ = processedTxId_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof ai.sapper.hcdc.common.model.NameNodeTxStateData) {
+        return mergeFrom((ai.sapper.hcdc.common.model.NameNodeTxStateData)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(ai.sapper.hcdc.common.model.NameNodeTxStateData other) {
+      if (other == ai.sapper.hcdc.common.model.NameNodeTxStateData.getDefaultInstance()) return this;
+      if (other.hasNamespace()) {
+        bitField0_ |= 0x00000001;
+        namespace_ = other.namespace_;
+        onChanged();
+      }
+      if (other.hasUpdatedTime()) {
+        setUpdatedTime(other.getUpdatedTime());
+      }
+      if (other.hasProcessedTxId()) {
+        setProcessedTxId(other.getProcessedTxId());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      if (!hasNamespace()) {
+        
+        return false;
+      }
+      if (!hasUpdatedTime()) {
+        
+        return false;
+      }
+      if (!hasProcessedTxId()) {
+        
+        return false;
+      }
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      ai.sapper.hcdc.common.model.NameNodeTxStateData parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (ai.sapper.hcdc.common.model.NameNodeTxStateData) e.getUnfinishedMessage();
+        throw e;
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    // required string namespace = 1;
+    private java.lang.Object namespace_ = "";
+    /**
+     * <code>required string namespace = 1;</code>
+     */
+    public boolean hasNamespace() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string namespace = 1;</code>
+     */
+    public java.lang.String getNamespace() {
+      java.lang.Object ref = namespace_;
+      if (!(ref instanceof java.lang.String)) {
+        java.lang.String s = ((com.google.protobuf.ByteString) ref)
+            .toStringUtf8();
+        namespace_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string namespace = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNamespaceBytes() {
+      java.lang.Object ref = namespace_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        namespace_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string namespace = 1;</code>
+     */
+    public Builder setNamespace(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      namespace_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string namespace = 1;</code>
+     */
+    public Builder clearNamespace() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      namespace_ = getDefaultInstance().getNamespace();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string namespace = 1;</code>
+     */
+    public Builder setNamespaceBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      namespace_ = value;
+      onChanged();
+      return this;
+    }
+
+    // required uint64 updatedTime = 2;
+    private long updatedTime_ ;
+    /**
+     * <code>required uint64 updatedTime = 2;</code>
+     */
+    public boolean hasUpdatedTime() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint64 updatedTime = 2;</code>
+     */
+    public long getUpdatedTime() {
+      return updatedTime_;
+    }
+    /**
+     * <code>required uint64 updatedTime = 2;</code>
+     */
+    public Builder setUpdatedTime(long value) {
+      bitField0_ |= 0x00000002;
+      updatedTime_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required uint64 updatedTime = 2;</code>
+     */
+    public Builder clearUpdatedTime() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      updatedTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // required int64 processedTxId = 3;
+    private long processedTxId_ ;
+    /**
+     * <code>required int64 processedTxId = 3;</code>
+     */
+    public boolean hasProcessedTxId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required int64 processedTxId = 3;</code>
+     */
+    public long getProcessedTxId() {
+      return processedTxId_;
+    }
+    /**
+     * <code>required int64 processedTxId = 3;</code>
+     */
+    public Builder setProcessedTxId(long value) {
+      bitField0_ |= 0x00000004;
+      processedTxId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 processedTxId = 3;</code>
+     */
+    public Builder clearProcessedTxId() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      processedTxId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:ai_sapper_hcdc_common_model.NameNodeTxStateData)
+  }
+
+  static {
+    defaultInstance = new NameNodeTxStateData(true);
+    defaultInstance.initFields();
+  }
+
+  // @@protoc_insertion_point(class_scope:ai_sapper_hcdc_common_model.NameNodeTxStateData)
+}
+
@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public interface NameNodeTxStateDataOrBuilder
+    extends com.google.protobuf.MessageOrBuilder {
+
+  // required string namespace = 1;
+  /**
+   * <code>required string namespace = 1;</code>
+   */
+  boolean hasNamespace();
+  /**
+   * <code>required string namespace = 1;</code>
+   */
+  java.lang.String getNamespace();
+  /**
+   * <code>required string namespace = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getNamespaceBytes();
+
+  // required uint64 updatedTime = 2;
+  /**
+   * <code>required uint64 updatedTime = 2;</code>
+   */
+  boolean hasUpdatedTime();
+  /**
+   * <code>required uint64 updatedTime = 2;</code>
+   */
+  long getUpdatedTime();
+
+  // required int64 processedTxId = 3;
+  /**
+   * <code>required int64 processedTxId = 3;</code>
+   */
+  boolean hasProcessedTxId();
+  /**
+   * <code>required int64 processedTxId = 3;</code>
+   */
+  long getProcessedTxId();
+}
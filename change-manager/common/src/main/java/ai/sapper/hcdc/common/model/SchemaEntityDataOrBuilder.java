@@ -0,0 +1,38 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: state.proto
+
+package ai.sapper.hcdc.common.model;
+
+public interface SchemaEntityDataOrBuilder
+    extends com.google.protobuf.MessageOrBuilder {
+
+  // optional string domain = 1;
+  /**
+   * <code>optional string domain = 1;</code>
+   */
+  boolean hasDomain();
+  /**
+   * <code>optional string domain = 1;</code>
+   */
+  java.lang.String getDomain();
+  /**
+   * <code>optional string domain = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getDomainBytes();
+
+  // optional string entity = 2;
+  /**
+   * <code>optional string entity = 2;</code>
+   */
+  boolean hasEntity();
+  /**
+   * <code>optional string entity = 2;</code>
+   */
+  java.lang.String getEntity();
+  /**
+   * <code>optional string entity = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getEntityBytes();
+}
@@ -30,6 +30,7 @@ public class DomainFilterMatcher {
     private final String domain;
     private final DomainFilters filters;
     private final List<PathFilter> patterns;
+    private final PathFilterIndex<PathFilter> index = new PathFilterIndex<>();
 
     public DomainFilterMatcher(@NonNull String domain, @NonNull DomainFilters filters) {
         this.domain = domain;
@@ -42,6 +43,7 @@ public class DomainFilterMatcher {
             pf.pattern = Pattern.compile(pf.filter.getRegex());
 
             patterns.add(pf);
+            index.put(pf.path, pf);
         }
     }
 
@@ -54,16 +56,21 @@ public class DomainFilterMatcher {
         return null;
     }
 
+    /**
+     * Find the filter matching the source path. Only the filters whose path is a prefix
+     * of the source are evaluated (longest path first).
+     *
+     * @param source - HDFS path
+     * @return - Matched path filter or NULL
+     */
     public PathFilter matches(@NonNull String source) {
         source = source.trim();
-        for (PathFilter pf : patterns) {
-            if (source.startsWith(pf.path)) {
-                String part = source.replace(pf.path, "");
-                if (part.startsWith("/")) {
-                    part = part.substring(1);
-                }
-                if (pf.matches(part)) return pf;
+        for (PathFilter pf : index.candidates(source)) {
+            String part = source.substring(pf.path.length());
+            if (part.startsWith("/")) {
+                part = part.substring(1);
             }
+            if (pf.matches(part)) return pf;
         }
         return null;
     }
@@ -75,6 +82,10 @@ public class DomainFilterMatcher {
         pf.path = path;
         pf.filter = df;
         pf.pattern = Pattern.compile(pf.filter.getRegex());
+        PathFilter prev = index.put(path, pf);
+        if (prev != null) {
+            patterns.remove(prev);
+        }
         patterns.add(pf);
 
         return pf;
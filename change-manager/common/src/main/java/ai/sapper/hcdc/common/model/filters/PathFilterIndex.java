@@ -0,0 +1,136 @@
+package ai.sapper.hcdc.common.model.filters;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie over the filter paths.
+ * <p>
+ * candidates() returns the values registered for every path that is a (string) prefix of the
+ * source path, longest path first, in O(source length). The trie node and values reached for the
+ * parent directory of a lookup are cached, so files in recently seen directories only walk the
+ * file name.
+ *
+ * @param <T> - Value type
+ */
+public class PathFilterIndex<T> {
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static class Node<T> {
+        private Map<Character, Node<T>> children;
+        private T value;
+
+        private Node<T> child(char c) {
+            return (children == null ? null : children.get(c));
+        }
+    }
+
+    private static class Prefix<T> {
+        private final Node<T> node;
+        private final List<T> values;
+
+        private Prefix(Node<T> node, List<T> values) {
+            this.node = node;
+            this.values = values;
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+    private final int cacheSize;
+    private final Map<String, Prefix<T>> cache;
+
+    public PathFilterIndex() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public PathFilterIndex(int cacheSize) {
+        Preconditions.checkArgument(cacheSize >= 0);
+        this.cacheSize = cacheSize;
+        cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Register (or replace) the value for the specified path.
+     *
+     * @param path  - Filter path
+     * @param value - Value
+     * @return - Previous value, if any
+     */
+    public synchronized T put(@NonNull String path, @NonNull T value) {
+        Node<T> node = root;
+        for (int ii = 0; ii < path.length(); ii++) {
+            char c = path.charAt(ii);
+            Node<T> next = node.child(c);
+            if (next == null) {
+                if (node.children == null) {
+                    node.children = new HashMap<>();
+                }
+                next = new Node<>();
+                node.children.put(c, next);
+            }
+            node = next;
+        }
+        T prev = node.value;
+        node.value = value;
+        cache.clear();
+
+        return prev;
+    }
+
+    /**
+     * Find the values for all paths that are a prefix of the source path.
+     *
+     * @param source - Source path
+     * @return - Matching values, longest path first
+     */
+    public synchronized List<T> candidates(@NonNull String source) {
+        int index = source.lastIndexOf('/') + 1;
+        Prefix<T> prefix = null;
+        String dir = null;
+        if (index > 0 && cacheSize > 0) {
+            dir = source.substring(0, index);
+            prefix = cache.get(dir);
+        }
+        if (prefix == null) {
+            List<T> values = new ArrayList<>();
+            if (root.value != null) {
+                values.add(root.value);
+            }
+            Node<T> node = walk(root, source, 0, index, values);
+            prefix = new Prefix<>(node, values);
+            if (dir != null) {
+                cache.put(dir, prefix);
+                if (cache.size() > cacheSize) {
+                    cache.remove(cache.keySet().iterator().next());
+                }
+            }
+        }
+        if (prefix.values.isEmpty() && (prefix.node == null || prefix.node.children == null)) {
+            return Collections.emptyList();
+        }
+        List<T> values = new ArrayList<>(prefix.values);
+        if (prefix.node != null) {
+            walk(prefix.node, source, index, source.length(), values);
+        }
+        Collections.reverse(values);
+        return values;
+    }
+
+    private Node<T> walk(Node<T> node, String source, int start, int end, List<T> values) {
+        for (int ii = start; ii < end; ii++) {
+            node = node.child(source.charAt(ii));
+            if (node == null) return null;
+            if (node.value != null) {
+                values.add(node.value);
+            }
+        }
+        return node;
+    }
+}
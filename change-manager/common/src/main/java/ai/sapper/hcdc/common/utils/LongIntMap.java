@@ -0,0 +1,159 @@
+package ai.sapper.hcdc.common.utils;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map of long keys to non-negative int values, without boxing.
+ * <p>
+ * Used to index large lists by ID (key = ID, value = position in the list). Collisions are
+ * resolved by linear probing, removed entries are back-shifted so lookups never scan tombstones.
+ */
+public class LongIntMap {
+    public static final int NOT_FOUND = -1;
+    private static final int MIN_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+    private int threshold;
+
+    public LongIntMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongIntMap(int expected) {
+        allocate(capacity(expected));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * @param key - Key
+     * @return - Value, NOT_FOUND if the key is not in the map.
+     */
+    public int get(long key) {
+        int mask = keys.length - 1;
+        for (int ii = slot(key, mask); values[ii] != NOT_FOUND; ii = (ii + 1) & mask) {
+            if (keys[ii] == key) return values[ii];
+        }
+        return NOT_FOUND;
+    }
+
+    public boolean containsKey(long key) {
+        return (get(key) != NOT_FOUND);
+    }
+
+    /**
+     * @param key   - Key
+     * @param value - Value (must be >= 0)
+     * @return - Previous value, NOT_FOUND if the key was not in the map.
+     */
+    public int put(long key, int value) {
+        Preconditions.checkArgument(value >= 0);
+        int mask = keys.length - 1;
+        int ii = slot(key, mask);
+        while (values[ii] != NOT_FOUND) {
+            if (keys[ii] == key) {
+                int prev = values[ii];
+                values[ii] = value;
+                return prev;
+            }
+            ii = (ii + 1) & mask;
+        }
+        keys[ii] = key;
+        values[ii] = value;
+        if (++size > threshold) {
+            resize(keys.length << 1);
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @param key - Key
+     * @return - Removed value, NOT_FOUND if the key was not in the map.
+     */
+    public int remove(long key) {
+        int mask = keys.length - 1;
+        int ii = slot(key, mask);
+        while (values[ii] != NOT_FOUND) {
+            if (keys[ii] == key) {
+                int prev = values[ii];
+                shift(ii, mask);
+                size--;
+                return prev;
+            }
+            ii = (ii + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    public void clear() {
+        Arrays.fill(values, NOT_FOUND);
+        size = 0;
+    }
+
+    /**
+     * Back-shift the entries following the removed slot that would not be found anymore.
+     */
+    private void shift(int slot, int mask) {
+        int gap = slot;
+        int ii = slot;
+        while (true) {
+            ii = (ii + 1) & mask;
+            if (values[ii] == NOT_FOUND) break;
+            int home = slot(keys[ii], mask);
+            // Move the entry if its home slot is not in (gap, ii] (cyclic).
+            if (gap <= ii ? (home <= gap || home > ii) : (home <= gap && home > ii)) {
+                keys[gap] = keys[ii];
+                values[gap] = values[ii];
+                gap = ii;
+            }
+        }
+        values[gap] = NOT_FOUND;
+    }
+
+    private void resize(int capacity) {
+        long[] ok = keys;
+        int[] ov = values;
+        allocate(capacity);
+        int mask = keys.length - 1;
+        for (int ii = 0; ii < ok.length; ii++) {
+            if (ov[ii] == NOT_FOUND) continue;
+            int jj = slot(ok[ii], mask);
+            while (values[jj] != NOT_FOUND) {
+                jj = (jj + 1) & mask;
+            }
+            keys[jj] = ok[ii];
+            values[jj] = ov[ii];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NOT_FOUND);
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacity(int expected) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expected) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,120 @@
+package ai.sapper.hcdc.common.utils;
+
+import com.google.protobuf.MessageLite;
+import lombok.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary envelope for state records persisted in ZooKeeper.
+ * <p>
+ * Layout: [magic(2)][version(1)][flags(1)][payload]. The payload is a serialized
+ * protobuf message, Deflate compressed if the FLAG_COMPRESSED bit is set. Legacy
+ * records are plain JSON and never start with the magic bytes, so readers can use
+ * isEncoded() to pick the decoder.
+ */
+public class StateSerDe {
+    public static final byte MAGIC_0 = 0x00;
+    public static final byte MAGIC_1 = 0x48;
+    public static final byte VERSION = 1;
+    public static final byte FLAG_COMPRESSED = 0x01;
+    public static final int HEADER_SIZE = 4;
+
+    public enum EEncoding {
+        JSON, BINARY
+    }
+
+    public static boolean isEncoded(byte[] data) {
+        return (data != null && data.length >= HEADER_SIZE && data[0] == MAGIC_0 && data[1] == MAGIC_1);
+    }
+
+    /**
+     * Serialize the message with the binary header.
+     *
+     * @param message           - Protobuf message to serialize.
+     * @param compressThreshold - Compress payloads larger than this size (in bytes), disabled if <= 0.
+     * @return - Encoded bytes.
+     */
+    public static byte[] encode(@NonNull MessageLite message, int compressThreshold) {
+        byte[] payload = message.toByteArray();
+        byte flags = 0;
+        if (compressThreshold > 0 && payload.length > compressThreshold) {
+            byte[] compressed = compress(payload);
+            if (compressed.length < payload.length) {
+                payload = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+        byte[] data = new byte[HEADER_SIZE + payload.length];
+        data[0] = MAGIC_0;
+        data[1] = MAGIC_1;
+        data[2] = VERSION;
+        data[3] = flags;
+        System.arraycopy(payload, 0, data, HEADER_SIZE, payload.length);
+        return data;
+    }
+
+    /**
+     * Validate the binary header and extract the (decompressed) protobuf payload.
+     *
+     * @param data - Encoded bytes.
+     * @return - Protobuf payload.
+     * @throws IOException
+     */
+    public static byte[] decode(@NonNull byte[] data) throws IOException {
+        if (!isEncoded(data)) {
+            throw new IOException("Invalid state data: binary header not found.");
+        }
+        if (data[2] > VERSION) {
+            throw new IOException(String.format("Unsupported state data version. [version=%d]", data[2]));
+        }
+        byte[] payload = Arrays.copyOfRange(data, HEADER_SIZE, data.length);
+        if ((data[3] & FLAG_COMPRESSED) != 0) {
+            payload = decompress(payload);
+        }
+        return payload;
+    }
+
+    private static byte[] compress(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] data) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Invalid state data: truncated compressed payload.");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException ex) {
+            throw new IOException(ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
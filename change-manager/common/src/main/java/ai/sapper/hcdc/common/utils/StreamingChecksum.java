@@ -0,0 +1,147 @@
+package ai.sapper.hcdc.common.utils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * Rolling CRC32C checksum of a byte stream (block data).
+ * <p>
+ * The checksum state is (CRC, length), persisted as "crc32c:[crc hex]:[length]". A checksum
+ * restored from a saved state only hashes the bytes appended after it: the new bytes are
+ * hashed with a fresh (hardware accelerated) CRC32C and combined with the saved CRC.
+ */
+@Getter
+@Accessors(fluent = true)
+public class StreamingChecksum {
+    public static final String TYPE = "crc32c";
+    private static final long POLYNOMIAL = 0x82F63B78L;
+
+    private final long baseValue;
+    private final long baseLength;
+    private long length = 0;
+    @Getter(AccessLevel.NONE)
+    private final CRC32C crc = new CRC32C();
+
+    public StreamingChecksum() {
+        this(0, 0);
+    }
+
+    private StreamingChecksum(long baseValue, long baseLength) {
+        this.baseValue = baseValue;
+        this.baseLength = baseLength;
+    }
+
+    /**
+     * Restore a checksum from a saved state.
+     *
+     * @param state - Saved state
+     * @return - Checksum, NULL if the state is empty or not a CRC32C state (legacy MD5 checksums).
+     */
+    public static StreamingChecksum parse(String state) {
+        if (Strings.isNullOrEmpty(state)) return null;
+        String[] parts = state.split(":");
+        if (parts.length != 3 || TYPE.compareTo(parts[0]) != 0) return null;
+        try {
+            long value = Long.parseLong(parts[1], 16);
+            long length = Long.parseLong(parts[2]);
+            Preconditions.checkArgument(length >= 0);
+            return new StreamingChecksum(value, length);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    public StreamingChecksum update(@NonNull byte[] data, int offset, int length) {
+        crc.update(data, offset, length);
+        this.length += length;
+        return this;
+    }
+
+    /**
+     * Update with the remaining bytes of the buffer, the buffer position is advanced to its limit.
+     */
+    public StreamingChecksum update(@NonNull ByteBuffer buffer) {
+        length += buffer.remaining();
+        crc.update(buffer);
+        return this;
+    }
+
+    /**
+     * @return - Total number of bytes hashed (including the restored state).
+     */
+    public long totalLength() {
+        return baseLength + length;
+    }
+
+    public long value() {
+        return combine(baseValue, crc.getValue(), length);
+    }
+
+    public String state() {
+        return String.format("%s:%08x:%d", TYPE, value(), totalLength());
+    }
+
+    /**
+     * Combine the CRC of two consecutive byte sequences (zlib crc32_combine()).
+     *
+     * @param crc1    - CRC of the first sequence
+     * @param crc2    - CRC of the second sequence
+     * @param length2 - Length of the second sequence
+     * @return - CRC of the concatenated sequence
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        if (length2 <= 0) return crc1;
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        // Operator for one zero bit
+        odd[0] = POLYNOMIAL;
+        long row = 1;
+        for (int ii = 1; ii < 32; ii++) {
+            odd[ii] = row;
+            row <<= 1;
+        }
+        square(even, odd); // two zero bits
+        square(odd, even); // four zero bits
+
+        do {
+            square(even, odd);
+            if ((length2 & 1) != 0) {
+                crc1 = times(even, crc1);
+            }
+            length2 >>= 1;
+            if (length2 == 0) break;
+
+            square(odd, even);
+            if ((length2 & 1) != 0) {
+                crc1 = times(odd, crc1);
+            }
+            length2 >>= 1;
+        } while (length2 != 0);
+
+        return (crc1 ^ crc2);
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        for (int ii = 0; vector != 0; ii++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                sum ^= matrix[ii];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix) {
+        for (int ii = 0; ii < 32; ii++) {
+            square[ii] = times(matrix, matrix[ii]);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ai.sapper.hcdc.common.model.filters;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainFilterMatcherTest {
+
+    @Test
+    void matches() {
+        try {
+            DomainFilters filters = new DomainFilters();
+            filters.setDomain("test");
+            filters.add("all", "/test/hcdc", ".*\\.csv");
+            filters.add("parquet", "/test/hcdc/loader/parquet", ".*\\.parquet");
+            for (int ii = 0; ii < 1000; ii++) {
+                filters.add(String.format("entity-%d", ii), String.format("/test/data/%d", ii), ".*");
+            }
+            DomainFilterMatcher matcher = new DomainFilterMatcher("test", filters);
+
+            DomainFilterMatcher.PathFilter pf = matcher.matches("/test/hcdc/loader/parquet/tags/2022/06/13/11/tags_54.parquet");
+            assertNotNull(pf);
+            assertEquals("parquet", pf.filter().getEntity());
+            pf = matcher.matches("/test/hcdc/loader/parquet/tags/2022/06/13/11/tags_54.csv");
+            assertNotNull(pf);
+            assertEquals("all", pf.filter().getEntity());
+            pf = matcher.matches("/test/hcdc/loader/parquet/tags/2022/06/13/11/tags_55.parquet");
+            assertNotNull(pf);
+            assertEquals("parquet", pf.filter().getEntity());
+            assertNull(matcher.matches("/test/hcdc/loader/parquet/tags/2022/06/13/11/tags_54.avro"));
+            assertNull(matcher.matches("/other/hcdc/tags_54.csv"));
+
+            pf = matcher.matches("/test/data/512/x.bin");
+            assertNotNull(pf);
+            assertEquals("entity-512", pf.filter().getEntity());
+
+            matcher.add("parquet", "/test/hcdc/loader/parquet", ".*\\.avro");
+            pf = matcher.matches("/test/hcdc/loader/parquet/tags/2022/06/13/11/tags_54.avro");
+            assertNotNull(pf);
+            assertEquals("parquet", pf.filter().getEntity());
+            assertNull(matcher.matches("/test/hcdc/loader/parquet/tags/2022/06/13/11/tags_54.parquet"));
+            assertEquals(1002, matcher.patterns().size());
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ai.sapper.hcdc.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntMapTest {
+
+    @Test
+    void putGetRemove() {
+        try {
+            LongIntMap map = new LongIntMap();
+            Map<Long, Integer> expected = new HashMap<>();
+            Random random = new Random(1024);
+            for (int ii = 0; ii < 10000; ii++) {
+                // Sequential block IDs (as allocated by the NameNode) and random keys.
+                long key = (ii % 2 == 0 ? 1073741825L + ii : random.nextLong());
+                assertEquals(LongIntMap.NOT_FOUND, map.put(key, ii));
+                expected.put(key, ii);
+            }
+            assertEquals(expected.size(), map.size());
+            for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), map.get(entry.getKey()));
+            }
+            assertEquals(LongIntMap.NOT_FOUND, map.get(-1));
+
+            int removed = 0;
+            for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+                if (entry.getValue() % 3 == 0) {
+                    assertEquals(entry.getValue(), map.remove(entry.getKey()));
+                    removed++;
+                }
+            }
+            assertEquals(expected.size() - removed, map.size());
+            for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+                int value = (entry.getValue() % 3 == 0 ? LongIntMap.NOT_FOUND : entry.getValue());
+                assertEquals(value, map.get(entry.getKey()));
+            }
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertFalse(map.containsKey(1073741825L));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
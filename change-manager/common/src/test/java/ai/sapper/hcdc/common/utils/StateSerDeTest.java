@@ -0,0 +1,52 @@
+package ai.sapper.hcdc.common.utils;
+
+import ai.sapper.hcdc.common.model.KafkaMessageStateData;
+import ai.sapper.hcdc.common.model.NameNodeTxStateData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateSerDeTest {
+
+    @Test
+    void encode() {
+        try {
+            NameNodeTxStateData state = NameNodeTxStateData.newBuilder()
+                    .setNamespace("test")
+                    .setUpdatedTime(System.currentTimeMillis())
+                    .setProcessedTxId(13903)
+                    .build();
+            byte[] data = StateSerDe.encode(state, -1);
+            assertTrue(StateSerDe.isEncoded(data));
+            assertEquals(0, data[3] & StateSerDe.FLAG_COMPRESSED);
+            NameNodeTxStateData read = NameNodeTxStateData.parseFrom(StateSerDe.decode(data));
+            assertEquals(state, read);
+
+            StringBuilder path = new StringBuilder();
+            for (int ii = 0; ii < 64; ii++) {
+                path.append("/hcdc/test/path");
+            }
+            KafkaMessageStateData ks = KafkaMessageStateData.newBuilder()
+                    .setPath(path.toString())
+                    .setName("test")
+                    .setTopic("hcdc-test")
+                    .setPartition(0)
+                    .setOffset(1024)
+                    .setUpdateTimestamp(System.currentTimeMillis())
+                    .build();
+            data = StateSerDe.encode(ks, 128);
+            assertTrue(StateSerDe.isEncoded(data));
+            assertNotEquals(0, data[3] & StateSerDe.FLAG_COMPRESSED);
+            assertTrue(data.length < ks.getSerializedSize());
+            assertEquals(ks, KafkaMessageStateData.parseFrom(StateSerDe.decode(data)));
+
+            byte[] json = "{\"namespace\":\"test\"}".getBytes(StandardCharsets.UTF_8);
+            assertFalse(StateSerDe.isEncoded(json));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
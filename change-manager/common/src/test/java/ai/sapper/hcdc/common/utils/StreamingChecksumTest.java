@@ -0,0 +1,45 @@
+package ai.sapper.hcdc.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingChecksumTest {
+
+    @Test
+    void update() {
+        try {
+            byte[] data = new byte[256 * 1024 + 17];
+            new Random(4096).nextBytes(data);
+            CRC32C crc = new CRC32C();
+            crc.update(data, 0, data.length);
+
+            StreamingChecksum checksum = new StreamingChecksum();
+            checksum.update(data, 0, 1000);
+            String state = checksum.state();
+
+            StreamingChecksum restored = StreamingChecksum.parse(state);
+            assertNotNull(restored);
+            assertEquals(1000, restored.totalLength());
+            ByteBuffer buffer = ByteBuffer.allocateDirect(data.length - 1000);
+            buffer.put(data, 1000, data.length - 1000);
+            buffer.flip();
+            restored.update(buffer);
+            assertFalse(buffer.hasRemaining());
+            assertEquals(crc.getValue(), restored.value());
+            assertEquals(data.length, restored.totalLength());
+
+            checksum.update(data, 1000, data.length - 1000);
+            assertEquals(restored.state(), checksum.state());
+
+            assertNull(StreamingChecksum.parse("5d41402abc4b2a76b9719d911017c592"));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package ai.sapper.hcdc.core.connections;
+
+import ai.sapper.hcdc.common.ConfigReader;
+import ai.sapper.hcdc.common.utils.UnitsParser;
+import ai.sapper.hcdc.core.messaging.MappedLog;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Connection to a local memory-mapped log (see MappedLog), used in place of Kafka where the
+ * pipeline stages run on the same host.
+ */
+@Getter
+@Accessors(fluent = true)
+public class LocalLogConnection implements MessageConnection {
+    public enum ELogMode {
+        Producer, Consumer
+    }
+
+    @Getter(AccessLevel.NONE)
+    private final ConnectionState state = new ConnectionState();
+    private LocalLogConfig logConfig;
+    private MappedLog log;
+
+    /**
+     * @return
+     */
+    @Override
+    public String name() {
+        Preconditions.checkNotNull(logConfig);
+        return logConfig.name;
+    }
+
+    /**
+     * @param xmlConfig
+     * @return
+     * @throws ConnectionError
+     */
+    @Override
+    public Connection init(@NonNull HierarchicalConfiguration<ImmutableNode> xmlConfig) throws ConnectionError {
+        try {
+            if (state.isConnected()) {
+                close();
+            }
+            state.clear(EConnectionState.Unknown);
+            logConfig = new LocalLogConfig(xmlConfig);
+            logConfig.read();
+
+            state.state(EConnectionState.Initialized);
+            return this;
+        } catch (Throwable t) {
+            state.error(t);
+            throw new ConnectionError("Error initializing log connection.", t);
+        }
+    }
+
+    /**
+     * @return
+     * @throws ConnectionError
+     */
+    @Override
+    public Connection connect() throws ConnectionError {
+        Preconditions.checkState(logConfig != null);
+        if (state.isConnected()) return this;
+        try {
+            log = MappedLog.open(logConfig.directory, logConfig.segmentSize);
+            state.state(EConnectionState.Connected);
+            return this;
+        } catch (Throwable t) {
+            state.error(t);
+            throw new ConnectionError(String.format("Error opening log. [path=%s]",
+                    logConfig.directory.getAbsolutePath()), t);
+        }
+    }
+
+    /**
+     * @return - Name of the log (the log directory name).
+     */
+    public String topic() {
+        Preconditions.checkState(logConfig != null);
+        return logConfig.directory.getName();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public Throwable error() {
+        return state.error();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public EConnectionState connectionState() {
+        return state.state();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public boolean isConnected() {
+        return state.isConnected();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public HierarchicalConfiguration<ImmutableNode> config() {
+        return logConfig.config();
+    }
+
+    @Override
+    public boolean canSend() {
+        return (logConfig.mode == ELogMode.Producer);
+    }
+
+    @Override
+    public boolean canReceive() {
+        return (logConfig.mode == ELogMode.Consumer);
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. If the stream is already closed then invoking this
+     * method has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+        if (!state.hasError()) {
+            state.state(EConnectionState.Closed);
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class LocalLogConfig extends ConfigReader {
+        private static final String __CONFIG_PATH = "log";
+        private static final String CONFIG_NAME = "name";
+        private static final String CONFIG_PATH = "path";
+        private static final String CONFIG_MODE = "mode";
+        private static final String CONFIG_CONSUMER = "consumer";
+        private static final String CONFIG_CONSUMERS = "consumers";
+        private static final String CONFIG_SEGMENT_SIZE = "segmentSize";
+        private static final String CONFIG_SYNC = "sync";
+        private static final String CONFIG_DELETE_CONSUMED = "deleteConsumed";
+
+        private String name;
+        private File directory;
+        private ELogMode mode = ELogMode.Producer;
+        private String consumer;
+        /**
+         * All the consumers of the log (comma separated), consumed segments are only deleted
+         * once read by each of them.
+         */
+        private final Set<String> consumers = new HashSet<>();
+        private int segmentSize = MappedLog.DEFAULT_SEGMENT_SIZE;
+        private boolean sync = false;
+        private boolean deleteConsumed = false;
+
+        public LocalLogConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
+            super(config, __CONFIG_PATH);
+        }
+
+        public void read() throws ConfigurationException {
+            name = get().getString(CONFIG_NAME);
+            if (Strings.isNullOrEmpty(name)) {
+                throw new ConfigurationException(String.format("Log Configuration Error: missing [%s]", CONFIG_NAME));
+            }
+            String s = get().getString(CONFIG_PATH);
+            if (Strings.isNullOrEmpty(s)) {
+                throw new ConfigurationException(String.format("Log Configuration Error: missing [%s]", CONFIG_PATH));
+            }
+            directory = new File(s);
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new ConfigurationException(String.format("Error creating log directory. [path=%s]",
+                        directory.getAbsolutePath()));
+            }
+            s = get().getString(CONFIG_MODE);
+            if (!Strings.isNullOrEmpty(s)) {
+                mode = ELogMode.valueOf(s);
+            }
+            consumer = get().getString(CONFIG_CONSUMER);
+            if (Strings.isNullOrEmpty(consumer)) {
+                consumer = name;
+            }
+            consumers.add(consumer);
+            s = get().getString(CONFIG_CONSUMERS);
+            if (!Strings.isNullOrEmpty(s)) {
+                for (String c : s.split(",")) {
+                    if (!Strings.isNullOrEmpty(c.trim())) {
+                        consumers.add(c.trim());
+                    }
+                }
+            }
+            s = get().getString(CONFIG_SEGMENT_SIZE);
+            if (!Strings.isNullOrEmpty(s)) {
+                UnitsParser.UnitValue value = UnitsParser.parse(s);
+                if (value == null) {
+                    throw new ConfigurationException(String.format("Invalid Segment Size : [value=%s]", s));
+                }
+                segmentSize = (int) UnitsParser.dataSize(value);
+            }
+            s = get().getString(CONFIG_SYNC);
+            if (!Strings.isNullOrEmpty(s)) {
+                sync = Boolean.parseBoolean(s);
+            }
+            s = get().getString(CONFIG_DELETE_CONSUMED);
+            if (!Strings.isNullOrEmpty(s)) {
+                deleteConsumed = Boolean.parseBoolean(s);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package ai.sapper.hcdc.core.connections;
+
+import ai.sapper.hcdc.common.ConfigReader;
+import ai.sapper.hcdc.core.messaging.MemoryQueue;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+
+import java.io.IOException;
+
+/**
+ * Connection to an in-process queue (see MemoryQueue), used to connect pipeline stages hosted
+ * in the same JVM. Messages are not persisted.
+ */
+@Getter
+@Accessors(fluent = true)
+public class MemoryQueueConnection implements MessageConnection {
+    public enum EQueueMode {
+        Producer, Consumer
+    }
+
+    @Getter(AccessLevel.NONE)
+    private final ConnectionState state = new ConnectionState();
+    private MemoryQueueConfig queueConfig;
+    private MemoryQueue queue;
+
+    /**
+     * @return
+     */
+    @Override
+    public String name() {
+        Preconditions.checkNotNull(queueConfig);
+        return queueConfig.name;
+    }
+
+    /**
+     * @param xmlConfig
+     * @return
+     * @throws ConnectionError
+     */
+    @Override
+    public Connection init(@NonNull HierarchicalConfiguration<ImmutableNode> xmlConfig) throws ConnectionError {
+        try {
+            state.clear(EConnectionState.Unknown);
+            queueConfig = new MemoryQueueConfig(xmlConfig);
+            queueConfig.read();
+
+            state.state(EConnectionState.Initialized);
+            return this;
+        } catch (Throwable t) {
+            state.error(t);
+            throw new ConnectionError("Error initializing queue connection.", t);
+        }
+    }
+
+    /**
+     * @return
+     * @throws ConnectionError
+     */
+    @Override
+    public Connection connect() throws ConnectionError {
+        Preconditions.checkState(queueConfig != null);
+        if (!state.isConnected()) {
+            queue = MemoryQueue.get(queueConfig.queue, queueConfig.size);
+            state.state(EConnectionState.Connected);
+        }
+        return this;
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public Throwable error() {
+        return state.error();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public EConnectionState connectionState() {
+        return state.state();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public boolean isConnected() {
+        return state.isConnected();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public HierarchicalConfiguration<ImmutableNode> config() {
+        return queueConfig.config();
+    }
+
+    @Override
+    public boolean canSend() {
+        return (queueConfig.mode == EQueueMode.Producer);
+    }
+
+    @Override
+    public boolean canReceive() {
+        return (queueConfig.mode == EQueueMode.Consumer);
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. If the stream is already closed then invoking this
+     * method has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (queue != null) {
+            queue.release();
+            queue = null;
+        }
+        if (!state.hasError()) {
+            state.state(EConnectionState.Closed);
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class MemoryQueueConfig extends ConfigReader {
+        private static final String __CONFIG_PATH = "memory";
+        private static final String CONFIG_NAME = "name";
+        private static final String CONFIG_QUEUE = "queue";
+        private static final String CONFIG_MODE = "mode";
+        private static final String CONFIG_SIZE = "size";
+        private static final String CONFIG_ACK_TIMEOUT = "ackTimeout";
+
+        private String name;
+        private String queue;
+        private EQueueMode mode = EQueueMode.Producer;
+        private int size = 4096;
+        private long ackTimeout = 5 * 60 * 1000;
+
+        public MemoryQueueConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
+            super(config, __CONFIG_PATH);
+        }
+
+        public void read() throws ConfigurationException {
+            name = get().getString(CONFIG_NAME);
+            if (Strings.isNullOrEmpty(name)) {
+                throw new ConfigurationException(String.format("Queue Configuration Error: missing [%s]", CONFIG_NAME));
+            }
+            queue = get().getString(CONFIG_QUEUE);
+            if (Strings.isNullOrEmpty(queue)) {
+                throw new ConfigurationException(String.format("Queue Configuration Error: missing [%s]", CONFIG_QUEUE));
+            }
+            String s = get().getString(CONFIG_MODE);
+            if (!Strings.isNullOrEmpty(s)) {
+                mode = EQueueMode.valueOf(s);
+            }
+            s = get().getString(CONFIG_SIZE);
+            if (!Strings.isNullOrEmpty(s)) {
+                size = Integer.parseInt(s);
+            }
+            s = get().getString(CONFIG_ACK_TIMEOUT);
+            if (!Strings.isNullOrEmpty(s)) {
+                ackTimeout = Long.parseLong(s);
+            }
+        }
+    }
+}
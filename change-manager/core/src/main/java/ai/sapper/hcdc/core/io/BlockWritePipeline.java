@@ -0,0 +1,431 @@
+package ai.sapper.hcdc.core.io;
+
+import ai.sapper.hcdc.core.model.DFSBlockState;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous write pipeline for blocks with group commit.
+ * <p>
+ * Appended data is copied into a coalescing buffer per block, full buffers are put on the
+ * bounded queue of the block (the caller blocks while the queue is full) and written by the
+ * pipeline threads, at most one thread per block so the data is written in order.
+ * commit() writes the remaining data of all the blocks touched since the last commit, forces
+ * the blocks to the storage device (one sync per block for the whole batch) and only then
+ * marks the block states as stored and moves the committed transaction ID.
+ * <p>
+ * A block queue is sealed (flushed and removed) by commit(), appends racing with the commit go
+ * to a new queue of the block and are part of the next commit. A write error fails the block
+ * until it is evicted: appends to the block and all the commits fail (nothing is marked as
+ * stored and the committed transaction ID does not move). evict() drops the data of the block
+ * and marks its state as not stored, the block must then be copied again.
+ */
+@Getter
+@Accessors(fluent = true)
+public class BlockWritePipeline implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 4 * 1024 * 1024;
+    public static final int DEFAULT_QUEUE_SIZE = 4;
+
+    private final int bufferSize;
+    private final int queueSize;
+    @Getter(AccessLevel.NONE)
+    private final ExecutorService executor;
+    @Getter(AccessLevel.NONE)
+    private final Map<FSBlock, BlockQueue> queues = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong committedTnxId = new AtomicLong(-1);
+    @Getter(AccessLevel.NONE)
+    private final List<BlockQueue> uncommitted = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<FSBlock, BlockQueue> failed = new ConcurrentHashMap<>();
+
+    public BlockWritePipeline(int threads) {
+        this(threads, DEFAULT_BUFFER_SIZE, DEFAULT_QUEUE_SIZE);
+    }
+
+    public BlockWritePipeline(int threads, int bufferSize, int queueSize) {
+        Preconditions.checkArgument(threads > 0);
+        Preconditions.checkArgument(bufferSize > 0);
+        Preconditions.checkArgument(queueSize > 0);
+        this.bufferSize = bufferSize;
+        this.queueSize = queueSize;
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("block-write-pipeline-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * @return - Last transaction ID with all its block data durable, -1 if nothing has been committed.
+     */
+    public long committedTnxId() {
+        return committedTnxId.get();
+    }
+
+    /**
+     * Append the remaining bytes of the buffer to the block, the data is copied so the buffer
+     * can be reused once the call returns.
+     *
+     * @param block      - Target block
+     * @param blockState - Block state to mark as stored on commit (can be null)
+     * @param buffer     - Data buffer
+     * @return - Bytes appended
+     * @throws IOException
+     */
+    public long append(@NonNull FSBlock block, DFSBlockState blockState, @NonNull ByteBuffer buffer) throws IOException {
+        checkFailed(block);
+        while (true) {
+            BlockQueue queue = queues.computeIfAbsent(block, BlockQueue::new);
+            long length = queue.append(blockState, buffer);
+            if (length >= 0) {
+                return length;
+            }
+            // Sealed by a commit: retry with a new queue.
+            queues.remove(block, queue);
+        }
+    }
+
+    /**
+     * Write all the pending data of the block (without sync), required before reading the
+     * block or changing it outside the pipeline.
+     *
+     * @param block - Block
+     * @throws IOException
+     */
+    public void flush(@NonNull FSBlock block) throws IOException {
+        BlockQueue queue = queues.get(block);
+        if (queue != null) {
+            queue.flush();
+        }
+    }
+
+    /**
+     * Group commit: write and sync all the blocks touched since the last commit, then mark
+     * their block states as stored and set the committed transaction ID. If any block fails
+     * nothing is marked as stored, the blocks written are synced by the next commit. Commits
+     * keep failing while a failed block has not been evicted.
+     *
+     * @param tnxId - Transaction ID of the processed batch
+     * @return - Number of blocks synced
+     * @throws IOException
+     */
+    public synchronized int commit(long tnxId) throws IOException {
+        checkFailed();
+        // Seal the queues before the flush, so no append can race in between the flush and
+        // the removal of the queue.
+        for (BlockQueue queue : new ArrayList<>(queues.values())) {
+            queue.seal();
+            uncommitted.add(queue);
+        }
+        List<BlockQueue> touched = new ArrayList<>(uncommitted);
+        List<Future<?>> futures = new ArrayList<>(touched.size());
+        for (BlockQueue queue : touched) {
+            futures.add(executor.submit(() -> {
+                queue.block.sync();
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException ex) {
+            Throwable t = ex.getCause();
+            if (t instanceof IOException) {
+                throw (IOException) t;
+            }
+            throw new IOException(t);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        }
+        checkFailed();
+        for (BlockQueue queue : touched) {
+            // Data appended since the seal is stored by the next commit.
+            if (queue.state != null && !queues.containsKey(queue.block)) {
+                queue.state.setStored(true);
+            }
+        }
+        uncommitted.clear();
+        committedTnxId.set(tnxId);
+        return touched.size();
+    }
+
+    /**
+     * Drop the data of a failed block: the pending and not yet committed data is discarded and
+     * the block state is marked as not stored. The block has to be copied again (the data
+     * written before the failure is not complete).
+     *
+     * @param block - Failed block
+     * @return - Is the block failed
+     * @throws IOException
+     */
+    public synchronized boolean evict(@NonNull FSBlock block) throws IOException {
+        List<BlockQueue> dropped = new ArrayList<>();
+        BlockQueue queue = queues.remove(block);
+        if (queue != null) {
+            queue.discard();
+            dropped.add(queue);
+        }
+        for (BlockQueue q : uncommitted) {
+            if (q.block.equals(block)) {
+                dropped.add(q);
+            }
+        }
+        uncommitted.removeAll(dropped);
+        queue = failed.remove(block);
+        if (queue != null) {
+            dropped.add(queue);
+        }
+        for (BlockQueue q : dropped) {
+            if (q.state != null) {
+                q.state.setStored(false);
+            }
+        }
+        return (queue != null);
+    }
+
+    /**
+     * @return - Failed blocks (to evict).
+     */
+    public List<FSBlock> failed() {
+        return new ArrayList<>(failed.keySet());
+    }
+
+    private void checkFailed(FSBlock block) throws IOException {
+        BlockQueue queue = failed.get(block);
+        if (queue != null) {
+            throw new IOException(String.format("Block write failed, block not evicted. [path=%s]",
+                    block.path().path()), queue.error);
+        }
+    }
+
+    private void checkFailed() throws IOException {
+        Iterator<BlockQueue> iter = failed.values().iterator();
+        if (iter.hasNext()) {
+            BlockQueue queue = iter.next();
+            throw new IOException(String.format("Block write failed, block not evicted. [path=%s][failed=%d]",
+                    queue.block.path().path(), failed.size()), queue.error);
+        }
+    }
+
+    private ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private void release(ByteBuffer buffer) {
+        buffers.offer(buffer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            for (BlockQueue queue : queues.values()) {
+                queue.flush();
+            }
+        } finally {
+            queues.clear();
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+            }
+            buffers.clear();
+        }
+    }
+
+    private final class BlockQueue {
+        private final FSBlock block;
+        private final BlockingQueue<ByteBuffer> pending;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicInteger outstanding = new AtomicInteger(0);
+        private volatile DFSBlockState state;
+        private volatile IOException error;
+        private ByteBuffer current;
+        private boolean sealed = false;
+
+        private BlockQueue(FSBlock block) {
+            this.block = block;
+            pending = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        /**
+         * @return - Bytes appended, -1 if the queue has been sealed.
+         */
+        private synchronized long append(DFSBlockState blockState, ByteBuffer buffer) throws IOException {
+            if (sealed) return -1;
+            checkError();
+            if (blockState != null) {
+                state = blockState;
+            }
+            long length = buffer.remaining();
+            while (buffer.hasRemaining()) {
+                if (current == null) {
+                    current = acquire();
+                }
+                int size = Math.min(current.remaining(), buffer.remaining());
+                ByteBuffer slice = buffer.duplicate();
+                slice.limit(slice.position() + size);
+                current.put(slice);
+                buffer.position(buffer.position() + size);
+                if (!current.hasRemaining()) {
+                    enqueue();
+                }
+            }
+            return length;
+        }
+
+        private synchronized void flush() throws IOException {
+            if (current != null && current.position() > 0) {
+                enqueue();
+            }
+            synchronized (outstanding) {
+                while (outstanding.get() > 0) {
+                    try {
+                        outstanding.wait();
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(ie);
+                    }
+                }
+            }
+            checkError();
+        }
+
+        /**
+         * Flush the pending data and remove the queue, later appends use a new queue.
+         */
+        private synchronized void seal() throws IOException {
+            if (sealed) return;
+            try {
+                flush();
+            } finally {
+                sealed = true;
+                queues.remove(block, this);
+            }
+        }
+
+        /**
+         * Drop the pending data of an evicted queue.
+         */
+        private synchronized void discard() throws IOException {
+            sealed = true;
+            if (error == null) {
+                error = new IOException(String.format("Block evicted. [path=%s]", block.path().path()));
+            }
+            if (current != null) {
+                release(current);
+                current = null;
+            }
+            synchronized (outstanding) {
+                while (outstanding.get() > 0) {
+                    try {
+                        outstanding.wait();
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(ie);
+                    }
+                }
+            }
+        }
+
+        private void enqueue() throws IOException {
+            ByteBuffer buffer = current;
+            current = null;
+            buffer.flip();
+            outstanding.incrementAndGet();
+            try {
+                pending.put(buffer);
+            } catch (InterruptedException ie) {
+                done(buffer);
+                Thread.currentThread().interrupt();
+                throw new IOException(ie);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                ByteBuffer buffer;
+                while ((buffer = pending.poll()) != null) {
+                    try {
+                        if (error == null) {
+                            block.append(buffer);
+                        }
+                    } catch (IOException ex) {
+                        error = ex;
+                        failed.putIfAbsent(block, this);
+                    } finally {
+                        done(buffer);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                if (!pending.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void done(ByteBuffer buffer) {
+            release(buffer);
+            if (outstanding.decrementAndGet() == 0) {
+                synchronized (outstanding) {
+                    outstanding.notifyAll();
+                }
+            }
+        }
+
+        /**
+         * The failed queue is sealed and removed, the block fails until evicted.
+         */
+        private void checkError() throws IOException {
+            if (error != null) {
+                sealed = true;
+                queues.remove(block, this);
+                throw new IOException(String.format("Block write failed. [path=%s]", block.path().path()), error);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package ai.sapper.hcdc.core.io;
 
+import ai.sapper.hcdc.common.utils.StreamingChecksum;
 import ai.sapper.hcdc.core.model.DFSBlockState;
+import ai.sapper.hcdc.core.model.EBlockState;
 import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,11 +11,13 @@ import lombok.experimental.Accessors;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 @Getter
 @Accessors(fluent = true)
 public class FSBlock implements Closeable {
     public static final String EXT_BLOCK_FILE = "blk";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
 
     private final FileSystem fs;
     private final PathInfo directory;
@@ -22,6 +26,7 @@ public class FSBlock implements Closeable {
     private final String filename;
     private final PathInfo path;
     private long size = -1;
+    private boolean finalized = false;
     @Getter(AccessLevel.NONE)
     private Writer writer = null;
     @Getter(AccessLevel.NONE)
@@ -54,6 +59,7 @@ public class FSBlock implements Closeable {
         this.previousBlockId = blockState.getPrevBlockId();
         filename = blockFile(blockState.getBlockId(), blockState.getPrevBlockId());
         path = fs.get(String.format("%s/%s", directory.path(), filename), domain);
+        finalized = (blockState.getState() == EBlockState.Finalized);
         if (blockState.isStored()) {
             if (!path.exists()) {
                 throw new IOException(String.format("File not found. [path=%s]", path.path()));
@@ -81,7 +87,7 @@ public class FSBlock implements Closeable {
 
     public synchronized void seek(int position) throws IOException {
         if (reader == null) {
-            reader = fs.reader(path);
+            reader = fs.reader(path, finalized);
         }
         reader.seek(position);
     }
@@ -89,7 +95,7 @@ public class FSBlock implements Closeable {
     public synchronized long read(byte[] data, int offset, int length) throws IOException {
         Preconditions.checkNotNull(data);
         if (reader == null) {
-            reader = fs.reader(path);
+            reader = fs.reader(path, finalized);
         }
         return reader.read(data, offset, length);
     }
@@ -98,11 +104,62 @@ public class FSBlock implements Closeable {
         return read(data, 0, data.length);
     }
 
-    public synchronized void write(byte[] data, int offset, int length) throws IOException {
-        Preconditions.checkNotNull(data);
+    /**
+     * Read into the remaining space of the buffer.
+     *
+     * @param buffer - Target buffer
+     * @return - Bytes read, -1 at end of block
+     * @throws IOException
+     */
+    public synchronized int read(@NonNull ByteBuffer buffer) throws IOException {
+        if (reader == null) {
+            reader = fs.reader(path, finalized);
+        }
+        return reader.read(buffer);
+    }
+
+    /**
+     * Append the complete data of this block to the target block (FileChannel.transferTo() for local blocks).
+     *
+     * @param target - Target block
+     * @return - Bytes copied
+     * @throws IOException
+     */
+    public long copyTo(@NonNull FSBlock target) throws IOException {
+        long length = size();
+        if (length <= 0) return 0;
+        if (writer != null) {
+            writer.flush();
+        }
+        try (Reader r = fs.reader(path, finalized)) {
+            synchronized (target) {
+                long copied = r.transferTo(0, length, target.openWriter(false));
+                if (target.size >= 0) {
+                    target.size += copied;
+                }
+                return copied;
+            }
+        }
+    }
+
+    private Writer openWriter(boolean overwrite) throws IOException {
         if (writer == null) {
-            writer = fs.writer(path, true);
+            if (finalized) {
+                // Block is being modified: a memory mapped reader will not see the changes.
+                finalized = false;
+                if (reader != null) {
+                    reader.close();
+                    reader = null;
+                }
+            }
+            writer = fs.writer(path, overwrite);
         }
+        return writer;
+    }
+
+    public synchronized void write(byte[] data, int offset, int length) throws IOException {
+        Preconditions.checkNotNull(data);
+        openWriter(true);
         writer.write(data, offset, length);
     }
 
@@ -112,28 +169,95 @@ public class FSBlock implements Closeable {
 
     public synchronized void append(byte[] data, int offset, int length) throws IOException {
         Preconditions.checkNotNull(data);
-        if (writer == null) {
-            writer = fs.writer(path, false);
-        }
+        openWriter(false);
         writer.write(data, offset, length);
+        if (size >= 0) {
+            size += length;
+        }
     }
 
     public void append(byte[] data) throws IOException {
         append(data, 0, data.length);
     }
 
-    public long truncate(int offset, int length) throws IOException {
-        if (writer == null) {
-            writer = fs.writer(path, false);
+    /**
+     * Append the remaining bytes of the buffer to the block.
+     *
+     * @param buffer - Data buffer
+     * @return - Bytes appended
+     * @throws IOException
+     */
+    public synchronized long append(@NonNull ByteBuffer buffer) throws IOException {
+        openWriter(false);
+        long length = writer.write(buffer);
+        if (size >= 0) {
+            size += length;
         }
-        return writer.truncate(offset, length);
+        return length;
     }
 
-    public long truncate(int length) throws IOException {
-        if (writer == null) {
-            writer = fs.writer(path, false);
+    /**
+     * Compute the checksum of the first length bytes of the stored block.
+     *
+     * @param length - Number of bytes to hash
+     * @return - Checksum
+     * @throws IOException
+     */
+    public synchronized StreamingChecksum checksum(long length) throws IOException {
+        StreamingChecksum checksum = new StreamingChecksum();
+        if (length <= 0) return checksum;
+        if (writer != null) {
+            writer.flush();
+        }
+        try (Reader r = fs.reader(path)) {
+            byte[] buffer = new byte[(int) Math.min(length, CHECKSUM_BUFFER_SIZE)];
+            while (checksum.length() < length) {
+                int size = r.read(buffer, 0, (int) Math.min(buffer.length, length - checksum.length()));
+                if (size <= 0) {
+                    throw new IOException(String.format("Stored block is truncated. [path=%s][expected size=%d][size=%d]",
+                            path.path(), length, checksum.length()));
+                }
+                checksum.update(buffer, 0, size);
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * Verify the stored block against the saved checksum state.
+     *
+     * @param state - Saved checksum state
+     * @return - Is valid?
+     * @throws IOException
+     */
+    public boolean verify(String state) throws IOException {
+        StreamingChecksum expected = StreamingChecksum.parse(state);
+        if (expected == null) return false;
+        if (size() != expected.totalLength()) return false;
+        return (checksum(expected.totalLength()).value() == expected.value());
+    }
+
+    /**
+     * Flush and force the data written to the block to the storage device.
+     *
+     * @throws IOException
+     */
+    public synchronized void sync() throws IOException {
+        if (writer != null) {
+            writer.sync();
         }
-        return writer.truncate(length);
+    }
+
+    public long truncate(long offset, long length) throws IOException {
+        openWriter(false);
+        size = writer.truncate(offset, length);
+        return size;
+    }
+
+    public long truncate(long length) throws IOException {
+        openWriter(false);
+        size = writer.truncate(length);
+        return size;
     }
 
     /**
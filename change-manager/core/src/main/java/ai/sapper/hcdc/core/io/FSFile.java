@@ -9,6 +9,7 @@ import lombok.experimental.Accessors;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -99,13 +100,41 @@ public class FSFile implements Closeable {
         while (r < length && currentIndex < blocks.size()) {
             FSBlock block = blocks.get(currentIndex);
             long rr = block.read(data, off, (int) (length - r));
-            if (rr < (length - r)) {
+            if (rr < 0) {
                 currentIndex++;
+                continue;
             }
+            if (rr == 0) break;
             r += rr;
             off += rr;
         }
-        return r;
+        return (r == 0 && currentIndex >= blocks.size() ? -1 : r);
+    }
+
+    /**
+     * Read into the remaining space of the buffer, spanning blocks as required: each block
+     * reads directly into the buffer (no intermediate copy). A block read can return less than
+     * requested (e.g. chunked reads of non-local readers), the next block is only read once the
+     * current block is at EOF.
+     *
+     * @param buffer - Target buffer
+     * @return - Bytes read, -1 if there is no more data
+     * @throws IOException
+     */
+    public synchronized long read(@NonNull ByteBuffer buffer) throws IOException {
+        if (blocks.isEmpty()) return -1;
+        long r = 0;
+        while (buffer.hasRemaining() && currentIndex < blocks.size()) {
+            FSBlock block = blocks.get(currentIndex);
+            int rr = block.read(buffer);
+            if (rr < 0) {
+                currentIndex++;
+                continue;
+            }
+            if (rr == 0) break;
+            r += rr;
+        }
+        return (r == 0 && currentIndex >= blocks.size() ? -1 : r);
     }
 
     public synchronized FSBlock add(long blockId, long previousBlockId) throws IOException {
@@ -70,4 +70,12 @@ public abstract class FileSystem {
 
     public abstract Reader reader(@NonNull PathInfo path) throws IOException;
 
+    /**
+     * Get a reader for a file that will not be modified while the reader is open,
+     * implementations can use this to memory map the file.
+     */
+    public Reader reader(@NonNull PathInfo path, boolean immutable) throws IOException {
+        return reader(path);
+    }
+
 }
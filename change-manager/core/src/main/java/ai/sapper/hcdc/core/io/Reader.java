@@ -1,15 +1,19 @@
 package ai.sapper.hcdc.core.io;
 
+import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 @Getter
 @Accessors(fluent = true)
 public abstract class Reader implements Closeable {
+    private static final int COPY_CHUNK_SIZE = 64 * 1024;
+
     private final PathInfo path;
 
     protected Reader(@NonNull PathInfo path) {
@@ -24,5 +28,51 @@ public abstract class Reader implements Closeable {
         return read(buffer, 0, buffer.length);
     }
 
+    /**
+     * Read into the remaining space of the buffer, the buffer position is advanced by the bytes read.
+     *
+     * @param buffer - Target buffer
+     * @return - Bytes read, -1 at end of file
+     * @throws IOException
+     */
+    public int read(@NonNull ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            int size = read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            if (size > 0) {
+                buffer.position(buffer.position() + size);
+            }
+            return size;
+        }
+        byte[] chunk = new byte[Math.min(buffer.remaining(), COPY_CHUNK_SIZE)];
+        int size = read(chunk, 0, chunk.length);
+        if (size > 0) {
+            buffer.put(chunk, 0, size);
+        }
+        return size;
+    }
+
     public abstract void seek(int offset) throws IOException;
+
+    /**
+     * Copy a range of this file to the target writer.
+     *
+     * @param position - Start position in this file
+     * @param count    - Number of bytes to copy
+     * @param target   - Target writer
+     * @return - Number of bytes copied
+     * @throws IOException
+     */
+    public long transferTo(long position, long count, @NonNull Writer target) throws IOException {
+        Preconditions.checkArgument(position <= Integer.MAX_VALUE);
+        seek((int) position);
+        byte[] chunk = new byte[(int) Math.min(count, COPY_CHUNK_SIZE)];
+        long copied = 0;
+        while (copied < count) {
+            int size = read(chunk, 0, (int) Math.min(chunk.length, count - copied));
+            if (size <= 0) break;
+            target.write(chunk, 0, size);
+            copied += size;
+        }
+        return copied;
+    }
 }
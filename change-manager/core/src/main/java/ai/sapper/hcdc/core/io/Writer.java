@@ -6,10 +6,13 @@ import lombok.experimental.Accessors;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 @Getter
 @Accessors(fluent = true)
 public abstract class Writer implements Closeable {
+    private static final int COPY_CHUNK_SIZE = 64 * 1024;
+
     private final PathInfo path;
 
     protected Writer(@NonNull PathInfo path) {
@@ -28,11 +31,46 @@ public abstract class Writer implements Closeable {
         return write(data, 0, data.length);
     }
 
+    /**
+     * Write the remaining bytes of the buffer, the buffer position is advanced to its limit.
+     * Direct buffers are copied through a heap chunk, implementations can override to write
+     * the buffer directly.
+     *
+     * @param buffer - Data buffer
+     * @return - Bytes written
+     * @throws IOException
+     */
+    public long write(@NonNull ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.limit());
+        } else {
+            byte[] chunk = new byte[Math.min(length, COPY_CHUNK_SIZE)];
+            while (buffer.hasRemaining()) {
+                int size = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, size);
+                write(chunk, 0, size);
+            }
+        }
+        return length;
+    }
+
     public abstract void flush() throws IOException;
 
+    /**
+     * Flush and force the written data to the storage device. Implementations that can't
+     * control durability only flush.
+     *
+     * @throws IOException
+     */
+    public void sync() throws IOException {
+        flush();
+    }
+
     public abstract long truncate(long offset, long length) throws IOException;
 
-    public long truncate(int length) throws IOException {
+    public long truncate(long length) throws IOException {
         return truncate(0, length);
     }
 }
@@ -206,6 +206,17 @@ public class LocalFileSystem extends FileSystem {
      */
     @Override
     public Reader reader(@NonNull PathInfo path) throws IOException {
+        return reader(path, false);
+    }
+
+    /**
+     * @param path
+     * @param immutable
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public Reader reader(@NonNull PathInfo path, boolean immutable) throws IOException {
         if (!(path instanceof LocalPathInfo)) {
             throw new IOException(String.format("Invalid PathInfo instance. [passed=%s]",
                     path.getClass().getCanonicalName()));
@@ -213,6 +224,6 @@ public class LocalFileSystem extends FileSystem {
         if (!path.exists()) {
             throw new IOException(String.format("File not found. [path=%s]", ((LocalPathInfo) path).file().getAbsolutePath()));
         }
-        return new LocalReader(path).open();
+        return new LocalReader(path, immutable).open();
     }
 }
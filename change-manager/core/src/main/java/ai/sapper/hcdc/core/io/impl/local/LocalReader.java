@@ -2,21 +2,40 @@ package ai.sapper.hcdc.core.io.impl.local;
 
 import ai.sapper.hcdc.core.io.PathInfo;
 import ai.sapper.hcdc.core.io.Reader;
+import ai.sapper.hcdc.core.io.Writer;
 import com.google.common.base.Preconditions;
 import lombok.NonNull;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
+/**
+ * FileChannel based reader: reads are positional reads on the channel (no stream state),
+ * immutable (finalized) files are memory mapped.
+ */
 public class LocalReader extends Reader {
-    private RandomAccessFile inputStream;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private final boolean immutable;
+    private long position = 0;
 
     public LocalReader(@NonNull PathInfo path) {
+        this(path, false);
+    }
+
+    /**
+     * @param path      - File path
+     * @param immutable - File will not be modified while open (memory map the file)
+     */
+    public LocalReader(@NonNull PathInfo path, boolean immutable) {
         super(path);
         Preconditions.checkArgument(path instanceof LocalPathInfo);
+        this.immutable = immutable;
     }
 
-
     /**
      * @return
      * @throws IOException
@@ -27,7 +46,11 @@ public class LocalReader extends Reader {
         if (!pi.exists()) {
             throw new IOException(String.format("File not found. [path=%s]", pi.file().getAbsolutePath()));
         }
-        inputStream = new RandomAccessFile(pi.file(), "r");
+        channel = FileChannel.open(pi.file().toPath(), StandardOpenOption.READ);
+        if (immutable && channel.size() <= Integer.MAX_VALUE) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        position = 0;
 
         return this;
     }
@@ -41,11 +64,30 @@ public class LocalReader extends Reader {
      */
     @Override
     public int read(byte[] buffer, int offset, int length) throws IOException {
-        LocalPathInfo pi = (LocalPathInfo) path();
-        if (inputStream == null) {
-            throw new IOException(String.format("File Stream not open. [path=%s]", pi.file().getAbsolutePath()));
+        return read(ByteBuffer.wrap(buffer, offset, length));
+    }
+
+    /**
+     * @param buffer
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public int read(@NonNull ByteBuffer buffer) throws IOException {
+        checkOpen();
+        int size;
+        if (mapped != null) {
+            if (position >= mapped.limit()) return -1;
+            size = (int) Math.min(buffer.remaining(), mapped.limit() - position);
+            ByteBuffer src = mapped.duplicate();
+            src.position((int) position).limit((int) position + size);
+            buffer.put(src);
+        } else {
+            size = channel.read(buffer, position);
+            if (size < 0) return -1;
         }
-        return inputStream.read(buffer, offset, length);
+        position += size;
+        return size;
     }
 
     /**
@@ -54,11 +96,40 @@ public class LocalReader extends Reader {
      */
     @Override
     public void seek(int offset) throws IOException {
-        LocalPathInfo pi = (LocalPathInfo) path();
-        if (inputStream == null) {
+        checkOpen();
+        position = offset;
+    }
+
+    /**
+     * Copy using FileChannel.transferTo() if the target is a local file.
+     *
+     * @param position - Start position in this file
+     * @param count    - Number of bytes to copy
+     * @param target   - Target writer
+     * @return - Number of bytes copied
+     * @throws IOException
+     */
+    @Override
+    public long transferTo(long position, long count, @NonNull Writer target) throws IOException {
+        if (!(target instanceof LocalWriter)) {
+            return super.transferTo(position, count, target);
+        }
+        checkOpen();
+        FileChannel out = ((LocalWriter) target).channel();
+        long copied = 0;
+        while (copied < count) {
+            long size = channel.transferTo(position + copied, count - copied, out);
+            if (size <= 0) break;
+            copied += size;
+        }
+        return copied;
+    }
+
+    private void checkOpen() throws IOException {
+        if (channel == null) {
+            LocalPathInfo pi = (LocalPathInfo) path();
             throw new IOException(String.format("File Stream not open. [path=%s]", pi.file().getAbsolutePath()));
         }
-        inputStream.seek(offset);
     }
 
     /**
@@ -76,9 +147,10 @@ public class LocalReader extends Reader {
      */
     @Override
     public void close() throws IOException {
-        if (inputStream != null) {
-            inputStream.close();
-            inputStream = null;
+        mapped = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
         }
     }
 }
@@ -5,12 +5,16 @@ import ai.sapper.hcdc.core.io.Writer;
 import com.google.common.base.Preconditions;
 import lombok.NonNull;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
+/**
+ * FileChannel based writer, data is always appended at the end of the file.
+ */
 public class LocalWriter extends Writer {
-    private FileOutputStream outputStream;
+    private FileChannel channel;
 
     protected LocalWriter(@NonNull PathInfo path) {
         super(path);
@@ -29,10 +33,10 @@ public class LocalWriter extends Writer {
                 throw new IOException(String.format("Failed to delete existing file. [path=%s]",
                         pi.file().getAbsolutePath()));
             }
-            outputStream = new FileOutputStream(pi.file());
-        } else if (pi.exists()) {
-            outputStream = new FileOutputStream(pi.file(), true);
         }
+        channel = FileChannel.open(pi.file().toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        pi.dataSize(-1);
         return this;
     }
 
@@ -45,25 +49,55 @@ public class LocalWriter extends Writer {
      */
     @Override
     public long write(byte[] data, long offset, long length) throws IOException {
-        LocalPathInfo pi = (LocalPathInfo) path();
-        if (outputStream == null) {
-            throw new IOException(String.format("File Stream not open. [path=%s]", pi.file().getAbsolutePath()));
-        }
-        outputStream.write(data, (int) offset, (int) length);
+        return write(ByteBuffer.wrap(data, (int) offset, (int) length));
+    }
 
+    /**
+     * @param buffer
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public long write(@NonNull ByteBuffer buffer) throws IOException {
+        checkOpen();
+        long length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        ((LocalPathInfo) path()).dataSize(-1);
         return length;
     }
 
+    /**
+     * Append a range of the source file using FileChannel.transferFrom().
+     *
+     * @param source   - Source reader
+     * @param position - Start position in the source file
+     * @param count    - Number of bytes to copy
+     * @return - Number of bytes copied
+     * @throws IOException
+     */
+    public long transferFrom(@NonNull LocalReader source, long position, long count) throws IOException {
+        return source.transferTo(position, count, this);
+    }
+
     /**
      * @throws IOException
      */
     @Override
     public void flush() throws IOException {
-        LocalPathInfo pi = (LocalPathInfo) path();
-        if (outputStream == null) {
-            throw new IOException(String.format("File Stream not open. [path=%s]", pi.file().getAbsolutePath()));
-        }
-        outputStream.flush();
+        checkOpen();
+    }
+
+    /**
+     * Force the file data (not the metadata) to the storage device.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void sync() throws IOException {
+        checkOpen();
+        channel.force(false);
     }
 
     /**
@@ -74,13 +108,23 @@ public class LocalWriter extends Writer {
      */
     @Override
     public long truncate(long offset, long length) throws IOException {
-        LocalPathInfo pi = (LocalPathInfo) path();
-        if (outputStream == null) {
+        checkOpen();
+        channel.truncate(offset + length);
+        channel.position(channel.size());
+        ((LocalPathInfo) path()).dataSize(-1);
+        return channel.size();
+    }
+
+    FileChannel channel() throws IOException {
+        checkOpen();
+        return channel;
+    }
+
+    private void checkOpen() throws IOException {
+        if (channel == null) {
+            LocalPathInfo pi = (LocalPathInfo) path();
             throw new IOException(String.format("File Stream not open. [path=%s]", pi.file().getAbsolutePath()));
         }
-        FileChannel channel = outputStream.getChannel();
-        channel = channel.truncate(offset + length);
-        return channel.size();
     }
 
     /**
@@ -98,9 +142,9 @@ public class LocalWriter extends Writer {
      */
     @Override
     public void close() throws IOException {
-        if (outputStream != null) {
-            outputStream.close();
-            outputStream = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
         }
     }
 }
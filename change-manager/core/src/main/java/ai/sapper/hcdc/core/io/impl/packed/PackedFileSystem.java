@@ -0,0 +1,709 @@
+package ai.sapper.hcdc.core.io.impl.packed;
+
+import ai.sapper.hcdc.common.ConfigReader;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import ai.sapper.hcdc.core.io.FileSystem;
+import ai.sapper.hcdc.core.io.PathInfo;
+import ai.sapper.hcdc.core.io.Reader;
+import ai.sapper.hcdc.core.io.Writer;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * File system that packs files (blocks) into large append-only segment files.
+ * <p>
+ * Writes are appended to the active segment and recorded in the index as extents
+ * (segment, offset, length), so millions of small blocks use a few large files instead of a
+ * file (and directory) each. Directories are key prefixes. Deleted, overwritten and truncated
+ * data is garbage in its segment: sealed segments with less than the configured ratio of live
+ * data are compacted (live extents are copied to the active segment and the segment is
+ * removed) by a background thread.
+ */
+@Getter
+@Accessors(fluent = true)
+public class PackedFileSystem extends FileSystem implements Closeable {
+    private static final Pattern SEGMENT_REGEX = Pattern.compile("^(\\d+)\\.seg$");
+
+    private PackedFileSystemConfig config;
+    private File directory;
+    @Getter(AccessLevel.NONE)
+    private PackedIndex index;
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, FileChannel> channels = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final TreeSet<Integer> segments = new TreeSet<>();
+    @Getter(AccessLevel.NONE)
+    private final Set<Integer> retired = new HashSet<>();
+    @Getter(AccessLevel.NONE)
+    private final Set<Integer> dirty = new HashSet<>();
+    private int activeSegment = -1;
+    @Getter(AccessLevel.NONE)
+    private long activeSize = 0;
+    @Getter(AccessLevel.NONE)
+    private int openReaders = 0;
+    @Getter(AccessLevel.NONE)
+    private ScheduledExecutorService compactor;
+    @Getter(AccessLevel.NONE)
+    private final Object compactLock = new Object();
+
+    /**
+     * @param config
+     * @param pathPrefix
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public FileSystem init(@NonNull HierarchicalConfiguration<ImmutableNode> config, String pathPrefix) throws IOException {
+        try {
+            this.config = new PackedFileSystemConfig(config, pathPrefix);
+            this.config.read();
+            return init(this.config);
+        } catch (ConfigurationException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    public synchronized PackedFileSystem init(@NonNull PackedFileSystemConfig config) throws IOException {
+        this.config = config;
+        directory = new File(config.root());
+        if (!directory.exists()) {
+            if (!directory.mkdirs()) {
+                throw new IOException(String.format("Failed to create directory. [path=%s]", directory.getAbsolutePath()));
+            }
+        }
+        index = new PackedIndex(directory);
+        index.open();
+
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher m = SEGMENT_REGEX.matcher(file.getName());
+                if (m.matches()) {
+                    segments.add(Integer.parseInt(m.group(1)));
+                }
+            }
+        }
+        int last = (segments.isEmpty() ? 0 : segments.last());
+        // Segments not referenced by the index (compacted before a restart)
+        for (int segment : new ArrayList<>(segments)) {
+            if (segment != last && index.live(segment) <= 0) {
+                deleteSegment(segment);
+            }
+        }
+        if (last > 0 && segmentFile(last).length() < config.segmentSize()) {
+            activeSegment = last;
+            activeSize = segmentFile(last).length();
+        } else {
+            roll(last + 1);
+        }
+        if (config.compactionInterval() > 0) {
+            compactor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("packed-compactor-%d")
+                            .setDaemon(true)
+                            .build());
+            compactor.scheduleWithFixedDelay(() -> {
+                try {
+                    compact();
+                } catch (Throwable t) {
+                    DefaultLogger.LOG.error(String.format("Segment compaction failed. [root=%s][error=%s]",
+                            directory.getAbsolutePath(), t.getLocalizedMessage()));
+                }
+            }, config.compactionInterval(), config.compactionInterval(), TimeUnit.SECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * @param path
+     * @param domain
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public PathInfo get(@NonNull String path, String domain) throws IOException {
+        if (!Strings.isNullOrEmpty(domain)) {
+            path = String.format("%s/%s", domain, path);
+        }
+        return get(path);
+    }
+
+    /**
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    @Override
+    protected PathInfo get(@NonNull String path) throws IOException {
+        checkState();
+        return new PackedPathInfo(this, path);
+    }
+
+    /**
+     * Directories are key prefixes, nothing to create.
+     *
+     * @param path
+     * @param name
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public String mkdir(@NonNull PathInfo path, @NonNull String name) throws IOException {
+        return String.format("%s/%s", path.path(), name);
+    }
+
+    /**
+     * Directories are key prefixes, nothing to create.
+     *
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public String mkdirs(@NonNull PathInfo path) throws IOException {
+        return path.path();
+    }
+
+    /**
+     * @param path
+     * @param recursive
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public synchronized boolean delete(@NonNull PathInfo path, boolean recursive) throws IOException {
+        Preconditions.checkArgument(path instanceof PackedPathInfo);
+        checkState();
+        String key = ((PackedPathInfo) path).key();
+        if (index.delete(key)) {
+            index.flush();
+            return true;
+        }
+        if (recursive) {
+            List<String> keys = keys(key, true);
+            if (!keys.isEmpty()) {
+                for (String k : keys) {
+                    index.delete(k);
+                }
+                index.flush();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param path
+     * @param recursive
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public synchronized List<String> list(@NonNull PathInfo path, boolean recursive) throws IOException {
+        Preconditions.checkArgument(path instanceof PackedPathInfo);
+        checkState();
+        List<String> keys = keys(((PackedPathInfo) path).key(), recursive);
+        return (keys.isEmpty() ? null : keys);
+    }
+
+    /**
+     * @param path
+     * @param dirQuery
+     * @param fileQuery
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public synchronized List<String> find(@NonNull PathInfo path, String dirQuery, @NonNull String fileQuery) throws IOException {
+        Preconditions.checkArgument(path instanceof PackedPathInfo);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(fileQuery));
+        checkState();
+        String root = ((PackedPathInfo) path).key();
+        Pattern dirPattern = (Strings.isNullOrEmpty(dirQuery) ? null : Pattern.compile(dirQuery));
+        Pattern filePattern = Pattern.compile(fileQuery);
+        List<String> paths = new ArrayList<>();
+        for (String key : keys(root, true)) {
+            String dir = parent(key);
+            if (dirPattern != null && dir.length() > root.length()) {
+                // Sub-directories are only traversed if they match the directory query.
+                boolean matched = true;
+                for (String name : dir.substring(root.isEmpty() ? 0 : root.length() + 1).split("/")) {
+                    if (!dirPattern.matcher(name).matches()) {
+                        matched = false;
+                        break;
+                    }
+                }
+                if (!matched) continue;
+            }
+            if (filePattern.matcher(name(key)).matches()) {
+                paths.add(key);
+            }
+        }
+        return (paths.isEmpty() ? null : paths);
+    }
+
+    /**
+     * @param path
+     * @param dirQuery
+     * @param fileQuery
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public synchronized List<String> findFiles(@NonNull PathInfo path, String dirQuery, @NonNull String fileQuery) throws IOException {
+        Preconditions.checkArgument(path instanceof PackedPathInfo);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(fileQuery));
+        checkState();
+        Pattern dirPattern = (Strings.isNullOrEmpty(dirQuery) ? null : Pattern.compile(dirQuery));
+        Pattern filePattern = Pattern.compile(fileQuery);
+        List<String> paths = new ArrayList<>();
+        for (String key : keys(((PackedPathInfo) path).key(), true)) {
+            if (dirPattern != null && !dirPattern.matcher(parent(key)).matches()) continue;
+            if (filePattern.matcher(name(key)).matches()) {
+                paths.add(key);
+            }
+        }
+        return (paths.isEmpty() ? null : paths);
+    }
+
+    private List<String> keys(String prefix, boolean recursive) {
+        List<String> keys = new ArrayList<>();
+        String from = (prefix.isEmpty() ? "" : String.format("%s/", prefix));
+        for (String key : index.entries().tailMap(from, true).keySet()) {
+            if (!key.startsWith(from)) break;
+            if (!recursive && key.indexOf('/', from.length()) >= 0) continue;
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    private static String parent(String key) {
+        int index = key.lastIndexOf('/');
+        return (index > 0 ? key.substring(0, index) : "");
+    }
+
+    private static String name(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * @param path
+     * @param createDir
+     * @param overwrite
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public Writer writer(@NonNull PathInfo path, boolean createDir, boolean overwrite) throws IOException {
+        if (!(path instanceof PackedPathInfo)) {
+            throw new IOException(String.format("Invalid PathInfo instance. [passed=%s]",
+                    path.getClass().getCanonicalName()));
+        }
+        checkState();
+        return new PackedWriter(path).open(overwrite);
+    }
+
+    /**
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public Reader reader(@NonNull PathInfo path) throws IOException {
+        if (!(path instanceof PackedPathInfo)) {
+            throw new IOException(String.format("Invalid PathInfo instance. [passed=%s]",
+                    path.getClass().getCanonicalName()));
+        }
+        checkState();
+        return new PackedReader(path).open();
+    }
+
+    synchronized boolean exists(@NonNull String key) {
+        return (index.get(key) != null);
+    }
+
+    synchronized boolean isDirectory(@NonNull String key) {
+        String prefix = String.format("%s/", key);
+        String next = index.entries().ceilingKey(prefix);
+        return (next != null && next.startsWith(prefix));
+    }
+
+    synchronized long size(@NonNull String key) {
+        PackedIndex.Entry entry = index.get(key);
+        return (entry == null ? 0 : entry.length());
+    }
+
+    synchronized void create(@NonNull String key, boolean overwrite) throws IOException {
+        checkState();
+        if (overwrite || index.get(key) == null) {
+            index.put(key, new ArrayList<>());
+            index.flush();
+        }
+    }
+
+    /**
+     * Append the remaining bytes of the buffer to the file, rolling to a new segment when
+     * the active segment is full.
+     */
+    synchronized long append(@NonNull String key, @NonNull ByteBuffer buffer) throws IOException {
+        checkState();
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            if (activeSize >= config.segmentSize()) {
+                roll(activeSegment + 1);
+            }
+            int size = (int) Math.min(buffer.remaining(), config.segmentSize() - activeSize);
+            ByteBuffer slice = buffer.duplicate();
+            slice.limit(slice.position() + size);
+            FileChannel channel = channel(activeSegment);
+            long position = activeSize;
+            while (slice.hasRemaining()) {
+                position += channel.write(slice, position);
+            }
+            buffer.position(buffer.position() + size);
+            dirty.add(activeSegment);
+            index.append(key, new PackedIndex.Extent(activeSegment, activeSize, size));
+            activeSize += size;
+            written += size;
+        }
+        return written;
+    }
+
+    synchronized long truncate(@NonNull String key, long length) throws IOException {
+        checkState();
+        index.truncate(key, length);
+        return size(key);
+    }
+
+    synchronized void flush() throws IOException {
+        if (index != null) {
+            index.flush();
+        }
+    }
+
+    /**
+     * Force the segments written since the last sync, then the index journal, to the storage device.
+     */
+    synchronized void sync() throws IOException {
+        checkState();
+        for (int segment : dirty) {
+            FileChannel channel = channels.get(segment);
+            if (channel != null) {
+                channel.force(false);
+            }
+        }
+        dirty.clear();
+        index.sync();
+    }
+
+    /**
+     * Snapshot of the file extents for a reader: segments are not removed while readers are open.
+     */
+    synchronized List<PackedIndex.Extent> openReader(@NonNull String key) throws IOException {
+        checkState();
+        PackedIndex.Entry entry = index.get(key);
+        if (entry == null) {
+            throw new IOException(String.format("File not found. [path=%s]", key));
+        }
+        openReaders++;
+        return entry.snapshot();
+    }
+
+    synchronized void closeReader() throws IOException {
+        openReaders--;
+        if (openReaders == 0 && !retired.isEmpty()) {
+            for (int segment : new ArrayList<>(retired)) {
+                deleteSegment(segment);
+            }
+            retired.clear();
+        }
+    }
+
+    int read(int segment, long position, @NonNull ByteBuffer buffer) throws IOException {
+        FileChannel channel;
+        synchronized (this) {
+            channel = channel(segment);
+        }
+        return channel.read(buffer, position);
+    }
+
+    /**
+     * Compact the sealed segments with less than the threshold ratio of live data.
+     * <p>
+     * Runs incrementally so file system operations are not blocked for the whole compaction:
+     * the live extents of the candidate segments are found from the per-segment references
+     * (no index scan) and copied one file at a time. The copies are made durable and then
+     * swapped into the index, skipping files changed in the meantime. A segment is only removed
+     * when no live data references it.
+     *
+     * @return - Number of segments removed
+     * @throws IOException
+     */
+    public int compact() throws IOException {
+        synchronized (compactLock) {
+            Set<Integer> sources = new HashSet<>();
+            synchronized (this) {
+                checkState();
+                for (int segment : segments) {
+                    if (segment == activeSegment || retired.contains(segment)) continue;
+                    long size = segmentFile(segment).length();
+                    long live = index.live(segment);
+                    if (live <= 0 || live < size * config.compactionThreshold()) {
+                        sources.add(segment);
+                    }
+                }
+            }
+            if (sources.isEmpty()) return 0;
+            Set<Integer> targets = new HashSet<>();
+            Map<String, List<PackedIndex.Extent>> current = new HashMap<>();
+            Map<String, List<PackedIndex.Extent>> relocated = new HashMap<>();
+            for (int segment : sources) {
+                List<String> keys;
+                synchronized (this) {
+                    checkState();
+                    keys = index.paths(segment);
+                }
+                for (String key : keys) {
+                    if (relocated.containsKey(key)) continue;
+                    synchronized (this) {
+                        checkState();
+                        PackedIndex.Entry entry = index.get(key);
+                        if (entry == null) continue;
+                        List<PackedIndex.Extent> extents = new ArrayList<>();
+                        for (PackedIndex.Extent extent : entry.extents()) {
+                            if (sources.contains(extent.segment())) {
+                                relocate(extent, extents, targets);
+                            } else {
+                                extents.add(extent);
+                            }
+                        }
+                        current.put(key, entry.snapshot());
+                        relocated.put(key, extents);
+                    }
+                }
+            }
+            synchronized (this) {
+                checkState();
+                // Copied data must be durable before the index references it.
+                for (int segment : targets) {
+                    channel(segment).force(false);
+                }
+                for (Map.Entry<String, List<PackedIndex.Extent>> entry : relocated.entrySet()) {
+                    PackedIndex.Entry e = index.get(entry.getKey());
+                    // Changed since copied: the copy is garbage, the file is compacted in the next run.
+                    if (e == null || !same(e.extents(), current.get(entry.getKey()))) continue;
+                    index.put(entry.getKey(), entry.getValue());
+                }
+                // Index must be durable before the source segments are removed.
+                index.sync();
+                int count = 0;
+                for (int segment : sources) {
+                    if (index.live(segment) > 0) continue;
+                    if (openReaders > 0) {
+                        retired.add(segment);
+                    } else {
+                        deleteSegment(segment);
+                    }
+                    count++;
+                }
+                if (index.journalSize() > config.journalSize()) {
+                    index.checkpoint();
+                }
+                return count;
+            }
+        }
+    }
+
+    private static boolean same(List<PackedIndex.Extent> extents, List<PackedIndex.Extent> other) {
+        if (extents.size() != other.size()) return false;
+        for (int ii = 0; ii < extents.size(); ii++) {
+            PackedIndex.Extent e = extents.get(ii);
+            PackedIndex.Extent o = other.get(ii);
+            if (e.segment() != o.segment() || e.offset() != o.offset() || e.length() != o.length()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void relocate(PackedIndex.Extent extent,
+                          List<PackedIndex.Extent> extents,
+                          Set<Integer> targets) throws IOException {
+        FileChannel source = channel(extent.segment());
+        long position = extent.offset();
+        long remaining = extent.length();
+        while (remaining > 0) {
+            if (activeSize >= config.segmentSize()) {
+                roll(activeSegment + 1);
+            }
+            long size = Math.min(remaining, config.segmentSize() - activeSize);
+            FileChannel target = channel(activeSegment);
+            target.position(activeSize);
+            long copied = 0;
+            while (copied < size) {
+                long count = source.transferTo(position + copied, size - copied, target);
+                if (count <= 0) {
+                    throw new IOException(String.format("Segment data truncated. [segment=%d][offset=%d]",
+                            extent.segment(), position + copied));
+                }
+                copied += count;
+            }
+            extents.add(new PackedIndex.Extent(activeSegment, activeSize, size));
+            targets.add(activeSegment);
+            activeSize += size;
+            position += size;
+            remaining -= size;
+        }
+    }
+
+    private void roll(int segment) throws IOException {
+        activeSegment = segment;
+        activeSize = 0;
+        segments.add(segment);
+        channel(segment);
+    }
+
+    private FileChannel channel(int segment) throws IOException {
+        FileChannel channel = channels.get(segment);
+        if (channel == null) {
+            if (!segments.contains(segment)) {
+                throw new IOException(String.format("Segment not found. [segment=%d]", segment));
+            }
+            channel = FileChannel.open(segmentFile(segment).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channels.put(segment, channel);
+        }
+        return channel;
+    }
+
+    private void deleteSegment(int segment) throws IOException {
+        FileChannel channel = channels.remove(segment);
+        if (channel != null) {
+            channel.close();
+        }
+        dirty.remove(segment);
+        segments.remove(segment);
+        File file = segmentFile(segment);
+        if (file.exists() && !file.delete()) {
+            throw new IOException(String.format("Failed to delete segment. [path=%s]", file.getAbsolutePath()));
+        }
+    }
+
+    private File segmentFile(int segment) {
+        return new File(directory, String.format("%08d.seg", segment));
+    }
+
+    private void checkState() throws IOException {
+        if (index == null) {
+            throw new IOException("Packed File System not initialized.");
+        }
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. If the stream is already closed then invoking this
+     * method has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            compactor.shutdownNow();
+            compactor = null;
+        }
+        synchronized (this) {
+            if (index != null) {
+                index.close();
+                index = null;
+            }
+            for (FileChannel channel : channels.values()) {
+                channel.close();
+            }
+            channels.clear();
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class PackedFileSystemConfig extends ConfigReader {
+        private static final class Constants {
+            private static final String CONFIG_ROOT = "root";
+            private static final String CONFIG_SEGMENT_SIZE = "segment.size";
+            private static final String CONFIG_COMPACTION_THRESHOLD = "compaction.threshold";
+            private static final String CONFIG_COMPACTION_INTERVAL = "compaction.interval";
+            private static final String CONFIG_JOURNAL_SIZE = "journal.size";
+        }
+
+        private static final String __CONFIG_PATH = "packed";
+
+        private String root;
+        private long segmentSize = 256 * 1024 * 1024;
+        private double compactionThreshold = 0.5;
+        private long compactionInterval = 300;
+        private long journalSize = 64 * 1024 * 1024;
+
+        public PackedFileSystemConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config, String path) {
+            super(config, (Strings.isNullOrEmpty(path) ? __CONFIG_PATH : path));
+        }
+
+        public void read() throws ConfigurationException {
+            if (get() == null) {
+                throw new ConfigurationException("Packed File System Configuration not set or is NULL");
+            }
+            try {
+                root = get().getString(Constants.CONFIG_ROOT);
+                if (Strings.isNullOrEmpty(root)) {
+                    throw new ConfigurationException(String.format("Packed File System Configuration Error: missing [%s]", Constants.CONFIG_ROOT));
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_SEGMENT_SIZE)) {
+                    segmentSize = get().getLong(Constants.CONFIG_SEGMENT_SIZE);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_COMPACTION_THRESHOLD)) {
+                    compactionThreshold = get().getDouble(Constants.CONFIG_COMPACTION_THRESHOLD);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_COMPACTION_INTERVAL)) {
+                    compactionInterval = get().getLong(Constants.CONFIG_COMPACTION_INTERVAL);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_JOURNAL_SIZE)) {
+                    journalSize = get().getLong(Constants.CONFIG_JOURNAL_SIZE);
+                }
+                if (segmentSize <= 0 || compactionThreshold < 0 || compactionThreshold > 1) {
+                    throw new ConfigurationException(String.format("Packed File System Configuration Error: invalid settings. [segment size=%d][compaction threshold=%f]",
+                            segmentSize, compactionThreshold));
+                }
+            } catch (ConfigurationException ce) {
+                throw ce;
+            } catch (Throwable t) {
+                throw new ConfigurationException("Error processing Packed File System configuration.", t);
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package ai.sapper.hcdc.core.io.impl.packed;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of the packed files: path -> list of extents (segment, offset, length), the live
+ * bytes per segment and the paths with extents in each segment (so compaction does not
+ * need to scan the whole index).
+ * <p>
+ * Changes are appended to a journal (index.log) which is replayed on open. A checkpoint
+ * re-writes the journal with one PUT record per file. A torn record at the journal tail
+ * (crash during write) ends the replay.
+ */
+class PackedIndex {
+    static final String JOURNAL_FILE = "index.log";
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_APPEND = 2;
+    private static final byte OP_TRUNCATE = 3;
+    private static final byte OP_DELETE = 4;
+
+    @Getter
+    @Accessors(fluent = true)
+    static class Extent {
+        private final int segment;
+        private final long offset;
+        private long length;
+
+        Extent(int segment, long offset, long length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    static class Entry {
+        private final List<Extent> extents = new ArrayList<>();
+        private long length = 0;
+
+        /**
+         * @return - Copy of the extents (readers are not affected by later changes).
+         */
+        List<Extent> snapshot() {
+            List<Extent> copy = new ArrayList<>(extents.size());
+            for (Extent extent : extents) {
+                copy.add(new Extent(extent.segment, extent.offset, extent.length));
+            }
+            return copy;
+        }
+    }
+
+    private final File directory;
+    private final NavigableMap<String, Entry> entries = new TreeMap<>();
+    private final Map<Integer, Long> live = new HashMap<>();
+    private final Map<Integer, Set<String>> references = new HashMap<>();
+    private FileOutputStream journalFile;
+    private DataOutputStream journal;
+    private long checkpointSize = 0;
+
+    PackedIndex(@NonNull File directory) {
+        this.directory = directory;
+    }
+
+    NavigableMap<String, Entry> entries() {
+        return Collections.unmodifiableNavigableMap(entries);
+    }
+
+    Entry get(@NonNull String path) {
+        return entries.get(path);
+    }
+
+    long live(int segment) {
+        return live.getOrDefault(segment, 0L);
+    }
+
+    /**
+     * @return - Copy of the paths with extents in the segment.
+     */
+    List<String> paths(int segment) {
+        Set<String> paths = references.get(segment);
+        return (paths == null ? new ArrayList<>() : new ArrayList<>(paths));
+    }
+
+    /**
+     * @return - Journal file size (checkpoint + records appended since).
+     */
+    long journalSize() {
+        return checkpointSize + (journal == null ? 0 : journal.size());
+    }
+
+    void open() throws IOException {
+        File file = new File(directory, JOURNAL_FILE);
+        if (file.exists()) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                while (true) {
+                    if (!replay(input)) break;
+                }
+            }
+        }
+        checkpoint();
+    }
+
+    private boolean replay(DataInputStream input) throws IOException {
+        try {
+            int op = input.read();
+            if (op < 0) return false;
+            String path = input.readUTF();
+            switch (op) {
+                case OP_PUT: {
+                    int count = input.readInt();
+                    List<Extent> extents = new ArrayList<>(count);
+                    for (int ii = 0; ii < count; ii++) {
+                        extents.add(new Extent(input.readInt(), input.readLong(), input.readLong()));
+                    }
+                    applyPut(path, extents);
+                    break;
+                }
+                case OP_APPEND:
+                    applyAppend(path, new Extent(input.readInt(), input.readLong(), input.readLong()));
+                    break;
+                case OP_TRUNCATE:
+                    applyTruncate(path, input.readLong());
+                    break;
+                case OP_DELETE:
+                    applyDelete(path);
+                    break;
+                default:
+                    // Corrupt tail
+                    return false;
+            }
+            return true;
+        } catch (EOFException | UTFDataFormatException ex) {
+            // Torn record at the journal tail
+            return false;
+        }
+    }
+
+    /**
+     * Re-write the journal with the current state.
+     */
+    void checkpoint() throws IOException {
+        close();
+        File file = new File(directory, JOURNAL_FILE);
+        File tmp = new File(directory, String.format("%s.tmp", JOURNAL_FILE));
+        try (FileOutputStream fos = new FileOutputStream(tmp);
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fos))) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                writePut(output, entry.getKey(), entry.getValue().extents);
+            }
+            output.flush();
+            fos.getFD().sync();
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSize = file.length();
+        journalFile = new FileOutputStream(file, true);
+        journal = new DataOutputStream(new BufferedOutputStream(journalFile));
+    }
+
+    void put(@NonNull String path, @NonNull List<Extent> extents) throws IOException {
+        applyPut(path, extents);
+        writePut(journal, path, extents);
+    }
+
+    void append(@NonNull String path, @NonNull Extent extent) throws IOException {
+        applyAppend(path, extent);
+        journal.writeByte(OP_APPEND);
+        journal.writeUTF(path);
+        writeExtent(journal, extent);
+    }
+
+    void truncate(@NonNull String path, long length) throws IOException {
+        applyTruncate(path, length);
+        journal.writeByte(OP_TRUNCATE);
+        journal.writeUTF(path);
+        journal.writeLong(length);
+    }
+
+    boolean delete(@NonNull String path) throws IOException {
+        if (!entries.containsKey(path)) return false;
+        applyDelete(path);
+        journal.writeByte(OP_DELETE);
+        journal.writeUTF(path);
+        return true;
+    }
+
+    /**
+     * Flush the journal buffer to the file.
+     */
+    void flush() throws IOException {
+        if (journal != null) {
+            journal.flush();
+        }
+    }
+
+    /**
+     * Flush the journal and force it to the storage device.
+     */
+    void sync() throws IOException {
+        if (journal != null) {
+            journal.flush();
+            journalFile.getFD().sync();
+        }
+    }
+
+    void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+            journalFile = null;
+        }
+    }
+
+    private void writePut(DataOutputStream output, String path, List<Extent> extents) throws IOException {
+        output.writeByte(OP_PUT);
+        output.writeUTF(path);
+        output.writeInt(extents.size());
+        for (Extent extent : extents) {
+            writeExtent(output, extent);
+        }
+    }
+
+    private static void writeExtent(DataOutputStream output, Extent extent) throws IOException {
+        output.writeInt(extent.segment);
+        output.writeLong(extent.offset);
+        output.writeLong(extent.length);
+    }
+
+    private void applyPut(String path, List<Extent> extents) {
+        applyDelete(path);
+        Entry entry = new Entry();
+        for (Extent extent : extents) {
+            add(path, entry, extent);
+        }
+        entries.put(path, entry);
+    }
+
+    private void applyAppend(String path, Extent extent) {
+        Entry entry = entries.computeIfAbsent(path, k -> new Entry());
+        add(path, entry, extent);
+    }
+
+    private void add(String path, Entry entry, Extent extent) {
+        if (extent.length <= 0) return;
+        Extent last = (entry.extents.isEmpty() ? null : entry.extents.get(entry.extents.size() - 1));
+        if (last != null && last.segment == extent.segment && last.offset + last.length == extent.offset) {
+            last.length += extent.length;
+        } else {
+            entry.extents.add(new Extent(extent.segment, extent.offset, extent.length));
+        }
+        entry.length += extent.length;
+        live.merge(extent.segment, extent.length, Long::sum);
+        references.computeIfAbsent(extent.segment, k -> new HashSet<>()).add(path);
+    }
+
+    private void applyTruncate(String path, long length) {
+        Entry entry = entries.get(path);
+        if (entry == null || length >= entry.length) return;
+        long remove = entry.length - length;
+        while (remove > 0) {
+            Extent last = entry.extents.get(entry.extents.size() - 1);
+            long size = Math.min(remove, last.length);
+            last.length -= size;
+            live.merge(last.segment, -size, Long::sum);
+            if (last.length == 0) {
+                entry.extents.remove(entry.extents.size() - 1);
+                if (!contains(entry, last.segment)) {
+                    dereference(last.segment, path);
+                }
+            }
+            remove -= size;
+        }
+        entry.length = length;
+    }
+
+    private void applyDelete(String path) {
+        Entry entry = entries.remove(path);
+        if (entry != null) {
+            for (Extent extent : entry.extents) {
+                live.merge(extent.segment, -extent.length, Long::sum);
+                dereference(extent.segment, path);
+            }
+        }
+    }
+
+    private static boolean contains(Entry entry, int segment) {
+        for (Extent extent : entry.extents) {
+            if (extent.segment == segment) return true;
+        }
+        return false;
+    }
+
+    private void dereference(int segment, String path) {
+        Set<String> paths = references.get(segment);
+        if (paths != null) {
+            paths.remove(path);
+            if (paths.isEmpty()) {
+                references.remove(segment);
+            }
+        }
+    }
+}
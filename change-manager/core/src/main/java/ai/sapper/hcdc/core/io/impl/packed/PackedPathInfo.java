@@ -0,0 +1,83 @@
+package ai.sapper.hcdc.core.io.impl.packed;
+
+import ai.sapper.hcdc.core.io.PathInfo;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.io.IOException;
+
+/**
+ * Path of a file packed in the segment store. The path is the index key (a leading '/' is
+ * dropped from the key), "directories" are key prefixes.
+ */
+@Getter
+@Accessors(fluent = true)
+public class PackedPathInfo extends PathInfo {
+    @Getter(AccessLevel.NONE)
+    private final PackedFileSystem fs;
+    private final String key;
+
+    protected PackedPathInfo(@NonNull PackedFileSystem fs, @NonNull String path) {
+        super(path);
+        this.fs = fs;
+        this.key = key(path);
+    }
+
+    public static String key(@NonNull String path) {
+        String key = path.replaceAll("/+", "/");
+        if (key.startsWith("/")) key = key.substring(1);
+        if (key.endsWith("/")) key = key.substring(0, key.length() - 1);
+        return key;
+    }
+
+    PackedFileSystem fs() {
+        return fs;
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public PathInfo parentPathInfo() {
+        return new PackedPathInfo(fs, parent());
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public boolean isDirectory() throws IOException {
+        return fs.isDirectory(key);
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public boolean isFile() throws IOException {
+        return exists();
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public boolean exists() throws IOException {
+        return fs.exists(key);
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public long size() throws IOException {
+        dataSize(fs.size(key));
+        return dataSize();
+    }
+}
@@ -0,0 +1,143 @@
+package ai.sapper.hcdc.core.io.impl.packed;
+
+import ai.sapper.hcdc.core.io.PathInfo;
+import ai.sapper.hcdc.core.io.Reader;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Reader over the extents of a packed file. The extents are captured when the reader is
+ * opened, later writes to the file are not visible to the reader.
+ */
+public class PackedReader extends Reader {
+    private List<PackedIndex.Extent> extents;
+    private long size = 0;
+    private long position = 0;
+    private int extentIndex = 0;
+    private long extentStart = 0;
+
+    protected PackedReader(@NonNull PathInfo path) {
+        super(path);
+        Preconditions.checkArgument(path instanceof PackedPathInfo);
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public Reader open() throws IOException {
+        PackedPathInfo pi = (PackedPathInfo) path();
+        if (extents != null) {
+            close();
+        }
+        extents = pi.fs().openReader(pi.key());
+        size = 0;
+        for (PackedIndex.Extent extent : extents) {
+            size += extent.length();
+        }
+        position = 0;
+        extentIndex = 0;
+        extentStart = 0;
+        return this;
+    }
+
+    /**
+     * @param buffer
+     * @param offset
+     * @param length
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return read(ByteBuffer.wrap(buffer, offset, length));
+    }
+
+    /**
+     * @param buffer
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public int read(@NonNull ByteBuffer buffer) throws IOException {
+        checkOpen();
+        if (position >= size) return -1;
+        PackedPathInfo pi = (PackedPathInfo) path();
+        int read = 0;
+        while (buffer.hasRemaining() && position < size) {
+            PackedIndex.Extent extent = extents.get(extentIndex);
+            long offset = position - extentStart;
+            if (offset >= extent.length()) {
+                extentStart += extent.length();
+                extentIndex++;
+                continue;
+            }
+            int limit = buffer.limit();
+            if (buffer.remaining() > extent.length() - offset) {
+                buffer.limit(buffer.position() + (int) (extent.length() - offset));
+            }
+            try {
+                int r = pi.fs().read(extent.segment(), extent.offset() + offset, buffer);
+                if (r <= 0) {
+                    throw new IOException(String.format("Segment data truncated. [path=%s][segment=%d][offset=%d]",
+                            pi.key(), extent.segment(), extent.offset() + offset));
+                }
+                read += r;
+                position += r;
+            } finally {
+                buffer.limit(limit);
+            }
+        }
+        return read;
+    }
+
+    /**
+     * @param offset
+     * @throws IOException
+     */
+    @Override
+    public void seek(int offset) throws IOException {
+        checkOpen();
+        position = offset;
+        extentIndex = 0;
+        extentStart = 0;
+        while (extentIndex < extents.size() - 1
+                && extentStart + extents.get(extentIndex).length() <= position) {
+            extentStart += extents.get(extentIndex).length();
+            extentIndex++;
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (extents == null) {
+            PackedPathInfo pi = (PackedPathInfo) path();
+            throw new IOException(String.format("File Stream not open. [path=%s]", pi.key()));
+        }
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. If the stream is already closed then invoking this
+     * method has no effect.
+     *
+     * <p> As noted in {@link AutoCloseable#close()}, cases where the
+     * close may fail require careful attention. It is strongly advised
+     * to relinquish the underlying resources and to internally
+     * <em>mark</em> the {@code Closeable} as closed, prior to throwing
+     * the {@code IOException}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (extents != null) {
+            extents = null;
+            ((PackedPathInfo) path()).fs().closeReader();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ai.sapper.hcdc.core.io.impl.packed;
+
+import ai.sapper.hcdc.core.io.PathInfo;
+import ai.sapper.hcdc.core.io.Writer;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writer appending to a packed file: the data is appended to the active segment of the
+ * file system and the index records the new extents.
+ */
+public class PackedWriter extends Writer {
+    private boolean open = false;
+
+    protected PackedWriter(@NonNull PathInfo path) {
+        super(path);
+        Preconditions.checkArgument(path instanceof PackedPathInfo);
+    }
+
+    /**
+     * @param overwrite
+     * @throws IOException
+     */
+    @Override
+    public Writer open(boolean overwrite) throws IOException {
+        PackedPathInfo pi = (PackedPathInfo) path();
+        pi.fs().create(pi.key(), overwrite);
+        pi.dataSize(-1);
+        open = true;
+        return this;
+    }
+
+    /**
+     * @param data
+     * @param offset
+     * @param length
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public long write(byte[] data, long offset, long length) throws IOException {
+        return write(ByteBuffer.wrap(data, (int) offset, (int) length));
+    }
+
+    /**
+     * @param buffer
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public long write(@NonNull ByteBuffer buffer) throws IOException {
+        checkOpen();
+        PackedPathInfo pi = (PackedPathInfo) path();
+        long written = pi.fs().append(pi.key(), buffer);
+        pi.dataSize(-1);
+        return written;
+    }
+
+    /**
+     * @throws IOException
+     */
+    @Override
+    public void flush() throws IOException {
+        checkOpen();
+        ((PackedPathInfo) path()).fs().flush();
+    }
+
+    /**
+     * Force the written segments and the index journal to the storage device.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void sync() throws IOException {
+        checkOpen();
+        ((PackedPathInfo) path()).fs().sync();
+    }
+
+    /**
+     * @param offset
+     * @param length
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public long truncate(long offset, long length) throws IOException {
+        checkOpen();
+        PackedPathInfo pi = (PackedPathInfo) path();
+        pi.dataSize(-1);
+        return pi.fs().truncate(pi.key(), offset + length);
+    }
+
+    private void checkOpen() throws IOException {
+        if (!open) {
+            PackedPathInfo pi = (PackedPathInfo) path();
+            throw new IOException(String.format("File Stream not open. [path=%s]", pi.key()));
+        }
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. If the stream is already closed then invoking this
+     * method has no effect.
+     *
+     * <p> As noted in {@link AutoCloseable#close()}, cases where the
+     * close may fail require careful attention. It is strongly advised
+     * to relinquish the underlying resources and to internally
+     * <em>mark</em> the {@code Closeable} as closed, prior to throwing
+     * the {@code IOException}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (open) {
+            ((PackedPathInfo) path()).fs().flush();
+            open = false;
+        }
+    }
+}
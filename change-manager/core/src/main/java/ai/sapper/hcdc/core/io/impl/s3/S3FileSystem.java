@@ -1,30 +1,89 @@
 package ai.sapper.hcdc.core.io.impl.s3;
 
+import ai.sapper.hcdc.common.ConfigReader;
 import ai.sapper.hcdc.core.io.FileSystem;
 import ai.sapper.hcdc.core.io.PathInfo;
 import ai.sapper.hcdc.core.io.Reader;
 import ai.sapper.hcdc.core.io.Writer;
-import ai.sapper.hcdc.core.io.impl.local.LocalFileSystem;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.experimental.Accessors;
 import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.tree.ImmutableNode;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * File system backed by an S3 (compatible) object store.
+ * <p>
+ * Paths are object keys in the bucket mapped to the domain (or the default bucket). Directories
+ * are key prefixes: mkdir(s) are no-ops and listings use paginated ListObjectsV2 calls. Writers
+ * upload parts in parallel on a shared upload pool (see {@link S3Writer}).
+ */
+@Getter
+@Accessors(fluent = true)
+public class S3FileSystem extends FileSystem implements Closeable {
+    private static final int DELETE_BATCH_SIZE = 1000;
 
-public class S3FileSystem extends LocalFileSystem {
     private S3Client client;
-    private String defaultBucket;
-    private Map<String, String> bucketMap = new HashMap<>();
+    private S3FileSystemConfig config;
+    private final Map<String, String> bucketMap = new HashMap<>();
+    private ExecutorService uploader;
 
     private String findBucket(String domain) {
-        if (bucketMap.containsKey(domain)) {
+        if (!Strings.isNullOrEmpty(domain) && bucketMap.containsKey(domain)) {
             return bucketMap.get(domain);
         }
-        return defaultBucket;
+        return config.defaultBucket();
+    }
+
+    /**
+     * Use the passed client instead of creating one from the configuration.
+     *
+     * @param client - S3 Client
+     * @return - Self
+     */
+    public S3FileSystem withClient(@NonNull S3Client client) {
+        this.client = client;
+        return this;
     }
 
     /**
@@ -35,8 +94,32 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public FileSystem init(@NonNull HierarchicalConfiguration<ImmutableNode> config, String pathPrefix) throws IOException {
-        super.init(config, pathPrefix);
-        return this;
+        try {
+            this.config = new S3FileSystemConfig(config, pathPrefix);
+            this.config.read();
+            bucketMap.putAll(this.config.buckets());
+            if (client == null) {
+                S3ClientBuilder builder = S3Client.builder()
+                        .serviceConfiguration(S3Configuration.builder()
+                                .pathStyleAccessEnabled(this.config.pathStyleAccess())
+                                .build());
+                if (!Strings.isNullOrEmpty(this.config.region())) {
+                    builder.region(Region.of(this.config.region()));
+                }
+                if (!Strings.isNullOrEmpty(this.config.endpoint())) {
+                    builder.endpointOverride(URI.create(this.config.endpoint()));
+                }
+                client = builder.build();
+            }
+            uploader = Executors.newFixedThreadPool(this.config.uploadThreads(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("s3-upload-%d")
+                            .setDaemon(true)
+                            .build());
+            return this;
+        } catch (ConfigurationException ex) {
+            throw new IOException(ex);
+        }
     }
 
     /**
@@ -47,7 +130,11 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public PathInfo get(@NonNull String path, String domain) throws IOException {
-        return super.get(path, domain);
+        checkState();
+        if (!Strings.isNullOrEmpty(config.prefix())) {
+            path = String.format("%s/%s", config.prefix(), path);
+        }
+        return new S3PathInfo(client, findBucket(domain), path);
     }
 
     /**
@@ -57,10 +144,13 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     protected PathInfo get(@NonNull String path) throws IOException {
-        return super.get(path);
+        checkState();
+        return new S3PathInfo(client, config.defaultBucket(), path);
     }
 
     /**
+     * Directories are key prefixes, nothing to create.
+     *
      * @param path
      * @param name
      * @return
@@ -68,17 +158,19 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public String mkdir(@NonNull PathInfo path, @NonNull String name) throws IOException {
-        return super.mkdir(path, name);
+        return String.format("%s/%s", path.path(), name);
     }
 
     /**
+     * Directories are key prefixes, nothing to create.
+     *
      * @param path
      * @return
      * @throws IOException
      */
     @Override
     public String mkdirs(@NonNull PathInfo path) throws IOException {
-        return super.mkdirs(path);
+        return path.path();
     }
 
     /**
@@ -89,7 +181,39 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public boolean delete(@NonNull PathInfo path, boolean recursive) throws IOException {
-        return super.delete(path, recursive);
+        Preconditions.checkArgument(path instanceof S3PathInfo);
+        S3PathInfo pi = (S3PathInfo) path;
+        try {
+            if (pi.exists()) {
+                client.deleteObject(DeleteObjectRequest.builder().bucket(pi.bucket()).key(pi.key()).build());
+                pi.dataSize(-1);
+                return true;
+            }
+            if (recursive && pi.isDirectory()) {
+                List<ObjectIdentifier> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+                for (S3Object object : listObjects(pi, true)) {
+                    batch.add(ObjectIdentifier.builder().key(object.key()).build());
+                    if (batch.size() == DELETE_BATCH_SIZE) {
+                        deleteObjects(pi.bucket(), batch);
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    deleteObjects(pi.bucket(), batch);
+                }
+                return true;
+            }
+        } catch (SdkException ex) {
+            throw new IOException(ex);
+        }
+        return false;
+    }
+
+    private void deleteObjects(String bucket, List<ObjectIdentifier> objects) {
+        client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build());
     }
 
     /**
@@ -100,7 +224,13 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public List<String> list(@NonNull PathInfo path, boolean recursive) throws IOException {
-        return super.list(path, recursive);
+        Preconditions.checkArgument(path instanceof S3PathInfo);
+        S3PathInfo pi = (S3PathInfo) path;
+        List<String> paths = new ArrayList<>();
+        for (S3Object object : listObjects(pi, recursive)) {
+            paths.add(relative(object.key()));
+        }
+        return (paths.isEmpty() ? null : paths);
     }
 
     /**
@@ -112,7 +242,32 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public List<String> find(@NonNull PathInfo path, String dirQuery, @NonNull String fileQuery) throws IOException {
-        return super.find(path, dirQuery, fileQuery);
+        Preconditions.checkArgument(path instanceof S3PathInfo);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(fileQuery));
+        S3PathInfo pi = (S3PathInfo) path;
+        Pattern dirPattern = (Strings.isNullOrEmpty(dirQuery) ? null : Pattern.compile(dirQuery));
+        Pattern filePattern = Pattern.compile(fileQuery);
+        List<String> paths = new ArrayList<>();
+        for (S3Object object : listObjects(pi, true)) {
+            String key = object.key();
+            String dir = parent(key);
+            if (dirPattern != null && dir.compareTo(pi.key()) != 0) {
+                // Sub-directories are only traversed if they match the directory query.
+                String relative = dir.substring(pi.key().length() + 1);
+                boolean matched = true;
+                for (String name : relative.split("/")) {
+                    if (!dirPattern.matcher(name).matches()) {
+                        matched = false;
+                        break;
+                    }
+                }
+                if (!matched) continue;
+            }
+            if (filePattern.matcher(name(key)).matches()) {
+                paths.add(relative(key));
+            }
+        }
+        return (paths.isEmpty() ? null : paths);
     }
 
     /**
@@ -124,7 +279,68 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public List<String> findFiles(@NonNull PathInfo path, String dirQuery, @NonNull String fileQuery) throws IOException {
-        return super.findFiles(path, dirQuery, fileQuery);
+        Preconditions.checkArgument(path instanceof S3PathInfo);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(fileQuery));
+        S3PathInfo pi = (S3PathInfo) path;
+        Pattern dirPattern = (Strings.isNullOrEmpty(dirQuery) ? null : Pattern.compile(dirQuery));
+        Pattern filePattern = Pattern.compile(fileQuery);
+        List<String> paths = new ArrayList<>();
+        for (S3Object object : listObjects(pi, true)) {
+            String key = relative(object.key());
+            if (dirPattern != null && !dirPattern.matcher(parent(key)).matches()) continue;
+            if (filePattern.matcher(name(key)).matches()) {
+                paths.add(key);
+            }
+        }
+        return (paths.isEmpty() ? null : paths);
+    }
+
+    /**
+     * Object keys include the configured prefix, returned paths are relative to it (as passed to get()).
+     */
+    private String relative(String key) {
+        String prefix = config.prefix();
+        if (!Strings.isNullOrEmpty(prefix) && key.startsWith(prefix + "/")) {
+            return key.substring(prefix.length() + 1);
+        }
+        return key;
+    }
+
+    private static String parent(String key) {
+        int index = key.lastIndexOf('/');
+        return (index > 0 ? key.substring(0, index) : "");
+    }
+
+    private static String name(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * List the objects under the path prefix, following the continuation tokens.
+     */
+    private List<S3Object> listObjects(S3PathInfo path, boolean recursive) throws IOException {
+        List<S3Object> objects = new ArrayList<>();
+        String prefix = (Strings.isNullOrEmpty(path.key()) ? null : String.format("%s/", path.key()));
+        String token = null;
+        try {
+            do {
+                ListObjectsV2Request.Builder builder = ListObjectsV2Request.builder()
+                        .bucket(path.bucket())
+                        .prefix(prefix)
+                        .continuationToken(token);
+                if (!recursive) {
+                    builder.delimiter("/");
+                }
+                ListObjectsV2Response response = client.listObjectsV2(builder.build());
+                if (response.hasContents()) {
+                    objects.addAll(response.contents());
+                }
+                token = (Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null);
+            } while (token != null);
+        } catch (SdkException ex) {
+            throw new IOException(ex);
+        }
+        return objects;
     }
 
     /**
@@ -136,7 +352,12 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public Writer writer(@NonNull PathInfo path, boolean createDir, boolean overwrite) throws IOException {
-        return super.writer(path, createDir, overwrite);
+        if (!(path instanceof S3PathInfo)) {
+            throw new IOException(String.format("Invalid PathInfo instance. [passed=%s]",
+                    path.getClass().getCanonicalName()));
+        }
+        checkState();
+        return new S3Writer(path, this).open(overwrite);
     }
 
     /**
@@ -146,6 +367,218 @@ public class S3FileSystem extends LocalFileSystem {
      */
     @Override
     public Reader reader(@NonNull PathInfo path) throws IOException {
-        return super.reader(path);
+        if (!(path instanceof S3PathInfo)) {
+            throw new IOException(String.format("Invalid PathInfo instance. [passed=%s]",
+                    path.getClass().getCanonicalName()));
+        }
+        checkState();
+        return new S3Reader(path, config.readAhead()).open();
+    }
+
+    Future<CompletedPart> upload(@NonNull Callable<CompletedPart> task) {
+        return uploader.submit(task);
+    }
+
+    Future<CompletedPart> completed(@NonNull CompletedPart part) {
+        return Futures.immediateFuture(part);
+    }
+
+    /**
+     * Re-write the object with the first size bytes of its data (objects cannot be truncated).
+     * Large objects are copied server side in partSize ranges.
+     */
+    void rewrite(@NonNull S3PathInfo path, long size, int partSize) throws IOException {
+        Preconditions.checkArgument(size >= 0);
+        try {
+            if (size < S3Writer.MIN_PART_SIZE) {
+                byte[] data = new byte[0];
+                if (size > 0) {
+                    data = client.getObjectAsBytes(GetObjectRequest.builder()
+                            .bucket(path.bucket())
+                            .key(path.key())
+                            .range(String.format("bytes=0-%d", size - 1))
+                            .build()).asByteArray();
+                }
+                client.putObject(PutObjectRequest.builder()
+                                .bucket(path.bucket())
+                                .key(path.key())
+                                .contentLength((long) data.length)
+                                .build(),
+                        RequestBody.fromBytes(data));
+                return;
+            }
+            String uploadId = client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(path.bucket())
+                    .key(path.key())
+                    .build()).uploadId();
+            try {
+                List<CompletedPart> parts = new ArrayList<>();
+                long offset = 0;
+                while (offset < size) {
+                    long end = Math.min(offset + partSize, size);
+                    // Avoid a trailing part smaller than the minimum part size.
+                    if (size - end < S3Writer.MIN_PART_SIZE) end = size;
+                    int partNumber = parts.size() + 1;
+                    String etag = client.uploadPartCopy(UploadPartCopyRequest.builder()
+                            .sourceBucket(path.bucket())
+                            .sourceKey(path.key())
+                            .destinationBucket(path.bucket())
+                            .destinationKey(path.key())
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .copySourceRange(String.format("bytes=%d-%d", offset, end - 1))
+                            .build()).copyPartResult().eTag();
+                    parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+                    offset = end;
+                }
+                client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(path.bucket())
+                        .key(path.key())
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                        .build());
+            } catch (SdkException ex) {
+                try {
+                    client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                            .bucket(path.bucket())
+                            .key(path.key())
+                            .uploadId(uploadId)
+                            .build());
+                } catch (SdkException ae) {
+                    // Incomplete uploads are cleaned up by the bucket lifecycle.
+                    ex.addSuppressed(ae);
+                }
+                throw ex;
+            }
+        } catch (SdkException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private void checkState() throws IOException {
+        if (client == null || config == null) {
+            throw new IOException("S3 File System not initialized.");
+        }
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. If the stream is already closed then invoking this
+     * method has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (uploader != null) {
+            // Wait for the pending part uploads before the client is closed.
+            uploader.shutdown();
+            try {
+                if (!uploader.awaitTermination(1, TimeUnit.MINUTES)) {
+                    uploader.shutdownNow();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                uploader.shutdownNow();
+            }
+            uploader = null;
+        }
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class S3FileSystemConfig extends ConfigReader {
+        private static final class Constants {
+            private static final String CONFIG_REGION = "region";
+            private static final String CONFIG_ENDPOINT = "endpoint";
+            private static final String CONFIG_PATH_STYLE = "pathStyleAccess";
+            private static final String CONFIG_DEFAULT_BUCKET = "bucket";
+            private static final String CONFIG_PREFIX = "prefix";
+            private static final String CONFIG_DOMAINS = "domains.domain";
+            private static final String CONFIG_DOMAIN_NAME = "name";
+            private static final String CONFIG_DOMAIN_BUCKET = "bucket";
+            private static final String CONFIG_PART_SIZE = "upload.partSize";
+            private static final String CONFIG_UPLOAD_THREADS = "upload.threads";
+            private static final String CONFIG_MAX_IN_FLIGHT = "upload.maxInFlight";
+            private static final String CONFIG_READ_AHEAD = "readAhead";
+        }
+
+        private static final String __CONFIG_PATH = "s3";
+
+        private String region;
+        private String endpoint;
+        private boolean pathStyleAccess = false;
+        private String defaultBucket;
+        private String prefix;
+        private final Map<String, String> buckets = new HashMap<>();
+        private int partSize = 8 * 1024 * 1024;
+        private int uploadThreads = 8;
+        private int maxInFlight = 4;
+        private int readAhead = 1024 * 1024;
+
+        public S3FileSystemConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config, String path) {
+            super(config, (Strings.isNullOrEmpty(path) ? __CONFIG_PATH : path));
+        }
+
+        public void read() throws ConfigurationException {
+            if (get() == null) {
+                throw new ConfigurationException("S3 Configuration not set or is NULL");
+            }
+            try {
+                defaultBucket = get().getString(Constants.CONFIG_DEFAULT_BUCKET);
+                if (Strings.isNullOrEmpty(defaultBucket)) {
+                    throw new ConfigurationException(String.format("S3 Configuration Error: missing [%s]", Constants.CONFIG_DEFAULT_BUCKET));
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_REGION)) {
+                    region = get().getString(Constants.CONFIG_REGION);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_ENDPOINT)) {
+                    endpoint = get().getString(Constants.CONFIG_ENDPOINT);
+                    // S3 compatible stores (MinIO, LocalStack) are addressed by path.
+                    pathStyleAccess = true;
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_PATH_STYLE)) {
+                    pathStyleAccess = get().getBoolean(Constants.CONFIG_PATH_STYLE);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_PREFIX)) {
+                    prefix = S3PathInfo.key(get().getString(Constants.CONFIG_PREFIX));
+                }
+                List<HierarchicalConfiguration<ImmutableNode>> domains = get().configurationsAt(Constants.CONFIG_DOMAINS);
+                if (domains != null) {
+                    for (HierarchicalConfiguration<ImmutableNode> domain : domains) {
+                        String name = domain.getString(Constants.CONFIG_DOMAIN_NAME);
+                        String bucket = domain.getString(Constants.CONFIG_DOMAIN_BUCKET);
+                        if (Strings.isNullOrEmpty(name) || Strings.isNullOrEmpty(bucket)) {
+                            throw new ConfigurationException(String.format("S3 Configuration Error: invalid domain mapping. [domain=%s][bucket=%s]", name, bucket));
+                        }
+                        buckets.put(name, bucket);
+                    }
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_PART_SIZE)) {
+                    partSize = get().getInt(Constants.CONFIG_PART_SIZE);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_UPLOAD_THREADS)) {
+                    uploadThreads = get().getInt(Constants.CONFIG_UPLOAD_THREADS);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_MAX_IN_FLIGHT)) {
+                    maxInFlight = get().getInt(Constants.CONFIG_MAX_IN_FLIGHT);
+                }
+                if (checkIfNodeExists((String) null, Constants.CONFIG_READ_AHEAD)) {
+                    readAhead = get().getInt(Constants.CONFIG_READ_AHEAD);
+                }
+                if (partSize < S3Writer.MIN_PART_SIZE || uploadThreads <= 0 || maxInFlight <= 0 || readAhead <= 0) {
+                    throw new ConfigurationException(String.format("S3 Configuration Error: invalid upload settings. [partSize=%d][threads=%d][maxInFlight=%d][readAhead=%d]",
+                            partSize, uploadThreads, maxInFlight, readAhead));
+                }
+            } catch (ConfigurationException ce) {
+                throw ce;
+            } catch (Throwable t) {
+                throw new ConfigurationException("Error processing S3 configuration.", t);
+            }
+        }
     }
 }
@@ -1,20 +1,43 @@
 package ai.sapper.hcdc.core.io.impl.s3;
 
 import ai.sapper.hcdc.core.io.PathInfo;
-import ai.sapper.hcdc.core.io.impl.local.LocalPathInfo;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
 
+/**
+ * Object path in a bucket. The path is the object key (a leading '/' is dropped from the key),
+ * "directories" are key prefixes.
+ */
 @Getter
 @Accessors(fluent = true)
-public class S3PathInfo extends LocalPathInfo {
-    private String bucket;
+public class S3PathInfo extends PathInfo {
+    private final S3Client client;
+    private final String bucket;
+    private final String key;
 
-    protected S3PathInfo(@NonNull String bucket, @NonNull String path) {
+    protected S3PathInfo(@NonNull S3Client client, @NonNull String bucket, @NonNull String path) {
         super(path);
+        this.client = client;
+        this.bucket = bucket;
+        this.key = key(path);
+    }
+
+    public static String key(@NonNull String path) {
+        String key = path.replaceAll("/+", "/");
+        if (key.startsWith("/")) key = key.substring(1);
+        if (key.endsWith("/")) key = key.substring(0, key.length() - 1);
+        return key;
     }
 
     /**
@@ -22,7 +45,7 @@ public class S3PathInfo extends LocalPathInfo {
      */
     @Override
     public PathInfo parentPathInfo() {
-        return super.parentPathInfo();
+        return new S3PathInfo(client, bucket, parent());
     }
 
     /**
@@ -31,7 +54,16 @@ public class S3PathInfo extends LocalPathInfo {
      */
     @Override
     public boolean isDirectory() throws IOException {
-        return super.isDirectory();
+        try {
+            ListObjectsV2Response response = client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(String.format("%s/", key))
+                    .maxKeys(1)
+                    .build());
+            return response.hasContents() && !response.contents().isEmpty();
+        } catch (SdkException ex) {
+            throw new IOException(ex);
+        }
     }
 
     /**
@@ -40,7 +72,7 @@ public class S3PathInfo extends LocalPathInfo {
      */
     @Override
     public boolean isFile() throws IOException {
-        return super.isFile();
+        return exists();
     }
 
     /**
@@ -49,7 +81,7 @@ public class S3PathInfo extends LocalPathInfo {
      */
     @Override
     public boolean exists() throws IOException {
-        return super.exists();
+        return (head() != null);
     }
 
     /**
@@ -58,6 +90,23 @@ public class S3PathInfo extends LocalPathInfo {
      */
     @Override
     public long size() throws IOException {
-        return super.size();
+        if (dataSize() < 0) {
+            HeadObjectResponse response = head();
+            dataSize(response == null ? 0 : response.contentLength());
+        }
+        return dataSize();
+    }
+
+    private HeadObjectResponse head() throws IOException {
+        try {
+            return client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException nk) {
+            return null;
+        } catch (S3Exception ex) {
+            if (ex.statusCode() == 404) return null;
+            throw new IOException(ex);
+        } catch (SdkException ex) {
+            throw new IOException(ex);
+        }
     }
 }
@@ -2,14 +2,32 @@ package ai.sapper.hcdc.core.io.impl.s3;
 
 import ai.sapper.hcdc.core.io.PathInfo;
 import ai.sapper.hcdc.core.io.Reader;
-import ai.sapper.hcdc.core.io.impl.local.LocalReader;
+import com.google.common.base.Preconditions;
 import lombok.NonNull;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 import java.io.IOException;
 
-public class S3Reader extends LocalReader {
-    public S3Reader(@NonNull PathInfo path) {
+/**
+ * Object reader using ranged GETs. Small reads are served from a read-ahead buffer
+ * (one GET per readAhead bytes), reads larger than the read-ahead are fetched directly.
+ */
+public class S3Reader extends Reader {
+    private final int readAhead;
+    private long size = -1;
+    private long position = 0;
+    private byte[] buffer;
+    private long bufferStart = -1;
+    private int bufferLength = 0;
+
+    public S3Reader(@NonNull PathInfo path, int readAhead) {
         super(path);
+        Preconditions.checkArgument(path instanceof S3PathInfo);
+        Preconditions.checkArgument(readAhead > 0);
+        this.readAhead = readAhead;
     }
 
     /**
@@ -18,7 +36,14 @@ public class S3Reader extends LocalReader {
      */
     @Override
     public Reader open() throws IOException {
-        return super.open();
+        S3PathInfo pi = (S3PathInfo) path();
+        if (!pi.exists()) {
+            throw new IOException(String.format("File not found. [bucket=%s][key=%s]", pi.bucket(), pi.key()));
+        }
+        pi.dataSize(-1);
+        size = pi.size();
+        position = 0;
+        return this;
     }
 
     /**
@@ -30,7 +55,54 @@ public class S3Reader extends LocalReader {
      */
     @Override
     public int read(byte[] buffer, int offset, int length) throws IOException {
-        return super.read(buffer, offset, length);
+        checkOpen();
+        if (position >= size) return -1;
+        int read = 0;
+        while (read < length && position < size) {
+            int count;
+            if (position >= bufferStart && position < bufferStart + bufferLength) {
+                int index = (int) (position - bufferStart);
+                count = Math.min(length - read, bufferLength - index);
+                System.arraycopy(this.buffer, index, buffer, offset + read, count);
+            } else if (length - read >= readAhead) {
+                byte[] data = get(position, (int) Math.min(length - read, size - position));
+                if (data.length == 0) break;
+                System.arraycopy(data, 0, buffer, offset + read, data.length);
+                count = data.length;
+            } else {
+                fill(position);
+                continue;
+            }
+            read += count;
+            position += count;
+        }
+        return read;
+    }
+
+    private void fill(long start) throws IOException {
+        int length = (int) Math.min(readAhead, size - start);
+        buffer = get(start, length);
+        bufferStart = start;
+        bufferLength = buffer.length;
+        if (bufferLength == 0) {
+            throw new IOException(String.format("Empty response for range read. [key=%s][offset=%d]",
+                    ((S3PathInfo) path()).key(), start));
+        }
+    }
+
+    private byte[] get(long start, int length) throws IOException {
+        S3PathInfo pi = (S3PathInfo) path();
+        try {
+            GetObjectRequest request = GetObjectRequest.builder()
+                    .bucket(pi.bucket())
+                    .key(pi.key())
+                    .range(String.format("bytes=%d-%d", start, start + length - 1))
+                    .build();
+            ResponseBytes<GetObjectResponse> response = pi.client().getObjectAsBytes(request);
+            return response.asByteArray();
+        } catch (SdkException ex) {
+            throw new IOException(ex);
+        }
     }
 
     /**
@@ -39,7 +111,15 @@ public class S3Reader extends LocalReader {
      */
     @Override
     public void seek(int offset) throws IOException {
-        super.seek(offset);
+        checkOpen();
+        position = offset;
+    }
+
+    private void checkOpen() throws IOException {
+        if (size < 0) {
+            S3PathInfo pi = (S3PathInfo) path();
+            throw new IOException(String.format("File Stream not open. [bucket=%s][key=%s]", pi.bucket(), pi.key()));
+        }
     }
 
     /**
@@ -57,6 +137,9 @@ public class S3Reader extends LocalReader {
      */
     @Override
     public void close() throws IOException {
-        super.close();
+        buffer = null;
+        bufferStart = -1;
+        bufferLength = 0;
+        size = -1;
     }
 }
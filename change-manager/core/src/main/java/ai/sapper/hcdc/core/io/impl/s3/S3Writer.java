@@ -2,14 +2,57 @@ package ai.sapper.hcdc.core.io.impl.s3;
 
 import ai.sapper.hcdc.core.io.PathInfo;
 import ai.sapper.hcdc.core.io.Writer;
-import ai.sapper.hcdc.core.io.impl.local.LocalWriter;
+import com.google.common.base.Preconditions;
 import lombok.NonNull;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
-public class S3Writer extends LocalWriter {
-    protected S3Writer(@NonNull PathInfo path) {
+/**
+ * Object writer using (parallel) multipart uploads.
+ * <p>
+ * Data is buffered into parts of partSize bytes, full parts are uploaded concurrently on the
+ * file system upload pool (at most maxInFlight parts per writer are buffered/in-flight). Objects
+ * are immutable, so the data is only visible after close(): small objects are written with a
+ * single PUT, else the multipart upload is completed. Appending to an existing object starts
+ * the upload with a server side copy of the object (or its data if smaller than the minimum
+ * part size).
+ */
+public class S3Writer extends Writer {
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3FileSystem fs;
+    private final int partSize;
+    private final Semaphore permits;
+    private byte[] part;
+    private int partLength = 0;
+    private String uploadId;
+    private final List<Future<CompletedPart>> parts = new ArrayList<>();
+    private long appendFrom = -1;
+    private boolean open = false;
+
+    protected S3Writer(@NonNull PathInfo path, @NonNull S3FileSystem fs) {
         super(path);
+        Preconditions.checkArgument(path instanceof S3PathInfo);
+        this.fs = fs;
+        this.partSize = Math.max(fs.config().partSize(), MIN_PART_SIZE);
+        this.permits = new Semaphore(fs.config().maxInFlight());
     }
 
     /**
@@ -18,7 +61,15 @@ public class S3Writer extends LocalWriter {
      */
     @Override
     public Writer open(boolean overwrite) throws IOException {
-        return super.open(overwrite);
+        S3PathInfo pi = (S3PathInfo) path();
+        pi.dataSize(-1);
+        appendFrom = (!overwrite && pi.exists() ? pi.size() : -1);
+        part = null;
+        partLength = 0;
+        uploadId = null;
+        parts.clear();
+        open = true;
+        return this;
     }
 
     /**
@@ -30,18 +81,129 @@ public class S3Writer extends LocalWriter {
      */
     @Override
     public long write(byte[] data, long offset, long length) throws IOException {
-        return super.write(data, offset, length);
+        checkOpen();
+        if (appendFrom >= 0) {
+            startAppend();
+        }
+        int off = (int) offset;
+        long remaining = length;
+        while (remaining > 0) {
+            if (part == null) {
+                part = new byte[partSize];
+                partLength = 0;
+            }
+            int size = (int) Math.min(remaining, part.length - partLength);
+            System.arraycopy(data, off, part, partLength, size);
+            partLength += size;
+            off += size;
+            remaining -= size;
+            if (partLength == part.length) {
+                uploadPart();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Existing object data is the first part of the upload: server side copy if it can be
+     * a part, else the data is loaded into the part buffer.
+     */
+    private void startAppend() throws IOException {
+        S3PathInfo pi = (S3PathInfo) path();
+        long size = appendFrom;
+        appendFrom = -1;
+        if (size <= 0) return;
+        try {
+            if (size >= MIN_PART_SIZE) {
+                createUpload();
+                int partNumber = parts.size() + 1;
+                String etag = pi.client().uploadPartCopy(UploadPartCopyRequest.builder()
+                        .sourceBucket(pi.bucket())
+                        .sourceKey(pi.key())
+                        .destinationBucket(pi.bucket())
+                        .destinationKey(pi.key())
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .build()).copyPartResult().eTag();
+                parts.add(fs.completed(CompletedPart.builder().partNumber(partNumber).eTag(etag).build()));
+            } else {
+                byte[] data = pi.client().getObjectAsBytes(GetObjectRequest.builder()
+                        .bucket(pi.bucket())
+                        .key(pi.key())
+                        .build()).asByteArray();
+                part = new byte[partSize];
+                System.arraycopy(data, 0, part, 0, data.length);
+                partLength = data.length;
+            }
+        } catch (SdkException ex) {
+            abort();
+            throw new IOException(ex);
+        }
+    }
+
+    private void createUpload() {
+        if (uploadId != null) return;
+        S3PathInfo pi = (S3PathInfo) path();
+        uploadId = pi.client().createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(pi.bucket())
+                .key(pi.key())
+                .build()).uploadId();
+    }
+
+    private void uploadPart() throws IOException {
+        S3PathInfo pi = (S3PathInfo) path();
+        try {
+            createUpload();
+            permits.acquire();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (SdkException ex) {
+            throw new IOException(ex);
+        }
+        byte[] data = part;
+        int length = partLength;
+        int partNumber = parts.size() + 1;
+        String id = uploadId;
+        part = null;
+        partLength = 0;
+        S3Client client = pi.client();
+        try {
+            parts.add(fs.upload(() -> {
+                try {
+                    String etag = client.uploadPart(UploadPartRequest.builder()
+                                    .bucket(pi.bucket())
+                                    .key(pi.key())
+                                    .uploadId(id)
+                                    .partNumber(partNumber)
+                                    .contentLength((long) length)
+                                    .build(),
+                            RequestBody.fromBytes(length == data.length ? data : java.util.Arrays.copyOf(data, length))).eTag();
+                    return CompletedPart.builder().partNumber(partNumber).eTag(etag).build();
+                } finally {
+                    permits.release();
+                }
+            }));
+        } catch (RuntimeException re) {
+            permits.release();
+            throw new IOException(re);
+        }
     }
 
     /**
+     * Data is only visible in the object store after close().
+     *
      * @throws IOException
      */
     @Override
     public void flush() throws IOException {
-        super.flush();
+        checkOpen();
     }
 
     /**
+     * Objects cannot be modified: the pending data is committed and the object is
+     * re-written (server side copy) with the specified size.
+     *
      * @param offset
      * @param length
      * @return
@@ -49,7 +211,93 @@ public class S3Writer extends LocalWriter {
      */
     @Override
     public long truncate(long offset, long length) throws IOException {
-        return super.truncate(offset, length);
+        checkOpen();
+        commit();
+        S3PathInfo pi = (S3PathInfo) path();
+        long size = offset + length;
+        pi.dataSize(-1);
+        if (size < pi.size()) {
+            fs.rewrite(pi, size, partSize);
+            pi.dataSize(-1);
+        }
+        open(false);
+        return pi.size();
+    }
+
+    private void commit() throws IOException {
+        S3PathInfo pi = (S3PathInfo) path();
+        try {
+            if (uploadId == null) {
+                if (partLength > 0 || appendFrom < 0) {
+                    byte[] data = (part == null ? new byte[0] : java.util.Arrays.copyOf(part, partLength));
+                    pi.client().putObject(PutObjectRequest.builder()
+                                    .bucket(pi.bucket())
+                                    .key(pi.key())
+                                    .contentLength((long) data.length)
+                                    .build(),
+                            RequestBody.fromBytes(data));
+                }
+            } else {
+                if (partLength > 0) {
+                    uploadPart();
+                }
+                List<CompletedPart> completed = new ArrayList<>(parts.size());
+                for (Future<CompletedPart> future : parts) {
+                    completed.add(future.get());
+                }
+                pi.client().completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(pi.bucket())
+                        .key(pi.key())
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                        .build());
+            }
+        } catch (ExecutionException ex) {
+            abort();
+            throw new IOException(ex.getCause());
+        } catch (InterruptedException ie) {
+            abort();
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (SdkException ex) {
+            abort();
+            throw new IOException(ex);
+        } catch (IOException ex) {
+            abort();
+            throw ex;
+        } finally {
+            part = null;
+            partLength = 0;
+            uploadId = null;
+            parts.clear();
+            appendFrom = -1;
+            pi.dataSize(-1);
+        }
+    }
+
+    private void abort() {
+        if (uploadId == null) return;
+        S3PathInfo pi = (S3PathInfo) path();
+        for (Future<CompletedPart> future : parts) {
+            future.cancel(true);
+        }
+        try {
+            pi.client().abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(pi.bucket())
+                    .key(pi.key())
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException ex) {
+            // Ignore: incomplete uploads are cleaned up by the bucket lifecycle.
+        }
+        uploadId = null;
+    }
+
+    private void checkOpen() throws IOException {
+        if (!open) {
+            S3PathInfo pi = (S3PathInfo) path();
+            throw new IOException(String.format("File Stream not open. [bucket=%s][key=%s]", pi.bucket(), pi.key()));
+        }
     }
 
     /**
@@ -67,6 +315,11 @@ public class S3Writer extends LocalWriter {
      */
     @Override
     public void close() throws IOException {
-        super.close();
+        if (!open) return;
+        try {
+            commit();
+        } finally {
+            open = false;
+        }
     }
 }
@@ -0,0 +1,62 @@
+package ai.sapper.hcdc.core.messaging;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks the received (not yet committable) offsets of a partition/log. Acknowledgements can
+ * arrive out of order, only the contiguous acknowledged prefix of the received offsets can be
+ * committed (committing past an unacknowledged offset would lose it on restart).
+ *
+ * @param <T> - Commit data associated with an offset
+ */
+public class AckTracker<T> {
+    private static class Entry<T> {
+        private final T value;
+        private boolean acked = false;
+
+        private Entry(T value) {
+            this.value = value;
+        }
+    }
+
+    private final TreeMap<Long, Entry<T>> offsets = new TreeMap<>();
+
+    /**
+     * @param offset - Received offset
+     * @param value  - Commit data for the offset
+     */
+    public void received(long offset, T value) {
+        offsets.put(offset, new Entry<>(value));
+    }
+
+    /**
+     * Acknowledge the offset.
+     *
+     * @param offset - Acknowledged offset
+     * @return - Commit data of the last offset of the contiguous acknowledged prefix, null if the
+     * committable position has not moved.
+     */
+    public T ack(long offset) {
+        Entry<T> entry = offsets.get(offset);
+        if (entry != null) {
+            entry.acked = true;
+        }
+        T value = null;
+        while (!offsets.isEmpty()) {
+            Map.Entry<Long, Entry<T>> first = offsets.firstEntry();
+            if (!first.getValue().acked) break;
+            offsets.pollFirstEntry();
+            value = first.getValue().value;
+        }
+        return value;
+    }
+
+    public int size() {
+        return offsets.size();
+    }
+
+    public void clear() {
+        offsets.clear();
+    }
+}
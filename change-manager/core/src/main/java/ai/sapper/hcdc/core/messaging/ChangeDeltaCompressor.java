@@ -0,0 +1,341 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.ConfigReader;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Per-record compression of the serialized change deltas. The codec is set in the record
+ * header (HEADER_COMPRESSION), so receivers decompress transparently and uncompressed records
+ * are still read.
+ * <p>
+ * Zstd can use a dictionary (trained on sample records, see train() and the
+ * CompressionDictionaryTrainer tool) which captures the common HDFS path prefixes. The
+ * dictionary ID is recorded in the header ([codec]:[dictionary ID]), records compressed with
+ * a dictionary other than the one the receiver is configured with are rejected.
+ * Batch level compression is left to the Kafka producer (compression.type).
+ */
+@Getter
+@Accessors(fluent = true)
+public class ChangeDeltaCompressor {
+    public static final String HEADER_COMPRESSION = "hcdc_compression";
+
+    public enum ECompression {
+        None, LZ4, Zstd;
+
+        public static ECompression parse(@NonNull String type) {
+            for (ECompression c : ECompression.values()) {
+                if (c.name().compareToIgnoreCase(type) == 0) {
+                    return c;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+    private static final String HEADER_SEPARATOR = ":";
+    // Upper bound of the LZ4 block compression ratio.
+    private static final int LZ4_MAX_RATIO = 255;
+
+    private static final LZ4Factory __LZ4 = LZ4Factory.fastestInstance();
+
+    private final CompressorConfig config;
+    @Getter(AccessLevel.NONE)
+    private long dictionaryId = 0;
+    @Getter(AccessLevel.NONE)
+    private ZstdDictCompress dictCompress = null;
+    @Getter(AccessLevel.NONE)
+    private ZstdDictDecompress dictDecompress = null;
+
+    private ChangeDeltaCompressor(@NonNull CompressorConfig config) throws IOException {
+        this.config = config;
+        if (!Strings.isNullOrEmpty(config.dictionary)) {
+            byte[] dictionary = Files.readAllBytes(new File(config.dictionary).toPath());
+            dictionaryId = dictionaryId(dictionary);
+            if (dictionaryId == 0) {
+                throw new IOException(String.format("Not a Zstd dictionary. [path=%s]", config.dictionary));
+            }
+            dictCompress = new ZstdDictCompress(dictionary, config.level);
+            dictDecompress = new ZstdDictDecompress(dictionary);
+        }
+    }
+
+    public ECompression type() {
+        return config.type;
+    }
+
+    public long dictionaryId() {
+        return dictionaryId;
+    }
+
+    /**
+     * @return - Value of the compression record header: [codec] or [codec]:[dictionary ID].
+     */
+    public String header() {
+        if (dictionaryId != 0) {
+            return String.format("%s%s%d", config.type.name(), HEADER_SEPARATOR, dictionaryId);
+        }
+        return config.type.name();
+    }
+
+    /**
+     * @param data - Serialized record
+     * @return - Compressed record, null if the record is too small or does not compress.
+     * @throws MessagingError
+     */
+    public byte[] compress(@NonNull byte[] data) throws MessagingError {
+        if (config.type == ECompression.None || data.length < config.minSize) {
+            return null;
+        }
+        byte[] compressed = null;
+        if (config.type == ECompression.LZ4) {
+            LZ4Compressor compressor = __LZ4.fastCompressor();
+            compressed = new byte[4 + compressor.maxCompressedLength(data.length)];
+            writeInt(compressed, data.length);
+            int size = compressor.compress(data, 0, data.length, compressed, 4, compressed.length - 4);
+            if (size + 4 >= data.length) return null;
+            byte[] array = new byte[size + 4];
+            System.arraycopy(compressed, 0, array, 0, array.length);
+            return array;
+        } else if (config.type == ECompression.Zstd) {
+            if (dictCompress != null) {
+                compressed = Zstd.compress(data, dictCompress);
+            } else {
+                compressed = Zstd.compress(data, config.level);
+            }
+            if (compressed.length >= data.length) return null;
+            return compressed;
+        }
+        throw new MessagingError(String.format("Compression type not supported. [type=%s]", config.type.name()));
+    }
+
+    /**
+     * @param data   - Compressed record
+     * @param header - Value of the compression record header
+     * @return - Serialized record
+     * @throws MessagingError
+     */
+    public byte[] decompress(@NonNull byte[] data, @NonNull String header) throws MessagingError {
+        return decompress(data, header, this);
+    }
+
+    /**
+     * @param data       - Compressed record
+     * @param header     - Value of the compression record header
+     * @param compressor - Receiver compressor (dictionary, size limit), can be null.
+     * @return - Serialized record
+     * @throws MessagingError
+     */
+    public static byte[] decompress(@NonNull byte[] data,
+                                    @NonNull String header,
+                                    ChangeDeltaCompressor compressor) throws MessagingError {
+        String[] parts = header.split(HEADER_SEPARATOR);
+        ECompression type = ECompression.parse(parts[0]);
+        if (type == null || parts.length > 2) {
+            throw new MessagingError(String.format("Invalid compression header. [header=%s]", header));
+        }
+        long dictionaryId = 0;
+        if (parts.length == 2) {
+            try {
+                dictionaryId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException ex) {
+                throw new MessagingError(String.format("Invalid compression header. [header=%s]", header));
+            }
+        }
+        int maxSize = (compressor != null ? compressor.config.maxSize : DEFAULT_MAX_SIZE);
+        try {
+            if (type == ECompression.None) {
+                return data;
+            } else if (type == ECompression.LZ4) {
+                return decompressLZ4(data, maxSize);
+            } else if (type == ECompression.Zstd) {
+                return decompressZstd(data, dictionaryId, compressor, maxSize);
+            }
+        } catch (MessagingError me) {
+            throw me;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+        throw new MessagingError(String.format("Compression type not supported. [type=%s]", type.name()));
+    }
+
+    private static byte[] decompressLZ4(byte[] data, int maxSize) throws MessagingError {
+        if (data.length < 4) {
+            throw new MessagingError(String.format("Invalid LZ4 record: missing length. [size=%d]", data.length));
+        }
+        int size = readInt(data);
+        long bound = Math.min(maxSize, (long) (data.length - 4) * LZ4_MAX_RATIO);
+        if (size <= 0 || size > bound) {
+            throw new MessagingError(
+                    String.format("Invalid LZ4 record: bad length. [length=%d][size=%d][max=%d]", size, data.length, bound));
+        }
+        LZ4FastDecompressor decompressor = __LZ4.fastDecompressor();
+        byte[] array = new byte[size];
+        int read = decompressor.decompress(data, 4, array, 0, array.length);
+        if (read != data.length - 4) {
+            throw new MessagingError(
+                    String.format("Invalid LZ4 record: length mismatch. [length=%d][read=%d][size=%d]", size, read, data.length - 4));
+        }
+        return array;
+    }
+
+    private static byte[] decompressZstd(byte[] data,
+                                         long dictionaryId,
+                                         ChangeDeltaCompressor compressor,
+                                         int maxSize) throws MessagingError {
+        long frameId = Zstd.getDictIdFromFrame(data);
+        if (dictionaryId == 0) {
+            dictionaryId = frameId;
+        } else if (frameId != 0 && frameId != dictionaryId) {
+            throw new MessagingError(String.format("Invalid Zstd record: dictionary ID mismatch. [header=%d][frame=%d]",
+                    dictionaryId, frameId));
+        }
+        ZstdDictDecompress dictionary = null;
+        if (dictionaryId != 0) {
+            long expected = (compressor != null ? compressor.dictionaryId : 0);
+            if (expected != dictionaryId) {
+                throw new MessagingError(
+                        String.format("Zstd dictionary mismatch: record compressed with another dictionary. [record=%d][configured=%d]",
+                                dictionaryId, expected));
+            }
+            dictionary = compressor.dictDecompress;
+        }
+        long size = Zstd.decompressedSize(data);
+        if (size <= 0 || size > maxSize) {
+            throw new MessagingError(
+                    String.format("Invalid Zstd frame: bad content size. [size=%d][max=%d]", size, maxSize));
+        }
+        if (dictionary != null) {
+            return Zstd.decompress(data, dictionary, (int) size);
+        }
+        return Zstd.decompress(data, (int) size);
+    }
+
+    /**
+     * Train a Zstd dictionary from sample (serialized) records.
+     *
+     * @param samples - Sample records
+     * @param size    - Dictionary size (bytes)
+     * @return - Dictionary
+     */
+    public static byte[] train(@NonNull List<byte[]> samples, int size) {
+        int total = 0;
+        for (byte[] sample : samples) {
+            total += sample.length;
+        }
+        ZstdDictTrainer trainer = new ZstdDictTrainer(total, size);
+        for (byte[] sample : samples) {
+            trainer.addSample(sample);
+        }
+        return trainer.trainSamples();
+    }
+
+    /**
+     * @param dictionary - Zstd dictionary
+     * @return - Dictionary ID, 0 if not a Zstd dictionary.
+     */
+    public static long dictionaryId(@NonNull byte[] dictionary) {
+        return Zstd.getDictIdFromDict(dictionary);
+    }
+
+    private static void writeInt(byte[] array, int value) {
+        array[0] = (byte) (value >>> 24);
+        array[1] = (byte) (value >>> 16);
+        array[2] = (byte) (value >>> 8);
+        array[3] = (byte) value;
+    }
+
+    private static int readInt(byte[] array) {
+        return ((array[0] & 0xFF) << 24) | ((array[1] & 0xFF) << 16) | ((array[2] & 0xFF) << 8) | (array[3] & 0xFF);
+    }
+
+    /**
+     * Create the compressor from the sender/receiver configuration.
+     *
+     * @param config - Sender/Receiver configuration
+     * @return - Compressor, null if compression is not configured.
+     * @throws ConfigurationException
+     */
+    public static ChangeDeltaCompressor create(@NonNull HierarchicalConfiguration<ImmutableNode> config) throws ConfigurationException {
+        if (config.configurationsAt(CompressorConfig.__CONFIG_PATH).isEmpty()) {
+            return null;
+        }
+        CompressorConfig cc = new CompressorConfig(config);
+        cc.read();
+        try {
+            return new ChangeDeltaCompressor(cc);
+        } catch (IOException ex) {
+            throw new ConfigurationException(String.format("Error reading compression dictionary. [path=%s]", cc.dictionary), ex);
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class CompressorConfig extends ConfigReader {
+        private static final String __CONFIG_PATH = "compression";
+        private static final String CONFIG_TYPE = "type";
+        private static final String CONFIG_LEVEL = "level";
+        private static final String CONFIG_DICTIONARY = "dictionary";
+        private static final String CONFIG_MIN_SIZE = "minSize";
+        private static final String CONFIG_MAX_SIZE = "maxSize";
+
+        private ECompression type = ECompression.None;
+        private int level = 3;
+        private String dictionary;
+        private int minSize = 128;
+        private int maxSize = DEFAULT_MAX_SIZE;
+
+        public CompressorConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
+            super(config, __CONFIG_PATH);
+        }
+
+        public void read() throws ConfigurationException {
+            String s = get().getString(CONFIG_TYPE);
+            if (Strings.isNullOrEmpty(s)) {
+                throw new ConfigurationException(String.format("Compression Configuration Error: missing [%s]", CONFIG_TYPE));
+            }
+            type = ECompression.parse(s);
+            if (type == null) {
+                throw new ConfigurationException(String.format("Compression Configuration Error: invalid type [%s]", s));
+            }
+            s = get().getString(CONFIG_LEVEL);
+            if (!Strings.isNullOrEmpty(s)) {
+                level = Integer.parseInt(s);
+            }
+            dictionary = get().getString(CONFIG_DICTIONARY);
+            if (!Strings.isNullOrEmpty(dictionary) && type != ECompression.Zstd) {
+                throw new ConfigurationException(String.format("Compression Configuration Error: dictionary only supported for Zstd. [type=%s]", type.name()));
+            }
+            s = get().getString(CONFIG_MIN_SIZE);
+            if (!Strings.isNullOrEmpty(s)) {
+                minSize = Integer.parseInt(s);
+            }
+            s = get().getString(CONFIG_MAX_SIZE);
+            if (!Strings.isNullOrEmpty(s)) {
+                maxSize = Integer.parseInt(s);
+                if (maxSize <= 0) {
+                    throw new ConfigurationException(String.format("Compression Configuration Error: invalid [%s=%s]", CONFIG_MAX_SIZE, s));
+                }
+            }
+        }
+    }
+}
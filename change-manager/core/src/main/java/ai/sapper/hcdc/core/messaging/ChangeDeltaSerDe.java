@@ -5,7 +5,51 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.NonNull;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Change delta (de)serialization.
+ * <p>
+ * Version 2 messages carry the transaction ID as an int64 (transactionId) and the body type as
+ * an enum (deltaType). Version 1 messages (string txId, body class name as type) are still
+ * read, see txId() and deltaType(). During a rolling upgrade (producers upgraded before all the
+ * consumers), the version 1 fields can also be written, see writeV1Fields().
+ */
 public class ChangeDeltaSerDe {
+    public static final int VERSION = 2;
+
+    private static volatile boolean writeV1Fields = false;
+
+    private static final Map<String, DFSChangeDelta.DeltaType> __V1_TYPES = new HashMap<>();
+
+    static {
+        __V1_TYPES.put(DFSAddFile.class.getCanonicalName(), DFSChangeDelta.DeltaType.ADD_FILE);
+        __V1_TYPES.put(DFSAppendFile.class.getCanonicalName(), DFSChangeDelta.DeltaType.APPEND_FILE);
+        __V1_TYPES.put(DFSDeleteFile.class.getCanonicalName(), DFSChangeDelta.DeltaType.DELETE_FILE);
+        __V1_TYPES.put(DFSAddBlock.class.getCanonicalName(), DFSChangeDelta.DeltaType.ADD_BLOCK);
+        __V1_TYPES.put(DFSUpdateBlocks.class.getCanonicalName(), DFSChangeDelta.DeltaType.UPDATE_BLOCKS);
+        __V1_TYPES.put(DFSTruncateBlock.class.getCanonicalName(), DFSChangeDelta.DeltaType.TRUNCATE_BLOCK);
+        __V1_TYPES.put(DFSCloseFile.class.getCanonicalName(), DFSChangeDelta.DeltaType.CLOSE_FILE);
+        __V1_TYPES.put(DFSRenameFile.class.getCanonicalName(), DFSChangeDelta.DeltaType.RENAME_FILE);
+        __V1_TYPES.put(DFSIgnoreTx.class.getCanonicalName(), DFSChangeDelta.DeltaType.IGNORE_TX);
+        __V1_TYPES.put(DFSError.class.getCanonicalName(), DFSChangeDelta.DeltaType.ERROR);
+    }
+
+    /**
+     * Also write the version 1 fields (string txId, body class name as type) in the created
+     * messages, so that consumers not yet upgraded can read them.
+     *
+     * @param write - Write the version 1 fields
+     */
+    public static void writeV1Fields(boolean write) {
+        writeV1Fields = write;
+    }
+
+    public static boolean writeV1Fields() {
+        return writeV1Fields;
+    }
+
     public static <T> MessageObject<String, DFSChangeDelta> createErrorTx(@NonNull String namespace,
                                                                           @NonNull String messageId,
                                                                           @NonNull DFSTransaction tnx,
@@ -32,6 +76,34 @@ public class ChangeDeltaSerDe {
         return create(namespace, ignoreTx, DFSIgnoreTx.class, null, null, mode);
     }
 
+    /**
+     * Create an ignore message for the (contiguous) transaction range [tnx.transactionId, endTxId].
+     */
+    public static <T> MessageObject<String, DFSChangeDelta> createIgnoreTx(@NonNull String namespace,
+                                                                           @NonNull DFSTransaction tnx,
+                                                                           long endTxId,
+                                                                           @NonNull MessageObject.MessageMode mode) throws Exception {
+        Preconditions.checkArgument(endTxId >= tnx.getTransactionId());
+        DFSIgnoreTx.Builder builder = DFSIgnoreTx.newBuilder()
+                .setOpCode(tnx.getOp().name())
+                .setTransaction(tnx);
+        if (endTxId > tnx.getTransactionId()) {
+            builder.setEndTransactionId(endTxId);
+        }
+        return create(namespace, builder.build(), DFSIgnoreTx.class, null, null, mode);
+    }
+
+    /**
+     * Get the last transaction ID covered by the ignore message (ignore messages can specify a range).
+     */
+    public static long lastTxId(@NonNull DFSIgnoreTx data) {
+        long txId = data.getTransaction().getTransactionId();
+        if (data.hasEndTransactionId() && data.getEndTransactionId() > txId) {
+            return data.getEndTransactionId();
+        }
+        return txId;
+    }
+
     public static <T> MessageObject<String, DFSChangeDelta> create(@NonNull String namespace,
                                                                    @NonNull T data,
                                                                    @NonNull Class<? extends T> type,
@@ -59,6 +131,8 @@ public class ChangeDeltaSerDe {
             create(namespace, (DFSRenameFile) data, builder);
         } else if (type.equals(DFSIgnoreTx.class)) {
             create(namespace, (DFSIgnoreTx) data, builder);
+        } else if (type.equals(DFSError.class)) {
+            create(namespace, (DFSError) data, builder);
         } else {
             throw new MessagingError(String.format("Invalid Message DataType. [type=%s]", type.getCanonicalName()));
         }
@@ -68,14 +142,19 @@ public class ChangeDeltaSerDe {
         if (!Strings.isNullOrEmpty(entity)) {
             builder.setEntityName(entity);
         }
+        if (writeV1Fields) {
+            builder.setTxId(String.valueOf(builder.getTransactionId()))
+                    .setType(type.getCanonicalName());
+        }
         delta = builder.build();
         key = delta.getEntity();
         MessageObject<String, DFSChangeDelta> message = new KafkaMessage<>();
-        message.id(String.format("%s:%s:%s", namespace, mode.name(), delta.getTxId()));
+        message.id(messageId(namespace, mode, delta.getTransactionId()));
         message.correlationId(key);
         message.mode(mode);
         message.key(key);
         message.value(delta);
+        message.decoded(data);
         return message;
     }
 
@@ -85,9 +164,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.ADD_FILE)
                 .setBody(data.toByteString());
     }
 
@@ -97,9 +177,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.APPEND_FILE)
                 .setBody(data.toByteString());
     }
 
@@ -109,9 +190,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.DELETE_FILE)
                 .setBody(data.toByteString());
     }
 
@@ -121,9 +203,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.ADD_BLOCK)
                 .setBody(data.toByteString());
     }
 
@@ -133,9 +216,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.UPDATE_BLOCKS)
                 .setBody(data.toByteString());
     }
 
@@ -145,9 +229,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.TRUNCATE_BLOCK)
                 .setBody(data.toByteString());
     }
 
@@ -157,9 +242,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.CLOSE_FILE)
                 .setBody(data.toByteString());
     }
 
@@ -169,9 +255,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(data.getSrcFile().getPath())
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.RENAME_FILE)
                 .setBody(data.toByteString());
     }
 
@@ -181,9 +268,10 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity(String.format("IGNORE:%s", data.getTransaction().getTransactionId()))
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.IGNORE_TX)
                 .setBody(data.toByteString());
     }
 
@@ -193,35 +281,136 @@ public class ChangeDeltaSerDe {
         builder
                 .setNamespace(namespace)
                 .setTimestamp(System.currentTimeMillis())
-                .setTxId(String.valueOf(data.getTransaction().getTransactionId()))
+                .setVersion(VERSION)
+                .setTransactionId(data.getTransaction().getTransactionId())
                 .setEntity("")
-                .setType(data.getClass().getCanonicalName())
+                .setDeltaType(DFSChangeDelta.DeltaType.ERROR)
                 .setBody(data.toByteString());
     }
 
+    /**
+     * Get the decoded message body, the body is parsed on first access and cached on the message.
+     *
+     * @param message - Change delta message
+     * @return - Decoded body
+     * @throws Exception
+     */
+    public static Object parse(@NonNull MessageObject<String, DFSChangeDelta> message) throws Exception {
+        Object data = message.decoded();
+        if (data == null) {
+            data = parse(message.value());
+            message.decoded(data);
+        }
+        return data;
+    }
+
+    /**
+     * Get the serialized message value, the received bytes are reused if the value is unchanged.
+     *
+     * @param message - Change delta message
+     * @return - Serialized value
+     */
+    public static byte[] serialize(@NonNull MessageObject<String, DFSChangeDelta> message) {
+        if (message.raw() != null) {
+            return message.raw();
+        }
+        return message.value().toByteArray();
+    }
+
+    /**
+     * Message ID: [namespace]:[mode]:[transaction ID].
+     * <p>
+     * The ID stays a string: it has to be unique across namespaces and modes (a snapshot and
+     * a new message can carry the same transaction), it is sent as a Kafka header and is the
+     * correlation ID of the error messages, and the receivers key their offsets by it. It is
+     * built once per message, a numeric ID would not remove the per-message allocation.
+     */
+    public static String messageId(@NonNull String namespace,
+                                   @NonNull MessageObject.MessageMode mode,
+                                   long txId) {
+        return new StringBuilder(namespace.length() + 24)
+                .append(namespace)
+                .append(':')
+                .append(mode.name())
+                .append(':')
+                .append(txId)
+                .toString();
+    }
+
+    /**
+     * Get the transaction ID of the change delta (version 1 messages carry it as a string).
+     *
+     * @param changeDelta - Change delta
+     * @return - Transaction ID
+     */
+    public static long txId(@NonNull DFSChangeDelta changeDelta) {
+        if (changeDelta.hasTransactionId()) {
+            return changeDelta.getTransactionId();
+        }
+        Preconditions.checkArgument(changeDelta.hasTxId());
+        return Long.parseLong(changeDelta.getTxId());
+    }
+
+    public static boolean hasTxId(@NonNull DFSChangeDelta changeDelta) {
+        return (changeDelta.hasTransactionId() || changeDelta.hasTxId());
+    }
+
+    /**
+     * Check the body type of the change delta, unknown (version 1) types do not match.
+     */
+    public static boolean isType(@NonNull DFSChangeDelta changeDelta,
+                                 @NonNull DFSChangeDelta.DeltaType type) {
+        if (changeDelta.hasDeltaType()) {
+            return (changeDelta.getDeltaType() == type);
+        }
+        return (changeDelta.hasType() && __V1_TYPES.get(changeDelta.getType()) == type);
+    }
+
+    /**
+     * Get the body type of the change delta (version 1 messages carry the body class name).
+     *
+     * @param changeDelta - Change delta
+     * @return - Body type
+     * @throws MessagingError - If the type is not set or not supported.
+     */
+    public static DFSChangeDelta.DeltaType deltaType(@NonNull DFSChangeDelta changeDelta) throws MessagingError {
+        if (changeDelta.hasDeltaType()) {
+            return changeDelta.getDeltaType();
+        }
+        DFSChangeDelta.DeltaType type = null;
+        if (changeDelta.hasType()) {
+            type = __V1_TYPES.get(changeDelta.getType());
+        }
+        if (type == null) {
+            throw new MessagingError(String.format("Invalid Message Type. [type=%s]", changeDelta.getType()));
+        }
+        return type;
+    }
+
     public static Object parse(@NonNull DFSChangeDelta changeDelta) throws Exception {
-        Preconditions.checkArgument(changeDelta.hasType());
-        String type = changeDelta.getType();
-        if (type.compareTo(DFSAddFile.class.getCanonicalName()) == 0) {
-            return DFSAddFile.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSAppendFile.class.getCanonicalName()) == 0) {
-            return DFSAppendFile.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSDeleteFile.class.getCanonicalName()) == 0) {
-            return DFSDeleteFile.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSAddBlock.class.getCanonicalName()) == 0) {
-            return DFSAddBlock.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSUpdateBlocks.class.getCanonicalName()) == 0) {
-            return DFSUpdateBlocks.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSTruncateBlock.class.getCanonicalName()) == 0) {
-            return DFSTruncateBlock.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSCloseFile.class.getCanonicalName()) == 0) {
-            return DFSCloseFile.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSRenameFile.class.getCanonicalName()) == 0) {
-            return DFSRenameFile.parseFrom(changeDelta.getBody());
-        } else if (type.compareTo(DFSIgnoreTx.class.getCanonicalName()) == 0) {
-            return DFSIgnoreTx.parseFrom(changeDelta.getBody());
-        } else {
-            throw new MessagingError(String.format("Invalid Message Type. [type=%s]", type));
+        switch (deltaType(changeDelta)) {
+            case ADD_FILE:
+                return DFSAddFile.parseFrom(changeDelta.getBody());
+            case APPEND_FILE:
+                return DFSAppendFile.parseFrom(changeDelta.getBody());
+            case DELETE_FILE:
+                return DFSDeleteFile.parseFrom(changeDelta.getBody());
+            case ADD_BLOCK:
+                return DFSAddBlock.parseFrom(changeDelta.getBody());
+            case UPDATE_BLOCKS:
+                return DFSUpdateBlocks.parseFrom(changeDelta.getBody());
+            case TRUNCATE_BLOCK:
+                return DFSTruncateBlock.parseFrom(changeDelta.getBody());
+            case CLOSE_FILE:
+                return DFSCloseFile.parseFrom(changeDelta.getBody());
+            case RENAME_FILE:
+                return DFSRenameFile.parseFrom(changeDelta.getBody());
+            case IGNORE_TX:
+                return DFSIgnoreTx.parseFrom(changeDelta.getBody());
+            case ERROR:
+                return DFSError.parseFrom(changeDelta.getBody());
+            default:
+                throw new MessagingError(String.format("Invalid Message Type. [type=%s]", changeDelta.getDeltaType().name()));
         }
     }
 }
@@ -1,6 +1,7 @@
 package ai.sapper.hcdc.core.messaging;
 
 import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.common.utils.StateSerDe;
 import ai.sapper.hcdc.core.connections.impl.BasicKafkaConsumer;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
@@ -9,8 +10,10 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -30,14 +33,31 @@ public class HCDCKafkaReceiver extends MessageReceiver<String, DFSChangeDelta> {
 
     private static final long DEFAULT_RECEIVE_TIMEOUT = 30000; // 30 secs default timeout.
     private Queue<MessageObject<String, DFSChangeDelta>> cache = null;
-    private final Map<String, OffsetData> offsetMap = new HashMap<>();
+    private final Map<String, Deque<OffsetData>> offsetMap = new HashMap<>();
+    private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets = new HashMap<>();
+    private final Map<TopicPartition, AckTracker<OffsetAndMetadata>> inflight = new HashMap<>();
+    private int pendingCount = 0;
+    private long lastCommitTime = System.currentTimeMillis();
 
     private BasicKafkaConsumer consumer = null;
     private String topic;
     private KafkaStateManager stateManager = null;
     private Map<Integer, KafkaMessageState> states = null;
+    private ChangeDeltaCompressor compressor = null;
+    private StateSerDe.EEncoding stateEncoding = StateSerDe.EEncoding.JSON;
+
+    public HCDCKafkaReceiver withCompressor(ChangeDeltaCompressor compressor) {
+        this.compressor = compressor;
+        return this;
+    }
+
+    public HCDCKafkaReceiver withStateEncoding(@NonNull StateSerDe.EEncoding stateEncoding) {
+        this.stateEncoding = stateEncoding;
+        return this;
+    }
 
     public void seek(TopicPartition partition, long offset) {
+        inflight.remove(partition);
         if (offset > 0) {
             consumer.consumer().seek(partition, offset);
         } else {
@@ -66,7 +86,7 @@ public class HCDCKafkaReceiver extends MessageReceiver<String, DFSChangeDelta> {
                 Preconditions.checkState(!Strings.isNullOrEmpty(zkStatePath()));
                 if (!zkConnection().isConnected())
                     zkConnection().connect();
-                stateManager = new KafkaStateManager(consumer.name(), topic, zkConnection(), zkStatePath());
+                stateManager = new KafkaStateManager(consumer.name(), topic, zkConnection(), zkStatePath(), stateEncoding);
                 states = new HashMap<>();
                 Set<TopicPartition> partitions = consumer.consumer().assignment();
                 if (partitions == null || partitions.isEmpty()) {
@@ -149,15 +169,22 @@ public class HCDCKafkaReceiver extends MessageReceiver<String, DFSChangeDelta> {
     public List<MessageObject<String, DFSChangeDelta>> nextBatch(long timeout) throws MessagingError {
         checkState();
         try {
+            if (pendingCount > 0 && isCommitDue()) {
+                commit();
+            }
             ConsumerRecords<String, byte[]> records = consumer.consumer().poll(Duration.ofMillis(timeout));
             if (records != null && records.count() > 0) {
                 List<MessageObject<String, DFSChangeDelta>> array = new ArrayList<>(records.count());
                 for (ConsumerRecord<String, byte[]> record : records) {
-                    DFSChangeDelta cd = DFSChangeDelta.parseFrom(record.value());
+                    byte[] data = decompress(record);
+                    DFSChangeDelta cd = DFSChangeDelta.parseFrom(data);
                     KafkaMessage<String, DFSChangeDelta> response = new KafkaMessage<>(record, cd);
+                    response.raw(data);
 
                     array.add(response);
-                    offsetMap.put(response.id(), new OffsetData(record.key(), record));
+                    OffsetData od = new OffsetData(record.key(), record);
+                    offsetMap.computeIfAbsent(response.id(), k -> new ArrayDeque<>()).add(od);
+                    inflight.computeIfAbsent(od.partition, p -> new AckTracker<>()).received(record.offset(), od.offset);
                 }
                 return array;
             }
@@ -167,6 +194,20 @@ public class HCDCKafkaReceiver extends MessageReceiver<String, DFSChangeDelta> {
         }
     }
 
+    private byte[] decompress(ConsumerRecord<String, byte[]> record) throws MessagingError {
+        Header header = record.headers().lastHeader(ChangeDeltaCompressor.HEADER_COMPRESSION);
+        if (header == null || header.value() == null) {
+            return record.value();
+        }
+        String s = new String(header.value(), StandardCharsets.UTF_8);
+        try {
+            return ChangeDeltaCompressor.decompress(record.value(), s, compressor);
+        } catch (MessagingError me) {
+            throw new MessagingError(String.format("%s [topic=%s][partition=%d][offset=%d]",
+                    me.getLocalizedMessage(), record.topic(), record.partition(), record.offset()), me);
+        }
+    }
+
     /**
      * @param messageIds
      * @throws MessagingError
@@ -176,18 +217,14 @@ public class HCDCKafkaReceiver extends MessageReceiver<String, DFSChangeDelta> {
         checkState();
         Preconditions.checkArgument(!messageIds.isEmpty());
         try {
-            Map<TopicPartition, OffsetAndMetadata> currentOffsets =
-                    new HashMap<>();
             for (String messageId : messageIds) {
-                if (offsetMap.containsKey(messageId)) {
-                    OffsetData od = offsetMap.get(messageId);
-                    currentOffsets.put(od.partition, od.offset);
-                    updateState(od.partition.partition(), od.offset.offset());
-                } else {
-                    throw new MessagingError(String.format("No record offset found for key. [key=%s]", messageId));
-                }
+                addPending(messageId);
+            }
+            if (!batchAcks() || isCommitDue()) {
+                commit();
             }
-            consumer.consumer().commitSync(currentOffsets);
+        } catch (MessagingError me) {
+            throw me;
         } catch (Exception ex) {
             throw new MessagingError(ex);
         }
@@ -201,22 +238,61 @@ public class HCDCKafkaReceiver extends MessageReceiver<String, DFSChangeDelta> {
     public void ack(@NonNull String messageId) throws MessagingError {
         checkState();
         try {
-            if (offsetMap.containsKey(messageId)) {
-                OffsetData od = offsetMap.get(messageId);
-                Map<TopicPartition, OffsetAndMetadata> currentOffsets =
-                        new HashMap<>();
-                currentOffsets.put(od.partition, od.offset);
-                consumer.consumer().commitSync(currentOffsets);
-
-                updateState(od.partition.partition(), od.offset.offset());
-            } else {
-                throw new MessagingError(String.format("No record offset found for key. [key=%s]", messageId));
+            addPending(messageId);
+            if (!batchAcks() || isCommitDue()) {
+                commit();
             }
+        } catch (MessagingError me) {
+            throw me;
         } catch (Exception ex) {
             throw new MessagingError(ex);
         }
     }
 
+    /**
+     * Commit the pending acknowledgements: the end of the contiguous acked prefix of each partition
+     * is committed to Kafka and saved to the ZooKeeper state in a single pass.
+     *
+     * @throws MessagingError
+     */
+    @Override
+    public void commit() throws MessagingError {
+        checkState();
+        if (pendingOffsets.isEmpty()) return;
+        try {
+            consumer.consumer().commitSync(pendingOffsets);
+            for (TopicPartition partition : pendingOffsets.keySet()) {
+                updateState(partition.partition(), pendingOffsets.get(partition).offset());
+            }
+            pendingOffsets.clear();
+            pendingCount = 0;
+            lastCommitTime = System.currentTimeMillis();
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    private void addPending(String messageId) throws MessagingError {
+        Deque<OffsetData> received = offsetMap.get(messageId);
+        OffsetData od = (received != null ? received.poll() : null);
+        if (received != null && received.isEmpty()) {
+            offsetMap.remove(messageId);
+        }
+        if (od == null) {
+            throw new MessagingError(String.format("No record offset found for key. [key=%s]", messageId));
+        }
+        pendingCount++;
+        AckTracker<OffsetAndMetadata> tracker = inflight.get(od.partition);
+        OffsetAndMetadata offset = (tracker != null ? tracker.ack(od.offset.offset()) : null);
+        if (offset != null) {
+            pendingOffsets.put(od.partition, offset);
+        }
+    }
+
+    private boolean isCommitDue() {
+        if (ackBatchSize() > 0 && pendingCount >= ackBatchSize()) return true;
+        return (ackInterval() > 0 && (System.currentTimeMillis() - lastCommitTime) >= ackInterval());
+    }
 
     /**
      * Closes this stream and releases any system resources associated
@@ -233,7 +309,13 @@ public class HCDCKafkaReceiver extends MessageReceiver<String, DFSChangeDelta> {
      */
     @Override
     public void close() throws IOException {
-
+        try {
+            if (consumer != null && consumer.isConnected()) {
+                commit();
+            }
+        } catch (MessagingError me) {
+            throw new IOException(me);
+        }
     }
 
     private synchronized void checkState() {
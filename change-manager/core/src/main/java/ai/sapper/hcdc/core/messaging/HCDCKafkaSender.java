@@ -1,6 +1,7 @@
 package ai.sapper.hcdc.core.messaging;
 
 import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
 import ai.sapper.hcdc.core.connections.impl.BasicKafkaProducer;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
@@ -21,6 +22,7 @@ public class HCDCKafkaSender extends MessageSender<String, DFSChangeDelta> {
     private BasicKafkaProducer producer = null;
     private String topic = null;
     private KafkaPartitioner<DFSChangeDelta> partitioner;
+    private ChangeDeltaCompressor compressor;
 
     public HCDCKafkaSender withTopic(String topic) {
         this.topic = topic;
@@ -32,6 +34,11 @@ public class HCDCKafkaSender extends MessageSender<String, DFSChangeDelta> {
         return this;
     }
 
+    public HCDCKafkaSender withCompressor(ChangeDeltaCompressor compressor) {
+        this.compressor = compressor;
+        return this;
+    }
+
     /**
      * @param message
      * @return
@@ -41,54 +48,100 @@ public class HCDCKafkaSender extends MessageSender<String, DFSChangeDelta> {
     public MessageObject<String, DFSChangeDelta> send(@NonNull MessageObject<String, DFSChangeDelta> message) throws MessagingError {
         checkState();
         try {
-            message.queue(topic);
-            if (Strings.isNullOrEmpty(message.id())) {
-                message.id(UUID.randomUUID().toString());
-            }
-            List<Header> headers = new ArrayList<>();
-            Header h = new RecordHeader(MessageObject.HEADER_MESSAGE_ID, message.id().getBytes(StandardCharsets.UTF_8));
-            headers.add(h);
-            if (!Strings.isNullOrEmpty(message.correlationId())) {
-                h = new RecordHeader(MessageObject.HEADER_CORRELATION_ID, message.correlationId().getBytes(StandardCharsets.UTF_8));
-                headers.add(h);
-            }
-            if (message.mode() == null) {
-                throw new MessagingError(String.format("Invalid Message Object: mode not set. [id=%s]", message.id()));
-            }
-            h = new RecordHeader(MessageObject.HEADER_MESSAGE_MODE, message.mode().name().getBytes(StandardCharsets.UTF_8));
-            headers.add(h);
-
-            byte[] data = message.value().toByteArray();
-            Future<RecordMetadata> result = null;
-            Integer partition = null;
-            if (partitioner != null) {
-                partition = partitioner.partition(message.value());
-            }
-            result = producer.producer().send(new ProducerRecord<>(topic, partition, message.key(), data, headers));
+            Future<RecordMetadata> result = producer.producer().send(record(message));
             RecordMetadata rm = result.get();
 
             return message;
+        } catch (MessagingError me) {
+            throw me;
         } catch (Exception ex) {
             throw new MessagingError(ex);
         }
     }
 
     /**
+     * Send the messages as a single pipelined batch: all records are handed to the producer
+     * without blocking, the producer is flushed once and the results are then awaited in order.
+     * Per-partition ordering is preserved by the producer (idempotent producer with bounded in-flight requests).
+     * <p>
+     * Returns the messages that have been acknowledged, which is always a prefix of the input list.
+     * If a send fails after some messages have been acknowledged, the acknowledged prefix is returned
+     * and the remaining messages should be re-sent by the caller.
+     *
      * @param messages
-     * @return
-     * @throws MessagingError
+     * @return - Acknowledged messages (in order)
+     * @throws MessagingError - If no message could be acknowledged.
      */
     @Override
     public List<MessageObject<String, DFSChangeDelta>> sent(@NonNull List<MessageObject<String, DFSChangeDelta>> messages) throws MessagingError {
         checkState();
-        List<MessageObject<String, DFSChangeDelta>> responses = new ArrayList<>(messages.size());
+        List<Future<RecordMetadata>> results = new ArrayList<>(messages.size());
+        Throwable error = null;
         for (MessageObject<String, DFSChangeDelta> message : messages) {
-            MessageObject<String, DFSChangeDelta> response = send(message);
-            responses.add(response);
+            try {
+                results.add(producer.producer().send(record(message)));
+            } catch (Throwable t) {
+                error = t;
+                break;
+            }
+        }
+        producer.producer().flush();
+
+        List<MessageObject<String, DFSChangeDelta>> responses = new ArrayList<>(results.size());
+        for (int ii = 0; ii < results.size(); ii++) {
+            try {
+                RecordMetadata rm = results.get(ii).get();
+                responses.add(messages.get(ii));
+            } catch (Throwable t) {
+                error = t;
+                break;
+            }
+        }
+        if (error != null) {
+            if (responses.isEmpty()) {
+                throw new MessagingError(String.format("Batch send failed. [topic=%s]", topic), error);
+            }
+            DefaultLogger.LOG.error(String.format("Batch send failed. [topic=%s][sent=%d][total=%d][error=%s]",
+                    topic, responses.size(), messages.size(), error.getLocalizedMessage()));
         }
         return responses;
     }
 
+    private ProducerRecord<String, byte[]> record(MessageObject<String, DFSChangeDelta> message) throws MessagingError {
+        message.queue(topic);
+        if (Strings.isNullOrEmpty(message.id())) {
+            message.id(UUID.randomUUID().toString());
+        }
+        List<Header> headers = new ArrayList<>();
+        Header h = new RecordHeader(MessageObject.HEADER_MESSAGE_ID, message.id().getBytes(StandardCharsets.UTF_8));
+        headers.add(h);
+        if (!Strings.isNullOrEmpty(message.correlationId())) {
+            h = new RecordHeader(MessageObject.HEADER_CORRELATION_ID, message.correlationId().getBytes(StandardCharsets.UTF_8));
+            headers.add(h);
+        }
+        if (message.mode() == null) {
+            throw new MessagingError(String.format("Invalid Message Object: mode not set. [id=%s]", message.id()));
+        }
+        h = new RecordHeader(MessageObject.HEADER_MESSAGE_MODE, message.mode().name().getBytes(StandardCharsets.UTF_8));
+        headers.add(h);
+
+        byte[] data = ChangeDeltaSerDe.serialize(message);
+        if (compressor != null) {
+            byte[] compressed = compressor.compress(data);
+            if (compressed != null) {
+                data = compressed;
+                h = new RecordHeader(ChangeDeltaCompressor.HEADER_COMPRESSION,
+                        compressor.header().getBytes(StandardCharsets.UTF_8));
+                headers.add(h);
+            }
+        }
+        Integer partition = null;
+        if (partitioner != null) {
+            partition = partitioner.partition(message.value());
+        }
+        return new ProducerRecord<>(topic, partition, message.key(), data, headers);
+    }
+
     /**
      * Closes this stream and releases any system resources associated
      * with it. If the stream is already closed then invoking this
@@ -0,0 +1,226 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.core.connections.LocalLogConnection;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Receiver reading a local MappedLog. The read position of the consumer is saved in the log
+ * directory (the ZooKeeper state settings are not used): a commit saves the offset following
+ * the contiguous acknowledged prefix of the received messages.
+ */
+public class HCDCLogReceiver extends MessageReceiver<String, DFSChangeDelta> {
+    private static final long DEFAULT_RECEIVE_TIMEOUT = 30000; // 30 secs default timeout.
+    private static final long POLL_INTERVAL = 100;
+
+    private final Queue<MessageObject<String, DFSChangeDelta>> cache = new ArrayDeque<>();
+    private final Map<String, Deque<Long>> offsetMap = new HashMap<>();
+    private final AckTracker<Long> inflight = new AckTracker<>();
+    private long pendingOffset = -1;
+    private int pendingCount = 0;
+    private long lastCommitTime = System.currentTimeMillis();
+
+    private LocalLogConnection logConnection = null;
+    private MappedLog.Reader reader = null;
+    private String consumer;
+
+    /**
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageReceiver<String, DFSChangeDelta> init() throws MessagingError {
+        Preconditions.checkState(connection() instanceof LocalLogConnection);
+        logConnection = (LocalLogConnection) connection();
+        try {
+            if (!logConnection.isConnected()) {
+                logConnection.connect();
+            }
+            consumer = logConnection.logConfig().consumer();
+            reader = logConnection.log().reader(logConnection.log().offset(consumer));
+            return this;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    /**
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageObject<String, DFSChangeDelta> receive() throws MessagingError {
+        return receive(DEFAULT_RECEIVE_TIMEOUT);
+    }
+
+    /**
+     * @param timeout
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageObject<String, DFSChangeDelta> receive(long timeout) throws MessagingError {
+        checkState();
+        if (cache.isEmpty()) {
+            List<MessageObject<String, DFSChangeDelta>> batch = nextBatch(timeout);
+            if (batch != null) {
+                cache.addAll(batch);
+            }
+        }
+        return cache.poll();
+    }
+
+    /**
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public List<MessageObject<String, DFSChangeDelta>> nextBatch() throws MessagingError {
+        return nextBatch(DEFAULT_RECEIVE_TIMEOUT);
+    }
+
+    /**
+     * Read up to batchSize records, waits (until the timeout) if no record is available.
+     *
+     * @param timeout
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public List<MessageObject<String, DFSChangeDelta>> nextBatch(long timeout) throws MessagingError {
+        checkState();
+        try {
+            if (pendingCount > 0 && isCommitDue()) {
+                commit();
+            }
+            long deadline = System.currentTimeMillis() + timeout;
+            while (true) {
+                List<MessageObject<String, DFSChangeDelta>> array = new ArrayList<>();
+                while (array.size() < batchSize()) {
+                    long offset = reader.position();
+                    byte[] record = reader.next();
+                    if (record == null) break;
+                    LogMessage message = new LogMessage(logConnection.topic(), offset, reader.position(), record);
+                    array.add(message);
+                    offsetMap.computeIfAbsent(message.id(), k -> new ArrayDeque<>()).add(offset);
+                    inflight.received(offset, message.nextOffset());
+                }
+                if (!array.isEmpty()) {
+                    return array;
+                }
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    return null;
+                }
+                logConnection.log().await(reader.position(), Math.min(wait, POLL_INTERVAL));
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new MessagingError(ie);
+        } catch (MessagingError me) {
+            throw me;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    /**
+     * @param messageIds
+     * @throws MessagingError
+     */
+    @Override
+    public void ack(@NonNull List<String> messageIds) throws MessagingError {
+        checkState();
+        Preconditions.checkArgument(!messageIds.isEmpty());
+        for (String messageId : messageIds) {
+            addPending(messageId);
+        }
+        if (!batchAcks() || isCommitDue()) {
+            commit();
+        }
+    }
+
+    /**
+     * @param messageId
+     * @throws MessagingError
+     */
+    @Override
+    public void ack(@NonNull String messageId) throws MessagingError {
+        checkState();
+        addPending(messageId);
+        if (!batchAcks() || isCommitDue()) {
+            commit();
+        }
+    }
+
+    /**
+     * Save the consumer offset, and delete the segments read by all the configured consumers
+     * if enabled (deleteConsumed).
+     *
+     * @throws MessagingError
+     */
+    @Override
+    public void commit() throws MessagingError {
+        checkState();
+        if (pendingOffset < 0) return;
+        try {
+            logConnection.log().commit(consumer, pendingOffset);
+            if (logConnection.logConfig().deleteConsumed()) {
+                logConnection.log().cleanup(logConnection.logConfig().consumers());
+            }
+            pendingOffset = -1;
+            pendingCount = 0;
+            lastCommitTime = System.currentTimeMillis();
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    private void addPending(String messageId) throws MessagingError {
+        Deque<Long> received = offsetMap.get(messageId);
+        Long offset = (received != null ? received.poll() : null);
+        if (received != null && received.isEmpty()) {
+            offsetMap.remove(messageId);
+        }
+        if (offset == null) {
+            throw new MessagingError(String.format("No record offset found for key. [key=%s]", messageId));
+        }
+        pendingCount++;
+        Long next = inflight.ack(offset);
+        if (next != null) {
+            pendingOffset = next;
+        }
+    }
+
+    private boolean isCommitDue() {
+        if (ackBatchSize() > 0 && pendingCount >= ackBatchSize()) return true;
+        return (ackInterval() > 0 && (System.currentTimeMillis() - lastCommitTime) >= ackInterval());
+    }
+
+    /**
+     * Commits the pending acknowledgements, the log is released by the connection.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (logConnection != null && logConnection.isConnected()) {
+                commit();
+            }
+        } catch (MessagingError me) {
+            throw new IOException(me);
+        }
+    }
+
+    private synchronized void checkState() {
+        Preconditions.checkState(connection() != null);
+        Preconditions.checkState(connection().isConnected());
+        Preconditions.checkState(logConnection != null);
+        Preconditions.checkState(reader != null);
+    }
+}
@@ -0,0 +1,95 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.core.connections.LocalLogConnection;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class HCDCLogSender extends MessageSender<String, DFSChangeDelta> {
+    private LocalLogConnection logConnection = null;
+
+    /**
+     * @param message
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageObject<String, DFSChangeDelta> send(@NonNull MessageObject<String, DFSChangeDelta> message) throws MessagingError {
+        checkState();
+        try {
+            logConnection.log().append(record(message));
+            if (logConnection.logConfig().sync()) {
+                logConnection.log().sync();
+            }
+            return message;
+        } catch (MessagingError me) {
+            throw me;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    /**
+     * Append the messages to the log as a single batch (synced once if sync is enabled).
+     *
+     * @param messages
+     * @return - Sent messages (all or none)
+     * @throws MessagingError
+     */
+    @Override
+    public List<MessageObject<String, DFSChangeDelta>> sent(@NonNull List<MessageObject<String, DFSChangeDelta>> messages) throws MessagingError {
+        checkState();
+        try {
+            List<byte[]> records = new ArrayList<>(messages.size());
+            for (MessageObject<String, DFSChangeDelta> message : messages) {
+                records.add(record(message));
+            }
+            logConnection.log().append(records);
+            if (logConnection.logConfig().sync()) {
+                logConnection.log().sync();
+            }
+            return messages;
+        } catch (MessagingError me) {
+            throw me;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    private byte[] record(MessageObject<String, DFSChangeDelta> message) throws Exception {
+        message.queue(logConnection.topic());
+        if (Strings.isNullOrEmpty(message.id())) {
+            message.id(UUID.randomUUID().toString());
+        }
+        if (message.mode() == null) {
+            throw new MessagingError(String.format("Invalid Message Object: mode not set. [id=%s]", message.id()));
+        }
+        return LogMessage.encode(message);
+    }
+
+    /**
+     * The log is released by the connection.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+
+    }
+
+    private void checkState() {
+        Preconditions.checkState(connection() != null);
+        Preconditions.checkState(connection() instanceof LocalLogConnection);
+        Preconditions.checkState(connection().isConnected());
+
+        if (logConnection == null) {
+            logConnection = (LocalLogConnection) connection();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.core.connections.MemoryQueueConnection;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Receiver reading an in-process queue. Acknowledgements are counted by the queue (nothing
+ * is committed), the ZooKeeper state settings are not used.
+ */
+public class HCDCMemoryReceiver extends MessageReceiver<String, DFSChangeDelta> {
+    private static final long DEFAULT_RECEIVE_TIMEOUT = 30000; // 30 secs default timeout.
+
+    private final Queue<MessageObject<String, DFSChangeDelta>> cache = new ArrayDeque<>();
+    // Received (not yet acknowledged) count per message ID, IDs are not unique.
+    private final Map<String, Integer> received = new HashMap<>();
+    private int pendingCount = 0;
+    private long lastCommitTime = System.currentTimeMillis();
+    private MemoryQueueConnection queueConnection = null;
+
+    /**
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageReceiver<String, DFSChangeDelta> init() throws MessagingError {
+        Preconditions.checkState(connection() instanceof MemoryQueueConnection);
+        queueConnection = (MemoryQueueConnection) connection();
+        try {
+            if (!queueConnection.isConnected()) {
+                queueConnection.connect();
+            }
+            return this;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    /**
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageObject<String, DFSChangeDelta> receive() throws MessagingError {
+        return receive(DEFAULT_RECEIVE_TIMEOUT);
+    }
+
+    /**
+     * @param timeout
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageObject<String, DFSChangeDelta> receive(long timeout) throws MessagingError {
+        checkState();
+        if (cache.isEmpty()) {
+            List<MessageObject<String, DFSChangeDelta>> batch = nextBatch(timeout);
+            if (batch != null) {
+                cache.addAll(batch);
+            }
+        }
+        return cache.poll();
+    }
+
+    /**
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public List<MessageObject<String, DFSChangeDelta>> nextBatch() throws MessagingError {
+        return nextBatch(DEFAULT_RECEIVE_TIMEOUT);
+    }
+
+    /**
+     * Wait (until the timeout) for a message, then drain up to batchSize messages.
+     *
+     * @param timeout
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public List<MessageObject<String, DFSChangeDelta>> nextBatch(long timeout) throws MessagingError {
+        checkState();
+        try {
+            if (pendingCount > 0) {
+                commit();
+            }
+            MessageObject<String, DFSChangeDelta> message = queueConnection.queue().poll(timeout);
+            if (message == null) {
+                return null;
+            }
+            List<MessageObject<String, DFSChangeDelta>> array = new ArrayList<>(batchSize());
+            while (message != null) {
+                array.add(message);
+                received.merge(message.id(), 1, Integer::sum);
+                if (array.size() >= batchSize()) break;
+                message = queueConnection.queue().poll();
+            }
+            return array;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new MessagingError(ie);
+        }
+    }
+
+    /**
+     * @param messageIds
+     * @throws MessagingError
+     */
+    @Override
+    public void ack(@NonNull List<String> messageIds) throws MessagingError {
+        checkState();
+        Preconditions.checkArgument(!messageIds.isEmpty());
+        for (String messageId : messageIds) {
+            addPending(messageId);
+        }
+        if (!batchAcks() || isCommitDue()) {
+            commit();
+        }
+    }
+
+    /**
+     * @param messageId
+     * @throws MessagingError
+     */
+    @Override
+    public void ack(@NonNull String messageId) throws MessagingError {
+        checkState();
+        addPending(messageId);
+        if (!batchAcks() || isCommitDue()) {
+            commit();
+        }
+    }
+
+    /**
+     * Release the pending acknowledgements to the sender.
+     *
+     * @throws MessagingError
+     */
+    @Override
+    public void commit() throws MessagingError {
+        checkState();
+        if (pendingCount == 0) return;
+        queueConnection.queue().ack(pendingCount);
+        pendingCount = 0;
+        lastCommitTime = System.currentTimeMillis();
+    }
+
+    private void addPending(String messageId) throws MessagingError {
+        Integer count = received.get(messageId);
+        if (count == null) {
+            throw new MessagingError(String.format("No received message found for key. [key=%s]", messageId));
+        }
+        if (count > 1) {
+            received.put(messageId, count - 1);
+        } else {
+            received.remove(messageId);
+        }
+        pendingCount++;
+    }
+
+    private boolean isCommitDue() {
+        if (ackBatchSize() > 0 && pendingCount >= ackBatchSize()) return true;
+        return (ackInterval() > 0 && (System.currentTimeMillis() - lastCommitTime) >= ackInterval());
+    }
+
+    /**
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (queueConnection != null && queueConnection.isConnected()) {
+                commit();
+            }
+        } catch (MessagingError me) {
+            throw new IOException(me);
+        }
+    }
+
+    private synchronized void checkState() {
+        Preconditions.checkState(connection() != null);
+        Preconditions.checkState(connection().isConnected());
+        Preconditions.checkState(queueConnection != null);
+    }
+}
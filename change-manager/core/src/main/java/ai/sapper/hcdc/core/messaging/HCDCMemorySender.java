@@ -0,0 +1,104 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.core.connections.MemoryQueueConnection;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+public class HCDCMemorySender extends MessageSender<String, DFSChangeDelta> {
+    private MemoryQueueConnection queueConnection = null;
+
+    /**
+     * @param message
+     * @return
+     * @throws MessagingError
+     */
+    @Override
+    public MessageObject<String, DFSChangeDelta> send(@NonNull MessageObject<String, DFSChangeDelta> message) throws MessagingError {
+        checkState();
+        try {
+            put(message);
+            return message;
+        } catch (MessagingError me) {
+            throw me;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    /**
+     * @param messages
+     * @return - Sent messages (all or none)
+     * @throws MessagingError
+     */
+    @Override
+    public List<MessageObject<String, DFSChangeDelta>> sent(@NonNull List<MessageObject<String, DFSChangeDelta>> messages) throws MessagingError {
+        checkState();
+        try {
+            for (MessageObject<String, DFSChangeDelta> message : messages) {
+                put(message);
+            }
+            return messages;
+        } catch (MessagingError me) {
+            throw me;
+        } catch (Exception ex) {
+            throw new MessagingError(ex);
+        }
+    }
+
+    /**
+     * Wait until the receiver has acknowledged all the sent messages.
+     *
+     * @throws MessagingError - If the acknowledgements time out.
+     */
+    @Override
+    public void flush() throws MessagingError {
+        checkState();
+        try {
+            if (!queueConnection.queue().await(queueConnection.queueConfig().ackTimeout())) {
+                throw new MessagingError(String.format("Timeout waiting for acknowledgements. [queue=%s]",
+                        queueConnection.queue().name()));
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new MessagingError(ie);
+        }
+    }
+
+    private void put(MessageObject<String, DFSChangeDelta> message) throws Exception {
+        message.queue(queueConnection.queue().name());
+        if (Strings.isNullOrEmpty(message.id())) {
+            message.id(UUID.randomUUID().toString());
+        }
+        if (message.mode() == null) {
+            throw new MessagingError(String.format("Invalid Message Object: mode not set. [id=%s]", message.id()));
+        }
+        if (!queueConnection.queue().put(message, queueConnection.queueConfig().ackTimeout())) {
+            throw new MessagingError(String.format("Timeout waiting for queue space. [queue=%s]",
+                    queueConnection.queue().name()));
+        }
+    }
+
+    /**
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+
+    }
+
+    private void checkState() {
+        Preconditions.checkState(connection() != null);
+        Preconditions.checkState(connection() instanceof MemoryQueueConnection);
+        Preconditions.checkState(connection().isConnected());
+
+        if (queueConnection == null) {
+            queueConnection = (MemoryQueueConnection) connection();
+        }
+    }
+}
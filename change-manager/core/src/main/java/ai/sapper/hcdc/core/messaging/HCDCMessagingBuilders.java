@@ -1,7 +1,10 @@
 package ai.sapper.hcdc.core.messaging;
 
 import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.common.utils.StateSerDe;
 import ai.sapper.hcdc.core.connections.ConnectionManager;
+import ai.sapper.hcdc.core.connections.LocalLogConnection;
+import ai.sapper.hcdc.core.connections.MemoryQueueConnection;
 import ai.sapper.hcdc.core.connections.ZookeeperConnection;
 import ai.sapper.hcdc.core.connections.impl.BasicKafkaConsumer;
 import ai.sapper.hcdc.core.connections.impl.BasicKafkaProducer;
@@ -16,7 +19,7 @@ import org.apache.commons.configuration2.tree.ImmutableNode;
 
 public class HCDCMessagingBuilders {
     public enum EConnectionType {
-        Unknown, Kafka;
+        Unknown, Kafka, Log, Memory;
 
         public static EConnectionType parse(@NonNull String type) {
             for (EConnectionType t : EConnectionType.values()) {
@@ -48,6 +51,10 @@ public class HCDCMessagingBuilders {
             }
             if (ct == EConnectionType.Kafka) {
                 return buildKafka();
+            } else if (ct == EConnectionType.Log) {
+                return buildLog();
+            } else if (ct == EConnectionType.Memory) {
+                return buildMemory();
             }
             throw new MessagingError(String.format("Connection type not implemented. [type=%s]", ct.name()));
         }
@@ -70,8 +77,14 @@ public class HCDCMessagingBuilders {
                     }
                 }
 
+                ChangeDeltaCompressor compressor = null;
+                if (config != null) {
+                    compressor = ChangeDeltaCompressor.create(config);
+                }
+
                 return new HCDCKafkaSender()
                         .withPartitioner(part)
+                        .withCompressor(compressor)
                         .withConnection(kc);
             } catch (MessagingError me) {
                 throw me;
@@ -79,6 +92,42 @@ public class HCDCMessagingBuilders {
                 throw new MessagingError(ex);
             }
         }
+
+        private MessageSender<String, DFSChangeDelta> buildLog() throws MessagingError {
+            try {
+                LocalLogConnection lc = manager.getConnection(connection, LocalLogConnection.class);
+                if (lc == null) {
+                    throw new MessagingError(String.format("Log Connection not found. [name=%s]", connection));
+                }
+                if (!lc.isConnected()) {
+                    lc.connect();
+                }
+                return new HCDCLogSender()
+                        .withConnection(lc);
+            } catch (MessagingError me) {
+                throw me;
+            } catch (Exception ex) {
+                throw new MessagingError(ex);
+            }
+        }
+
+        private MessageSender<String, DFSChangeDelta> buildMemory() throws MessagingError {
+            try {
+                MemoryQueueConnection qc = manager.getConnection(connection, MemoryQueueConnection.class);
+                if (qc == null) {
+                    throw new MessagingError(String.format("Queue Connection not found. [name=%s]", connection));
+                }
+                if (!qc.isConnected()) {
+                    qc.connect();
+                }
+                return new HCDCMemorySender()
+                        .withConnection(qc);
+            } catch (MessagingError me) {
+                throw me;
+            } catch (Exception ex) {
+                throw new MessagingError(ex);
+            }
+        }
     }
 
     @Getter
@@ -90,10 +139,13 @@ public class HCDCMessagingBuilders {
         private ZookeeperConnection zkConnection;
         private String zkStatePath;
         private boolean saveState = false;
+        private StateSerDe.EEncoding stateEncoding = StateSerDe.EEncoding.JSON;
 
         private HierarchicalConfiguration<ImmutableNode> config;
         private ConnectionManager manager;
         private int batchSize = -1;
+        private int ackBatchSize = -1;
+        private long ackInterval = -1;
 
         public MessageReceiver<String, DFSChangeDelta> build() throws MessagingError {
             Preconditions.checkArgument(!Strings.isNullOrEmpty(type));
@@ -106,6 +158,10 @@ public class HCDCMessagingBuilders {
                 }
                 if (ct == EConnectionType.Kafka) {
                     return buildKafka().init();
+                } else if (ct == EConnectionType.Log) {
+                    return buildLog().init();
+                } else if (ct == EConnectionType.Memory) {
+                    return buildMemory().init();
                 }
                 throw new MessagingError(String.format("Connection type not implemented. [type=%s]", ct.name()));
             } catch (MessagingError me) {
@@ -123,11 +179,46 @@ public class HCDCMessagingBuilders {
             if (!kc.isConnected()) {
                 kc.connect();
             }
+            ChangeDeltaCompressor compressor = null;
+            if (config != null) {
+                compressor = ChangeDeltaCompressor.create(config);
+            }
             return new HCDCKafkaReceiver()
+                    .withCompressor(compressor)
+                    .withStateEncoding(stateEncoding)
                     .withConnection(kc)
                     .withSaveState(saveState)
                     .withZkPath(zkStatePath)
-                    .withZookeeperConnection(zkConnection);
+                    .withZookeeperConnection(zkConnection)
+                    .withAckBatching(ackBatchSize, ackInterval);
+        }
+
+        private MessageReceiver<String, DFSChangeDelta> buildLog() throws Exception {
+            LocalLogConnection lc = manager.getConnection(connection, LocalLogConnection.class);
+            if (lc == null) {
+                throw new MessagingError(String.format("Log Connection not found. [name=%s]", connection));
+            }
+            if (!lc.isConnected()) {
+                lc.connect();
+            }
+            return new HCDCLogReceiver()
+                    .withConnection(lc)
+                    .withBatchSize(batchSize)
+                    .withAckBatching(ackBatchSize, ackInterval);
+        }
+
+        private MessageReceiver<String, DFSChangeDelta> buildMemory() throws Exception {
+            MemoryQueueConnection qc = manager.getConnection(connection, MemoryQueueConnection.class);
+            if (qc == null) {
+                throw new MessagingError(String.format("Queue Connection not found. [name=%s]", connection));
+            }
+            if (!qc.isConnected()) {
+                qc.connect();
+            }
+            return new HCDCMemoryReceiver()
+                    .withConnection(qc)
+                    .withBatchSize(batchSize)
+                    .withAckBatching(ackBatchSize, ackInterval);
         }
     }
 }
@@ -1,6 +1,9 @@
 package ai.sapper.hcdc.core.messaging;
 
+import ai.sapper.hcdc.common.model.KafkaMessageStateData;
+import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 
 @Getter
@@ -12,4 +15,29 @@ public class KafkaMessageState {
     private long partition = 0;
     private long offset = -1;
     private long updateTimestamp;
+
+    /**
+     * The path, name and topic are required proto fields: unset (null) values are saved as
+     * empty strings and read back as null.
+     */
+    public KafkaMessageStateData convertToProto() {
+        return KafkaMessageStateData.newBuilder()
+                .setPath(Strings.nullToEmpty(path))
+                .setName(Strings.nullToEmpty(name))
+                .setTopic(Strings.nullToEmpty(topic))
+                .setPartition(partition)
+                .setOffset(offset)
+                .setUpdateTimestamp(updateTimestamp)
+                .build();
+    }
+
+    public KafkaMessageState parseFrom(@NonNull KafkaMessageStateData proto) {
+        path = Strings.emptyToNull(proto.getPath());
+        name = Strings.emptyToNull(proto.getName());
+        topic = Strings.emptyToNull(proto.getTopic());
+        partition = proto.getPartition();
+        offset = proto.getOffset();
+        updateTimestamp = proto.getUpdateTimestamp();
+        return this;
+    }
 }
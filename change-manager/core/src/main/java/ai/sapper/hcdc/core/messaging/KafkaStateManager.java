@@ -1,13 +1,17 @@
 package ai.sapper.hcdc.core.messaging;
 
+import ai.sapper.hcdc.common.model.KafkaMessageStateData;
 import ai.sapper.hcdc.common.utils.JSONUtils;
 import ai.sapper.hcdc.common.utils.PathUtils;
+import ai.sapper.hcdc.common.utils.StateSerDe;
 import ai.sapper.hcdc.core.connections.ZookeeperConnection;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
 import org.apache.curator.framework.CuratorFramework;
 
+import java.nio.charset.StandardCharsets;
+
 @Getter
 @Accessors(fluent = true)
 public class KafkaStateManager {
@@ -15,18 +19,30 @@ public class KafkaStateManager {
     private final String topic;
     private final ZookeeperConnection zkConnection;
     private final String zkStatePath;
+    private final StateSerDe.EEncoding encoding;
 
     public KafkaStateManager(@NonNull String name,
                              @NonNull String topic,
                              @NonNull ZookeeperConnection zkConnection,
                              @NonNull String zkStatePath) {
+        this(name, topic, zkConnection, zkStatePath, StateSerDe.EEncoding.JSON);
+    }
+
+    /**
+     * @param encoding - Encoding of the saved offsets, both encodings are always read.
+     */
+    public KafkaStateManager(@NonNull String name,
+                             @NonNull String topic,
+                             @NonNull ZookeeperConnection zkConnection,
+                             @NonNull String zkStatePath,
+                             @NonNull StateSerDe.EEncoding encoding) {
         this.name = name;
         this.topic = topic;
         this.zkConnection = zkConnection;
         this.zkStatePath = zkStatePath;
+        this.encoding = encoding;
     }
 
-
     public KafkaMessageState getState(long partition) throws Exception {
         String path = getZkPath(partition);
         CuratorFramework client = zkConnection().client();
@@ -42,14 +58,17 @@ public class KafkaStateManager {
             state.setPartition(partition);
             state.setUpdateTimestamp(System.currentTimeMillis());
 
-            byte[] data = JSONUtils.asBytes(state, KafkaMessageState.class);
-            client.setData().forPath(path, data);
+            client.setData().forPath(path, encode(state));
         } else {
             byte[] data = client.getData().forPath(path);
             if (data == null || data.length == 0) {
                 throw new MessagingError(String.format("Invalid Kafka Message state. [path=%s]", path));
             }
-            state = JSONUtils.read(data, KafkaMessageState.class);
+            if (StateSerDe.isEncoded(data)) {
+                state = new KafkaMessageState().parseFrom(KafkaMessageStateData.parseFrom(StateSerDe.decode(data)));
+            } else {
+                state = JSONUtils.read(data, KafkaMessageState.class);
+            }
         }
 
         return state;
@@ -62,12 +81,18 @@ public class KafkaStateManager {
 
         CuratorFramework client = zkConnection().client();
         String path = getZkPath(partition);
-        byte[] data = JSONUtils.asBytes(state, KafkaMessageState.class);
-        client.setData().forPath(path, data);
+        client.setData().forPath(path, encode(state));
 
         return state;
     }
 
+    private byte[] encode(KafkaMessageState state) throws Exception {
+        if (encoding == StateSerDe.EEncoding.BINARY) {
+            return StateSerDe.encode(state.convertToProto(), -1);
+        }
+        return JSONUtils.asString(state, KafkaMessageState.class).getBytes(StandardCharsets.UTF_8);
+    }
+
     private String getZkPath(long partition) {
         return PathUtils.formatZkPath(String.format("%s/%s/%s/%d", zkStatePath(), name, topic(), partition));
     }
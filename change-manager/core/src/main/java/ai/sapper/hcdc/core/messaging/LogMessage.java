@@ -0,0 +1,60 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Message read from a MappedLog. The log record holds the message headers, the key and the
+ * serialized change delta.
+ */
+@Getter
+@Accessors(fluent = true)
+public class LogMessage extends MessageObject<String, DFSChangeDelta> {
+    private final long offset;
+    private final long nextOffset;
+
+    public LogMessage(@NonNull String queue, long offset, long nextOffset, @NonNull byte[] record) throws IOException {
+        this.offset = offset;
+        this.nextOffset = nextOffset;
+        queue(queue);
+        try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(record))) {
+            id(dis.readUTF());
+            String cid = dis.readUTF();
+            if (!Strings.isNullOrEmpty(cid)) {
+                correlationId(cid);
+            }
+            mode(MessageMode.valueOf(dis.readUTF()));
+            String key = dis.readUTF();
+            if (!Strings.isNullOrEmpty(key)) {
+                key(key);
+            }
+            byte[] data = new byte[dis.readInt()];
+            dis.readFully(data);
+            value(DFSChangeDelta.parseFrom(data));
+            raw(data);
+        }
+    }
+
+    public static byte[] encode(@NonNull MessageObject<String, DFSChangeDelta> message) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DataOutputStream dos = new DataOutputStream(bos)) {
+            dos.writeUTF(message.id());
+            dos.writeUTF(Strings.nullToEmpty(message.correlationId()));
+            dos.writeUTF(message.mode().name());
+            dos.writeUTF(Strings.nullToEmpty(message.key()));
+            byte[] data = ChangeDeltaSerDe.serialize(message);
+            dos.writeInt(data.length);
+            dos.write(data);
+        }
+        return bos.toByteArray();
+    }
+}
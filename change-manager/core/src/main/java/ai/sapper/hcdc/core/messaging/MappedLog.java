@@ -0,0 +1,445 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped, segmented log.
+ * <p>
+ * Segments are pre-allocated files of a fixed size, named by the log offset of their first
+ * byte. A record is stored as [length][crc][payload], the length is written last so readers
+ * (in this or another process) never see a partial record: a zero length is the end of the log
+ * and a record with an invalid checksum is not visible yet. A record that does not fit in the
+ * active segment is written to a new segment, the remaining space is marked as skipped.
+ * Offsets are log byte positions: the offset of a record is its position, the next offset is
+ * the position of the following record.
+ * <p>
+ * Consumers save the offset of the next record to read by name (per-consumer offsets).
+ * A log directory must have a single writer, logs opened in the same process are shared.
+ */
+@Getter
+@Accessors(fluent = true)
+public class MappedLog implements Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final Pattern SEGMENT_REGEX = Pattern.compile("^(\\d{20})\\.log$");
+    private static final String CONSUMERS_DIR = "consumers";
+    private static final String OFFSET_EXT = ".offset";
+    private static final int HEADER_SIZE = 8;
+    private static final int SKIP_MARKER = -1;
+
+    private static final Map<String, MappedLog> __logs = new HashMap<>();
+
+    private final File directory;
+    private final int segmentSize;
+    @Getter(AccessLevel.NONE)
+    private int references = 0;
+    @Getter(AccessLevel.NONE)
+    private MappedByteBuffer active;
+    @Getter(AccessLevel.NONE)
+    private long activeBase = -1;
+    @Getter(AccessLevel.NONE)
+    private final Object appended = new Object();
+    private volatile long endOffset = -1;
+
+    private MappedLog(File directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Open (or create) the log in the directory, returns the shared instance if the log is
+     * already open in this process. Every open() must be matched by a close().
+     *
+     * @param directory   - Log directory
+     * @param segmentSize - Size of the segment files
+     * @return - Log
+     * @throws IOException
+     */
+    public static MappedLog open(@NonNull File directory, int segmentSize) throws IOException {
+        Preconditions.checkArgument(segmentSize > HEADER_SIZE);
+        String key = directory.getCanonicalPath();
+        synchronized (__logs) {
+            MappedLog log = __logs.get(key);
+            if (log == null) {
+                File consumers = new File(directory, CONSUMERS_DIR);
+                if (!consumers.exists() && !consumers.mkdirs()) {
+                    throw new IOException(String.format("Error creating log directory. [path=%s]",
+                            consumers.getAbsolutePath()));
+                }
+                log = new MappedLog(directory, segmentSize);
+                __logs.put(key, log);
+            }
+            log.references++;
+            return log;
+        }
+    }
+
+    /**
+     * Append a record.
+     *
+     * @param record - Record data
+     * @return - Offset of the record
+     * @throws IOException
+     */
+    public long append(@NonNull byte[] record) throws IOException {
+        long offset;
+        synchronized (this) {
+            offset = write(record);
+        }
+        signal();
+        return offset;
+    }
+
+    /**
+     * Append the records, readers are signalled once for the batch.
+     *
+     * @param records - Records data
+     * @return - Next offset after the last record
+     * @throws IOException
+     */
+    public long append(@NonNull List<byte[]> records) throws IOException {
+        long offset;
+        synchronized (this) {
+            for (byte[] record : records) {
+                write(record);
+            }
+            offset = endOffset;
+        }
+        signal();
+        return offset;
+    }
+
+    /**
+     * Force the active segment to the storage device.
+     */
+    public synchronized void sync() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    private long write(byte[] record) throws IOException {
+        if (record.length > segmentSize - HEADER_SIZE - Integer.BYTES) {
+            throw new IOException(String.format("Record exceeds segment size. [path=%s][size=%d]",
+                    directory.getAbsolutePath(), record.length));
+        }
+        if (active == null) {
+            recover();
+        }
+        int position = (int) (endOffset - activeBase);
+        if (position + HEADER_SIZE + record.length > active.capacity()) {
+            if (position + Integer.BYTES <= active.capacity()) {
+                active.putInt(position, SKIP_MARKER);
+            }
+            roll(activeBase + active.capacity());
+            position = 0;
+        }
+        ByteBuffer buffer = active.duplicate();
+        buffer.position(position + HEADER_SIZE);
+        buffer.put(record);
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        active.putInt(position + Integer.BYTES, (int) crc.getValue());
+        active.putInt(position, record.length);
+
+        long offset = endOffset;
+        endOffset = activeBase + position + HEADER_SIZE + record.length;
+        return offset;
+    }
+
+    /**
+     * Open the last segment for append: the end of the log is the first position without a
+     * valid record, anything after it (from an interrupted write) is cleared.
+     */
+    private void recover() throws IOException {
+        TreeMap<Long, File> segments = segments();
+        if (segments.isEmpty()) {
+            roll(0);
+            return;
+        }
+        Map.Entry<Long, File> last = segments.lastEntry();
+        activeBase = last.getKey();
+        active = map(last.getValue(), true);
+        int position = 0;
+        while (position + Integer.BYTES <= active.capacity()) {
+            int length = active.getInt(position);
+            if (length == SKIP_MARKER) {
+                roll(activeBase + active.capacity());
+                return;
+            }
+            if (length <= 0 || position + HEADER_SIZE + length > active.capacity()
+                    || !valid(active, position, length)) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        for (int ii = position; ii < active.capacity(); ii++) {
+            if (active.get(ii) != 0) {
+                DefaultLogger.LOG.warn(String.format("Clearing incomplete log record. [path=%s][offset=%d]",
+                        directory.getAbsolutePath(), activeBase + position));
+                for (int jj = ii; jj < active.capacity(); jj++) {
+                    active.put(jj, (byte) 0);
+                }
+                break;
+            }
+        }
+        endOffset = activeBase + position;
+    }
+
+    private void roll(long base) throws IOException {
+        File file = segmentFile(base);
+        if (!file.exists()) {
+            File tmp = new File(directory, String.format("%s.tmp", file.getName()));
+            try (RandomAccessFile raf = new RandomAccessFile(tmp, "rw")) {
+                raf.setLength(segmentSize);
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        }
+        if (active != null) {
+            active.force();
+        }
+        active = map(file, true);
+        activeBase = base;
+        endOffset = base;
+    }
+
+    private void signal() {
+        synchronized (appended) {
+            appended.notifyAll();
+        }
+    }
+
+    /**
+     * Wait for records to be appended after the offset. Appends from another process are not
+     * signalled, the wait then ends at the timeout.
+     *
+     * @param offset  - Log offset
+     * @param timeout - Max time to wait (ms)
+     */
+    public void await(long offset, long timeout) throws InterruptedException {
+        synchronized (appended) {
+            if (endOffset <= offset) {
+                appended.wait(timeout);
+            }
+        }
+    }
+
+    /**
+     * @return - Reader positioned at the offset.
+     */
+    public Reader reader(long offset) {
+        Preconditions.checkArgument(offset >= 0);
+        return new Reader(offset);
+    }
+
+    /**
+     * @param consumer - Consumer name
+     * @return - Saved offset of the consumer, 0 if none.
+     * @throws IOException
+     */
+    public long offset(@NonNull String consumer) throws IOException {
+        File file = offsetFile(consumer);
+        if (!file.exists()) return 0;
+        byte[] data = Files.readAllBytes(file.toPath());
+        if (data.length != Long.BYTES) {
+            throw new IOException(String.format("Invalid consumer offset file. [path=%s]", file.getAbsolutePath()));
+        }
+        return ByteBuffer.wrap(data).getLong();
+    }
+
+    /**
+     * Save the offset of the next record the consumer has to read.
+     *
+     * @param consumer - Consumer name
+     * @param offset   - Log offset
+     * @throws IOException
+     */
+    public void commit(@NonNull String consumer, long offset) throws IOException {
+        File file = offsetFile(consumer);
+        File tmp = new File(file.getParentFile(), String.format("%s.tmp", file.getName()));
+        Files.write(tmp.toPath(), ByteBuffer.allocate(Long.BYTES).putLong(offset).array());
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Delete the segments read by all the consumers, the last segment is always kept. A consumer
+     * without a saved offset (not started yet) is at offset 0, so nothing is deleted until every
+     * consumer has read it.
+     *
+     * @param consumers - Consumers of the log, the consumers with a saved offset are included
+     * @return - Number of segments deleted
+     * @throws IOException
+     */
+    public synchronized int cleanup(@NonNull Collection<String> consumers) throws IOException {
+        Set<String> names = new HashSet<>(consumers);
+        File[] files = new File(directory, CONSUMERS_DIR).listFiles((dir, name) -> name.endsWith(OFFSET_EXT));
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                names.add(name.substring(0, name.length() - OFFSET_EXT.length()));
+            }
+        }
+        if (names.isEmpty()) return 0;
+        long offset = Long.MAX_VALUE;
+        for (String name : names) {
+            offset = Math.min(offset, offset(name));
+        }
+        TreeMap<Long, File> segments = segments();
+        int count = 0;
+        while (segments.size() > 1) {
+            Map.Entry<Long, File> first = segments.pollFirstEntry();
+            if (first.getKey() + first.getValue().length() > offset) break;
+            if (!first.getValue().delete()) {
+                throw new IOException(String.format("Error deleting log segment. [path=%s]",
+                        first.getValue().getAbsolutePath()));
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private TreeMap<Long, File> segments() {
+        TreeMap<Long, File> segments = new TreeMap<>();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher m = SEGMENT_REGEX.matcher(file.getName());
+                if (m.matches()) {
+                    segments.put(Long.parseLong(m.group(1)), file);
+                }
+            }
+        }
+        return segments;
+    }
+
+    private File segmentFile(long base) {
+        return new File(directory, String.format("%020d.log", base));
+    }
+
+    private File offsetFile(String consumer) {
+        return new File(new File(directory, CONSUMERS_DIR), String.format("%s%s", consumer, OFFSET_EXT));
+    }
+
+    private static MappedByteBuffer map(File file, boolean write) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, (write ? "rw" : "r"))) {
+            return raf.getChannel().map((write ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY),
+                    0, raf.length());
+        }
+    }
+
+    private static boolean valid(ByteBuffer buffer, int position, int length) {
+        ByteBuffer data = buffer.duplicate();
+        data.position(position + HEADER_SIZE);
+        data.limit(position + HEADER_SIZE + length);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (buffer.getInt(position + Integer.BYTES) == (int) crc.getValue());
+    }
+
+    /**
+     * Release the log, the segments are synced and unmapped by the last close().
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (__logs) {
+            if (--references > 0) return;
+            __logs.remove(directory.getCanonicalPath());
+        }
+        synchronized (this) {
+            if (active != null) {
+                active.force();
+                active = null;
+            }
+        }
+        signal();
+    }
+
+    /**
+     * Sequential reader of the log records.
+     */
+    public class Reader {
+        private long position;
+        private long base = -1;
+        private MappedByteBuffer buffer;
+
+        private Reader(long position) {
+            this.position = position;
+        }
+
+        /**
+         * @return - Offset of the next record to read.
+         */
+        public long position() {
+            return position;
+        }
+
+        /**
+         * @return - Next record, null if no record is available.
+         * @throws IOException
+         */
+        public byte[] next() throws IOException {
+            while (true) {
+                if (buffer == null && !open()) return null;
+                int offset = (int) (position - base);
+                int length = (offset + Integer.BYTES <= buffer.capacity() ? buffer.getInt(offset) : SKIP_MARKER);
+                if (length == 0) return null;
+                if (length == SKIP_MARKER) {
+                    long next = base + buffer.capacity();
+                    if (!segmentFile(next).exists()) return null;
+                    position = next;
+                    buffer = null;
+                    continue;
+                }
+                if (length < 0 || offset + HEADER_SIZE + length > buffer.capacity()) {
+                    throw new IOException(String.format("Invalid log record. [path=%s][offset=%d]",
+                            directory.getAbsolutePath(), position));
+                }
+                if (!valid(buffer, offset, length)) return null;
+                byte[] record = new byte[length];
+                ByteBuffer data = buffer.duplicate();
+                data.position(offset + HEADER_SIZE);
+                data.get(record);
+                position += HEADER_SIZE + length;
+                return record;
+            }
+        }
+
+        private boolean open() throws IOException {
+            TreeMap<Long, File> segments = segments();
+            if (segments.isEmpty()) return false;
+            Map.Entry<Long, File> entry = segments.floorEntry(position);
+            if (entry == null) {
+                throw new IOException(String.format("Log offset not found. [path=%s][offset=%d]",
+                        directory.getAbsolutePath(), position));
+            }
+            if (position - entry.getKey() >= entry.getValue().length()) return false;
+            base = entry.getKey();
+            buffer = map(entry.getValue(), false);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process queue of parsed messages, used to connect pipeline stages running in
+ * the same JVM without serializing the change deltas.
+ * <p>
+ * The queue counts the messages sent and acknowledged, so a sender can wait until the
+ * receiver has processed (and checkpointed) everything it was sent. Queues are shared by name,
+ * a queue is dropped (with any unreceived messages) once released by all its connections.
+ */
+@Getter
+@Accessors(fluent = true)
+public class MemoryQueue {
+    private static final Map<String, MemoryQueue> __queues = new HashMap<>();
+
+    private final String name;
+    private final int size;
+    @Getter(AccessLevel.NONE)
+    private final BlockingQueue<MessageObject<String, DFSChangeDelta>> queue;
+    @Getter(AccessLevel.NONE)
+    private long sent = 0;
+    @Getter(AccessLevel.NONE)
+    private long acked = 0;
+    @Getter(AccessLevel.NONE)
+    private int references = 0;
+
+    private MemoryQueue(String name, int size) {
+        this.name = name;
+        this.size = size;
+        queue = new ArrayBlockingQueue<>(size);
+    }
+
+    /**
+     * Get (or create) the shared queue. Every get() must be matched by a release().
+     *
+     * @param name - Queue name
+     * @param size - Queue capacity (used if the queue is created)
+     * @return - Shared queue
+     */
+    public static MemoryQueue get(@NonNull String name, int size) {
+        Preconditions.checkArgument(size > 0);
+        synchronized (__queues) {
+            MemoryQueue queue = __queues.computeIfAbsent(name, n -> new MemoryQueue(n, size));
+            queue.references++;
+            return queue;
+        }
+    }
+
+    /**
+     * Release the queue, the queue is removed once released by all the connections sharing it.
+     */
+    public void release() {
+        synchronized (__queues) {
+            references--;
+            if (references <= 0) {
+                __queues.remove(name, this);
+            }
+        }
+    }
+
+    /**
+     * Add the message, waits (until the timeout) while the queue is full.
+     *
+     * @param message - Message
+     * @param timeout - Max time to wait (ms)
+     * @return - False if the timeout elapsed.
+     */
+    public boolean put(@NonNull MessageObject<String, DFSChangeDelta> message, long timeout) throws InterruptedException {
+        synchronized (this) {
+            sent++;
+        }
+        if (!queue.offer(message, timeout, TimeUnit.MILLISECONDS)) {
+            synchronized (this) {
+                sent--;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param timeout - Max time to wait for a message (ms)
+     * @return - Next message, null if none is available before the timeout.
+     */
+    public MessageObject<String, DFSChangeDelta> poll(long timeout) throws InterruptedException {
+        return queue.poll(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    public MessageObject<String, DFSChangeDelta> poll() {
+        return queue.poll();
+    }
+
+    public synchronized void ack(int count) {
+        acked += count;
+        notifyAll();
+    }
+
+    /**
+     * Wait until all the sent messages have been acknowledged.
+     *
+     * @param timeout - Max time to wait (ms)
+     * @return - False if the timeout elapsed.
+     */
+    public synchronized boolean await(long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (acked < sent) {
+            long wait = deadline - System.currentTimeMillis();
+            if (wait <= 0) return false;
+            wait(wait);
+        }
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package ai.sapper.hcdc.core.messaging;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -21,5 +22,27 @@ public class MessageObject<K, V> {
     private String correlationId;
     private MessageMode mode;
     private K key;
+    @Setter(AccessLevel.NONE)
     private V value;
+    /**
+     * Decoded message body, cached so the body is only parsed once (see ChangeDeltaSerDe.parse()).
+     */
+    private Object decoded;
+    /**
+     * Serialized value as received, forwarded as is if the value has not been replaced.
+     */
+    private byte[] raw;
+
+    /**
+     * Set the message value, clears the cached decoded body and serialized value.
+     *
+     * @param value - Message value
+     * @return - Self
+     */
+    public MessageObject<K, V> value(V value) {
+        this.value = value;
+        this.decoded = null;
+        this.raw = null;
+        return this;
+    }
 }
@@ -18,6 +18,8 @@ public abstract class MessageReceiver<I, M> implements Closeable {
     private ZookeeperConnection zkConnection;
     private String zkStatePath;
     private boolean saveState = false;
+    private int ackBatchSize = -1;
+    private long ackInterval = -1;
 
     public MessageReceiver<I, M> withConnection(@NonNull MessageConnection connection) {
         Preconditions.checkArgument(connection.isConnected());
@@ -49,6 +51,24 @@ public abstract class MessageReceiver<I, M> implements Closeable {
         return this;
     }
 
+    /**
+     * Enable batched acknowledgements: acks are coalesced and committed once the
+     * count or interval is reached (or at the next batch boundary).
+     *
+     * @param ackBatchSize - Max number of pending acks (<= 0 to disable the count trigger)
+     * @param ackInterval  - Max time (ms) acks are kept pending (<= 0 to disable the time trigger)
+     * @return - Self
+     */
+    public MessageReceiver<I, M> withAckBatching(int ackBatchSize, long ackInterval) {
+        this.ackBatchSize = ackBatchSize;
+        this.ackInterval = ackInterval;
+        return this;
+    }
+
+    public boolean batchAcks() {
+        return (ackBatchSize > 0 || ackInterval > 0);
+    }
+
     public abstract MessageReceiver<I, M> init() throws MessagingError;
 
     public abstract MessageObject<I, M> receive() throws MessagingError;
@@ -62,4 +82,11 @@ public abstract class MessageReceiver<I, M> implements Closeable {
     public abstract void ack(@NonNull I messageId) throws MessagingError;
 
     public abstract void ack(@NonNull List<I> messageIds) throws MessagingError;
+
+    /**
+     * Commit any pending (batched) acknowledgements.
+     *
+     * @throws MessagingError
+     */
+    public abstract void commit() throws MessagingError;
 }
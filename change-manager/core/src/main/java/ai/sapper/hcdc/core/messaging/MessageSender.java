@@ -26,4 +26,13 @@ public abstract class MessageSender<K, M> implements Closeable {
     public abstract MessageObject<K, M> send(@NonNull MessageObject<K, M> message) throws MessagingError;
 
     public abstract List<MessageObject<K, M>> sent(@NonNull List<MessageObject<K, M>> messages) throws MessagingError;
+
+    /**
+     * Wait until all the sent messages have been acknowledged by the receiver. Only in-process
+     * queues track the receiver acknowledgements, for the other senders this is a no-op.
+     *
+     * @throws MessagingError
+     */
+    public void flush() throws MessagingError {
+    }
 }
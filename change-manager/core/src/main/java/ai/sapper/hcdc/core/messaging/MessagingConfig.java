@@ -18,6 +18,8 @@ public class MessagingConfig {
         public static final String CONFIG_CONNECTION = "connection";
         public static final String CONFIG_PARTITIONER_CLASS = "partitioner.type";
         public static final String CONFIG_BATCH_SIZE = "batchSize";
+        public static final String CONFIG_ACK_BATCH_SIZE = "ack.batchSize";
+        public static final String CONFIG_ACK_INTERVAL = "ack.interval";
     }
     private HierarchicalConfiguration<ImmutableNode> config;
 
@@ -25,6 +27,8 @@ public class MessagingConfig {
     private String connection;
     private String partitionerClass;
     private int batchSize = -1;
+    private int ackBatchSize = -1;
+    private long ackInterval = -1;
 
     public void read(@NonNull HierarchicalConfiguration<ImmutableNode> config) throws ConfigurationException {
         type = config.getString(Constants.CONFIG_CONNECTION_TYPE);
@@ -41,6 +45,14 @@ public class MessagingConfig {
             String s = config.getString(Constants.CONFIG_BATCH_SIZE);
             batchSize = Integer.parseInt(s);
         }
+        if (config.containsKey(Constants.CONFIG_ACK_BATCH_SIZE)) {
+            String s = config.getString(Constants.CONFIG_ACK_BATCH_SIZE);
+            ackBatchSize = Integer.parseInt(s);
+        }
+        if (config.containsKey(Constants.CONFIG_ACK_INTERVAL)) {
+            String s = config.getString(Constants.CONFIG_ACK_INTERVAL);
+            ackInterval = Long.parseLong(s);
+        }
         this.config = config;
     }
 }
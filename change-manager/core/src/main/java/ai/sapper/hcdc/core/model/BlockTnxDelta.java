@@ -1,6 +1,8 @@
 package ai.sapper.hcdc.core.model;
 
+import ai.sapper.hcdc.common.model.BlockTnxDeltaData;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 
 @Getter
@@ -11,4 +13,23 @@ public class BlockTnxDelta {
     private long tnxId;
     private long timestamp;
     private boolean deleted = false;
+
+    public BlockTnxDeltaData convertToProto() {
+        return BlockTnxDeltaData.newBuilder()
+                .setTnxId(tnxId)
+                .setStartOffset(startOffset)
+                .setEndOffset(endOffset)
+                .setTimestamp(timestamp)
+                .setDeleted(deleted)
+                .build();
+    }
+
+    public BlockTnxDelta parseFrom(@NonNull BlockTnxDeltaData proto) {
+        tnxId = proto.getTnxId();
+        startOffset = proto.getStartOffset();
+        endOffset = proto.getEndOffset();
+        timestamp = proto.getTimestamp();
+        deleted = proto.getDeleted();
+        return this;
+    }
 }
@@ -45,7 +45,6 @@ public class DFSBlockComparator implements Comparator<DFSBlockState> {
      */
     @Override
     public int compare(DFSBlockState o1, DFSBlockState o2) {
-        long ret = o1.getBlockId() - o2.getBlockId();
-        return (int) ret;
+        return Long.compare(o1.getBlockId(), o2.getBlockId());
     }
 }
@@ -1,10 +1,14 @@
 package ai.sapper.hcdc.core.model;
 
+import ai.sapper.hcdc.common.model.BlockTnxDeltaData;
+import ai.sapper.hcdc.common.model.DFSBlockStateData;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Getter
@@ -23,19 +27,47 @@ public class DFSBlockState {
 
     private EBlockState state = EBlockState.Unknown;
 
+    @Setter(AccessLevel.NONE)
     private List<BlockTnxDelta> transactions;
+    /**
+     * Transaction IDs of the deltas, in list order (not persisted).
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long[] tnxIds = null;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int tnxCount = 0;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean tnxSorted = true;
 
     public DFSBlockState add(@NonNull BlockTnxDelta transaction) {
         if (transactions == null)
             transactions = new ArrayList<>();
+        checkIndex();
         transactions.add(transaction);
+        index(transaction.getTnxId());
         return this;
     }
 
+    public void setTransactions(List<BlockTnxDelta> transactions) {
+        this.transactions = transactions;
+        reindex();
+    }
+
     public BlockTnxDelta delta(long tnxId) {
         if (tnxId <= lastTnxId && transactions != null) {
-            for (BlockTnxDelta delta : transactions) {
-                if (delta.getTnxId() == tnxId) return delta;
+            checkIndex();
+            if (!tnxSorted) {
+                for (BlockTnxDelta delta : transactions) {
+                    if (delta.getTnxId() == tnxId) return delta;
+                }
+                return null;
+            }
+            int index = lowerBound(tnxId);
+            if (index < tnxCount && tnxIds[index] == tnxId) {
+                return transactions.get(index);
             }
         }
         return null;
@@ -43,17 +75,74 @@ public class DFSBlockState {
 
     public List<BlockTnxDelta> changeSet(long tnxId) {
         if (tnxId <= lastTnxId && transactions != null) {
-            List<BlockTnxDelta> set = new ArrayList<>();
-            for (BlockTnxDelta delta : transactions) {
-                if (delta.getTnxId() >= tnxId) {
-                    set.add(delta);
+            checkIndex();
+            if (!tnxSorted) {
+                List<BlockTnxDelta> set = new ArrayList<>();
+                for (BlockTnxDelta delta : transactions) {
+                    if (delta.getTnxId() >= tnxId) {
+                        set.add(delta);
+                    }
                 }
+                if (!set.isEmpty()) return set;
+                return null;
+            }
+            int index = lowerBound(tnxId);
+            if (index < tnxCount) {
+                return new ArrayList<>(transactions.subList(index, tnxCount));
             }
-            if (!set.isEmpty()) return set;
         }
         return null;
     }
 
+    /**
+     * @return - Index of the first delta with a transaction ID >= tnxId.
+     */
+    private int lowerBound(long tnxId) {
+        int low = 0;
+        int high = tnxCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tnxIds[mid] < tnxId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The index is rebuilt if the transactions list has been changed directly.
+     */
+    private void checkIndex() {
+        if (transactions != null && tnxCount != transactions.size()) {
+            reindex();
+        }
+    }
+
+    private void reindex() {
+        tnxCount = 0;
+        tnxSorted = true;
+        if (transactions != null) {
+            tnxIds = new long[Math.max(transactions.size(), 4)];
+            for (BlockTnxDelta delta : transactions) {
+                index(delta.getTnxId());
+            }
+        }
+    }
+
+    private void index(long tnxId) {
+        if (tnxIds == null) {
+            tnxIds = new long[4];
+        } else if (tnxCount == tnxIds.length) {
+            tnxIds = Arrays.copyOf(tnxIds, tnxIds.length << 1);
+        }
+        if (tnxCount > 0 && tnxIds[tnxCount - 1] > tnxId) {
+            tnxSorted = false;
+        }
+        tnxIds[tnxCount++] = tnxId;
+    }
+
     public BlockTnxDelta compressedChangeSet(long tnxId) {
         List<BlockTnxDelta> deltas = changeSet(tnxId);
         if (deltas != null && !deltas.isEmpty()) {
@@ -85,6 +174,57 @@ public class DFSBlockState {
         return null;
     }
 
+    /**
+     * Number of deltas that compact() would merge: deltas older than both the last maxDeltas
+     * deltas and the retention transaction.
+     *
+     * @param maxDeltas   - Number of latest deltas to keep
+     * @param retainTnxId - Keep all the deltas of this and later transactions
+     * @return - Number of deltas to merge, 0 if there is nothing to compact
+     */
+    public int compactable(int maxDeltas, long retainTnxId) {
+        if (transactions == null || maxDeltas <= 0) return 0;
+        checkIndex();
+        if (!tnxSorted || tnxCount <= maxDeltas) return 0;
+        int count = Math.min(tnxCount - maxDeltas, lowerBound(retainTnxId));
+        return (count > 1 ? count : 0);
+    }
+
+    /**
+     * Merge the compactable deltas into a single delta at the transaction of the last merged
+     * delta. As in compressedChangeSet() the merged delta covers all the merged changes: it
+     * starts at the lowest start offset, ends at the end offset of the last delta and is
+     * deleted if any merged delta is.
+     *
+     * @param maxDeltas   - Number of latest deltas to keep
+     * @param retainTnxId - Keep all the deltas of this and later transactions
+     * @return - Number of deltas removed
+     */
+    public int compact(int maxDeltas, long retainTnxId) {
+        int count = compactable(maxDeltas, retainTnxId);
+        if (count == 0) return 0;
+        BlockTnxDelta last = transactions.get(count - 1);
+        BlockTnxDelta merged = new BlockTnxDelta();
+        merged.setTnxId(last.getTnxId());
+        merged.setTimestamp(last.getTimestamp());
+        merged.setStartOffset(last.getStartOffset());
+        merged.setEndOffset(last.getEndOffset());
+        for (int ii = 0; ii < count; ii++) {
+            BlockTnxDelta delta = transactions.get(ii);
+            if (delta.getStartOffset() < merged.getStartOffset()) {
+                merged.setStartOffset(delta.getStartOffset());
+            }
+            if (delta.isDeleted()) {
+                merged.setDeleted(true);
+            }
+        }
+        List<BlockTnxDelta> array = new ArrayList<>(tnxCount - count + 1);
+        array.add(merged);
+        array.addAll(transactions.subList(count, tnxCount));
+        setTransactions(array);
+        return count - 1;
+    }
+
     public boolean hasTransactions() {
         return (transactions != null && !transactions.isEmpty());
     }
@@ -96,4 +236,51 @@ public class DFSBlockState {
     public boolean canUpdate() {
         return (state == EBlockState.New || state == EBlockState.Updating);
     }
+
+    public DFSBlockStateData convertToProto() {
+        DFSBlockStateData.Builder builder = DFSBlockStateData.newBuilder()
+                .setBlockId(blockId)
+                .setPrevBlockId(prevBlockId)
+                .setCreatedTime(createdTime)
+                .setUpdatedTime(updatedTime)
+                .setDataSize(dataSize)
+                .setBlockSize(blockSize)
+                .setLastTnxId(lastTnxId)
+                .setGenerationStamp(generationStamp)
+                .setStored(stored)
+                .setState(state.name());
+        if (blockChecksum != null) {
+            builder.setBlockChecksum(blockChecksum);
+        }
+        if (transactions != null) {
+            for (BlockTnxDelta delta : transactions) {
+                builder.addTransactions(delta.convertToProto());
+            }
+        }
+        return builder.build();
+    }
+
+    public DFSBlockState parseFrom(@NonNull DFSBlockStateData proto) {
+        blockId = proto.getBlockId();
+        prevBlockId = proto.getPrevBlockId();
+        createdTime = proto.getCreatedTime();
+        updatedTime = proto.getUpdatedTime();
+        dataSize = proto.getDataSize();
+        blockSize = proto.getBlockSize();
+        lastTnxId = proto.getLastTnxId();
+        generationStamp = proto.getGenerationStamp();
+        stored = proto.getStored();
+        state = EBlockState.valueOf(proto.getState());
+        if (proto.hasBlockChecksum()) {
+            blockChecksum = proto.getBlockChecksum();
+        }
+        if (proto.getTransactionsCount() > 0) {
+            transactions = new ArrayList<>(proto.getTransactionsCount());
+            for (BlockTnxDeltaData delta : proto.getTransactionsList()) {
+                transactions.add(new BlockTnxDelta().parseFrom(delta));
+            }
+        }
+        reindex();
+        return this;
+    }
 }
@@ -1,5 +1,9 @@
 package ai.sapper.hcdc.core.model;
 
+import ai.sapper.hcdc.common.model.DFSBlockStateData;
+import ai.sapper.hcdc.common.model.DFSFileStateData;
+import ai.sapper.hcdc.common.utils.LongIntMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -25,12 +29,27 @@ public class DFSFileState {
 
     private EFileState state = EFileState.Unknown;
 
+    @Setter(AccessLevel.NONE)
     private List<DFSBlockState> blocks;
+    /**
+     * Block ID to position in the blocks list (not persisted).
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final LongIntMap blockIndex = new LongIntMap();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean blocksSorted = true;
 
     public DFSFileState add(@NonNull DFSBlockState block) {
         if (blocks == null)
             blocks = new ArrayList<>();
+        checkIndex();
+        if (!blocks.isEmpty() && blocks.get(blocks.size() - 1).getBlockId() > block.getBlockId()) {
+            blocksSorted = false;
+        }
         blocks.add(block);
+        blockIndex.put(block.getBlockId(), blocks.size() - 1);
         numBlocks++;
 
         return this;
@@ -38,22 +57,85 @@ public class DFSFileState {
 
     public DFSBlockState get(long blockId) {
         if (blocks != null && !blocks.isEmpty()) {
-            for (DFSBlockState bs : blocks) {
-                if (bs.getBlockId() == blockId) {
-                    return bs;
-                }
+            checkIndex();
+            int index = find(blockId);
+            if (index == LongIntMap.NOT_FOUND && !indexed(blocks.size() - 1)) {
+                // The last block has been replaced directly: the index is stale.
+                reindex();
+                index = find(blockId);
+            }
+            if (index != LongIntMap.NOT_FOUND) {
+                return blocks.get(index);
             }
         }
         return null;
     }
 
+    /**
+     * Position of the block, the index is rebuilt if the position does not hold the block
+     * (the blocks list has been changed directly without changing its size).
+     */
+    private int find(long blockId) {
+        int index = blockIndex.get(blockId);
+        if (index != LongIntMap.NOT_FOUND
+                && (index >= blocks.size() || blocks.get(index).getBlockId() != blockId)) {
+            reindex();
+            index = blockIndex.get(blockId);
+        }
+        return index;
+    }
+
+    private boolean indexed(int index) {
+        return (blockIndex.get(blocks.get(index).getBlockId()) == index);
+    }
+
+    public void setBlocks(List<DFSBlockState> blocks) {
+        this.blocks = blocks;
+        reindex();
+    }
+
+    /**
+     * Blocks sorted by block ID. Blocks are kept in chain order, which is also the ID order
+     * for blocks allocated by the NameNode, so the list is only sorted if a block was added
+     * out of order.
+     */
     public List<DFSBlockState> sortedBlocks() {
         if (blocks != null && !blocks.isEmpty()) {
-            blocks.sort(new DFSBlockComparator());
+            checkIndex();
+            if (!blocksSorted) {
+                blocks.sort(new DFSBlockComparator());
+                reindex();
+            }
         }
         return blocks;
     }
 
+    /**
+     * The index is rebuilt if the blocks list has been changed directly (size changed), a
+     * change that keeps the size is detected by get().
+     */
+    private void checkIndex() {
+        if (blocks != null && blockIndex.size() != blocks.size()) {
+            reindex();
+        }
+    }
+
+    private void reindex() {
+        blockIndex.clear();
+        blocksSorted = true;
+        if (blocks != null) {
+            long last = Long.MIN_VALUE;
+            for (int ii = 0; ii < blocks.size(); ii++) {
+                long blockId = blocks.get(ii).getBlockId();
+                if (blockId < last) {
+                    blocksSorted = false;
+                }
+                blockIndex.put(blockId, ii);
+                last = blockId;
+            }
+        }
+    }
+
     public boolean checkDeleted() {
         return (state == EFileState.Deleted);
     }
@@ -76,4 +158,55 @@ public class DFSFileState {
     public boolean hasBlocks() {
         return (blocks != null && !blocks.isEmpty());
     }
+
+    public DFSFileStateData convertToProto() {
+        DFSFileStateData.Builder builder = DFSFileStateData.newBuilder()
+                .setId(id)
+                .setZkPath(zkPath)
+                .setHdfsFilePath(hdfsFilePath)
+                .setCreatedTime(createdTime)
+                .setUpdatedTime(updatedTime)
+                .setNumBlocks(numBlocks)
+                .setBlockSize(blockSize)
+                .setDataSize(dataSize)
+                .setLastTnxId(lastTnxId)
+                .setTimestamp(timestamp)
+                .setFileType(fileType.name())
+                .setState(state.name());
+        if (storagePath != null) {
+            builder.setStoragePath(storagePath);
+        }
+        if (blocks != null) {
+            for (DFSBlockState block : blocks) {
+                builder.addBlocks(block.convertToProto());
+            }
+        }
+        return builder.build();
+    }
+
+    public DFSFileState parseFrom(@NonNull DFSFileStateData proto) {
+        id = proto.getId();
+        zkPath = proto.getZkPath();
+        hdfsFilePath = proto.getHdfsFilePath();
+        createdTime = proto.getCreatedTime();
+        updatedTime = proto.getUpdatedTime();
+        numBlocks = proto.getNumBlocks();
+        blockSize = proto.getBlockSize();
+        dataSize = proto.getDataSize();
+        lastTnxId = proto.getLastTnxId();
+        timestamp = proto.getTimestamp();
+        fileType = EFileType.valueOf(proto.getFileType());
+        state = EFileState.valueOf(proto.getState());
+        if (proto.hasStoragePath()) {
+            storagePath = proto.getStoragePath();
+        }
+        if (proto.getBlocksCount() > 0) {
+            blocks = new ArrayList<>(proto.getBlocksCount());
+            for (DFSBlockStateData block : proto.getBlocksList()) {
+                blocks.add(new DFSBlockState().parseFrom(block));
+            }
+        }
+        reindex();
+        return this;
+    }
 }
@@ -0,0 +1,181 @@
+package org.apache.hadoop.hdfs;
+
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import ai.sapper.hcdc.core.io.FSBlock;
+import ai.sapper.hcdc.core.io.FSFile;
+import ai.sapper.hcdc.core.model.DFSBlockState;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.hadoop.hdfs.protocol.DatanodeInfo;
+import org.apache.hadoop.hdfs.protocol.LocatedBlock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parallel block fetch for a file.
+ * <p>
+ * The pending blocks of a file are copied concurrently, each block from one of its replicas:
+ * the first replica with a free slot is used, the number of concurrent fetches per datanode
+ * is bounded by maxPerDataNode. Every block is written to its own FSBlock, which are added
+ * to the target FSFile in block order before any fetch is started, so blocks can complete
+ * out of order.
+ */
+@Getter
+@Accessors(fluent = true)
+public class HDFSBlockFetcher implements Closeable {
+    private final HDFSBlockReader reader;
+    private final int maxPerDataNode;
+    private final ExecutorService executor;
+    private final DataNodeSlots dataNodes;
+
+    public HDFSBlockFetcher(@NonNull HDFSBlockReader reader, int threads, int maxPerDataNode) {
+        Preconditions.checkArgument(threads > 0);
+        Preconditions.checkArgument(maxPerDataNode > 0);
+        this.reader = reader;
+        this.maxPerDataNode = maxPerDataNode;
+        dataNodes = new DataNodeSlots(maxPerDataNode);
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("hdfs-block-fetcher-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Copy the changes (since the specified transaction) of the blocks to the target file.
+     *
+     * @param blocks - Block states, in block order
+     * @param tnxId  - Copy the changes from this transaction ID
+     * @param target - Target file
+     * @return - Total number of bytes copied
+     * @throws DFSError
+     */
+    public long fetch(@NonNull List<DFSBlockState> blocks, long tnxId, @NonNull FSFile target) throws DFSError {
+        List<Future<Long>> futures = new ArrayList<>(blocks.size());
+        try {
+            List<FSBlock> targets = new ArrayList<>(blocks.size());
+            for (DFSBlockState blockState : blocks) {
+                targets.add(target.add(blockState.getBlockId(), blockState.getPrevBlockId()));
+            }
+            for (int ii = 0; ii < blocks.size(); ii++) {
+                DFSBlockState blockState = blocks.get(ii);
+                FSBlock block = targets.get(ii);
+                int index = ii;
+                futures.add(executor.submit(() -> fetch(blockState, tnxId, block, index)));
+            }
+            long copied = 0;
+            for (Future<Long> future : futures) {
+                copied += future.get();
+            }
+            return copied;
+        } catch (ExecutionException ex) {
+            cancel(futures);
+            Throwable t = ex.getCause();
+            if (t instanceof DFSError) {
+                throw (DFSError) t;
+            }
+            throw new DFSError(t);
+        } catch (InterruptedException ie) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new DFSError(ie);
+        } catch (IOException ex) {
+            throw new DFSError(ex);
+        }
+    }
+
+    private long fetch(DFSBlockState blockState, long tnxId, FSBlock target, int index) throws Exception {
+        LocatedBlock lb = reader.findBlock(blockState.getBlockId());
+        if (lb == null || lb.getLocations().length == 0) {
+            return reader.copy(blockState, tnxId, target);
+        }
+        DatanodeInfo dn = dataNodes.acquire(lb.getLocations(), index);
+        try {
+            long copied = reader.copy(blockState, tnxId, target, dn);
+            DefaultLogger.LOG.debug(String.format("Fetched block. [path=%s][block ID=%d][datanode=%s][bytes=%d]",
+                    target.path().path(), blockState.getBlockId(), dn.getXferAddr(), copied));
+            return copied;
+        } finally {
+            dataNodes.release(dn);
+        }
+    }
+
+    private void cancel(List<Future<Long>> futures) {
+        for (Future<Long> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Concurrent fetch slots per datanode.
+     */
+    static class DataNodeSlots {
+        private final int maxPerDataNode;
+        private final Map<DatanodeInfo, Semaphore> slots = new ConcurrentHashMap<>();
+
+        DataNodeSlots(int maxPerDataNode) {
+            this.maxPerDataNode = maxPerDataNode;
+        }
+
+        /**
+         * Acquire a slot on one of the replica locations: the locations are tried starting at
+         * index (so consecutive blocks start on different replicas), the first one with a free
+         * slot is used. If all are busy, wait for the location at index.
+         *
+         * @param locations - Replica locations
+         * @param index     - Block index
+         * @return - Selected datanode, release() has to be called once done
+         * @throws InterruptedException
+         */
+        DatanodeInfo acquire(@NonNull DatanodeInfo[] locations, int index) throws InterruptedException {
+            Preconditions.checkArgument(locations.length > 0);
+            for (int ii = 0; ii < locations.length; ii++) {
+                DatanodeInfo node = locations[(index + ii) % locations.length];
+                if (slots(node).tryAcquire()) {
+                    return node;
+                }
+            }
+            DatanodeInfo node = locations[index % locations.length];
+            slots(node).acquire();
+            return node;
+        }
+
+        void release(@NonNull DatanodeInfo node) {
+            slots(node).release();
+        }
+
+        int available(@NonNull DatanodeInfo node) {
+            return slots(node).availablePermits();
+        }
+
+        private Semaphore slots(DatanodeInfo node) {
+            return slots.computeIfAbsent(node, k -> new Semaphore(maxPerDataNode));
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
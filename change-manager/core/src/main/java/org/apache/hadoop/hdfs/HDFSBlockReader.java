@@ -1,11 +1,18 @@
 package org.apache.hadoop.hdfs;
 
+import ai.sapper.hcdc.common.utils.StreamingChecksum;
+import ai.sapper.hcdc.core.io.BlockWritePipeline;
+import ai.sapper.hcdc.core.io.FSBlock;
+import ai.sapper.hcdc.core.model.BlockTnxDelta;
+import ai.sapper.hcdc.core.model.DFSBlockState;
 import ai.sapper.hcdc.core.model.HDFSBlockData;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
+import org.apache.hadoop.fs.StorageType;
 import org.apache.hadoop.hdfs.protocol.*;
+import org.apache.hadoop.util.DirectBufferPool;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -16,8 +23,14 @@ import java.util.Set;
 @Getter
 @Accessors(fluent = true)
 public class HDFSBlockReader extends DFSInputStream {
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final DirectBufferPool BUFFER_POOL = new DirectBufferPool();
+
     private HdfsFileStatus fileInfo;
     private LocatedBlocks locatedBlocks = null;
+    private final Map<Long, LocatedBlock> blockIndex = new HashMap<>();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private BlockWritePipeline pipeline = null;
 
     public HDFSBlockReader(@NonNull DFSClient client, @NonNull String path) throws IOException {
         super(client, path, true, null);
@@ -31,21 +44,34 @@ public class HDFSBlockReader extends DFSInputStream {
                 throw new IOException(String.format("File not found. [path=%s]", src));
             }
             locatedBlocks = dfsClient.getLocatedBlocks(src, 0, fileInfo.getLen());
+            blockIndex.clear();
+            for (LocatedBlock block : locatedBlocks.getLocatedBlocks()) {
+                blockIndex.put(block.getBlock().getBlockId(), block);
+            }
             return this;
         } catch (Exception ex) {
             throw new DFSError(ex);
         }
     }
 
-    private LocatedBlock findBlock(long blockId) {
+    public HDFSBlockReader withChunkSize(int chunkSize) {
+        Preconditions.checkArgument(chunkSize > 0);
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Write the copied data through the pipeline: the blocks are only durable (and the block
+     * states marked as stored) after the pipeline commit.
+     */
+    public HDFSBlockReader withPipeline(BlockWritePipeline pipeline) {
+        this.pipeline = pipeline;
+        return this;
+    }
+
+    LocatedBlock findBlock(long blockId) {
         Preconditions.checkNotNull(locatedBlocks);
-        for (LocatedBlock block : locatedBlocks.getLocatedBlocks()) {
-            ExtendedBlock eb = block.getBlock();
-            if (eb.getBlockId() == blockId) {
-                return block;
-            }
-        }
-        return null;
+        return blockIndex.get(blockId);
     }
 
     public HDFSBlockData read(long blockId, long generationStamp, long offset, int length) throws DFSError {
@@ -91,6 +117,176 @@ public class HDFSBlockReader extends DFSInputStream {
         return null;
     }
 
+    /**
+     * Copy the block data changed since the specified transaction to the target block.
+     * <p>
+     * Only the byte range after the data already stored in the target is fetched (using the
+     * compressed change set of the block), in chunks of chunkSize bytes through a pooled
+     * direct buffer. If the change set starts before the stored size, or the stored data is
+     * longer than the HDFS block (truncate), the target is truncated first.
+     * The located block must not be older (generation stamp) than the block state, else the
+     * reader has to be re-initialized.
+     * The block checksum is updated with the copied chunks and saved in the block state. Only
+     * if the saved checksum doesn't match the stored size (truncate, legacy checksum) the
+     * stored data is re-hashed.
+     *
+     * @param blockState - Block state
+     * @param tnxId      - Copy the changes from this transaction ID
+     * @param target     - Target block to append to
+     * @return - Number of bytes copied
+     * @throws DFSError
+     */
+    public long copy(@NonNull DFSBlockState blockState, long tnxId, @NonNull FSBlock target) throws DFSError {
+        return copy(blockState, tnxId, target, null);
+    }
+
+    /**
+     * Copy the block changes, reading from the preferred replica (if it's one of the block locations).
+     */
+    long copy(@NonNull DFSBlockState blockState,
+              long tnxId,
+              @NonNull FSBlock target,
+              DatanodeInfo preferred) throws DFSError {
+        checkOpen();
+        BlockTnxDelta delta = blockState.compressedChangeSet(tnxId);
+        if (delta == null || delta.isDeleted()) {
+            return 0;
+        }
+        LocatedBlock lb = findBlock(blockState.getBlockId());
+        if (lb == null) {
+            throw new DFSError(String.format("Block not found. [path=%s][block id=%d]", src, blockState.getBlockId()));
+        }
+        long generationStamp = lb.getBlock().getGenerationStamp();
+        if (generationStamp < blockState.getGenerationStamp()) {
+            throw new DFSError(String.format("Stale block location: generation stamp older than the block state. [path=%s][block id=%d][generation stamp=%d][expected=%d]",
+                    src, blockState.getBlockId(), generationStamp, blockState.getGenerationStamp()));
+        }
+        try {
+            if (pipeline != null) {
+                pipeline.flush(target);
+            }
+            long size = target.size();
+            long start = Math.min(Math.min(size, resumeOffset(delta)), lb.getBlock().getNumBytes());
+            if (start < size) {
+                target.truncate(start);
+            }
+            long end = Math.min(delta.getEndOffset(), lb.getBlock().getNumBytes() - 1);
+            if (end < start) {
+                return 0;
+            }
+            StreamingChecksum checksum = StreamingChecksum.parse(blockState.getBlockChecksum());
+            if (checksum == null || checksum.totalLength() != start) {
+                checksum = target.checksum(start);
+            }
+            if (preferred != null) {
+                lb = prefer(lb, preferred);
+            }
+            long copied = copy(lb, blockState, start, end, target, checksum);
+            blockState.setBlockChecksum(checksum.state());
+            return copied;
+        } catch (IOException e) {
+            throw new DFSError(e);
+        }
+    }
+
+    /**
+     * The start offset of an append delta is the last byte of the previous data (the block
+     * state saves inclusive offsets), the changed data starts at the next byte.
+     */
+    static long resumeOffset(@NonNull BlockTnxDelta delta) {
+        return (delta.getStartOffset() > 0 ? delta.getStartOffset() + 1 : 0);
+    }
+
+    /**
+     * The datanode is chosen in location order, so move the preferred replica to the front.
+     */
+    static LocatedBlock prefer(@NonNull LocatedBlock lb, @NonNull DatanodeInfo preferred) {
+        DatanodeInfo[] locations = lb.getLocations();
+        int index = -1;
+        for (int ii = 0; ii < locations.length; ii++) {
+            if (locations[ii].equals(preferred)) {
+                index = ii;
+                break;
+            }
+        }
+        if (index <= 0) return lb;
+        String[] storageIDs = lb.getStorageIDs();
+        StorageType[] storageTypes = lb.getStorageTypes();
+        boolean storages = (storageIDs != null && storageIDs.length == locations.length
+                && storageTypes != null && storageTypes.length == locations.length);
+        DatanodeInfo[] ol = new DatanodeInfo[locations.length];
+        String[] os = (storages ? new String[locations.length] : null);
+        StorageType[] ot = (storages ? new StorageType[locations.length] : null);
+        for (int ii = 0; ii < locations.length; ii++) {
+            int from = (index + ii) % locations.length;
+            ol[ii] = locations[from];
+            if (storages) {
+                os[ii] = storageIDs[from];
+                ot[ii] = storageTypes[from];
+            }
+        }
+        LocatedBlock block = new LocatedBlock(lb.getBlock(), ol, os, ot, lb.getStartOffset(), lb.isCorrupt(), lb.getCachedLocations());
+        block.setBlockToken(lb.getBlockToken());
+        return block;
+    }
+
+    private long copy(LocatedBlock lb,
+                      DFSBlockState blockState,
+                      long start,
+                      long end,
+                      FSBlock target,
+                      StreamingChecksum checksum) throws IOException {
+        ByteBuffer buffer = BUFFER_POOL.getBuffer(chunkSize);
+        Map<ExtendedBlock, Set<DatanodeInfo>> corruptedBlockMap = new HashMap<>();
+        long copied = 0;
+        try {
+            for (long offset = start; offset <= end; offset += chunkSize) {
+                int length = (int) Math.min(chunkSize, end - offset + 1);
+                buffer.clear();
+                buffer.limit(length);
+                fetchBlockByteRange(lb, offset, offset + length - 1, buffer, corruptedBlockMap);
+                buffer.position(0);
+                buffer.limit(length);
+                checksum.update(buffer.duplicate());
+                if (pipeline != null) {
+                    copied += pipeline.append(target, blockState, buffer);
+                } else {
+                    copied += target.append(buffer);
+                }
+            }
+            return copied;
+        } finally {
+            BUFFER_POOL.returnBuffer(buffer);
+            reportCheckSumFailure(corruptedBlockMap, lb.getLocations().length);
+        }
+    }
+
+    /**
+     * Verify the stored block: the saved checksum must cover the complete HDFS block and match
+     * the stored data. The HDFS block data is not read, only the block length is checked.
+     *
+     * @param blockState - Block state (with the saved checksum)
+     * @param target     - Stored block
+     * @return - Is valid?
+     * @throws DFSError
+     */
+    public boolean verify(@NonNull DFSBlockState blockState, @NonNull FSBlock target) throws DFSError {
+        checkOpen();
+        LocatedBlock lb = findBlock(blockState.getBlockId());
+        if (lb == null) {
+            throw new DFSError(String.format("Block not found. [path=%s][block id=%d]", src, blockState.getBlockId()));
+        }
+        StreamingChecksum checksum = StreamingChecksum.parse(blockState.getBlockChecksum());
+        if (checksum == null || checksum.totalLength() != lb.getBlock().getNumBytes()) {
+            return false;
+        }
+        try {
+            return target.verify(blockState.getBlockChecksum());
+        } catch (IOException e) {
+            throw new DFSError(e);
+        }
+    }
+
     private void checkOpen() throws DFSError {
         if (!dfsClient.isClientRunning()) {
             throw new DFSError("Client is not running.");
@@ -0,0 +1,198 @@
+package ai.sapper.hcdc.core.io;
+
+import ai.sapper.hcdc.core.io.impl.local.LocalFileSystem;
+import ai.sapper.hcdc.core.model.DFSBlockState;
+import lombok.NonNull;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockWritePipelineTest {
+    private static final int BLOCK_COUNT = 8;
+
+    @Test
+    void commit() {
+        try {
+            File dir = Files.createTempDirectory("hcdc-pipeline-").toFile();
+            dir.deleteOnExit();
+            LocalFileSystem fs = new LocalFileSystem();
+            PathInfo directory = fs.get(dir.getAbsolutePath(), null);
+            Random random = new Random(1024);
+
+            FSBlock[] blocks = new FSBlock[BLOCK_COUNT];
+            DFSBlockState[] states = new DFSBlockState[BLOCK_COUNT];
+            ByteArrayOutputStream[] expected = new ByteArrayOutputStream[BLOCK_COUNT];
+            try (BlockWritePipeline pipeline = new BlockWritePipeline(4, 16 * 1024, 2)) {
+                for (int ii = 0; ii < BLOCK_COUNT; ii++) {
+                    blocks[ii] = new FSBlock(directory, ii, ii - 1, fs, null);
+                    states[ii] = new DFSBlockState();
+                    states[ii].setBlockId(ii);
+                    expected[ii] = new ByteArrayOutputStream();
+                }
+                ByteBuffer buffer = ByteBuffer.allocateDirect(5 * 1024);
+                for (int round = 0; round < 20; round++) {
+                    for (int ii = 0; ii < BLOCK_COUNT; ii++) {
+                        byte[] data = new byte[1 + random.nextInt(buffer.capacity())];
+                        random.nextBytes(data);
+                        expected[ii].write(data);
+                        buffer.clear();
+                        buffer.put(data);
+                        buffer.flip();
+                        assertEquals(data.length, pipeline.append(blocks[ii], states[ii], buffer));
+                    }
+                }
+                for (DFSBlockState state : states) {
+                    assertFalse(state.isStored());
+                }
+                assertEquals(-1, pipeline.committedTnxId());
+
+                assertEquals(BLOCK_COUNT, pipeline.commit(100));
+                assertEquals(100, pipeline.committedTnxId());
+                for (int ii = 0; ii < BLOCK_COUNT; ii++) {
+                    assertTrue(states[ii].isStored());
+                    assertEquals(expected[ii].size(), blocks[ii].size());
+                    assertArrayEquals(expected[ii].toByteArray(), Files.readAllBytes(new File(blocks[ii].path().path()).toPath()));
+                }
+                // Nothing touched since the last commit.
+                assertEquals(0, pipeline.commit(101));
+            } finally {
+                for (FSBlock block : blocks) {
+                    if (block != null) {
+                        block.close();
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void commitRace() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            File dir = Files.createTempDirectory("hcdc-pipeline-").toFile();
+            FSBlock block = null;
+            try {
+                LocalFileSystem fs = new LocalFileSystem();
+                PathInfo directory = fs.get(dir.getAbsolutePath(), null);
+                block = new FSBlock(directory, 1, -1, fs, null);
+                FSBlock target = block;
+                ByteArrayOutputStream expected = new ByteArrayOutputStream();
+                try (BlockWritePipeline pipeline = new BlockWritePipeline(2, 1024, 2)) {
+                    AtomicBoolean running = new AtomicBoolean(true);
+                    Future<?> writer = executor.submit(() -> {
+                        Random random = new Random(1024);
+                        ByteBuffer buffer = ByteBuffer.allocate(700);
+                        while (running.get()) {
+                            byte[] data = new byte[1 + random.nextInt(buffer.capacity())];
+                            random.nextBytes(data);
+                            expected.write(data);
+                            buffer.clear();
+                            buffer.put(data);
+                            buffer.flip();
+                            pipeline.append(target, null, buffer);
+                        }
+                        return null;
+                    });
+                    // Commits racing with the appends must not drop data.
+                    for (int ii = 0; ii < 200; ii++) {
+                        pipeline.commit(ii);
+                    }
+                    running.set(false);
+                    writer.get(1, TimeUnit.MINUTES);
+                    pipeline.commit(200);
+                    assertEquals(200, pipeline.committedTnxId());
+                }
+                assertArrayEquals(expected.toByteArray(), Files.readAllBytes(new File(block.path().path()).toPath()));
+            } finally {
+                if (block != null) {
+                    block.close();
+                }
+                FileUtils.deleteDirectory(dir);
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void errorSticky() {
+        try {
+            File dir = Files.createTempDirectory("hcdc-pipeline-").toFile();
+            FSBlock block = null;
+            try {
+                LocalFileSystem fs = new LocalFileSystem();
+                PathInfo directory = fs.get(dir.getAbsolutePath(), null);
+                AtomicBoolean failed = new AtomicBoolean(false);
+                block = new FSBlock(directory, 1, -1, fs, null) {
+                    @Override
+                    public synchronized long append(@NonNull ByteBuffer buffer) throws IOException {
+                        if (failed.compareAndSet(false, true)) {
+                            throw new IOException("Injected write failure.");
+                        }
+                        return super.append(buffer);
+                    }
+                };
+                DFSBlockState state = new DFSBlockState();
+                state.setBlockId(1);
+                try (BlockWritePipeline pipeline = new BlockWritePipeline(1, 1024, 2)) {
+                    assertEquals(10, pipeline.append(block, state, ByteBuffer.wrap(new byte[10])));
+                    assertThrows(IOException.class, () -> pipeline.commit(1));
+                    assertFalse(state.isStored());
+                    assertEquals(-1, pipeline.committedTnxId());
+
+                    // The failure is sticky: the block can't be written or committed until evicted.
+                    byte[] data = new byte[20];
+                    new Random(1024).nextBytes(data);
+                    FSBlock target = block;
+                    assertThrows(IOException.class, () -> pipeline.append(target, state, ByteBuffer.wrap(data)));
+                    assertThrows(IOException.class, () -> pipeline.commit(2));
+                    assertFalse(state.isStored());
+                    assertEquals(-1, pipeline.committedTnxId());
+                    assertEquals(1, pipeline.failed().size());
+
+                    // Evicted: the block is copied again from the start.
+                    state.setStored(true);
+                    assertTrue(pipeline.evict(block));
+                    assertFalse(state.isStored());
+                    assertTrue(pipeline.failed().isEmpty());
+                    assertFalse(pipeline.evict(block));
+                    block.truncate(0);
+                    byte[] copy = new byte[30];
+                    new Random(2048).nextBytes(copy);
+                    assertEquals(copy.length, pipeline.append(block, state, ByteBuffer.wrap(copy)));
+                    assertEquals(1, pipeline.commit(3));
+                    assertTrue(state.isStored());
+                    assertEquals(3, pipeline.committedTnxId());
+                    assertArrayEquals(copy, Files.readAllBytes(new File(block.path().path()).toPath()));
+                }
+            } finally {
+                if (block != null) {
+                    block.close();
+                }
+                FileUtils.deleteDirectory(dir);
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ai.sapper.hcdc.core.io;
+
+import ai.sapper.hcdc.core.io.impl.local.LocalFileSystem;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FSFileTest {
+    /**
+     * Local file system with readers that only implement the byte array reads (as the S3 reader),
+     * so ByteBuffer reads use the default chunked Reader.read(ByteBuffer).
+     */
+    private static class ChunkedFileSystem extends LocalFileSystem {
+        @Override
+        public Reader reader(@NonNull PathInfo path, boolean immutable) throws IOException {
+            Reader reader = super.reader(path, immutable);
+            return new Reader(path) {
+                @Override
+                public Reader open() {
+                    return this;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return reader.read(buffer, offset, length);
+                }
+
+                @Override
+                public void seek(int offset) throws IOException {
+                    reader.seek(offset);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    reader.close();
+                }
+            };
+        }
+    }
+
+    @Test
+    void readDirectBuffer() {
+        try {
+            File dir = Files.createTempDirectory("hcdc-fsfile-").toFile();
+            try {
+                ChunkedFileSystem fs = new ChunkedFileSystem();
+                PathInfo directory = fs.get(dir.getAbsolutePath(), null);
+                Random random = new Random(1024);
+                byte[][] data = {new byte[150 * 1024 + 3], new byte[120 * 1024 + 11]};
+                FSFile file = new FSFile("test", directory, fs);
+                try {
+                    long prev = -1;
+                    for (int ii = 0; ii < data.length; ii++) {
+                        random.nextBytes(data[ii]);
+                        FSBlock block = file.add(ii, prev);
+                        block.append(data[ii]);
+                        block.sync();
+                        prev = ii;
+                    }
+                    // Larger than the 64KB chunks of the default reader and than the first block.
+                    ByteBuffer buffer = ByteBuffer.allocateDirect(200 * 1024);
+                    assertEquals(buffer.capacity(), file.read(buffer));
+                    ByteBuffer rest = ByteBuffer.allocateDirect(data[0].length + data[1].length);
+                    assertEquals(rest.capacity() - buffer.capacity(), file.read(rest));
+                    assertEquals(-1, file.read(rest));
+
+                    buffer.flip();
+                    rest.flip();
+                    byte[] read = new byte[buffer.remaining() + rest.remaining()];
+                    buffer.get(read, 0, buffer.remaining());
+                    rest.get(read, read.length - rest.remaining(), rest.remaining());
+                    byte[] expected = new byte[read.length];
+                    System.arraycopy(data[0], 0, expected, 0, data[0].length);
+                    System.arraycopy(data[1], 0, expected, data[0].length, data[1].length);
+                    assertArrayEquals(expected, read);
+
+                    file.reset();
+                    byte[] array = new byte[expected.length];
+                    assertEquals(expected.length, file.read(array, 0, array.length));
+                    assertArrayEquals(expected, array);
+                } finally {
+                    file.close();
+                }
+            } finally {
+                for (File f : Objects.requireNonNull(dir.listFiles())) {
+                    assertTrue(f.delete());
+                }
+                assertTrue(dir.delete());
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ai.sapper.hcdc.core.io.impl.local;
+
+import ai.sapper.hcdc.core.io.PathInfo;
+import ai.sapper.hcdc.core.io.Reader;
+import ai.sapper.hcdc.core.io.Writer;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalReaderTest {
+
+    @Test
+    void read() {
+        try {
+            File dir = Files.createTempDirectory("hcdc-local-").toFile();
+            dir.deleteOnExit();
+            LocalFileSystem fs = new LocalFileSystem();
+            byte[] data = new byte[100 * 1024 + 7];
+            new Random(1024).nextBytes(data);
+
+            PathInfo source = new LocalPathInfo(String.format("%s/source.blk", dir.getAbsolutePath()));
+            try (Writer writer = fs.writer(source, false)) {
+                writer.write(data, 0, 1024);
+                ByteBuffer buffer = ByteBuffer.allocateDirect(data.length - 1024);
+                buffer.put(data, 1024, data.length - 1024);
+                buffer.flip();
+                assertEquals(data.length - 1024, writer.write(buffer));
+            }
+            assertEquals(data.length, source.size());
+
+            for (boolean immutable : new boolean[]{false, true}) {
+                try (Reader reader = fs.reader(source, immutable)) {
+                    reader.seek(1000);
+                    ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+                    assertEquals(data.length - 1000, reader.read(buffer));
+                    assertEquals(-1, reader.read(buffer));
+                    byte[] read = new byte[buffer.flip().remaining()];
+                    buffer.get(read);
+                    assertArrayEquals(Arrays.copyOfRange(data, 1000, data.length), read);
+                }
+            }
+
+            PathInfo target = new LocalPathInfo(String.format("%s/target.blk", dir.getAbsolutePath()));
+            try (Reader reader = fs.reader(source, true);
+                 Writer writer = fs.writer(target, true)) {
+                assertEquals(data.length, reader.transferTo(0, data.length, writer));
+            }
+            assertArrayEquals(data, Files.readAllBytes(new File(target.path()).toPath()));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package ai.sapper.hcdc.core.io.impl.packed;
+
+import ai.sapper.hcdc.core.io.PathInfo;
+import ai.sapper.hcdc.core.io.Reader;
+import ai.sapper.hcdc.core.io.Writer;
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedFileSystemTest {
+    private static final int BLOCK_COUNT = 64;
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @Test
+    void readWriteCompact() {
+        try {
+            File dir = Files.createTempDirectory("hcdc-packed-").toFile();
+            try {
+                byte[][] blocks = new byte[BLOCK_COUNT][];
+                Random random = new Random(1024);
+
+                try (PackedFileSystem fs = create(dir)) {
+                    for (int ii = 0; ii < BLOCK_COUNT; ii++) {
+                        blocks[ii] = new byte[1024 + random.nextInt(8 * 1024)];
+                        random.nextBytes(blocks[ii]);
+                        PathInfo path = fs.get(String.format("/data/file_%d/%d-%d.blk", ii % 8, ii, ii - 1), "test");
+                        try (Writer writer = fs.writer(path, true)) {
+                            writer.write(blocks[ii], 0, 100);
+                        }
+                        // Append with a separate writer, the extents may not be contiguous.
+                        try (Writer writer = fs.writer(path, false)) {
+                            writer.write(blocks[ii], 100, blocks[ii].length - 100);
+                        }
+                        assertEquals(blocks[ii].length, path.size());
+                    }
+                    List<String> files = fs.findFiles(fs.get("data", "test"), null, ".*\\.blk");
+                    assertNotNull(files);
+                    assertEquals(BLOCK_COUNT, files.size());
+                    assertTrue(fs.get("data/file_1", "test").isDirectory());
+
+                    for (int ii = 0; ii < BLOCK_COUNT; ii++) {
+                        PathInfo path = fs.get(String.format("/data/file_%d/%d-%d.blk", ii % 8, ii, ii - 1), "test");
+                        if (ii % 3 == 0) {
+                            assertTrue(fs.delete(path));
+                        } else if (ii % 3 == 1) {
+                            try (Writer writer = fs.writer(path, false)) {
+                                assertEquals(512, writer.truncate(512));
+                            }
+                            blocks[ii] = Arrays.copyOf(blocks[ii], 512);
+                        }
+                    }
+                    try (Reader reader = fs.reader(fs.get("/data/file_2/2-1.blk", "test"))) {
+                        assertTrue(fs.compact() > 0);
+                        // Segments are retained while a reader is open.
+                        byte[] data = new byte[blocks[2].length];
+                        assertEquals(data.length, reader.read(data, 0, data.length));
+                        assertArrayEquals(blocks[2], data);
+                    }
+                    check(fs, blocks);
+                }
+                try (PackedFileSystem fs = create(dir)) {
+                    check(fs, blocks);
+                    assertTrue(fs.delete(fs.get("data", "test"), true));
+                    assertNull(fs.list(fs.get("data", "test"), true));
+                }
+            } finally {
+                FileUtils.deleteDirectory(dir);
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void indexReferences() {
+        try {
+            File dir = Files.createTempDirectory("hcdc-packed-").toFile();
+            try {
+                PackedIndex index = new PackedIndex(dir);
+                index.open();
+                try {
+                    index.append("a", new PackedIndex.Extent(1, 0, 100));
+                    index.append("a", new PackedIndex.Extent(2, 0, 100));
+                    index.append("b", new PackedIndex.Extent(1, 100, 100));
+                    assertEquals(Arrays.asList("a", "b"), sorted(index.paths(1)));
+                    assertEquals(Collections.singletonList("a"), index.paths(2));
+
+                    // Truncate removes the extent in segment 2.
+                    index.truncate("a", 50);
+                    assertTrue(index.paths(2).isEmpty());
+                    assertEquals(0, index.live(2));
+                    assertEquals(150, index.live(1));
+
+                    index.put("b", Collections.singletonList(new PackedIndex.Extent(3, 0, 100)));
+                    assertEquals(Collections.singletonList("a"), index.paths(1));
+                    assertEquals(Collections.singletonList("b"), index.paths(3));
+                    assertTrue(index.delete("a"));
+                    assertTrue(index.paths(1).isEmpty());
+                    assertEquals(0, index.live(1));
+                } finally {
+                    index.close();
+                }
+            } finally {
+                FileUtils.deleteDirectory(dir);
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    private static List<String> sorted(List<String> values) {
+        Collections.sort(values);
+        return values;
+    }
+
+    private static void check(PackedFileSystem fs, byte[][] blocks) throws IOException {
+        for (int ii = 0; ii < BLOCK_COUNT; ii++) {
+            PathInfo path = fs.get(String.format("/data/file_%d/%d-%d.blk", ii % 8, ii, ii - 1), "test");
+            if (ii % 3 == 0) {
+                assertFalse(path.exists());
+                continue;
+            }
+            assertEquals(blocks[ii].length, path.size());
+            try (Reader reader = fs.reader(path)) {
+                reader.seek(10);
+                byte[] data = new byte[blocks[ii].length];
+                assertEquals(data.length - 10, reader.read(data, 0, data.length));
+                assertEquals(-1, reader.read(data, 0, data.length));
+                assertArrayEquals(Arrays.copyOfRange(blocks[ii], 10, blocks[ii].length),
+                        Arrays.copyOf(data, data.length - 10));
+            }
+        }
+    }
+
+    private static PackedFileSystem create(File dir) throws IOException {
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("packed.root", dir.getAbsolutePath());
+        config.addProperty("packed.segment.size", SEGMENT_SIZE);
+        config.addProperty("packed.compaction.interval", 0);
+        PackedFileSystem fs = new PackedFileSystem();
+        fs.init(config, null);
+        return fs;
+    }
+}
@@ -0,0 +1,240 @@
+package ai.sapper.hcdc.core.io.impl.s3;
+
+import ai.sapper.hcdc.core.io.PathInfo;
+import ai.sapper.hcdc.core.io.Reader;
+import ai.sapper.hcdc.core.io.Writer;
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3FileSystemTest {
+    private static final int PART_SIZE = S3Writer.MIN_PART_SIZE;
+
+    @Test
+    void readWrite() {
+        try (S3FileSystem fs = create()) {
+            byte[] data = new byte[2 * PART_SIZE + 1024];
+            new Random(1024).nextBytes(data);
+
+            PathInfo path = fs.get("blocks/0001/block.blk", "test");
+            try (Writer writer = fs.writer(path, true)) {
+                writer.write(data, 0, 100);
+            }
+            assertEquals(100, path.size());
+            try (Writer writer = fs.writer(path, false)) {
+                writer.write(data, 100, data.length - 100);
+            }
+            assertEquals(data.length, path.size());
+            // Append to an object larger than a part (server side copy).
+            try (Writer writer = fs.writer(path, false)) {
+                writer.write(data, 0, 10);
+            }
+            assertEquals(data.length + 10, path.size());
+            try (Reader reader = fs.reader(path)) {
+                byte[] read = new byte[data.length + 10];
+                int offset = 0;
+                while (offset < read.length) {
+                    int r = reader.read(read, offset, Math.min(4096, read.length - offset));
+                    assertTrue(r > 0);
+                    offset += r;
+                }
+                assertEquals(-1, reader.read(read, 0, 1));
+                assertArrayEquals(data, Arrays.copyOf(read, data.length));
+                assertArrayEquals(Arrays.copyOf(data, 10), Arrays.copyOfRange(read, data.length, read.length));
+            }
+            try (Writer writer = fs.writer(path, false)) {
+                assertEquals(PART_SIZE + 7, writer.truncate(PART_SIZE + 7));
+                assertEquals(10, writer.truncate(10));
+            }
+            assertEquals(10, path.size());
+
+            fs.writer(fs.get("blocks/0002/block.blk", "test"), true).close();
+            List<String> files = fs.findFiles(fs.get("blocks", "test"), null, ".*\\.blk");
+            assertNotNull(files);
+            assertEquals(2, files.size());
+            // Returned paths are relative to the configured prefix.
+            assertEquals(Arrays.asList("blocks/0001/block.blk", "blocks/0002/block.blk"), files);
+            assertEquals(files, fs.list(fs.get("blocks", "test"), true));
+            assertEquals(files, fs.find(fs.get("blocks", "test"), "000[12]", ".*\\.blk"));
+            assertEquals(Arrays.asList("blocks/0002/block.blk"), fs.findFiles(fs.get("blocks", "test"), "blocks/0002", ".*\\.blk"));
+            assertTrue(fs.get(files.get(0), "test").exists());
+            assertTrue(fs.delete(fs.get("blocks", "test"), true));
+            assertNull(fs.list(fs.get("blocks", "test"), true));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    private static S3FileSystem create() throws IOException {
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("s3.bucket", "hcdc-test");
+        config.addProperty("s3.prefix", "/hcdc/");
+        config.addProperty("s3.upload.partSize", PART_SIZE);
+        S3FileSystem fs = new S3FileSystem().withClient(new MemoryS3Client());
+        fs.init(config, null);
+        return fs;
+    }
+
+    /**
+     * Minimal in-memory object store, only implements the calls used by the file system.
+     */
+    private static class MemoryS3Client implements S3Client {
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+
+        @Override
+        public HeadObjectResponse headObject(HeadObjectRequest request) {
+            byte[] data = objects.get(request.key());
+            if (data == null) throw NoSuchKeyException.builder().statusCode(404).build();
+            return HeadObjectResponse.builder().contentLength((long) data.length).build();
+        }
+
+        @Override
+        public <T> T getObject(GetObjectRequest request, ResponseTransformer<GetObjectResponse, T> transformer) {
+            byte[] data = objects.get(request.key());
+            if (data == null) throw NoSuchKeyException.builder().statusCode(404).build();
+            data = range(data, request.range());
+            try {
+                return transformer.transform(GetObjectResponse.builder().contentLength((long) data.length).build(),
+                        AbortableInputStream.create(new ByteArrayInputStream(data)));
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        @Override
+        public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest request) {
+            return getObject(request, ResponseTransformer.toBytes());
+        }
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            objects.put(request.key(), bytes(body));
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String id = UUID.randomUUID().toString();
+            uploads.put(id, new TreeMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(id).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            byte[] data = bytes(body);
+            synchronized (this) {
+                uploads.get(request.uploadId()).put(request.partNumber(), data);
+            }
+            return UploadPartResponse.builder().eTag(String.valueOf(request.partNumber())).build();
+        }
+
+        @Override
+        public UploadPartCopyResponse uploadPartCopy(UploadPartCopyRequest request) {
+            byte[] data = range(objects.get(request.sourceKey()), request.copySourceRange());
+            synchronized (this) {
+                uploads.get(request.uploadId()).put(request.partNumber(), data);
+            }
+            return UploadPartCopyResponse.builder()
+                    .copyPartResult(CopyPartResult.builder().eTag(String.valueOf(request.partNumber())).build())
+                    .build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            Map<Integer, byte[]> parts = uploads.remove(request.uploadId());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            int partNumber = 1;
+            for (CompletedPart part : request.multipartUpload().parts()) {
+                assertEquals(partNumber++, part.partNumber());
+                byte[] data = parts.get(part.partNumber());
+                if (partNumber <= request.multipartUpload().parts().size()) {
+                    assertTrue(data.length >= S3Writer.MIN_PART_SIZE);
+                }
+                output.write(data, 0, data.length);
+            }
+            objects.put(request.key(), output.toByteArray());
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+            List<S3Object> contents = new ArrayList<>();
+            for (String key : new TreeMap<>(objects).keySet()) {
+                if (request.prefix() != null && !key.startsWith(request.prefix())) continue;
+                if (request.delimiter() != null
+                        && key.indexOf(request.delimiter(), request.prefix() == null ? 0 : request.prefix().length()) >= 0)
+                    continue;
+                contents.add(S3Object.builder().key(key).size((long) objects.get(key).length).build());
+                if (request.maxKeys() != null && contents.size() >= request.maxKeys()) break;
+            }
+            return ListObjectsV2Response.builder().contents(contents).isTruncated(false).build();
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+            for (ObjectIdentifier id : request.delete().objects()) {
+                objects.remove(id.key());
+            }
+            return DeleteObjectsResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static byte[] range(byte[] data, String range) {
+            if (range == null) return data;
+            String[] parts = range.substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(parts[0]);
+            int end = Math.min(Integer.parseInt(parts[1]), data.length - 1);
+            return Arrays.copyOfRange(data, start, end + 1);
+        }
+
+        private static byte[] bytes(RequestBody body) {
+            try (java.io.InputStream input = body.contentStreamProvider().newStream()) {
+                return input.readAllBytes();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ai.sapper.hcdc.core.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AckTrackerTest {
+
+    @Test
+    void ack() {
+        try {
+            AckTracker<String> tracker = new AckTracker<>();
+            for (long ii = 10; ii < 15; ii++) {
+                tracker.received(ii, String.valueOf(ii));
+            }
+            // Out of order: nothing committable until the first offset is acked.
+            assertNull(tracker.ack(12));
+            assertNull(tracker.ack(11));
+            assertEquals("12", tracker.ack(10));
+            assertEquals(2, tracker.size());
+            assertNull(tracker.ack(14));
+            assertEquals("14", tracker.ack(13));
+            assertEquals(0, tracker.size());
+            // Unknown offsets are ignored.
+            assertNull(tracker.ack(100));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ai.sapper.hcdc.core.messaging;
+
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeDeltaCompressorTest {
+    private static List<byte[]> records(int count) {
+        List<byte[]> records = new ArrayList<>(count);
+        for (int ii = 0; ii < count; ii++) {
+            String path = String.format("/user/hive/warehouse/test.db/events/date=2022-08-%02d/part-%05d.parquet", (ii % 28) + 1, ii);
+            records.add(String.format("%s|%d|%s|%d", path, 1000 + ii, path, ii * 4096).getBytes(StandardCharsets.UTF_8));
+        }
+        return records;
+    }
+
+    private static ChangeDeltaCompressor create(String type, String dictionary) throws Exception {
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("compression.type", type);
+        config.addProperty("compression.minSize", "16");
+        if (dictionary != null) {
+            config.addProperty("compression.dictionary", dictionary);
+        }
+        return ChangeDeltaCompressor.create(config);
+    }
+
+    @Test
+    void notConfigured() {
+        try {
+            assertNull(ChangeDeltaCompressor.create(new BaseHierarchicalConfiguration()));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void lz4() {
+        try {
+            ChangeDeltaCompressor compressor = create("lz4", null);
+            for (byte[] record : records(64)) {
+                byte[] compressed = compressor.compress(record);
+                assertNotNull(compressed);
+                assertTrue(compressed.length < record.length);
+                assertEquals(ChangeDeltaCompressor.ECompression.LZ4.name(), compressor.header());
+                assertArrayEquals(record, ChangeDeltaCompressor.decompress(compressed, compressor.header(), null));
+            }
+            assertNull(compressor.compress(new byte[8]));
+
+            // Corrupt length prefix: rejected before allocating.
+            byte[] compressed = compressor.compress(records(1).get(0));
+            assertNotNull(compressed);
+            compressed[0] = (byte) 0x7F;
+            assertThrows(MessagingError.class, () -> ChangeDeltaCompressor.decompress(compressed, "LZ4", null));
+            compressed[0] = (byte) 0xFF;
+            assertThrows(MessagingError.class, () -> ChangeDeltaCompressor.decompress(compressed, "LZ4", null));
+            assertThrows(MessagingError.class, () -> ChangeDeltaCompressor.decompress(new byte[2], "LZ4", null));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    private static String dictionary(List<byte[]> samples) throws Exception {
+        byte[] dictionary = ChangeDeltaCompressor.train(samples, 4096);
+        File file = File.createTempFile("hcdc-dict-", ".zstd");
+        file.deleteOnExit();
+        Files.write(file.toPath(), dictionary);
+        return file.getAbsolutePath();
+    }
+
+    @Test
+    void zstdDictionary() {
+        try {
+            List<byte[]> samples = records(4096);
+            ChangeDeltaCompressor compressor = create("zstd", dictionary(samples));
+            ChangeDeltaCompressor plain = create("zstd", null);
+            assertNotEquals(0, compressor.dictionaryId());
+            assertEquals(String.format("Zstd:%d", compressor.dictionaryId()), compressor.header());
+            assertEquals("Zstd", plain.header());
+            for (byte[] record : records(64)) {
+                byte[] compressed = compressor.compress(record);
+                assertNotNull(compressed);
+                byte[] cp = plain.compress(record);
+                assertTrue(cp == null || compressed.length < cp.length);
+                assertArrayEquals(record, compressor.decompress(compressed, compressor.header()));
+                if (cp != null) {
+                    // Records compressed without a dictionary are still read.
+                    assertArrayEquals(record, compressor.decompress(cp, plain.header()));
+                }
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void zstdDictionaryMismatch() {
+        try {
+            List<byte[]> samples = records(4096);
+            ChangeDeltaCompressor compressor = create("zstd", dictionary(samples));
+            List<byte[]> others = new ArrayList<>(samples.size());
+            for (byte[] sample : samples) {
+                others.add(new String(sample, StandardCharsets.UTF_8)
+                        .replace("/user/hive/warehouse", "/data/raw/landing")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            ChangeDeltaCompressor other = create("zstd", dictionary(others));
+            assertNotEquals(compressor.dictionaryId(), other.dictionaryId());
+
+            byte[] compressed = compressor.compress(samples.get(0));
+            assertNotNull(compressed);
+            MessagingError error = assertThrows(MessagingError.class,
+                    () -> other.decompress(compressed, compressor.header()));
+            assertTrue(error.getMessage().contains("dictionary mismatch"));
+            // No dictionary configured on the receiver.
+            assertThrows(MessagingError.class,
+                    () -> ChangeDeltaCompressor.decompress(compressed, compressor.header(), null));
+            // Header without the dictionary ID: checked against the frame.
+            assertThrows(MessagingError.class, () -> other.decompress(compressed, "Zstd"));
+            assertArrayEquals(samples.get(0), compressor.decompress(compressed, "Zstd"));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.common.model.DFSIgnoreTx;
+import ai.sapper.hcdc.common.model.DFSTransaction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeDeltaSerDeTest {
+    private static final String NAMESPACE = "test-namespace";
+
+    private DFSIgnoreTx ignoreTx(long txId) {
+        DFSTransaction tnx = DFSTransaction.newBuilder()
+                .setTransactionId(txId)
+                .setOp(DFSTransaction.Operation.IGNORE)
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+        return DFSIgnoreTx.newBuilder()
+                .setOpCode(tnx.getOp().name())
+                .setTransaction(tnx)
+                .build();
+    }
+
+    @Test
+    void create() {
+        try {
+            DFSIgnoreTx data = ignoreTx(1024);
+            MessageObject<String, DFSChangeDelta> message = ChangeDeltaSerDe.create(NAMESPACE, data, DFSIgnoreTx.class,
+                    null, null, MessageObject.MessageMode.New);
+            DFSChangeDelta delta = DFSChangeDelta.parseFrom(message.value().toByteArray());
+            assertEquals(ChangeDeltaSerDe.VERSION, delta.getVersion());
+            assertFalse(delta.hasTxId());
+            assertFalse(delta.hasType());
+            assertEquals(1024, ChangeDeltaSerDe.txId(delta));
+            assertEquals(DFSChangeDelta.DeltaType.IGNORE_TX, ChangeDeltaSerDe.deltaType(delta));
+            assertEquals(String.format("%s:%s:%d", NAMESPACE, MessageObject.MessageMode.New.name(), 1024), message.id());
+
+            Object body = ChangeDeltaSerDe.parse(delta);
+            assertEquals(data, body);
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void readVersion1() {
+        try {
+            DFSIgnoreTx data = ignoreTx(2048);
+            DFSChangeDelta v1 = DFSChangeDelta.newBuilder()
+                    .setNamespace(NAMESPACE)
+                    .setTimestamp(System.currentTimeMillis())
+                    .setTxId(String.valueOf(2048))
+                    .setEntity("IGNORE:2048")
+                    .setType(DFSIgnoreTx.class.getCanonicalName())
+                    .setBody(data.toByteString())
+                    .build();
+            DFSChangeDelta delta = DFSChangeDelta.parseFrom(v1.toByteArray());
+            assertFalse(delta.hasVersion());
+            assertTrue(ChangeDeltaSerDe.hasTxId(delta));
+            assertEquals(2048, ChangeDeltaSerDe.txId(delta));
+            assertTrue(ChangeDeltaSerDe.isType(delta, DFSChangeDelta.DeltaType.IGNORE_TX));
+            assertEquals(data, ChangeDeltaSerDe.parse(delta));
+
+            DFSChangeDelta invalid = v1.toBuilder().setType("java.lang.Object").build();
+            assertFalse(ChangeDeltaSerDe.isType(invalid, DFSChangeDelta.DeltaType.IGNORE_TX));
+            assertThrows(MessagingError.class, () -> ChangeDeltaSerDe.deltaType(invalid));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void messageCache() {
+        try {
+            DFSIgnoreTx data = ignoreTx(4096);
+            MessageObject<String, DFSChangeDelta> created = ChangeDeltaSerDe.create(NAMESPACE, data, DFSIgnoreTx.class,
+                    null, null, MessageObject.MessageMode.New);
+            // The body is set when created, never parsed.
+            assertSame(data, created.decoded());
+            assertSame(data, ChangeDeltaSerDe.parse(created));
+
+            // Received message: parsed on first access and cached.
+            byte[] received = created.value().toByteArray();
+            MessageObject<String, DFSChangeDelta> message = new MessageObject<>();
+            message.value(DFSChangeDelta.parseFrom(received));
+            message.raw(received);
+            assertNull(message.decoded());
+            Object body = ChangeDeltaSerDe.parse(message);
+            assertEquals(data, body);
+            assertSame(body, message.decoded());
+            assertSame(body, ChangeDeltaSerDe.parse(message));
+
+            // The received bytes are forwarded as is.
+            assertSame(received, ChangeDeltaSerDe.serialize(message));
+
+            // Replacing the value clears the cached body and bytes.
+            DFSChangeDelta updated = message.value().toBuilder().setEntityName("updated").build();
+            message.value(updated);
+            assertNull(message.decoded());
+            assertNull(message.raw());
+            byte[] serialized = ChangeDeltaSerDe.serialize(message);
+            assertNotSame(received, serialized);
+            assertArrayEquals(updated.toByteArray(), serialized);
+            assertEquals(data, ChangeDeltaSerDe.parse(message));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void writeVersion1() {
+        try {
+            DFSIgnoreTx data = ignoreTx(8192);
+            ChangeDeltaSerDe.writeV1Fields(true);
+            MessageObject<String, DFSChangeDelta> message;
+            try {
+                message = ChangeDeltaSerDe.create(NAMESPACE, data, DFSIgnoreTx.class,
+                        null, null, MessageObject.MessageMode.New);
+            } finally {
+                ChangeDeltaSerDe.writeV1Fields(false);
+            }
+            DFSChangeDelta delta = DFSChangeDelta.parseFrom(message.value().toByteArray());
+            // Readable by version 1 consumers...
+            assertEquals(String.valueOf(8192), delta.getTxId());
+            assertEquals(DFSIgnoreTx.class.getCanonicalName(), delta.getType());
+            // ...and version 2 consumers.
+            assertEquals(ChangeDeltaSerDe.VERSION, delta.getVersion());
+            assertEquals(8192, delta.getTransactionId());
+            assertEquals(DFSChangeDelta.DeltaType.IGNORE_TX, delta.getDeltaType());
+            assertEquals(data, ChangeDeltaSerDe.parse(delta));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ai.sapper.hcdc.core.messaging;
+
+import ai.sapper.hcdc.common.model.KafkaMessageStateData;
+import ai.sapper.hcdc.common.utils.StateSerDe;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaMessageStateTest {
+
+    @Test
+    void convertUnset() {
+        try {
+            KafkaMessageState state = new KafkaMessageState();
+            state.setPartition(3);
+            state.setOffset(1024);
+            state.setUpdateTimestamp(System.currentTimeMillis());
+
+            byte[] data = StateSerDe.encode(state.convertToProto(), -1);
+            KafkaMessageState read = new KafkaMessageState()
+                    .parseFrom(KafkaMessageStateData.parseFrom(StateSerDe.decode(data)));
+            assertNull(read.getPath());
+            assertNull(read.getName());
+            assertNull(read.getTopic());
+            assertEquals(state.getPartition(), read.getPartition());
+            assertEquals(state.getOffset(), read.getOffset());
+            assertEquals(state.getUpdateTimestamp(), read.getUpdateTimestamp());
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ai.sapper.hcdc.core.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedLogTest {
+    private static final int SEGMENT_SIZE = 4096;
+
+    @Test
+    void appendAndRead() {
+        try {
+            File dir = Files.createTempDirectory("hcdc-log-").toFile();
+            dir.deleteOnExit();
+            Random random = new Random(1024);
+            List<byte[]> expected = new ArrayList<>();
+            for (int ii = 0; ii < 800; ii++) {
+                byte[] data = new byte[1 + random.nextInt(700)];
+                random.nextBytes(data);
+                expected.add(data);
+            }
+            MappedLog log = MappedLog.open(dir, SEGMENT_SIZE);
+            for (int ii = 0; ii < 500; ii++) {
+                log.append(expected.get(ii));
+            }
+            log.close();
+
+            // Re-open: appends continue at the end of the last segment.
+            log = MappedLog.open(dir, SEGMENT_SIZE);
+            try {
+                long end = log.append(expected.subList(500, expected.size()));
+                assertEquals(end, log.endOffset());
+
+                MappedLog.Reader reader = log.reader(log.offset("test"));
+                long committed = -1;
+                byte[] record;
+                int count = 0;
+                while ((record = reader.next()) != null) {
+                    assertArrayEquals(expected.get(count), record);
+                    count++;
+                    if (count == 400) {
+                        committed = reader.position();
+                    }
+                }
+                assertEquals(expected.size(), count);
+                assertEquals(end, reader.position());
+
+                log.commit("test", committed);
+                assertEquals(committed, log.offset("test"));
+                // A configured consumer that has not committed yet holds the segments.
+                assertEquals(0, log.cleanup(Arrays.asList("test", "other")));
+                assertTrue(log.cleanup(Collections.singletonList("test")) > 0);
+
+                reader = log.reader(log.offset("test"));
+                count = 400;
+                while ((record = reader.next()) != null) {
+                    assertArrayEquals(expected.get(count), record);
+                    count++;
+                }
+                assertEquals(expected.size(), count);
+            } finally {
+                log.close();
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
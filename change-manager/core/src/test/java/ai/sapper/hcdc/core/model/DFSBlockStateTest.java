@@ -0,0 +1,105 @@
+package ai.sapper.hcdc.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DFSBlockStateTest {
+    private static final long BLOCK_ID = 1024;
+
+    /**
+     * Block with appends at transactions [first, last], 100 bytes each.
+     */
+    private static DFSBlockState block(long first, long last) {
+        DFSBlockState state = new DFSBlockState();
+        state.setBlockId(BLOCK_ID);
+        state.setBlockSize(64 * 1024 * 1024);
+        for (long txId = first; txId <= last; txId++) {
+            BlockTnxDelta delta = new BlockTnxDelta();
+            delta.setTnxId(txId);
+            delta.setTimestamp(txId * 1000);
+            delta.setStartOffset((txId - first) * 100);
+            delta.setEndOffset((txId - first + 1) * 100 - 1);
+            state.add(delta);
+            state.setLastTnxId(txId);
+            state.setDataSize((txId - first + 1) * 100);
+        }
+        return state;
+    }
+
+    @Test
+    void compact() {
+        try {
+            DFSBlockState state = block(10, 15);
+            assertEquals(0, state.compactable(6, Long.MAX_VALUE));
+            assertEquals(0, state.compactable(0, Long.MAX_VALUE));
+            assertEquals(4, state.compactable(2, Long.MAX_VALUE));
+
+            assertEquals(3, state.compact(2, Long.MAX_VALUE));
+            assertEquals(3, state.getTransactions().size());
+            BlockTnxDelta merged = state.getTransactions().get(0);
+            assertEquals(13, merged.getTnxId());
+            assertEquals(13000, merged.getTimestamp());
+            assertEquals(0, merged.getStartOffset());
+            assertEquals(399, merged.getEndOffset());
+            assertFalse(merged.isDeleted());
+
+            // The index is rebuilt: lookups still resolve, the merged delta replaces the older ones.
+            assertSame(merged, state.delta(13));
+            assertNull(state.delta(12));
+            assertEquals(3, state.changeSet(10).size());
+            assertEquals(2, state.changeSet(14).size());
+
+            assertEquals(0, state.compactable(2, Long.MAX_VALUE));
+            assertEquals(0, state.compact(2, Long.MAX_VALUE));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void retention() {
+        try {
+            DFSBlockState state = block(10, 15);
+            // Transactions 12 and later are retained.
+            assertEquals(2, state.compactable(2, 12));
+            assertEquals(1, state.compact(2, 12));
+            assertEquals(5, state.getTransactions().size());
+            assertEquals(11, state.getTransactions().get(0).getTnxId());
+            assertEquals(0, state.getTransactions().get(0).getStartOffset());
+            assertNotNull(state.delta(12));
+            assertEquals(0, state.compactable(2, 12));
+
+            // A single delta before the retention transaction is not worth merging.
+            assertEquals(0, block(10, 15).compactable(2, 11));
+            assertEquals(0, block(10, 15).compactable(2, 10));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void deletedAndUnsorted() {
+        try {
+            DFSBlockState state = block(10, 15);
+            state.getTransactions().get(1).setDeleted(true);
+            assertEquals(3, state.compact(2, Long.MAX_VALUE));
+            assertTrue(state.getTransactions().get(0).isDeleted());
+            assertFalse(state.getTransactions().get(1).isDeleted());
+
+            // Deltas out of transaction order are never compacted.
+            state = block(10, 15);
+            BlockTnxDelta delta = new BlockTnxDelta();
+            delta.setTnxId(12);
+            state.add(delta);
+            assertEquals(0, state.compactable(2, Long.MAX_VALUE));
+            assertEquals(0, state.compact(2, Long.MAX_VALUE));
+            assertEquals(7, state.getTransactions().size());
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ai.sapper.hcdc.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DFSFileStateTest {
+    private static DFSBlockState block(long blockId) {
+        DFSBlockState block = new DFSBlockState();
+        block.setBlockId(blockId);
+        return block;
+    }
+
+    @Test
+    void blocksChangedDirectly() {
+        try {
+            DFSFileState fileState = new DFSFileState();
+            for (long ii = 1; ii <= 4; ii++) {
+                fileState.add(block(ii));
+            }
+            assertEquals(2, fileState.get(2).getBlockId());
+
+            // Same size, a block in the middle replaced.
+            fileState.getBlocks().set(1, block(10));
+            assertNull(fileState.get(2));
+            assertEquals(10, fileState.get(10).getBlockId());
+
+            // Same size, the last block replaced.
+            fileState.getBlocks().set(3, block(20));
+            assertEquals(20, fileState.get(20).getBlockId());
+            assertNull(fileState.get(4));
+
+            // Size changed.
+            fileState.getBlocks().remove(0);
+            assertNull(fileState.get(1));
+            assertEquals(3, fileState.get(3).getBlockId());
+
+            List<DFSBlockState> blocks = new ArrayList<>();
+            blocks.add(block(7));
+            fileState.setBlocks(blocks);
+            assertEquals(7, fileState.get(7).getBlockId());
+            assertNull(fileState.get(3));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.apache.hadoop.hdfs;
+
+import org.apache.hadoop.fs.StorageType;
+import org.apache.hadoop.hdfs.protocol.DatanodeID;
+import org.apache.hadoop.hdfs.protocol.DatanodeInfo;
+import org.apache.hadoop.hdfs.protocol.ExtendedBlock;
+import org.apache.hadoop.hdfs.protocol.LocatedBlock;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HDFSBlockFetcherTest {
+    private static DatanodeInfo dataNode(int index) {
+        return new DatanodeInfo(new DatanodeID(String.format("10.0.0.%d", index),
+                String.format("dn-%d", index),
+                String.format("uuid-%d", index),
+                50010, 50075, 50475, 50020));
+    }
+
+    @Test
+    void slots() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DatanodeInfo dn0 = dataNode(0);
+            DatanodeInfo dn1 = dataNode(1);
+            DatanodeInfo[] locations = {dn0, dn1};
+            HDFSBlockFetcher.DataNodeSlots slots = new HDFSBlockFetcher.DataNodeSlots(2);
+
+            assertEquals(dn0, slots.acquire(locations, 0));
+            assertEquals(dn1, slots.acquire(locations, 1));
+            assertEquals(dn0, slots.acquire(locations, 2));
+            // dn0 is full, the next replica is used.
+            assertEquals(dn1, slots.acquire(locations, 0));
+            assertEquals(0, slots.available(dn0));
+            assertEquals(0, slots.available(dn1));
+
+            // All replicas are full: wait for the replica at the block index.
+            Future<DatanodeInfo> waiting = executor.submit(() -> slots.acquire(locations, 1));
+            assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+            slots.release(dn0);
+            assertEquals(1, slots.available(dn0));
+            assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+            slots.release(dn1);
+            assertEquals(dn1, waiting.get(5, TimeUnit.SECONDS));
+            assertEquals(0, slots.available(dn1));
+
+            assertEquals(dn0, slots.acquire(locations, 1));
+            assertEquals(0, slots.available(dn0));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void prefer() {
+        try {
+            DatanodeInfo[] locations = {dataNode(0), dataNode(1), dataNode(2)};
+            String[] storageIDs = {"s-0", "s-1", "s-2"};
+            StorageType[] storageTypes = {StorageType.DISK, StorageType.SSD, StorageType.ARCHIVE};
+            LocatedBlock lb = new LocatedBlock(new ExtendedBlock("pool", 1024, 4096, 1001),
+                    locations, storageIDs, storageTypes, 0, false, new DatanodeInfo[0]);
+
+            LocatedBlock pb = HDFSBlockReader.prefer(lb, dataNode(2));
+            assertNotSame(lb, pb);
+            assertEquals(lb.getBlock(), pb.getBlock());
+            assertArrayEquals(new DatanodeInfo[]{locations[2], locations[0], locations[1]}, pb.getLocations());
+            assertArrayEquals(new String[]{"s-2", "s-0", "s-1"}, pb.getStorageIDs());
+            assertArrayEquals(new StorageType[]{StorageType.ARCHIVE, StorageType.DISK, StorageType.SSD}, pb.getStorageTypes());
+
+            pb = HDFSBlockReader.prefer(lb, dataNode(1));
+            assertArrayEquals(new DatanodeInfo[]{locations[1], locations[2], locations[0]}, pb.getLocations());
+
+            // Already first, or not a replica location: unchanged.
+            assertSame(lb, HDFSBlockReader.prefer(lb, dataNode(0)));
+            assertSame(lb, HDFSBlockReader.prefer(lb, dataNode(3)));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -4,6 +4,11 @@ import ai.sapper.hcdc.common.utils.DefaultLogger;
 import ai.sapper.hcdc.core.connections.ConnectionManager;
 import ai.sapper.hcdc.core.connections.HdfsHAConnection;
 import ai.sapper.hcdc.core.connections.TestUtils;
+import ai.sapper.hcdc.core.io.FSBlock;
+import ai.sapper.hcdc.core.io.PathInfo;
+import ai.sapper.hcdc.core.io.impl.local.LocalFileSystem;
+import ai.sapper.hcdc.core.model.BlockTnxDelta;
+import ai.sapper.hcdc.core.model.DFSBlockState;
 import ai.sapper.hcdc.core.model.HDFSBlockData;
 import com.google.common.base.Preconditions;
 import org.apache.commons.configuration2.XMLConfiguration;
@@ -17,6 +22,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Random;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -89,4 +97,98 @@ class HDFSBlockReaderTest {
             fail(t);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void resumeOffset() {
+        BlockTnxDelta delta = new BlockTnxDelta();
+        delta.setStartOffset(0);
+        assertEquals(0, HDFSBlockReader.resumeOffset(delta));
+        delta.setStartOffset(1023);
+        assertEquals(1024, HDFSBlockReader.resumeOffset(delta));
+    }
+
+    @Test
+    void copy() {
+        DefaultLogger.LOG.debug(String.format("Running [%s].%s()", getClass().getCanonicalName(), "copy"));
+        try {
+            HdfsHAConnection connection = manager.getConnection(__CONNECTION_NAME, HdfsHAConnection.class);
+            connection.connect();
+
+            FileSystem fs = connection.fileSystem();
+            String f = String.format("%s/copy.bin", __PATH);
+            Path path = new Path(f);
+            Random random = new Random(1024);
+            byte[] first = new byte[3 * 1024 + 17];
+            random.nextBytes(first);
+            try (FSDataOutputStream out = fs.create(path, true)) {
+                out.write(first);
+            }
+            HDFSBlockReader reader = new HDFSBlockReader(connection.dfsClient(), f).withChunkSize(1000);
+            reader.init();
+            LocatedBlock lb = reader.locatedBlocks().getLocatedBlocks().get(0);
+
+            DFSBlockState blockState = new DFSBlockState();
+            blockState.setBlockId(lb.getBlock().getBlockId());
+            blockState.setPrevBlockId(-1);
+            blockState.setGenerationStamp(lb.getBlock().getGenerationStamp());
+            addDelta(blockState, 1, 0, first.length - 1);
+
+            File dir = Files.createTempDirectory("hcdc-copy-").toFile();
+            LocalFileSystem lfs = new LocalFileSystem();
+            PathInfo directory = lfs.get(dir.getAbsolutePath(), null);
+            try (FSBlock target = new FSBlock(directory, blockState.getBlockId(), -1, lfs, null) {
+            }) {
+                assertEquals(first.length, reader.copy(blockState, 1, target));
+                target.sync();
+                assertArrayEquals(first, Files.readAllBytes(new File(target.path().path()).toPath()));
+
+                byte[] second = new byte[2 * 1024 + 5];
+                random.nextBytes(second);
+                try (FSDataOutputStream out = fs.append(path)) {
+                    out.write(second);
+                }
+                reader = new HDFSBlockReader(connection.dfsClient(), f).withChunkSize(1000);
+                reader.init();
+                lb = reader.locatedBlocks().getLocatedBlocks().get(0);
+                blockState.setGenerationStamp(lb.getBlock().getGenerationStamp());
+                // Append delta: starts at the last byte of the previous data.
+                addDelta(blockState, 2, first.length - 1, first.length + second.length - 1);
+
+                assertEquals(second.length, reader.copy(blockState, 2, target));
+                target.sync();
+                byte[] expected = new byte[first.length + second.length];
+                System.arraycopy(first, 0, expected, 0, first.length);
+                System.arraycopy(second, 0, expected, first.length, second.length);
+                assertArrayEquals(expected, Files.readAllBytes(new File(target.path().path()).toPath()));
+                // Copying the same changes again re-writes the same range.
+                assertEquals(second.length, reader.copy(blockState, 2, target));
+                target.sync();
+                assertArrayEquals(expected, Files.readAllBytes(new File(target.path().path()).toPath()));
+
+                blockState.setGenerationStamp(lb.getBlock().getGenerationStamp() + 1);
+                HDFSBlockReader stale = reader;
+                assertThrows(DFSError.class, () -> stale.copy(blockState, 2, target));
+            } finally {
+                for (File file : Objects.requireNonNull(dir.listFiles())) {
+                    assertTrue(file.delete());
+                }
+                assertTrue(dir.delete());
+            }
+            connection.close();
+        } catch (Throwable t) {
+            DefaultLogger.LOG.error(DefaultLogger.stacktrace(t));
+            fail(t);
+        }
+    }
+
+    private void addDelta(DFSBlockState blockState, long tnxId, long startOffset, long endOffset) {
+        BlockTnxDelta delta = new BlockTnxDelta();
+        delta.setTnxId(tnxId);
+        delta.setStartOffset(startOffset);
+        delta.setEndOffset(endOffset);
+        delta.setTimestamp(System.currentTimeMillis());
+        blockState.add(delta);
+        blockState.setLastTnxId(tnxId);
+        blockState.setDataSize(endOffset + 1);
+    }
+}
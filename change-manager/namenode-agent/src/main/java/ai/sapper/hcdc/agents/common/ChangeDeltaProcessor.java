@@ -17,6 +17,9 @@ import org.apache.commons.configuration2.HierarchicalConfiguration;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.tree.ImmutableNode;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Accessors(fluent = true)
 public abstract class ChangeDeltaProcessor implements Runnable {
@@ -26,6 +29,7 @@ public abstract class ChangeDeltaProcessor implements Runnable {
     private MessageSender<String, DFSChangeDelta> errorSender;
     private MessageReceiver<String, DFSChangeDelta> receiver;
     private long receiveBatchTimeout = 1000;
+    private final List<String> pendingAcks = new ArrayList<>();
 
     public ChangeDeltaProcessor(@NonNull ZkStateManager stateManager) {
         this.stateManager = stateManager;
@@ -53,7 +57,10 @@ public abstract class ChangeDeltaProcessor implements Runnable {
                     .saveState(true)
                     .zkConnection(stateManager().connection())
                     .zkStatePath(stateManager.zkPath())
+                    .stateEncoding(stateManager.config().stateEncoding())
                     .batchSize(processorConfig.receiverConfig.batchSize())
+                    .ackBatchSize(processorConfig.receiverConfig.ackBatchSize())
+                    .ackInterval(processorConfig.receiverConfig.ackInterval())
                     .build();
 
             if (!Strings.isNullOrEmpty(processorConfig.batchTimeout)) {
@@ -71,6 +78,10 @@ public abstract class ChangeDeltaProcessor implements Runnable {
             NameNodeTxState state = stateManager.agentTxState();
             if (txId > state.getProcessedTxId()) {
                 state = stateManager.update(txId);
+                stateManager.checkpoint();
+            }
+            if (stateManager.cacheEnabled()) {
+                stateManager.updateDownstreamTxId(state.getProcessedTxId() + 1);
             }
             return this;
         } catch (Exception ex) {
@@ -78,6 +89,58 @@ public abstract class ChangeDeltaProcessor implements Runnable {
         }
     }
 
+    /**
+     * Acknowledge a processed message. When the state manager caches file states,
+     * the ack is deferred until the next checkpoint, so that the received offsets
+     * are never committed ahead of the saved state.
+     *
+     * @param messageId - Processed message ID
+     * @throws Exception
+     */
+    protected void ack(@NonNull String messageId) throws Exception {
+        if (stateManager.cacheEnabled()) {
+            pendingAcks.add(messageId);
+        } else {
+            receiver.ack(messageId);
+        }
+    }
+
+    /**
+     * Wait until the next stage has acknowledged the sent messages (when connected by an
+     * in-process queue, see MessageSender.flush()). The wait can last up to the queue ack
+     * timeout, so it is called before checkpoint() without holding the replication lock.
+     *
+     * @throws Exception
+     */
+    protected void flush() throws Exception {
+        if (stateManager.cacheEnabled()) {
+            sender.flush();
+        }
+    }
+
+    /**
+     * Flush the cached state and then acknowledge the deferred messages. The state is only
+     * saved once the sent messages have been acknowledged by the next stage (when connected by
+     * an in-process queue), so a restart never skips messages lost in memory. The flushed
+     * transactions are then released for block delta compaction.
+     * <p>
+     * Called with the replication lock held: the sender is flushed again so that nothing sent
+     * after flush() is saved unacknowledged, this only waits for the messages sent since.
+     *
+     * @throws Exception
+     */
+    protected void checkpoint() throws Exception {
+        if (stateManager.cacheEnabled()) {
+            sender.flush();
+            stateManager.checkpoint();
+            stateManager.updateDownstreamTxId(stateManager.agentTxState().getProcessedTxId() + 1);
+            if (!pendingAcks.isEmpty()) {
+                receiver.ack(pendingAcks);
+                pendingAcks.clear();
+            }
+        }
+    }
+
     @Getter
     @Setter
     @Accessors(fluent = true)
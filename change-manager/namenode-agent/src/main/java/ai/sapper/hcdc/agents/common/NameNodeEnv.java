@@ -12,6 +12,7 @@ import ai.sapper.hcdc.core.DistributedLock;
 import ai.sapper.hcdc.core.connections.ConnectionManager;
 import ai.sapper.hcdc.core.connections.HdfsConnection;
 import ai.sapper.hcdc.core.connections.ZookeeperConnection;
+import ai.sapper.hcdc.core.messaging.ChangeDeltaSerDe;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.Getter;
@@ -25,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetAddress;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +49,7 @@ public class NameNodeEnv {
     private HadoopEnvConfig hadoopConfig;
     private NameNodeAdminClient adminClient;
     private final Map<String, DistributedLock> locks = new HashMap<>();
+    private final List<ZkStateManager> stageStateManagers = new ArrayList<>();
 
     private final NameNodeAgentState.AgentState agentState = new NameNodeAgentState.AgentState();
 
@@ -64,6 +67,7 @@ public class NameNodeEnv {
 
             this.config = new NameNEnvConfig(xmlConfig);
             this.config.read();
+            ChangeDeltaSerDe.writeV1Fields(config.writeV1Fields);
 
             hostIPs = NetUtils.getInetAddresses();
 
@@ -118,14 +122,54 @@ public class NameNodeEnv {
         List<HierarchicalConfiguration<ImmutableNode>> nodes = configNode.configurationsAt(NameNEnvConfig.Constants.CONFIG_LOCK);
         for (HierarchicalConfiguration<ImmutableNode> node : nodes) {
             String name = node.getString(NameNEnvConfig.Constants.CONFIG_LOCK_NAME);
-            String conn = node.getString(NameNEnvConfig.Constants.CONFIG_LOCK_CONN);
-            String path = name;
-            if (node.containsKey(NameNEnvConfig.Constants.CONFIG_LOCK_NODE)) {
-                path = node.getString(NameNEnvConfig.Constants.CONFIG_LOCK_NODE);
+            locks.put(name, buildLock(node, config.module, stateManager));
+        }
+    }
+
+    private DistributedLock buildLock(HierarchicalConfiguration<ImmutableNode> node,
+                                      String module,
+                                      ZkStateManager stateManager) {
+        String name = node.getString(NameNEnvConfig.Constants.CONFIG_LOCK_NAME);
+        String conn = node.getString(NameNEnvConfig.Constants.CONFIG_LOCK_CONN);
+        String path = name;
+        if (node.containsKey(NameNEnvConfig.Constants.CONFIG_LOCK_NODE)) {
+            path = node.getString(NameNEnvConfig.Constants.CONFIG_LOCK_NODE);
+        }
+        ZookeeperConnection connection = connectionManager.getConnection(conn, ZookeeperConnection.class);
+        return new DistributedLock(module, path, stateManager.basePath()).withConnection(connection);
+    }
+
+    /**
+     * Create the state manager of another module/instance hosted in this process (the stages
+     * of a fused pipeline), with its own replication lock. The state managers are closed when
+     * the environment is stopped.
+     *
+     * @param module   - Module name
+     * @param instance - Instance name
+     * @return - State manager
+     * @throws NameNodeError
+     */
+    public synchronized ZkStateManager createStateManager(@NonNull String module,
+                                                          @NonNull String instance) throws NameNodeError {
+        Preconditions.checkState(state.isAvailable());
+        try {
+            ZkStateManager manager = config.stateManagerClass.newInstance();
+            manager.init(configNode, connectionManager, module, instance);
+            for (HierarchicalConfiguration<ImmutableNode> node : configNode.configurationsAt(NameNEnvConfig.Constants.CONFIG_LOCK)) {
+                String name = node.getString(NameNEnvConfig.Constants.CONFIG_LOCK_NAME);
+                if (ZkStateManager.Constants.LOCK_REPLICATION.equals(name)) {
+                    manager.withReplicationLock(buildLock(node, module, manager));
+                }
             }
-            ZookeeperConnection connection = connectionManager.getConnection(conn, ZookeeperConnection.class);
-            DistributedLock lock = new DistributedLock(config.module, path, stateManager.basePath()).withConnection(connection);
-            locks.put(name, lock);
+            if (manager.replicationLock() == null) {
+                throw new ConfigurationException(
+                        String.format("Replication Lock not defined. [name=%s]",
+                                ZkStateManager.Constants.LOCK_REPLICATION));
+            }
+            stageStateManagers.add(manager);
+            return manager;
+        } catch (Throwable t) {
+            throw new NameNodeError(t);
         }
     }
 
@@ -146,6 +190,11 @@ public class NameNodeEnv {
                 DefaultLogger.LOG.error(ex.getLocalizedMessage());
                 DefaultLogger.LOG.debug(DefaultLogger.stacktrace(ex));
             }
+            stateManager.close();
+            for (ZkStateManager manager : stageStateManagers) {
+                manager.close();
+            }
+            stageStateManagers.clear();
             state.state(ENameNEnvState.Disposed);
         }
 
@@ -258,6 +307,7 @@ public class NameNodeEnv {
             private static final String CONFIG_LOCK_NODE = "lock-node";
             private static final String LOCK_GLOBAL = "global";
             private static final String CONFIG_LOAD_HADOOP = "needHadoop";
+            private static final String CONFIG_WRITE_V1_FIELDS = "messaging.writeV1Fields";
         }
 
         private String module;
@@ -271,6 +321,7 @@ public class NameNodeEnv {
         private String hadoopConfFile;
         private boolean hadoopUseSSL = true;
         private boolean readHadoopConfig = true;
+        private boolean writeV1Fields = false;
         private Class<? extends ZkStateManager> stateManagerClass = ZkStateManager.class;
 
         public NameNEnvConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
@@ -301,6 +352,10 @@ public class NameNodeEnv {
                 if (!Strings.isNullOrEmpty(ss)) {
                     readHadoopConfig = Boolean.parseBoolean(ss);
                 }
+                ss = get().getString(Constants.CONFIG_WRITE_V1_FIELDS);
+                if (!Strings.isNullOrEmpty(ss)) {
+                    writeV1Fields = Boolean.parseBoolean(ss);
+                }
                 String s = get().getString(Constants.CONFIG_STATE_MANAGER_TYPE);
                 if (!Strings.isNullOrEmpty(s)) {
                     stateManagerClass = (Class<? extends ZkStateManager>) Class.forName(s);
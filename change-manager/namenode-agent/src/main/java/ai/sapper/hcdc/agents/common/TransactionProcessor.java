@@ -1,5 +1,7 @@
 package ai.sapper.hcdc.agents.common;
 
+import ai.sapper.hcdc.agents.namenode.HDFSSnapshotProcessor;
+import ai.sapper.hcdc.agents.namenode.model.DFSReplicationState;
 import ai.sapper.hcdc.agents.namenode.model.NameNodeTxState;
 import ai.sapper.hcdc.common.model.*;
 import ai.sapper.hcdc.core.filters.DomainManager;
@@ -7,6 +9,7 @@ import ai.sapper.hcdc.core.messaging.ChangeDeltaSerDe;
 import ai.sapper.hcdc.core.messaging.InvalidMessageError;
 import ai.sapper.hcdc.core.messaging.MessageObject;
 import ai.sapper.hcdc.core.messaging.MessageSender;
+import ai.sapper.hcdc.core.model.DFSFileState;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.NonNull;
@@ -14,6 +17,8 @@ import lombok.experimental.Accessors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 @Getter
 @Accessors(fluent = true)
 public abstract class TransactionProcessor {
@@ -56,6 +61,103 @@ public abstract class TransactionProcessor {
 
     public abstract void processRenameFileTxMessage(DFSRenameFile data, MessageObject<String, DFSChangeDelta> message, long txId) throws Exception;
 
+    /**
+     * Process the rename of a directory (also a move to the trash): the path index entry of the
+     * directory is moved and the replication of the files under it is re-evaluated for their
+     * new path, as for a renamed file.
+     * <p>
+     * The snapshots of the moved files carry the last transaction of each file (at or below the
+     * processed transaction of the next stage), they are sent as Backlog messages which are not
+     * checked against the transaction sequence. The ignore message sent after them carries the
+     * rename transaction.
+     *
+     * @param data    - Rename transaction
+     * @param message - Message
+     * @param txId    - Transaction ID
+     * @return - False if the source path is not a directory
+     * @throws Exception
+     */
+    protected boolean processRenameDirectory(DFSRenameFile data,
+                                             MessageObject<String, DFSChangeDelta> message,
+                                             long txId) throws Exception {
+        if (!stateManager.isDirectory(data.getSrcFile().getPath())) {
+            return false;
+        }
+        Map<String, Long> files = stateManager.renameDirectory(data.getSrcFile().getPath(),
+                data.getDestFile().getPath(),
+                data.getOpts() == DFSRenameFile.RenameOpts.OVERWRITE);
+        for (Map.Entry<String, Long> file : files.entrySet()) {
+            // Files not replicated before or after the rename are not read.
+            if (stateManager.get(file.getValue()) == null && isRegistered(file.getKey()) == null) {
+                continue;
+            }
+            DFSFileState fileState = stateManager.get(file.getKey());
+            if (fileState == null || fileState.checkDeleted()) continue;
+            replicateRenamed(fileState, message, txId, MessageObject.MessageMode.Backlog);
+        }
+        sendIgnoreTx(message, data);
+        return true;
+    }
+
+    /**
+     * Re-evaluate the replication of a renamed file: the replication state of the file is
+     * removed and, if the new path is registered to a domain, a new one is created and a
+     * snapshot of the file is sent. The renamed file carries the rename transaction, the
+     * snapshot replaces the rename message.
+     *
+     * @param fileState - Renamed file state
+     * @param message   - Rename message
+     * @param txId      - Transaction ID of the rename
+     * @return - True if a snapshot has been sent
+     * @throws Exception
+     */
+    protected boolean replicateRenamed(DFSFileState fileState,
+                                       MessageObject<String, DFSChangeDelta> message,
+                                       long txId) throws Exception {
+        return replicateRenamed(fileState, message, txId, MessageObject.MessageMode.New);
+    }
+
+    /**
+     * @param fileState - Renamed file state
+     * @param message   - Rename message
+     * @param txId      - Transaction ID of the rename
+     * @param mode      - Mode of the snapshot message
+     * @return - True if a snapshot has been sent
+     * @throws Exception
+     */
+    protected boolean replicateRenamed(DFSFileState fileState,
+                                       MessageObject<String, DFSChangeDelta> message,
+                                       long txId,
+                                       MessageObject.MessageMode mode) throws Exception {
+        DFSReplicationState rState = stateManager.get(fileState.getId());
+        if (rState != null) {
+            stateManager.delete(rState.getInode());
+        }
+        SchemaEntity schemaEntity = isRegistered(fileState.getHdfsFilePath());
+        if (schemaEntity == null) {
+            return false;
+        }
+        rState = stateManager.create(fileState.getId(), fileState.getHdfsFilePath(), schemaEntity, true);
+        rState.setSnapshotTxId(txId);
+        rState.setSnapshotTime(System.currentTimeMillis());
+        rState.setSnapshotReady(true);
+
+        stateManager.update(rState);
+        DFSAddFile addFile = HDFSSnapshotProcessor.generateSnapshot(fileState, true);
+        MessageObject<String, DFSChangeDelta> m = ChangeDeltaSerDe.create(message.value().getNamespace(),
+                addFile,
+                DFSAddFile.class,
+                rState.getEntity().getDomain(),
+                rState.getEntity().getEntity(),
+                mode);
+        send(m);
+        return true;
+    }
+
+    protected abstract void send(MessageObject<String, DFSChangeDelta> message) throws Exception;
+
+    protected abstract void sendIgnoreTx(MessageObject<String, DFSChangeDelta> message, Object data) throws Exception;
+
     public abstract void processIgnoreTxMessage(DFSIgnoreTx data, MessageObject<String, DFSChangeDelta> message, long txId) throws Exception;
 
     public abstract void processErrorTxMessage(DFSError data, MessageObject<String, DFSChangeDelta> message, long txId) throws Exception;
@@ -86,7 +188,7 @@ public abstract class TransactionProcessor {
     }
 
     public void processTxMessage(MessageObject<String, DFSChangeDelta> message, long txId) throws Exception {
-        Object data = ChangeDeltaSerDe.parse(message.value());
+        Object data = ChangeDeltaSerDe.parse(message);
         DFSTransaction tnx = extractTransaction(data);
         if (tnx != null)
             LOG.debug(String.format("PROCESSING: [TXID=%d][OP=%s]", tnx.getTransactionId(), tnx.getOp().name()));
@@ -119,17 +221,47 @@ public abstract class TransactionProcessor {
     }
 
     public long checkMessageSequence(MessageObject<String, DFSChangeDelta> message) throws Exception {
-        long txId = Long.parseLong(message.value().getTxId());
+        NameNodeTxState txState = stateManager().agentTxState();
+        return checkMessageSequence(message, txState.getProcessedTxId());
+    }
+
+    /**
+     * Check the message transaction ID against the specified last processed (or dispatched) transaction ID.
+     * Ignore messages can cover a range of transactions, the range is accepted if it continues
+     * (or overlaps) the processed sequence and the end of the range is returned.
+     *
+     * @param message         - Received message
+     * @param processedTxId   - Last processed/dispatched transaction ID
+     * @return - Message transaction ID (last transaction ID of the range for ignore messages)
+     * @throws Exception
+     */
+    public long checkMessageSequence(MessageObject<String, DFSChangeDelta> message, long processedTxId) throws Exception {
+        long txId = ChangeDeltaSerDe.txId(message.value());
+        long lastTxId = lastTxId(message, txId);
         if (message.mode() == MessageObject.MessageMode.New) {
-            NameNodeTxState txState = stateManager().agentTxState();
-            if (txState.getProcessedTxId() + 1 != txId) {
-                if (txId <= txState.getProcessedTxId()) {
-                    throw new InvalidMessageError(message.id(), String.format("Duplicate message: Transaction already processed. [TXID=%d][CURRENT=%d]", txId, txState.getProcessedTxId()));
-                } else {
-                    throw new Exception(String.format("Detected missing transaction. [expected TX ID=%d][actual TX ID=%d]", (txState.getProcessedTxId() + 1), txId));
-                }
+            if (txId > processedTxId + 1) {
+                throw new Exception(String.format("Detected missing transaction. [expected TX ID=%d][actual TX ID=%d]", (processedTxId + 1), txId));
+            }
+            if (lastTxId <= processedTxId) {
+                throw new InvalidMessageError(message.id(), String.format("Duplicate message: Transaction already processed. [TXID=%d][CURRENT=%d]", lastTxId, processedTxId));
             }
         }
+        return lastTxId;
+    }
+
+    /**
+     * Get the last transaction ID covered by the message.
+     *
+     * @param message - Received message
+     * @param txId    - Message transaction ID
+     * @return - End of the range for ignore messages, else the message transaction ID
+     * @throws Exception
+     */
+    public static long lastTxId(MessageObject<String, DFSChangeDelta> message, long txId) throws Exception {
+        if (ChangeDeltaSerDe.isType(message.value(), DFSChangeDelta.DeltaType.IGNORE_TX)) {
+            DFSIgnoreTx data = (DFSIgnoreTx) ChangeDeltaSerDe.parse(message);
+            return ChangeDeltaSerDe.lastTxId(data);
+        }
         return txId;
     }
 }
@@ -0,0 +1,93 @@
+package ai.sapper.hcdc.agents.common;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks the processed transactions when the (dense) transaction sequence can be received out of
+ * order, e.g. from a stage that applies changes on parallel workers. Only the low-water mark (the
+ * end of the contiguous processed range) is safe to save as the processed transaction ID.
+ */
+@Getter
+@Accessors(fluent = true)
+public class TxLowWaterMark {
+    private long mark;
+    private final long window;
+    @Getter(AccessLevel.NONE)
+    private final TreeMap<Long, Long> ahead = new TreeMap<>();
+
+    /**
+     * @param mark   - Last processed transaction ID
+     * @param window - Max distance a transaction can be received ahead of the mark
+     */
+    public TxLowWaterMark(long mark, long window) {
+        this.mark = mark;
+        this.window = window;
+    }
+
+    /**
+     * Check the transaction range of a received message.
+     *
+     * @param txId     - Transaction ID
+     * @param lastTxId - Last transaction ID of the range (same as txId for a single transaction)
+     * @return - False if the range has already been processed (duplicate message)
+     * @throws Exception - If the transaction is too far ahead of the mark (missing transactions)
+     */
+    public boolean check(long txId, long lastTxId) throws Exception {
+        if (lastTxId <= mark) {
+            return false;
+        }
+        if (txId > mark + 1 + window) {
+            throw new Exception(String.format("Detected missing transaction. [expected TX ID=%d][actual TX ID=%d][window=%d]",
+                    (mark + 1), txId, window));
+        }
+        Map.Entry<Long, Long> entry = ahead.floorEntry(lastTxId);
+        return (entry == null || entry.getValue() < txId);
+    }
+
+    /**
+     * Mark the transaction range as processed.
+     *
+     * @param txId     - Transaction ID
+     * @param lastTxId - Last transaction ID of the range
+     * @return - True if the mark has moved
+     */
+    public boolean processed(long txId, long lastTxId) {
+        if (lastTxId <= mark) {
+            return false;
+        }
+        ahead.put(Math.max(txId, mark + 1), lastTxId);
+        long current = mark;
+        while (!ahead.isEmpty() && ahead.firstKey() <= mark + 1) {
+            mark = Math.max(mark, ahead.pollFirstEntry().getValue());
+        }
+        return (mark > current);
+    }
+
+    /**
+     * Move the mark forward (snapshot), the processed ranges before it are dropped.
+     *
+     * @param txId - Transaction ID
+     */
+    public void reset(long txId) {
+        if (txId <= mark) return;
+        mark = txId;
+        while (!ahead.isEmpty() && ahead.firstKey() <= mark + 1) {
+            long last = ahead.pollFirstEntry().getValue();
+            if (last > mark) {
+                mark = last;
+            }
+        }
+    }
+
+    /**
+     * @return - Number of processed ranges ahead of the mark
+     */
+    public int pending() {
+        return ahead.size();
+    }
+}
@@ -0,0 +1,429 @@
+package ai.sapper.hcdc.agents.common;
+
+import ai.sapper.hcdc.common.utils.PathUtils;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
+import org.apache.curator.utils.ZKPaths;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Path index of the file states, maps HDFS paths to inode IDs.
+ * <p>
+ * Every directory has a container node (allocated as a sequential node), the children of the
+ * container are the directory entries keyed by name. A file entry holds the inode ID of the file,
+ * a directory entry holds the container name of the sub-directory. Renaming a file or a complete
+ * directory tree moves a single entry: the file states (keyed by inode ID) and the containers of
+ * the sub-directories are not changed. Resolved directory containers are cached.
+ * <p>
+ * A directory rename also bumps the version of the index root node (in the same transaction),
+ * the cache is cleared when the version has changed, so entries cached by other processes
+ * are not used after a rename. This costs one ZK read per lookup instead of one per level.
+ */
+@Getter
+@Accessors(fluent = true)
+public class ZkPathIndex {
+    public static final String ROOT_CONTAINER = "root";
+    private static final String CONTAINER_PREFIX = "d-";
+    private static final String ENTRY_FILE = "F:";
+    private static final String ENTRY_DIRECTORY = "D:";
+
+    private final CuratorFramework client;
+    private final String zkPath;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> directories;
+    @Getter(AccessLevel.NONE)
+    private volatile int version = -1;
+
+    public ZkPathIndex(@NonNull CuratorFramework client, @NonNull String zkPath, int cacheSize) {
+        Preconditions.checkArgument(cacheSize > 0);
+        this.client = client;
+        this.zkPath = zkPath;
+        directories = Collections.synchronizedMap(new LinkedHashMap<String, String>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public ZkPathIndex init() throws Exception {
+        String root = containerPath(ROOT_CONTAINER);
+        if (client.checkExists().forPath(root) == null) {
+            try {
+                client.create().creatingParentContainersIfNeeded().forPath(root);
+            } catch (KeeperException.NodeExistsException ne) {
+                // Created by another instance.
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Delete the complete index.
+     */
+    public void reset() throws Exception {
+        directories.clear();
+        version = -1;
+        if (client.checkExists().forPath(zkPath) != null) {
+            client.delete().deletingChildrenIfNeeded().forPath(zkPath);
+        }
+        init();
+    }
+
+    /**
+     * @param hdfsPath - HDFS file path
+     * @return - Inode ID of the file, -1 if the path is not found or is a directory.
+     */
+    public long resolve(@NonNull String hdfsPath) throws Exception {
+        Entry entry = lookup(hdfsPath);
+        if (entry != null && !entry.directory()) {
+            return entry.inodeId();
+        }
+        return -1;
+    }
+
+    public boolean isDirectory(@NonNull String hdfsPath) throws Exception {
+        Entry entry = lookup(hdfsPath);
+        return (entry != null && entry.directory());
+    }
+
+    /**
+     * Add (or replace) the file entry, the parent directories are created if required.
+     *
+     * @param hdfsPath - HDFS file path
+     * @param inodeId  - Inode ID of the file
+     * @return - ZK path of the entry
+     */
+    public String link(@NonNull String hdfsPath, long inodeId) throws Exception {
+        String path = entryPath(hdfsPath);
+        byte[] data = fileEntry(inodeId);
+        try {
+            client.create().forPath(path, data);
+        } catch (KeeperException.NodeExistsException ne) {
+            Entry entry = read(path);
+            if (entry != null && entry.directory()) {
+                throw new StateManagerError(String.format("Path is a directory. [path=%s]", hdfsPath));
+            }
+            client.setData().forPath(path, data);
+        }
+        return path;
+    }
+
+    /**
+     * Remove the file entry.
+     *
+     * @param hdfsPath - HDFS file path
+     * @return - Inode ID of the removed entry, -1 if not found.
+     */
+    public long unlink(@NonNull String hdfsPath) throws Exception {
+        String[] names = names(hdfsPath);
+        String container = resolve(names, names.length - 1, false);
+        if (container == null) return -1;
+        String path = entryPath(container, names[names.length - 1]);
+        Entry entry = read(path);
+        if (entry == null || entry.directory()) return -1;
+        try {
+            client.delete().forPath(path);
+        } catch (KeeperException.NoNodeException nn) {
+            return -1;
+        }
+        return entry.inodeId();
+    }
+
+    /**
+     * Move the entry of a file or directory. The target must not exist.
+     *
+     * @param source - Source HDFS path
+     * @param target - Target HDFS path
+     * @return - Moved entry, null if the source is not found.
+     */
+    public Entry rename(@NonNull String source, @NonNull String target) throws Exception {
+        return rename(source, target, false);
+    }
+
+    /**
+     * Move the entry of a file or directory.
+     *
+     * @param source    - Source HDFS path
+     * @param target    - Target HDFS path
+     * @param overwrite - Replace the target if it exists (a file or an empty directory)
+     * @return - Moved entry, null if the source is not found.
+     */
+    public Entry rename(@NonNull String source, @NonNull String target, boolean overwrite) throws Exception {
+        String[] names = names(source);
+        String container = resolve(names, names.length - 1, false);
+        if (container == null) return null;
+        String sp = entryPath(container, names[names.length - 1]);
+        byte[] data;
+        try {
+            data = client.getData().forPath(sp);
+        } catch (KeeperException.NoNodeException nn) {
+            return null;
+        }
+        Entry entry = Entry.decode(data);
+        if (entry == null) return null;
+        String tp = entryPath(target);
+        if (sp.equals(tp)) return entry;
+        Entry existing = read(tp);
+        if (existing != null && !overwrite) {
+            throw new StateManagerError(String.format("Rename target already exists. [source=%s][target=%s]", source, target));
+        }
+        CuratorTransactionFinal tx;
+        if (existing == null) {
+            tx = client.inTransaction().create().forPath(tp, data).and();
+        } else if (!existing.directory()) {
+            tx = client.inTransaction().setData().forPath(tp, data).and();
+        } else {
+            // Only an empty directory can be replaced, deleting its container fails otherwise.
+            tx = client.inTransaction()
+                    .delete().forPath(containerPath(existing.container()))
+                    .and()
+                    .setData().forPath(tp, data)
+                    .and();
+        }
+        tx = tx.delete().forPath(sp).and();
+        if (entry.directory() || (existing != null && existing.directory())) {
+            tx = tx.setData().forPath(zkPath, new byte[0]).and();
+        }
+        try {
+            tx.commit();
+        } catch (KeeperException.NodeExistsException ne) {
+            throw new StateManagerError(String.format("Rename target already exists. [source=%s][target=%s]", source, target));
+        } catch (KeeperException.NotEmptyException ne) {
+            throw new StateManagerError(String.format("Rename target is a non-empty directory. [source=%s][target=%s]", source, target));
+        }
+        if (entry.directory()) {
+            invalidate(source);
+        }
+        return entry;
+    }
+
+    /**
+     * List the files under the path (the file itself if the path is a file).
+     *
+     * @param hdfsPath - HDFS path
+     * @return - Map of HDFS path to inode ID
+     */
+    public Map<String, Long> list(@NonNull String hdfsPath) throws Exception {
+        Map<String, Long> files = new LinkedHashMap<>();
+        String path = normalize(hdfsPath);
+        if (path.isEmpty()) {
+            list(ROOT_CONTAINER, path, files);
+        } else {
+            Entry entry = lookup(path);
+            if (entry != null) {
+                if (entry.directory()) {
+                    list(entry.container(), path, files);
+                } else {
+                    files.put(path, entry.inodeId());
+                }
+            }
+        }
+        return files;
+    }
+
+    private void list(String container, String path, Map<String, Long> files) throws Exception {
+        List<String> children;
+        try {
+            children = client.getChildren().forPath(containerPath(container));
+        } catch (KeeperException.NoNodeException nn) {
+            return;
+        }
+        for (String child : children) {
+            Entry entry = read(entryPath(container, child));
+            if (entry == null) continue;
+            String cp = String.format("%s/%s", path, child);
+            if (entry.directory()) {
+                list(entry.container(), cp, files);
+            } else {
+                files.put(cp, entry.inodeId());
+            }
+        }
+    }
+
+    /**
+     * ZK path of the entry for the HDFS path, the parent directories are created if required.
+     */
+    public String entryPath(@NonNull String hdfsPath) throws Exception {
+        String[] names = names(hdfsPath);
+        String container = resolve(names, names.length - 1, true);
+        return entryPath(container, names[names.length - 1]);
+    }
+
+    public static byte[] fileEntry(long inodeId) {
+        return String.format("%s%d", ENTRY_FILE, inodeId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Entry lookup(String hdfsPath) throws Exception {
+        String[] names = names(hdfsPath);
+        String container = resolve(names, names.length - 1, false);
+        if (container == null) return null;
+        return read(entryPath(container, names[names.length - 1]));
+    }
+
+    /**
+     * Resolve the container of the directory made of the first depth names.
+     */
+    private String resolve(String[] names, int depth, boolean create) throws Exception {
+        checkVersion();
+        String container = ROOT_CONTAINER;
+        StringBuilder path = new StringBuilder();
+        for (int ii = 0; ii < depth; ii++) {
+            path.append('/').append(names[ii]);
+            String key = path.toString();
+            String cached = directories.get(key);
+            if (cached != null) {
+                container = cached;
+                continue;
+            }
+            String ep = entryPath(container, names[ii]);
+            Entry entry = read(ep);
+            if (entry == null) {
+                if (!create) return null;
+                entry = mkdir(ep);
+            }
+            if (!entry.directory()) {
+                throw new StateManagerError(String.format("Path is not a directory. [path=%s]", key));
+            }
+            container = entry.container();
+            directories.put(key, container);
+        }
+        return container;
+    }
+
+    /**
+     * Clear the directory cache if a directory has been renamed (by any process) since it was filled.
+     */
+    private void checkVersion() throws Exception {
+        Stat stat = client.checkExists().forPath(zkPath);
+        int current = (stat == null ? -1 : stat.getVersion());
+        if (current != version) {
+            directories.clear();
+            version = current;
+        }
+    }
+
+    private synchronized Entry mkdir(String entryPath) throws Exception {
+        Entry entry = read(entryPath);
+        if (entry != null) return entry;
+        String cp = client.create()
+                .withMode(CreateMode.PERSISTENT_SEQUENTIAL)
+                .forPath(containerPath(CONTAINER_PREFIX));
+        entry = new Entry(true, ZKPaths.getNodeFromPath(cp));
+        try {
+            client.create().forPath(entryPath, entry.encode());
+        } catch (KeeperException.NodeExistsException ne) {
+            // Created by another instance.
+            client.delete().forPath(cp);
+            entry = read(entryPath);
+        }
+        return entry;
+    }
+
+    private Entry read(String path) throws Exception {
+        try {
+            return Entry.decode(client.getData().forPath(path));
+        } catch (KeeperException.NoNodeException nn) {
+            return null;
+        }
+    }
+
+    private void invalidate(String hdfsPath) {
+        String path = normalize(hdfsPath);
+        String prefix = path + "/";
+        synchronized (directories) {
+            Iterator<String> iter = directories.keySet().iterator();
+            while (iter.hasNext()) {
+                String key = iter.next();
+                if (key.equals(path) || key.startsWith(prefix)) {
+                    iter.remove();
+                }
+            }
+        }
+    }
+
+    private String containerPath(String container) {
+        return PathUtils.formatZkPath(String.format("%s/%s", zkPath, container));
+    }
+
+    private String entryPath(String container, String name) {
+        return PathUtils.formatZkPath(String.format("%s/%s/%s", zkPath, container, name));
+    }
+
+    private static String[] names(String hdfsPath) throws StateManagerError {
+        List<String> names = new ArrayList<>();
+        for (String name : hdfsPath.split("/")) {
+            if (!Strings.isNullOrEmpty(name)) {
+                names.add(name);
+            }
+        }
+        if (names.isEmpty()) {
+            throw new StateManagerError(String.format("Invalid HDFS path. [path=%s]", hdfsPath));
+        }
+        return names.toArray(new String[0]);
+    }
+
+    private static String normalize(String hdfsPath) {
+        StringBuilder builder = new StringBuilder();
+        for (String name : hdfsPath.split("/")) {
+            if (!Strings.isNullOrEmpty(name)) {
+                builder.append('/').append(name);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class Entry {
+        private final boolean directory;
+        private final String value;
+
+        private Entry(boolean directory, String value) {
+            this.directory = directory;
+            this.value = value;
+        }
+
+        public long inodeId() {
+            Preconditions.checkState(!directory);
+            return Long.parseLong(value);
+        }
+
+        public String container() {
+            Preconditions.checkState(directory);
+            return value;
+        }
+
+        private byte[] encode() {
+            return String.format("%s%s", (directory ? ENTRY_DIRECTORY : ENTRY_FILE), value)
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static Entry decode(byte[] data) {
+            if (data == null || data.length == 0) return null;
+            String s = new String(data, StandardCharsets.UTF_8);
+            if (s.startsWith(ENTRY_DIRECTORY)) {
+                return new Entry(true, s.substring(ENTRY_DIRECTORY.length()));
+            } else if (s.startsWith(ENTRY_FILE)) {
+                return new Entry(false, s.substring(ENTRY_FILE.length()));
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ai.sapper.hcdc.agents.common;
+
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import ai.sapper.hcdc.core.model.DFSFileState;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.zookeeper.KeeperException;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pipelined writer to bulk create file state nodes (used for the initial NameNode replication).
+ * <p>
+ * File states are serialized on the worker threads and created using asynchronous (background)
+ * ZooKeeper creates, one for the file state and one for its path index entry. The number of
+ * queued + in-flight writes is bounded by maxInFlight, flush() waits for all pending writes and
+ * re-throws the first failure.
+ * The file states are written as-is, the state manager file cache is bypassed.
+ */
+@Getter
+@Accessors(fluent = true)
+public class ZkStateBulkWriter implements Closeable {
+    private final ZkStateManager stateManager;
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final ExecutorService workers;
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final long startTime = System.currentTimeMillis();
+
+    public ZkStateBulkWriter(@NonNull ZkStateManager stateManager, int threads, int maxInFlight) {
+        Preconditions.checkArgument(threads > 0);
+        Preconditions.checkArgument(maxInFlight > 0);
+        this.stateManager = stateManager;
+        this.maxInFlight = maxInFlight;
+        permits = new Semaphore(maxInFlight);
+        workers = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("zk-bulk-writer-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Queue the file state to be created, blocks if the in-flight window is full.
+     *
+     * @param fileState - File state to create.
+     * @throws StateManagerError - If a previous write failed.
+     */
+    public void write(@NonNull DFSFileState fileState) throws StateManagerError {
+        checkError();
+        try {
+            permits.acquire();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new StateManagerError(ie);
+        }
+        try {
+            workers.submit(() -> {
+                try {
+                    create(fileState);
+                } catch (Throwable t) {
+                    failed(fileState.getHdfsFilePath(), t);
+                }
+            });
+        } catch (Throwable t) {
+            permits.release();
+            throw new StateManagerError(t);
+        }
+    }
+
+    private void create(DFSFileState fileState) throws Exception {
+        byte[] data = stateManager.encode(fileState);
+        String entry = stateManager.pathIndex().entryPath(fileState.getHdfsFilePath());
+        CuratorFramework client = stateManager.connection().client();
+        // Both the file state and its path index entry must be created.
+        AtomicInteger pending = new AtomicInteger(2);
+        BackgroundCallback callback = (c, event) -> {
+            if (event.getResultCode() == KeeperException.Code.OK.intValue()) {
+                if (pending.decrementAndGet() == 0) {
+                    files.incrementAndGet();
+                    bytes.addAndGet(data.length);
+                    permits.release();
+                }
+            } else if (pending.getAndSet(-1) > 0) {
+                failed(fileState.getHdfsFilePath(),
+                        KeeperException.create(KeeperException.Code.get(event.getResultCode()), event.getPath()));
+            }
+        };
+        client.create().creatingParentContainersIfNeeded().inBackground(callback).forPath(fileState.getZkPath(), data);
+        client.create().inBackground(callback).forPath(entry, ZkPathIndex.fileEntry(fileState.getId()));
+    }
+
+    private void failed(String path, Throwable t) {
+        DefaultLogger.LOG.error(String.format("Error creating file state. [path=%s][error=%s]", path, t.getLocalizedMessage()));
+        error.compareAndSet(null, t);
+        permits.release();
+    }
+
+    private void checkError() throws StateManagerError {
+        Throwable t = error.get();
+        if (t != null) {
+            throw new StateManagerError(t);
+        }
+    }
+
+    /**
+     * Wait for all the queued/in-flight writes to complete.
+     *
+     * @throws StateManagerError - If any write failed.
+     */
+    public void flush() throws StateManagerError {
+        try {
+            permits.acquire(maxInFlight);
+            permits.release(maxInFlight);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new StateManagerError(ie);
+        }
+        checkError();
+    }
+
+    public double filesPerSec() {
+        return files.get() * 1000.0 / Math.max(System.currentTimeMillis() - startTime, 1);
+    }
+
+    public double bytesPerSec() {
+        return bytes.get() * 1000.0 / Math.max(System.currentTimeMillis() - startTime, 1);
+    }
+
+    public String progress() {
+        return String.format("[files=%d][bytes=%d][files/sec=%.1f][bytes/sec=%.1f]",
+                files.get(), bytes.get(), filesPerSec(), bytesPerSec());
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+}
@@ -4,9 +4,14 @@ import ai.sapper.hcdc.agents.namenode.model.DFSReplicationState;
 import ai.sapper.hcdc.agents.namenode.model.NameNodeAgentState;
 import ai.sapper.hcdc.agents.namenode.model.NameNodeTxState;
 import ai.sapper.hcdc.common.model.DFSError;
+import ai.sapper.hcdc.common.model.DFSFileStateData;
+import ai.sapper.hcdc.common.model.DFSReplicationStateData;
+import ai.sapper.hcdc.common.model.NameNodeTxStateData;
 import ai.sapper.hcdc.common.model.SchemaEntity;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
 import ai.sapper.hcdc.common.utils.JSONUtils;
 import ai.sapper.hcdc.common.utils.PathUtils;
+import ai.sapper.hcdc.common.utils.StateSerDe;
 import ai.sapper.hcdc.core.DistributedLock;
 import ai.sapper.hcdc.core.connections.ConnectionManager;
 import ai.sapper.hcdc.core.connections.ZookeeperConnection;
@@ -14,23 +19,28 @@ import ai.sapper.hcdc.core.filters.DomainManager;
 import ai.sapper.hcdc.core.model.*;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
 import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.apache.curator.framework.CuratorFramework;
+import org.apache.zookeeper.KeeperException;
 
+import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Getter
 @Accessors(fluent = true)
-public class ZkStateManager {
+public class ZkStateManager implements Closeable {
     public static class Constants {
         public static final String ZK_PATH_HEARTBEAT = "/heartbeat";
         public static final String ZK_PATH_FILES = "/files";
+        public static final String ZK_PATH_INODES = "/inodes";
+        public static final String ZK_PATH_INDEX = "/index";
         public static final String ZK_PATH_PROCESS_STATE = "state";
         public static final String ZK_PATH_REPLICATION = "/replication";
 
@@ -44,10 +54,21 @@ public class ZkStateManager {
     private String zkStatePath;
     private String zkPathReplication;
     private String zkFSPath;
+    private String zkInodePath;
+    private ZkPathIndex pathIndex;
+    private boolean legacyFiles = false;
     private NameNodeTxState agentTxState;
     private DistributedLock replicationLock;
     private String module;
     private String instance;
+    private Map<String, DFSFileState> fileCache;
+    private final Map<String, DFSFileState> dirtyFiles = new HashMap<>();
+    private boolean txStateDirty = false;
+    private long downstreamTxId = -1;
+    @Getter(AccessLevel.NONE)
+    private final Set<String> compactionQueue = new LinkedHashSet<>();
+    @Getter(AccessLevel.NONE)
+    private long lastSweep = 0;
 
     public ZkStateManager init(@NonNull HierarchicalConfiguration<ImmutableNode> xmlConfig,
                                @NonNull ConnectionManager manger,
@@ -71,13 +92,25 @@ public class ZkStateManager {
                 }
             }
             zkFSPath = PathUtils.formatZkPath(String.format("%s/%s/%s", basePath(), module, Constants.ZK_PATH_FILES));
-            if (client.checkExists().forPath(zkFSPath) == null) {
-                String path = client.create().creatingParentContainersIfNeeded().forPath(zkFSPath);
+            legacyFiles = (client.checkExists().forPath(zkFSPath) != null
+                    && !client.getChildren().forPath(zkFSPath).isEmpty());
+            zkInodePath = PathUtils.formatZkPath(String.format("%s/%s/%s", basePath(), module, Constants.ZK_PATH_INODES));
+            if (client.checkExists().forPath(zkInodePath) == null) {
+                String path = client.create().creatingParentContainersIfNeeded().forPath(zkInodePath);
                 if (Strings.isNullOrEmpty(path)) {
                     throw new StateManagerError(String.format("Error creating ZK base path. [path=%s]", basePath()));
                 }
             }
+            pathIndex = new ZkPathIndex(client,
+                    PathUtils.formatZkPath(String.format("%s/%s/%s", basePath(), module, Constants.ZK_PATH_INDEX)),
+                    config.pathCacheSize()).init();
+            if (legacyFiles) {
+                migrateLegacy(client);
+            }
             checkAgentState();
+            if (config.fileCacheSize() > 0) {
+                fileCache = new LinkedHashMap<>(config.fileCacheSize(), 0.75f, true);
+            }
             zkPathReplication = PathUtils.formatZkPath(
                     String.format("%s/%s/%s", basePath(), module, Constants.ZK_PATH_REPLICATION));
             if (client.checkExists().forPath(zkPathReplication) == null) {
@@ -111,8 +144,7 @@ public class ZkStateManager {
             agentTxState.setNamespace(module);
             agentTxState.setUpdatedTime(0);
 
-            String json = JSONUtils.asString(agentTxState, NameNodeTxState.class);
-            client.setData().forPath(zkStatePath, json.getBytes(StandardCharsets.UTF_8));
+            client.setData().forPath(zkStatePath, encode(agentTxState));
         } else {
             agentTxState = readState();
         }
@@ -127,6 +159,7 @@ public class ZkStateManager {
             try {
                 agentTxState.setProcessedTxId(txId);
                 agentTxState.setUpdatedTime(System.currentTimeMillis());
+                flushFiles();
 
                 return update(agentTxState);
             } catch (Exception ex) {
@@ -135,12 +168,34 @@ public class ZkStateManager {
         }
     }
 
+    /**
+     * Set the processed transaction ID, forward or backward (used to align the stages of a
+     * fused pipeline on restart).
+     *
+     * @param txId - Processed transaction ID
+     * @return - Updated state
+     * @throws StateManagerError
+     */
+    public NameNodeTxState resetTo(long txId) throws StateManagerError {
+        Preconditions.checkNotNull(connection);
+        Preconditions.checkState(connection.isConnected());
+
+        synchronized (this) {
+            try {
+                agentTxState.setProcessedTxId(txId);
+                txStateDirty = false;
+                return update(agentTxState);
+            } catch (Exception ex) {
+                throw new StateManagerError(ex);
+            }
+        }
+    }
+
     private NameNodeTxState update(NameNodeTxState agentTxState) throws Exception {
         agentTxState.setUpdatedTime(System.currentTimeMillis());
 
         CuratorFramework client = connection().client();
-        String json = JSONUtils.asString(agentTxState, NameNodeTxState.class);
-        client.setData().forPath(zkStatePath, json.getBytes(StandardCharsets.UTF_8));
+        client.setData().forPath(zkStatePath, encode(agentTxState));
 
         return agentTxState;
     }
@@ -153,6 +208,13 @@ public class ZkStateManager {
         synchronized (this) {
             try {
                 agentTxState.setProcessedTxId(processedTxId);
+                if (cacheEnabled()) {
+                    txStateDirty = true;
+                    if (fileCache.size() > config.fileCacheSize()) {
+                        checkpoint();
+                    }
+                    return agentTxState;
+                }
                 return update(agentTxState);
             } catch (Exception ex) {
                 throw new StateManagerError(ex);
@@ -160,6 +222,103 @@ public class ZkStateManager {
         }
     }
 
+    /**
+     * Set the oldest transaction not yet acknowledged downstream, the block deltas of this and
+     * later transactions are never compacted. Set by the processors on checkpoint, once the sent
+     * messages are flushed; when not set (no file cache), the floor is the processed transaction.
+     */
+    public synchronized ZkStateManager updateDownstreamTxId(long txId) {
+        downstreamTxId = txId;
+        return this;
+    }
+
+    /**
+     * @return - Block deltas of this and later transactions are retained by compaction.
+     */
+    public synchronized long retentionTxId() {
+        long retain = (agentTxState != null ? agentTxState.getProcessedTxId() + 1 : Long.MAX_VALUE);
+        if (downstreamTxId >= 0 && downstreamTxId < retain) {
+            retain = downstreamTxId;
+        }
+        return retain;
+    }
+
+    public boolean cacheEnabled() {
+        return (fileCache != null);
+    }
+
+    /**
+     * @return - True if the next update(txId) will checkpoint (file cache is over the configured size).
+     */
+    public boolean cacheFull() {
+        return (cacheEnabled() && fileCache.size() > config.fileCacheSize());
+    }
+
+    /**
+     * Write the cached (dirty) file states and then the processed transaction ID to ZooKeeper.
+     * File states are always flushed before the transaction ID is advanced, so the saved
+     * processed transaction ID never runs ahead of the saved file states.
+     * The files queued for compaction are compacted first, at most once per compaction.interval.
+     *
+     * @throws StateManagerError
+     */
+    public void checkpoint() throws StateManagerError {
+        checkState();
+        synchronized (this) {
+            try {
+                if (!compactionQueue.isEmpty()
+                        && System.currentTimeMillis() - lastSweep >= config.compactionInterval()) {
+                    sweep();
+                }
+                if (!cacheEnabled()) return;
+                flushFiles();
+                if (txStateDirty) {
+                    update(agentTxState);
+                    txStateDirty = false;
+                }
+                if (fileCache.size() > config.fileCacheSize()) {
+                    Iterator<String> iter = fileCache.keySet().iterator();
+                    while (iter.hasNext() && fileCache.size() > config.fileCacheSize()) {
+                        iter.next();
+                        iter.remove();
+                    }
+                }
+            } catch (Exception ex) {
+                throw new StateManagerError(ex);
+            }
+        }
+    }
+
+    /**
+     * Add the file state to the cache and keep the cache bounded between checkpoints: the least
+     * recently used clean entries are evicted once over fileCache.size; dirty entries are only
+     * evicted after they have been written, which happens here if they reach twice the size.
+     */
+    private void cache(String hdfsPath, DFSFileState fileState) throws Exception {
+        fileCache.put(hdfsPath, fileState);
+        int size = config.fileCacheSize();
+        if (fileCache.size() <= size) return;
+        if (dirtyFiles.size() >= size * 2) {
+            flushFiles();
+        }
+        Iterator<DFSFileState> iter = fileCache.values().iterator();
+        while (iter.hasNext() && fileCache.size() > size) {
+            DFSFileState fs = iter.next();
+            if (!dirtyFiles.containsKey(fs.getZkPath())) {
+                iter.remove();
+            }
+        }
+    }
+
+    private void flushFiles() throws Exception {
+        if (dirtyFiles.isEmpty()) return;
+        CuratorFramework client = connection().client();
+        for (Map.Entry<String, DFSFileState> entry : dirtyFiles.entrySet()) {
+            client.setData().forPath(entry.getKey(), encode(entry.getValue()));
+        }
+        dirtyFiles.clear();
+    }
+
     private NameNodeTxState readState() throws StateManagerError {
         Preconditions.checkNotNull(connection);
         Preconditions.checkState(connection.isConnected());
@@ -168,6 +327,9 @@ public class ZkStateManager {
                 CuratorFramework client = connection().client();
                 byte[] data = client.getData().forPath(zkStatePath);
                 if (data != null && data.length > 0) {
+                    if (StateSerDe.isEncoded(data)) {
+                        return new NameNodeTxState().parseFrom(NameNodeTxStateData.parseFrom(StateSerDe.decode(data)));
+                    }
                     String json = new String(data, StandardCharsets.UTF_8);
                     return JSONUtils.read(json, NameNodeTxState.class);
                 }
@@ -285,32 +447,29 @@ public class ZkStateManager {
             try {
                 CuratorFramework client = connection().client();
 
-                String zp = getFilePath(path);
-                DFSFileState fs = null;
-                if (client.checkExists().forPath(zp) != null) {
-                    fs = get(path);
+                DFSFileState fs = get(path);
+                if (fs != null) {
                     if (!fs.checkDeleted()) {
                         throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                                 path,
                                 String.format("Valid File already exists. [path=%s]", path));
                     } else {
-                        client.delete().forPath(zp);
+                        remove(client, fs);
                     }
                 }
-                fs = new DFSFileState();
-
-                fs.setId(inodeId);
-                fs.setZkPath(zp);
-                fs.setHdfsFilePath(path);
-                fs.setCreatedTime(createdTime);
-                fs.setUpdatedTime(createdTime);
-                fs.setBlockSize(blockSize);
-                fs.setTimestamp(System.currentTimeMillis());
-                fs.setLastTnxId(txId);
-                fs.setState(state);
+                fs = build(path, inodeId, createdTime, blockSize, state, txId);
 
-                byte[] data = JSONUtils.asBytes(fs, DFSFileState.class);
-                client.create().creatingParentContainersIfNeeded().forPath(zp, data);
+                String zp = fs.getZkPath();
+                if (client.checkExists().forPath(zp) == null) {
+                    client.create().creatingParentContainersIfNeeded().forPath(zp, encode(fs));
+                } else {
+                    client.setData().forPath(zp, encode(fs));
+                }
+                pathIndex.link(path, inodeId);
+                if (cacheEnabled()) {
+                    dirtyFiles.remove(zp);
+                    cache(path, fs);
+                }
                 return fs;
             } catch (Exception ex) {
                 throw new StateManagerError(String.format("Error creating new file entry. [path=%s]", path));
@@ -318,6 +477,30 @@ public class ZkStateManager {
         }
     }
 
+    /**
+     * Create a new file state instance, the state is not saved.
+     */
+    public DFSFileState build(@NonNull String path,
+                              long inodeId,
+                              long createdTime,
+                              long blockSize,
+                              @NonNull EFileState state,
+                              long txId) {
+        DFSFileState fs = new DFSFileState();
+
+        fs.setId(inodeId);
+        fs.setZkPath(getInodePath(inodeId));
+        fs.setHdfsFilePath(path);
+        fs.setCreatedTime(createdTime);
+        fs.setUpdatedTime(createdTime);
+        fs.setBlockSize(blockSize);
+        fs.setTimestamp(System.currentTimeMillis());
+        fs.setLastTnxId(txId);
+        fs.setState(state);
+
+        return fs;
+    }
+
     public DFSFileState updateState(@NonNull String path, @NonNull EFileState state)
             throws StateManagerError {
         Preconditions.checkNotNull(connection);
@@ -378,53 +561,7 @@ public class ZkStateManager {
                 if (fs == null) {
                     throw new StateManagerError(String.format("File state not found. [path=%s]", path));
                 }
-                fs.setLastTnxId(txId);
-                fs.setUpdatedTime(updatedTime);
-                fs.setTimestamp(System.currentTimeMillis());
-                long prevDataSize = 0;
-                DFSBlockState bs = fs.get(blockId);
-                if (bs == null) {
-                    bs = new DFSBlockState();
-                    bs.setPrevBlockId(prevBlockId);
-                    bs.setBlockId(blockId);
-                    bs.setCreatedTime(updatedTime);
-                    bs.setBlockSize(fs.getBlockSize());
-                    if (prevBlockId < 0) {
-                        if (fs.hasBlocks()) {
-                            throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
-                                    fs.getHdfsFilePath(),
-                                    String.format("Invalid Block Data: Previous Block ID not specified. [path=%s][blockID=%d]",
-                                            fs.getHdfsFilePath(), bs.getBlockId()));
-                        }
-                    } else {
-                        DFSBlockState pb = fs.get(prevBlockId);
-                        if (pb == null) {
-                            throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
-                                    fs.getHdfsFilePath(),
-                                    String.format("Invalid Block Data: Previous Block not found. [path=%s][blockID=%d]",
-                                            fs.getHdfsFilePath(), bs.getBlockId()));
-                        }
-                    }
-                    fs.add(bs);
-                } else {
-                    prevDataSize = bs.getDataSize();
-                }
-                bs.setUpdatedTime(updatedTime);
-                bs.setLastTnxId(txId);
-                bs.setDataSize(dataSize);
-                bs.setGenerationStamp(generationStamp);
-                bs.setState(state);
-                BlockTnxDelta bd = new BlockTnxDelta();
-                bd.setTnxId(txId);
-                long soff = (prevDataSize > 0 ? prevDataSize - 1 : 0);
-                long eoff = (dataSize > 0 ? dataSize - 1 : 0);
-                bd.setStartOffset(soff);
-                bd.setEndOffset(eoff);
-                bd.setTimestamp(updatedTime);
-                bs.add(bd);
-
-                long ds = fs.getDataSize() + (dataSize - prevDataSize);
-                fs.setDataSize(ds);
+                addOrUpdateBlock(fs, blockId, prevBlockId, updatedTime, dataSize, generationStamp, state, txId);
 
                 return update(fs);
             } catch (InvalidTransactionError te) {
@@ -435,6 +572,68 @@ public class ZkStateManager {
         }
     }
 
+    /**
+     * Add/Update the block in the passed file state instance, the state is not saved.
+     */
+    public DFSFileState addOrUpdateBlock(@NonNull DFSFileState fs,
+                                         long blockId,
+                                         long prevBlockId,
+                                         long updatedTime,
+                                         long dataSize,
+                                         long generationStamp,
+                                         @NonNull EBlockState state,
+                                         long txId) throws InvalidTransactionError {
+        long prevDataSize = 0;
+        DFSBlockState bs = fs.get(blockId);
+        if (bs == null) {
+            bs = new DFSBlockState();
+            bs.setPrevBlockId(prevBlockId);
+            bs.setBlockId(blockId);
+            bs.setCreatedTime(updatedTime);
+            bs.setBlockSize(fs.getBlockSize());
+            if (prevBlockId < 0) {
+                if (fs.hasBlocks()) {
+                    throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
+                            fs.getHdfsFilePath(),
+                            String.format("Invalid Block Data: Previous Block ID not specified. [path=%s][blockID=%d]",
+                                    fs.getHdfsFilePath(), bs.getBlockId()));
+                }
+            } else {
+                DFSBlockState pb = fs.get(prevBlockId);
+                if (pb == null) {
+                    throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
+                            fs.getHdfsFilePath(),
+                            String.format("Invalid Block Data: Previous Block not found. [path=%s][blockID=%d]",
+                                    fs.getHdfsFilePath(), bs.getBlockId()));
+                }
+            }
+            fs.add(bs);
+        } else {
+            prevDataSize = bs.getDataSize();
+        }
+        fs.setLastTnxId(txId);
+        fs.setUpdatedTime(updatedTime);
+        fs.setTimestamp(System.currentTimeMillis());
+        bs.setUpdatedTime(updatedTime);
+        bs.setLastTnxId(txId);
+        bs.setDataSize(dataSize);
+        bs.setGenerationStamp(generationStamp);
+        bs.setState(state);
+        BlockTnxDelta bd = new BlockTnxDelta();
+        bd.setTnxId(txId);
+        long soff = (prevDataSize > 0 ? prevDataSize - 1 : 0);
+        long eoff = (dataSize > 0 ? dataSize - 1 : 0);
+        bd.setStartOffset(soff);
+        bd.setEndOffset(eoff);
+        bd.setTimestamp(updatedTime);
+        bs.add(bd);
+
+        long ds = fs.getDataSize() + (dataSize - prevDataSize);
+        fs.setDataSize(ds);
+
+        return fs;
+    }
+
     public DFSFileState update(@NonNull DFSFileState fileState) throws StateManagerError {
         Preconditions.checkNotNull(connection);
         Preconditions.checkState(connection.isConnected());
@@ -443,13 +642,25 @@ public class ZkStateManager {
         synchronized (this) {
             try {
                 CuratorFramework client = connection().client();
+                compact(fileState);
                 String path = fileState.getZkPath();
+                String hdfsPath = fileState.getHdfsFilePath();
+                if (cacheEnabled() && fileCache.containsKey(hdfsPath)) {
+                    fileState.setTimestamp(System.currentTimeMillis());
+                    dirtyFiles.put(path, fileState);
+                    cache(hdfsPath, fileState);
+                    return fileState;
+                }
                 if (client.checkExists().forPath(path) == null) {
                     throw new StateManagerError(String.format("File record not found. [path=%s]", fileState.getHdfsFilePath()));
                 }
                 fileState.setTimestamp(System.currentTimeMillis());
-                String json = JSONUtils.asString(fileState, DFSFileState.class);
-                client.setData().forPath(path, json.getBytes(StandardCharsets.UTF_8));
+                if (cacheEnabled()) {
+                    dirtyFiles.put(path, fileState);
+                    cache(hdfsPath, fileState);
+                    return fileState;
+                }
+                client.setData().forPath(path, encode(fileState));
 
                 return fileState;
             } catch (Exception ex) {
@@ -458,6 +669,62 @@ public class ZkStateManager {
         }
     }
 
+    /**
+     * Apply the compaction policy: the block deltas over the configured limit are merged inline,
+     * or (compaction.background) the file is queued and compacted on a later checkpoint.
+     */
+    private void compact(DFSFileState fileState) {
+        int maxDeltas = config.compactionMaxDeltas();
+        if (maxDeltas <= 0 || !fileState.hasBlocks()) return;
+        long retain = retentionTxId();
+        for (DFSBlockState blockState : fileState.getBlocks()) {
+            if (blockState.compactable(maxDeltas, retain) > 0) {
+                if (config.compactionBackground()) {
+                    compactionQueue.add(fileState.getHdfsFilePath());
+                    return;
+                }
+                blockState.compact(maxDeltas, retain);
+            }
+        }
+    }
+
+    /**
+     * Compact the queued files, at most compaction.filesPerRun files per run (the rest stay
+     * queued). Runs on the checkpoint of the processor, the file states are never modified by
+     * another thread.
+     *
+     * @return - Number of files compacted
+     */
+    synchronized int sweep() {
+        lastSweep = System.currentTimeMillis();
+        List<String> paths = new ArrayList<>();
+        Iterator<String> iter = compactionQueue.iterator();
+        while (iter.hasNext() && paths.size() < config.compactionFilesPerRun()) {
+            paths.add(iter.next());
+            iter.remove();
+        }
+        int compacted = 0;
+        for (String path : paths) {
+            try {
+                DFSFileState fileState = get(path);
+                if (fileState == null || !fileState.hasBlocks()) continue;
+                long retain = retentionTxId();
+                int removed = 0;
+                for (DFSBlockState blockState : fileState.getBlocks()) {
+                    removed += blockState.compact(config.compactionMaxDeltas(), retain);
+                }
+                if (removed > 0) {
+                    update(fileState);
+                    compacted++;
+                }
+            } catch (Throwable t) {
+                DefaultLogger.LOG.error(String.format("Error compacting file state. [path=%s][error=%s]",
+                        path, t.getLocalizedMessage()));
+            }
+        }
+        return compacted;
+    }
+
     public DFSFileState compact(@NonNull String hdfsPath, long age) throws StateManagerError {
         Preconditions.checkNotNull(connection);
         Preconditions.checkState(connection.isConnected());
@@ -495,7 +762,7 @@ public class ZkStateManager {
                 if (fileState == null) {
                     throw new StateManagerError(String.format("File state not found. [path=%s]", hdfsPath));
                 }
-                client.delete().deletingChildrenIfNeeded().forPath(fileState.getZkPath());
+                remove(client, fileState);
 
                 return fileState;
             } catch (Exception ex) {
@@ -524,6 +791,15 @@ public class ZkStateManager {
         }
     }
 
+    /**
+     * Read the file state. With the file cache enabled the cached instance is returned (not a
+     * copy): callers must hold the replication lock while they modify it and save the changes
+     * with update(), an instance modified but not updated can still be flushed by a checkpoint.
+     *
+     * @param hdfsPath - HDFS file path
+     * @return - File state, null if not found
+     * @throws StateManagerError
+     */
     public DFSFileState get(@NonNull String hdfsPath) throws StateManagerError {
         Preconditions.checkNotNull(connection);
         Preconditions.checkState(connection.isConnected());
@@ -531,20 +807,280 @@ public class ZkStateManager {
 
         try {
             CuratorFramework client = connection().client();
-            String path = getFilePath(hdfsPath);
-            if (client.checkExists().forPath(path) != null) {
-                byte[] data = client.getData().forPath(path);
-                if (data != null && data.length > 0) {
-                    String json = new String(data, StandardCharsets.UTF_8);
-                    return JSONUtils.read(json, DFSFileState.class);
+            if (cacheEnabled()) {
+                synchronized (this) {
+                    DFSFileState fileState = fileCache.get(hdfsPath);
+                    if (fileState == null) {
+                        fileState = find(client, hdfsPath);
+                        if (fileState != null) {
+                            cache(hdfsPath, fileState);
+                        }
+                    }
+                    return fileState;
                 }
             }
-            return null;
+            return find(client, hdfsPath);
         } catch (Exception ex) {
             throw new StateManagerError(ex);
         }
     }
 
+    /**
+     * Rename a file: only the path index entry is moved, the file state keeps its inode ID.
+     *
+     * @param source - Source HDFS path
+     * @param target - Target HDFS path
+     * @return - File state with the target path
+     * @throws StateManagerError
+     * @throws InvalidTransactionError - If a valid file already exists at the target path
+     */
+    public DFSFileState rename(@NonNull String source, @NonNull String target)
+            throws StateManagerError, InvalidTransactionError {
+        return rename(source, target, false);
+    }
+
+    /**
+     * Rename a file: only the path index entry is moved, the file state keeps its inode ID.
+     *
+     * @param source    - Source HDFS path
+     * @param target    - Target HDFS path
+     * @param overwrite - Replace the file at the target path (rename with OVERWRITE)
+     * @return - File state with the target path
+     * @throws StateManagerError
+     * @throws InvalidTransactionError - If a valid file already exists at the target path (not overwrite)
+     */
+    public DFSFileState rename(@NonNull String source, @NonNull String target, boolean overwrite)
+            throws StateManagerError, InvalidTransactionError {
+        checkState();
+        synchronized (this) {
+            try {
+                CuratorFramework client = connection().client();
+                DFSFileState fileState = get(source);
+                if (fileState == null) {
+                    throw new StateManagerError(String.format("File state not found. [path=%s]", source));
+                }
+                DFSFileState ts = get(target);
+                if (ts != null) {
+                    if (!ts.checkDeleted() && !overwrite) {
+                        throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
+                                target,
+                                String.format("Valid File already exists. [path=%s]", target));
+                    }
+                    remove(client, ts);
+                }
+                if (pathIndex.rename(source, target, overwrite) == null) {
+                    throw new StateManagerError(String.format("Path index entry not found. [path=%s]", source));
+                }
+                if (cacheEnabled()) {
+                    fileCache.remove(source);
+                }
+                fileState.setHdfsFilePath(target);
+                return update(fileState);
+            } catch (InvalidTransactionError | StateManagerError e) {
+                throw e;
+            } catch (Exception ex) {
+                throw new StateManagerError(ex);
+            }
+        }
+    }
+
+    /**
+     * Rename a directory: a single path index entry is moved. The file states under the
+     * directory are not re-written, their HDFS path is updated when they are read.
+     *
+     * @param source    - Source directory
+     * @param target    - Target directory
+     * @param overwrite - Replace the target if it is an empty directory (rename with OVERWRITE)
+     * @return - Map of the (target) HDFS path to inode ID of the files under the directory
+     * @throws StateManagerError
+     */
+    public Map<String, Long> renameDirectory(@NonNull String source,
+                                             @NonNull String target,
+                                             boolean overwrite) throws StateManagerError {
+        checkState();
+        synchronized (this) {
+            try {
+                if (pathIndex.rename(source, target, overwrite) == null) {
+                    throw new StateManagerError(String.format("Directory not found. [path=%s]", source));
+                }
+                if (cacheEnabled()) {
+                    String prefix = source.endsWith("/") ? source : source + "/";
+                    List<DFSFileState> moved = new ArrayList<>();
+                    Iterator<Map.Entry<String, DFSFileState>> iter = fileCache.entrySet().iterator();
+                    while (iter.hasNext()) {
+                        Map.Entry<String, DFSFileState> entry = iter.next();
+                        if (entry.getKey().startsWith(prefix)) {
+                            moved.add(entry.getValue());
+                            iter.remove();
+                        }
+                    }
+                    for (DFSFileState fileState : moved) {
+                        String path = PathUtils.formatZkPath(String.format("%s/%s", target,
+                                fileState.getHdfsFilePath().substring(prefix.length())));
+                        fileState.setHdfsFilePath(path);
+                        fileCache.put(path, fileState);
+                    }
+                }
+                return pathIndex.list(target);
+            } catch (StateManagerError e) {
+                throw e;
+            } catch (Exception ex) {
+                throw new StateManagerError(ex);
+            }
+        }
+    }
+
+    public boolean isDirectory(@NonNull String hdfsPath) throws StateManagerError {
+        checkState();
+        try {
+            return pathIndex.isDirectory(hdfsPath);
+        } catch (Exception ex) {
+            throw new StateManagerError(ex);
+        }
+    }
+
+    private DFSFileState find(CuratorFramework client, String hdfsPath) throws Exception {
+        long inodeId = pathIndex.resolve(hdfsPath);
+        if (inodeId < 0) {
+            return null;
+        }
+        DFSFileState fileState = read(client, getInodePath(inodeId));
+        if (fileState != null && !hdfsPath.equals(fileState.getHdfsFilePath())) {
+            // A parent directory has been renamed.
+            fileState.setHdfsFilePath(hdfsPath);
+        }
+        return fileState;
+    }
+
+    /**
+     * Move all the file states saved under their HDFS path (previous layout) to the inode
+     * layout, so that the path index (isDirectory(), findFiles()) covers all the files.
+     * Migration is idempotent, instances started concurrently can run it in parallel.
+     */
+    private void migrateLegacy(CuratorFramework client) throws Exception {
+        List<String> paths = new ArrayList<>();
+        search(zkFSPath, paths, client);
+        int count = 0;
+        for (String path : paths) {
+            if (path.equals(zkFSPath)) continue;
+            DFSFileState fileState = read(client, path);
+            if (fileState != null) {
+                migrate(client, fileState.getHdfsFilePath(), path);
+                count++;
+            }
+        }
+        try {
+            client.delete().deletingChildrenIfNeeded().forPath(zkFSPath);
+        } catch (KeeperException.NoNodeException nn) {
+            // Removed by another instance.
+        }
+        legacyFiles = false;
+        DefaultLogger.LOG.info(String.format("Migrated file states to the inode layout. [module=%s][files=%d]",
+                module, count));
+    }
+
+    private void search(String zpath, List<String> paths, CuratorFramework client) throws Exception {
+        List<String> children;
+        try {
+            children = client.getChildren().forPath(zpath);
+        } catch (KeeperException.NoNodeException nn) {
+            return;
+        }
+        if (children != null && !children.isEmpty()) {
+            for (String child : children) {
+                String cp = PathUtils.formatZkPath(String.format("%s/%s", zpath, child));
+                search(cp, paths, client);
+            }
+        } else {
+            paths.add(zpath);
+        }
+    }
+
+    /**
+     * Move a file state saved under its HDFS path to its inode node and index the path.
+     * Deleted states of a renamed file share the inode ID of the new file and are dropped.
+     */
+    private DFSFileState migrate(CuratorFramework client, String hdfsPath, String lp) throws Exception {
+        DFSFileState fileState = read(client, lp);
+        if (fileState == null) return null;
+        String zp = getInodePath(fileState.getId());
+        fileState.setZkPath(zp);
+        if (client.checkExists().forPath(zp) == null) {
+            try {
+                client.create().creatingParentContainersIfNeeded().forPath(zp, encode(fileState));
+            } catch (KeeperException.NodeExistsException ne) {
+                // Migrated by another instance.
+            }
+        } else if (fileState.checkDeleted()) {
+            fileState = null;
+        } else {
+            client.setData().forPath(zp, encode(fileState));
+        }
+        if (fileState != null) {
+            pathIndex.link(hdfsPath, fileState.getId());
+        }
+        try {
+            client.delete().forPath(lp);
+        } catch (KeeperException.NoNodeException nn) {
+            // Migrated by another instance.
+        }
+        return fileState;
+    }
+
+    private void remove(CuratorFramework client, DFSFileState fileState) throws Exception {
+        evict(fileState);
+        if (client.checkExists().forPath(fileState.getZkPath()) != null) {
+            client.delete().deletingChildrenIfNeeded().forPath(fileState.getZkPath());
+        }
+        pathIndex.unlink(fileState.getHdfsFilePath());
+    }
+
+    private DFSFileState read(CuratorFramework client, String path) throws Exception {
+        if (client.checkExists().forPath(path) != null) {
+            byte[] data = client.getData().forPath(path);
+            if (data != null && data.length > 0) {
+                if (StateSerDe.isEncoded(data)) {
+                    return new DFSFileState().parseFrom(DFSFileStateData.parseFrom(StateSerDe.decode(data)));
+                }
+                String json = new String(data, StandardCharsets.UTF_8);
+                return JSONUtils.read(json, DFSFileState.class);
+            }
+        }
+        return null;
+    }
+
+    private boolean binaryEncoding() {
+        return (config.stateEncoding() == StateSerDe.EEncoding.BINARY);
+    }
+
+    byte[] encode(DFSFileState fileState) throws Exception {
+        if (binaryEncoding()) {
+            return StateSerDe.encode(fileState.convertToProto(), config.compressThreshold());
+        }
+        return JSONUtils.asString(fileState, DFSFileState.class).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] encode(NameNodeTxState txState) throws Exception {
+        if (binaryEncoding()) {
+            return StateSerDe.encode(txState.convertToProto(), config.compressThreshold());
+        }
+        return JSONUtils.asString(txState, NameNodeTxState.class).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] encode(DFSReplicationState state) throws Exception {
+        if (binaryEncoding()) {
+            return StateSerDe.encode(state.convertToProto(), config.compressThreshold());
+        }
+        return JSONUtils.asString(state, DFSReplicationState.class).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void evict(DFSFileState fileState) {
+        if (cacheEnabled()) {
+            fileCache.remove(fileState.getHdfsFilePath());
+            dirtyFiles.remove(fileState.getZkPath());
+        }
+    }
+
     public DFSReplicationState get(long inodeId) throws StateManagerError {
         checkState();
         try {
@@ -553,6 +1089,9 @@ public class ZkStateManager {
             if (client.checkExists().forPath(path) != null) {
                 byte[] data = client.getData().forPath(path);
                 if (data != null && data.length > 0) {
+                    if (StateSerDe.isEncoded(data)) {
+                        return new DFSReplicationState().parseFrom(DFSReplicationStateData.parseFrom(StateSerDe.decode(data)));
+                    }
                     String json = new String(data, StandardCharsets.UTF_8);
                     return JSONUtils.read(json, DFSReplicationState.class);
                 }
@@ -587,8 +1126,7 @@ public class ZkStateManager {
                 }
                 state.setUpdateTime(System.currentTimeMillis());
 
-                String json = JSONUtils.asString(state, DFSReplicationState.class);
-                client.setData().forPath(path, json.getBytes(StandardCharsets.UTF_8));
+                client.setData().forPath(path, encode(state));
             }
             return state;
         } catch (Exception ex) {
@@ -607,8 +1145,7 @@ public class ZkStateManager {
             String path = PathUtils.formatZkPath(String.format("%s/%d", zkPathReplication, state.getInode()));
 
             state.setUpdateTime(System.currentTimeMillis());
-            String json = JSONUtils.asString(state, DFSReplicationState.class);
-            client.setData().forPath(path, json.getBytes(StandardCharsets.UTF_8));
+            client.setData().forPath(path, encode(state));
 
             return state;
         } catch (StaleDataException se) {
@@ -642,41 +1179,54 @@ public class ZkStateManager {
                 if (client.checkExists().forPath(path) != null) {
                     client.delete().deletingChildrenIfNeeded().forPath(path);
                 }
+                legacyFiles = false;
+                if (client.checkExists().forPath(zkInodePath) != null) {
+                    client.delete().deletingChildrenIfNeeded().forPath(zkInodePath);
+                }
+                client.create().creatingParentContainersIfNeeded().forPath(zkInodePath);
+                pathIndex.reset();
                 if (client.checkExists().forPath(zkPathReplication) != null) {
                     client.delete().deletingChildrenIfNeeded().forPath(zkPathReplication);
                 }
+                if (cacheEnabled()) {
+                    fileCache.clear();
+                    dirtyFiles.clear();
+                }
             } catch (Exception ex) {
                 throw new StateManagerError(ex);
             }
         }
     }
 
+    /**
+     * @param hdfsPath - HDFS file or directory path
+     * @return - ZK paths of the file states under the path
+     * @throws StateManagerError
+     */
     public List<String> findFiles(@NonNull String hdfsPath) throws StateManagerError {
         checkState();
         try {
-            CuratorFramework client = connection().client();
-            String zpath = getFilePath(hdfsPath);
-            List<String> paths = new ArrayList<>();
-            search(zpath, paths, client);
-            if (!paths.isEmpty()) return paths;
+            Map<String, Long> files = pathIndex.list(hdfsPath);
+            if (!files.isEmpty()) {
+                List<String> paths = new ArrayList<>(files.size());
+                for (long inodeId : files.values()) {
+                    paths.add(getInodePath(inodeId));
+                }
+                return paths;
+            }
             return null;
         } catch (Exception ex) {
             throw new StateManagerError(ex);
         }
     }
 
-    private void search(String zpath, List<String> paths, CuratorFramework client) throws Exception {
-        List<String> children = client.getChildren().forPath(zpath);
-        if (children != null && !children.isEmpty()) {
-            for (String child : children) {
-                String cp = PathUtils.formatZkPath(String.format("%s/%s", zpath, child));
-                search(cp, paths, client);
-            }
-        } else {
-            paths.add(zpath);
-        }
+    public String getInodePath(long inodeId) {
+        return PathUtils.formatZkPath(String.format("%s/%d", zkInodePath, inodeId));
     }
 
+    /**
+     * ZK path of a file state saved under its HDFS path (previous layout).
+     */
     public String getFilePath(String hdfsPath) {
         if (Strings.isNullOrEmpty(hdfsPath)) {
             return zkFSPath;
@@ -685,6 +1235,11 @@ public class ZkStateManager {
         }
     }
 
+    @Override
+    public synchronized void close() {
+        compactionQueue.clear();
+    }
+
     private synchronized void checkState() {
         Preconditions.checkNotNull(connection);
         Preconditions.checkState(connection.isConnected());
@@ -700,9 +1255,63 @@ public class ZkStateManager {
 
         private static final String __CONFIG_PATH = "state.manager";
         private static final String CONFIG_MODULE_NAME = "module";
+        private static final String CONFIG_FILE_CACHE_SIZE = "fileCache.size";
+        private static final String CONFIG_STATE_ENCODING = "encoding.type";
+        private static final String CONFIG_COMPRESS_THRESHOLD = "encoding.compressThreshold";
+        private static final String CONFIG_PATH_CACHE_SIZE = "pathCache.size";
+        private static final String CONFIG_COMPACTION_MAX_DELTAS = "compaction.maxDeltas";
+        private static final String CONFIG_COMPACTION_BACKGROUND = "compaction.background";
+        private static final String CONFIG_COMPACTION_INTERVAL = "compaction.interval";
+        private static final String CONFIG_COMPACTION_FILES_PER_RUN = "compaction.filesPerRun";
+
+        private int fileCacheSize = 0;
+        private StateSerDe.EEncoding stateEncoding = StateSerDe.EEncoding.JSON;
+        private int compressThreshold = -1;
+        private int pathCacheSize = 16 * 1024;
+        private int compactionMaxDeltas = 0;
+        private boolean compactionBackground = false;
+        private long compactionInterval = 60 * 1000;
+        private int compactionFilesPerRun = 1000;
 
         public ZkStateManagerConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
             super(config, __CONFIG_PATH);
         }
+
+        @Override
+        public void read() throws ConfigurationException {
+            super.read();
+            String s = get().getString(CONFIG_FILE_CACHE_SIZE);
+            if (!Strings.isNullOrEmpty(s)) {
+                fileCacheSize = Integer.parseInt(s);
+            }
+            s = get().getString(CONFIG_STATE_ENCODING);
+            if (!Strings.isNullOrEmpty(s)) {
+                stateEncoding = StateSerDe.EEncoding.valueOf(s.toUpperCase());
+            }
+            s = get().getString(CONFIG_COMPRESS_THRESHOLD);
+            if (!Strings.isNullOrEmpty(s)) {
+                compressThreshold = Integer.parseInt(s);
+            }
+            s = get().getString(CONFIG_PATH_CACHE_SIZE);
+            if (!Strings.isNullOrEmpty(s)) {
+                pathCacheSize = Integer.parseInt(s);
+            }
+            s = get().getString(CONFIG_COMPACTION_MAX_DELTAS);
+            if (!Strings.isNullOrEmpty(s)) {
+                compactionMaxDeltas = Integer.parseInt(s);
+            }
+            s = get().getString(CONFIG_COMPACTION_BACKGROUND);
+            if (!Strings.isNullOrEmpty(s)) {
+                compactionBackground = Boolean.parseBoolean(s);
+            }
+            s = get().getString(CONFIG_COMPACTION_INTERVAL);
+            if (!Strings.isNullOrEmpty(s)) {
+                compactionInterval = Long.parseLong(s);
+            }
+            s = get().getString(CONFIG_COMPACTION_FILES_PER_RUN);
+            if (!Strings.isNullOrEmpty(s)) {
+                compactionFilesPerRun = Integer.parseInt(s);
+            }
+        }
     }
 }
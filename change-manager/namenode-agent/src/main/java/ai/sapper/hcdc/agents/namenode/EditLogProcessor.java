@@ -18,12 +18,14 @@ import lombok.experimental.Accessors;
 import org.apache.commons.configuration2.HierarchicalConfiguration;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.hadoop.hdfs.server.namenode.EditsLogTailer;
 import org.apache.hadoop.hdfs.tools.offlineEditsViewer.EditsLogReader;
 import org.apache.parquet.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -35,6 +37,7 @@ public class EditLogProcessor implements Runnable {
     private MessageSender<String, DFSChangeDelta> sender;
     private EditLogProcessorConfig processorConfig;
     private File editsDir;
+    private EditsLogTailer tailer;
 
     public EditLogProcessor(@NonNull ZkStateManager stateManager) {
         this.stateManager = stateManager;
@@ -85,10 +88,19 @@ public class EditLogProcessor implements Runnable {
     public void run() {
         Preconditions.checkState(sender != null);
         try {
-            while (NameNodeEnv.get().state().isAvailable()) {
+            if (processorConfig.tailEdits) {
                 long txid = doRun();
                 LOG.info(String.format("Last Processed TXID = %d", txid));
-                Thread.sleep(processorConfig.pollingInterval);
+                while (NameNodeEnv.get().state().isAvailable()) {
+                    doTail();
+                    Thread.sleep(processorConfig.tailInterval);
+                }
+            } else {
+                while (NameNodeEnv.get().state().isAvailable()) {
+                    long txid = doRun();
+                    LOG.info(String.format("Last Processed TXID = %d", txid));
+                    Thread.sleep(processorConfig.pollingInterval);
+                }
             }
         } catch (Throwable t) {
             LOG.error("Edits Log Processor terminated with error", t);
@@ -101,21 +113,24 @@ public class EditLogProcessor implements Runnable {
         NameNodeTxState state = stateManager.agentTxState();
         EditsLogReader reader = new EditsLogReader();
         long txId = state.getProcessedTxId();
-        List<DFSEditsFileFinder.EditsLogFile> files = DFSEditsFileFinder.findEditsFiles(editsDir.getAbsolutePath(), state.getProcessedTxId(), -1);
+        List<DFSEditsFileFinder.EditsLogFile> files = DFSEditsFileFinder.findEditsFiles(editsDir.getAbsolutePath(), -1, -1);
         if (files != null && !files.isEmpty()) {
             for (DFSEditsFileFinder.EditsLogFile file : files) {
-                if (file.startTxId() != (txId + 1)) {
+                // Segments can be partially processed when the previous in-progress file was tailed.
+                if (file.endTxId() <= txId) continue;
+                if (file.startTxId() > (txId + 1)) {
                     throw new Exception(String.format("Missing edits log file. [expected TXID=%d][file start TXID=%d]",
                             (txId + 1), file.startTxId()));
                 }
-                LOG.debug(String.format("Reading edits file [path=%s][startTx=%d]", file, state.getProcessedTxId()));
-                reader.run(file, state.getProcessedTxId(), file.endTxId());
+                LOG.debug(String.format("Reading edits file [path=%s][startTx=%d]", file, txId));
+                reader.run(file, txId, file.endTxId());
                 DFSEditLogBatch batch = reader.batch();
                 if (batch.transactions() != null && !batch.transactions().isEmpty()) {
                     long tid = processBatch(batch);
                     if (tid > 0) {
                         txId = tid;
                         stateManager.update(txId);
+                        stateManager.checkpoint();
                     }
                 }
             }
@@ -131,10 +146,42 @@ public class EditLogProcessor implements Runnable {
         return txId;
     }
 
+    /**
+     * Read the transactions appended to the current (in-progress) edits file since the last call.
+     * When the NameNode rolls the segment, the finalized file(s) are read before switching
+     * to the new in-progress file.
+     *
+     * @return - Last processed transaction ID.
+     * @throws Exception
+     */
+    public long doTail() throws Exception {
+        String cf = DFSEditsFileFinder.getCurrentEditsFile(editsDir.getAbsolutePath());
+        if (tailer == null || tailer.finalized() || cf == null || tailer.path().compareTo(cf) != 0) {
+            tailer = null;
+            long txId = doRun();
+            if (cf == null) return txId;
+            tailer = new EditsLogTailer(cf);
+            LOG.info(String.format("Tailing current edits file. [path=%s][processed TXID=%d]", cf, txId));
+        }
+        long txId = stateManager.agentTxState().getProcessedTxId();
+        DFSEditLogBatch batch = tailer.next(txId);
+        if (batch != null && !batch.transactions().isEmpty()) {
+            long tid = processBatch(batch);
+            if (tid > 0) {
+                txId = tid;
+                stateManager.update(txId);
+                stateManager.checkpoint();
+                LOG.debug(String.format("Last Processed TXID = %d", txId));
+            }
+        }
+        return txId;
+    }
+
     private long processBatch(DFSEditLogBatch batch) throws Exception {
         if (batch != null && batch.transactions() != null && !batch.transactions().isEmpty()) {
-            long txid = -1;
-            for (DFSTransactionType<?> tnx : batch.transactions()) {
+            List<DFSTransactionType<?>> transactions = batch.compact();
+            List<MessageObject<String, DFSChangeDelta>> messages = new ArrayList<>(transactions.size());
+            for (DFSTransactionType<?> tnx : transactions) {
                 Object proto = tnx.convertToProto();
                 MessageObject<String, DFSChangeDelta> message = ChangeDeltaSerDe.create(NameNodeEnv.get().source(),
                         proto,
@@ -142,8 +189,20 @@ public class EditLogProcessor implements Runnable {
                         null,
                         null,
                         MessageObject.MessageMode.New);
-                sender.send(message);
-                txid = tnx.id();
+                messages.add(message);
+            }
+            List<MessageObject<String, DFSChangeDelta>> sent = sender.sent(messages);
+            long txid = -1;
+            if (!sent.isEmpty()) {
+                txid = transactions.get(sent.size() - 1).lastTxId();
+            }
+            if (sent.size() < messages.size()) {
+                if (txid > 0) {
+                    stateManager.update(txid);
+                    stateManager.checkpoint();
+                }
+                throw new Exception(String.format("Failed to send edit log batch. [file=%s][last sent TXID=%d]",
+                        batch.filename(), txid));
             }
             return txid;
         }
@@ -157,10 +216,14 @@ public class EditLogProcessor implements Runnable {
             public static final String __CONFIG_PATH = "processor.edits";
             public static final String CONFIG_Q_CONNECTION = "sender";
             public static final String CONFIG_POLL_INTERVAL = "pollingInterval";
+            public static final String CONFIG_TAIL_EDITS = "tailEdits";
+            public static final String CONFIG_TAIL_INTERVAL = "tailInterval";
         }
 
         private MessagingConfig senderConfig;
         private long pollingInterval = 60000; // By default, run every minute
+        private boolean tailEdits = false;
+        private long tailInterval = 500; // By default, check the current edits file every 500ms
 
         public EditLogProcessorConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
             super(config, Constants.__CONFIG_PATH);
@@ -181,6 +244,14 @@ public class EditLogProcessor implements Runnable {
                 if (!Strings.isNullOrEmpty(s)) {
                     pollingInterval = Long.parseLong(s);
                 }
+                s = get().getString(Constants.CONFIG_TAIL_EDITS);
+                if (!Strings.isNullOrEmpty(s)) {
+                    tailEdits = Boolean.parseBoolean(s);
+                }
+                s = get().getString(Constants.CONFIG_TAIL_INTERVAL);
+                if (!Strings.isNullOrEmpty(s)) {
+                    tailInterval = Long.parseLong(s);
+                }
             } catch (Exception ex) {
                 throw new ConfigurationException(ex);
             }
@@ -83,6 +83,13 @@ public class SourceChangeDeltaProcessor extends ChangeDeltaProcessor {
                         try {
                             long txId = process(message);
                             if (txId > 0) {
+                                if (!stateManager().cacheEnabled() || stateManager().cacheFull()) {
+                                    processor.flushIgnored();
+                                    if (stateManager().cacheFull()) {
+                                        // The update() below checkpoints: waits with the lock held (cache overflow only).
+                                        sender().flush();
+                                    }
+                                }
                                 stateManager().update(txId);
                                 LOG.debug(String.format("Processed transaction delta. [TXID=%d]", txId));
                             }
@@ -91,11 +98,24 @@ public class SourceChangeDeltaProcessor extends ChangeDeltaProcessor {
                             DefaultLogger.stacktrace(LOG, ie);
                             errorSender().send(message);
                         }
-                        receiver().ack(message.id());
+                        ack(message.id());
                     } finally {
                         stateManager().replicationLock().unlock();
                     }
                 }
+                stateManager().replicationLock().lock();
+                try {
+                    processor.flushIgnored();
+                } finally {
+                    stateManager().replicationLock().unlock();
+                }
+                flush();
+                stateManager().replicationLock().lock();
+                try {
+                    checkpoint();
+                } finally {
+                    stateManager().replicationLock().unlock();
+                }
             }
             LOG.warn(String.format("Delta Change Processor thread stopped. [env state=%s]", NameNodeEnv.get().state().state().name()));
         } catch (Throwable t) {
@@ -123,7 +143,7 @@ public class SourceChangeDeltaProcessor extends ChangeDeltaProcessor {
     }
 
     private void processBacklogMessage(MessageObject<String, DFSChangeDelta> message, long txId) throws Exception {
-        DFSAddFile addFile = (DFSAddFile) ChangeDeltaSerDe.parse(message.value());
+        DFSAddFile addFile = (DFSAddFile) ChangeDeltaSerDe.parse(message);
         DFSFileState fileState = stateManager().get(addFile.getFile().getPath());
         if (fileState == null) {
             throw new InvalidMessageError(message.id(),
@@ -209,7 +229,7 @@ public class SourceChangeDeltaProcessor extends ChangeDeltaProcessor {
                     || message.mode() == MessageObject.MessageMode.Backlog);
         }
         if (ret) {
-            ret = message.value().hasTxId();
+            ret = ChangeDeltaSerDe.hasTxId(message.value());
         }
         return ret;
     }
@@ -16,19 +16,69 @@ import java.util.List;
 
 public class SourceTransactionProcessor extends TransactionProcessor {
     private MessageSender<String, DFSChangeDelta> sender;
+    private String ignoreNamespace;
+    private DFSTransaction ignoreStart;
+    private long ignoreEndTxId = -1;
 
     public TransactionProcessor withSenderQueue(@NonNull MessageSender<String, DFSChangeDelta> sender) {
         this.sender = sender;
         return this;
     }
 
-    private void sendIgnoreTx(MessageObject<String, DFSChangeDelta> message, Object data) throws Exception {
+    /**
+     * Ignored transactions are not sent one message per transaction: consecutive ignored
+     * transactions are merged into a pending range, which is sent as a single ignore message
+     * before the next (non-ignore) message or when flushIgnored() is called.
+     */
+    private void ignore(String namespace,
+                        DFSTransaction tnx,
+                        long endTxId,
+                        MessageObject.MessageMode mode) throws Exception {
+        if (mode != MessageObject.MessageMode.New) {
+            flushIgnored();
+            sender.send(ChangeDeltaSerDe.createIgnoreTx(namespace, tnx, endTxId, mode));
+            return;
+        }
+        if (ignoreStart != null) {
+            if (ignoreEndTxId + 1 == tnx.getTransactionId() && ignoreNamespace.equals(namespace)) {
+                ignoreEndTxId = endTxId;
+                return;
+            }
+            flushIgnored();
+        }
+        ignoreNamespace = namespace;
+        ignoreStart = tnx;
+        ignoreEndTxId = endTxId;
+    }
+
+    /**
+     * Send the pending ignored transaction range (if any). Must be called before the processed
+     * transaction ID is persisted.
+     *
+     * @throws Exception
+     */
+    public void flushIgnored() throws Exception {
+        if (ignoreStart == null) return;
+        MessageObject<String, DFSChangeDelta> im = ChangeDeltaSerDe.createIgnoreTx(ignoreNamespace,
+                ignoreStart,
+                ignoreEndTxId,
+                MessageObject.MessageMode.New);
+        sender.send(im);
+        ignoreStart = null;
+        ignoreEndTxId = -1;
+    }
+
+    @Override
+    protected void send(MessageObject<String, DFSChangeDelta> message) throws Exception {
+        flushIgnored();
+        sender.send(message);
+    }
+
+    @Override
+    protected void sendIgnoreTx(MessageObject<String, DFSChangeDelta> message, Object data) throws Exception {
         DFSTransaction tnx = extractTransaction(data);
         if (tnx != null) {
-            MessageObject<String, DFSChangeDelta> im = ChangeDeltaSerDe.createIgnoreTx(message.value().getNamespace(),
-                    tnx,
-                    message.mode());
-            sender.send(im);
+            ignore(message.value().getNamespace(), tnx, tnx.getTransactionId(), message.mode());
         } else {
             throw new InvalidMessageError(message.id(), "Transaction data not found in message.");
         }
@@ -83,7 +133,7 @@ public class SourceTransactionProcessor extends TransactionProcessor {
             rState.setSnapshotReady(true);
 
             stateManager().update(rState);
-            sender.send(message);
+            send(message);
         } else {
             sendIgnoreTx(message, data);
         }
@@ -122,7 +172,7 @@ public class SourceTransactionProcessor extends TransactionProcessor {
                     rState.getEntity().getDomain(),
                     rState.getEntity().getEntity(),
                     message.mode());
-            sender.send(message);
+            send(message);
         } else if (fileState.hasError()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                     fileState.getHdfsFilePath(),
@@ -168,7 +218,7 @@ public class SourceTransactionProcessor extends TransactionProcessor {
                     rState.getEntity().getDomain(),
                     rState.getEntity().getEntity(),
                     message.mode());
-            sender.send(message);
+            send(message);
         } else if (fileState.hasError()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                     fileState.getHdfsFilePath(),
@@ -228,7 +278,7 @@ public class SourceTransactionProcessor extends TransactionProcessor {
                     rState.getEntity().getDomain(),
                     rState.getEntity().getEntity(),
                     message.mode());
-            sender.send(message);
+            send(message);
         } else if (fileState.hasError()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                     fileState.getHdfsFilePath(),
@@ -299,7 +349,7 @@ public class SourceTransactionProcessor extends TransactionProcessor {
                     rState.getEntity().getDomain(),
                     rState.getEntity().getEntity(),
                     message.mode());
-            sender.send(message);
+            send(message);
         } else if (fileState.hasError()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                     fileState.getHdfsFilePath(),
@@ -427,7 +477,7 @@ public class SourceTransactionProcessor extends TransactionProcessor {
                     rState.getEntity().getDomain(),
                     rState.getEntity().getEntity(),
                     message.mode());
-            sender.send(message);
+            send(message);
         } else if (fileState.hasError()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                     fileState.getHdfsFilePath(),
@@ -445,6 +495,9 @@ public class SourceTransactionProcessor extends TransactionProcessor {
      */
     @Override
     public void processRenameFileTxMessage(DFSRenameFile data, MessageObject<String, DFSChangeDelta> message, long txId) throws Exception {
+        if (processRenameDirectory(data, message, txId)) {
+            return;
+        }
         DFSFileState fileState = stateManager().get(data.getSrcFile().getPath());
         if (fileState == null || fileState.checkDeleted()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
@@ -457,42 +510,20 @@ public class SourceTransactionProcessor extends TransactionProcessor {
                     String.format("NameNode Replica out of sync, file not marked for update. [path=%s]",
                             data.getSrcFile().getPath()));
         }
-        fileState = stateManager().markDeleted(data.getSrcFile().getPath());
         EFileState state = (fileState.getState() == EFileState.Error ? fileState.getState() : EFileState.New);
-        DFSFileState nfs = stateManager().create(data.getDestFile().getPath(),
-                data.getDestFile().getInodeId(),
-                fileState.getCreatedTime(),
-                fileState.getBlockSize(),
-                state,
-                txId);
-        nfs.setBlocks(fileState.getBlocks());
-        nfs.setNumBlocks(fileState.getNumBlocks());
-        nfs.setDataSize(fileState.getDataSize());
+        DFSFileState nfs = stateManager().rename(data.getSrcFile().getPath(),
+                data.getDestFile().getPath(),
+                data.getOpts() == DFSRenameFile.RenameOpts.OVERWRITE);
+        nfs.setState(state);
+        nfs.setLastTnxId(txId);
         nfs.setUpdatedTime(data.getTransaction().getTimestamp());
 
         nfs = stateManager().update(nfs);
 
-        DFSReplicationState rState = stateManager().get(fileState.getId());
-        if (rState != null) {
-            stateManager().delete(rState.getInode());
+        if (replicateRenamed(nfs, message, txId)) {
+            return;
         }
-        SchemaEntity schemaEntity = isRegistered(nfs.getHdfsFilePath());
-        if (schemaEntity != null) {
-            rState = stateManager().create(nfs.getId(), nfs.getHdfsFilePath(), schemaEntity, true);
-            rState.setSnapshotTxId(nfs.getLastTnxId());
-            rState.setSnapshotTime(System.currentTimeMillis());
-            rState.setSnapshotReady(true);
-
-            stateManager().update(rState);
-            DFSAddFile addFile = HDFSSnapshotProcessor.generateSnapshot(nfs, true);
-            MessageObject<String, DFSChangeDelta> m = ChangeDeltaSerDe.create(message.value().getNamespace(),
-                    addFile,
-                    DFSAddFile.class,
-                    rState.getEntity().getDomain(),
-                    rState.getEntity().getEntity(),
-                    MessageObject.MessageMode.New);
-            sender.send(m);
-        } else if (nfs.hasError()) {
+        if (nfs.hasError()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                     nfs.getHdfsFilePath(),
                     String.format("FileSystem sync error. [path=%s]", nfs.getHdfsFilePath()));
@@ -509,7 +540,8 @@ public class SourceTransactionProcessor extends TransactionProcessor {
      */
     @Override
     public void processIgnoreTxMessage(DFSIgnoreTx data, MessageObject<String, DFSChangeDelta> message, long txId) throws Exception {
-        sender.send(message);
+        DFSTransaction tnx = data.getTransaction();
+        ignore(message.value().getNamespace(), tnx, ChangeDeltaSerDe.lastTxId(data), message.mode());
     }
 
     /**
@@ -544,7 +576,7 @@ public class SourceTransactionProcessor extends TransactionProcessor {
                     tnx,
                     te.getErrorCode(),
                     te.getMessage());
-            sender.send(m);
+            send(m);
         }
     }
 }
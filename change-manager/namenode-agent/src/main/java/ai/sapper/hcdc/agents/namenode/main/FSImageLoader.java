@@ -0,0 +1,275 @@
+package ai.sapper.hcdc.agents.namenode.main;
+
+import ai.sapper.hcdc.agents.common.NameNodeError;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hdfs.server.namenode.FSImageFormatProtobuf;
+import org.apache.hadoop.hdfs.server.namenode.FSImageUtil;
+import org.apache.hadoop.hdfs.server.namenode.FsImageProto;
+import org.apache.hadoop.util.LimitInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming reader for the protobuf FS Image.
+ * <p>
+ * The INode section is read twice: the first pass only keeps the directory names, and the
+ * second pass emits the file inodes (with their full path) one at a time to the callback.
+ * The parent links are read from the INode Directory section in between; the file links
+ * are kept in a primitive map, so memory is bounded by the number of inodes (not the
+ * size of the inode records).
+ */
+@Getter
+@Accessors(fluent = true)
+public class FSImageLoader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public interface FileCallback {
+        void process(@NonNull String path, @NonNull NameNodeReplicator.DFSInode inode) throws Exception;
+    }
+
+    private final String fsImageFile;
+    private final Configuration conf = new Configuration();
+    private FsImageProto.FileSummary summary;
+    private String codec;
+    private long txId = -1;
+    private long fileCount = 0;
+    private long dirCount = 0;
+    private final Map<Integer, String> stringTable = new HashMap<>();
+
+    public FSImageLoader(@NonNull String fsImageFile) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(fsImageFile));
+        this.fsImageFile = fsImageFile;
+    }
+
+    /**
+     * Read the FS Image summary, the transaction ID and the string table.
+     *
+     * @return - self
+     * @throws NameNodeError
+     */
+    public FSImageLoader init() throws NameNodeError {
+        try {
+            File file = new File(fsImageFile);
+            if (!file.exists()) {
+                throw new NameNodeError(String.format("FS Image file not found. [path=%s]", fsImageFile));
+            }
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                if (!FSImageUtil.checkFileFormat(raf)) {
+                    throw new NameNodeError(String.format("Unrecognized FS Image format. [path=%s]", fsImageFile));
+                }
+                summary = FSImageUtil.loadSummary(raf);
+            }
+            codec = summary.getCodec();
+            try (FileInputStream fin = new FileInputStream(file)) {
+                FsImageProto.FileSummary.Section section = find(FSImageFormatProtobuf.SectionName.NS_INFO);
+                if (section == null) {
+                    throw new NameNodeError(String.format("NameNode Last Transaction ID not found. [file=%s]", fsImageFile));
+                }
+                InputStream in = open(fin, section);
+                txId = FsImageProto.NameSystemSection.parseDelimitedFrom(in).getTransactionId();
+
+                section = find(FSImageFormatProtobuf.SectionName.STRING_TABLE);
+                if (section != null) {
+                    in = open(fin, section);
+                    FsImageProto.StringTableSection st = FsImageProto.StringTableSection.parseDelimitedFrom(in);
+                    for (int ii = 0; ii < st.getNumEntry(); ii++) {
+                        FsImageProto.StringTableSection.Entry e = FsImageProto.StringTableSection.Entry.parseDelimitedFrom(in);
+                        stringTable.put(e.getId(), e.getStr());
+                    }
+                }
+            }
+            return this;
+        } catch (NameNodeError ne) {
+            throw ne;
+        } catch (Exception ex) {
+            throw new NameNodeError(ex);
+        }
+    }
+
+    /**
+     * Stream all the file inodes in the FS Image to the callback.
+     *
+     * @param callback - File inode callback.
+     * @return - Number of files processed.
+     * @throws NameNodeError
+     */
+    public long load(@NonNull FileCallback callback) throws NameNodeError {
+        Preconditions.checkState(summary != null);
+        try {
+            FsImageProto.FileSummary.Section inodes = find(FSImageFormatProtobuf.SectionName.INODE);
+            FsImageProto.FileSummary.Section dirs = find(FSImageFormatProtobuf.SectionName.INODE_DIR);
+            if (inodes == null || dirs == null) {
+                throw new NameNodeError(String.format("Invalid FS Image: INode sections not found. [file=%s]", fsImageFile));
+            }
+            Map<Long, String> dirNames = new HashMap<>();
+            Map<Long, Long> dirParents = new HashMap<>();
+            LongMap fileParents = new LongMap();
+            long rootId = -1;
+
+            try (FileInputStream fin = new FileInputStream(fsImageFile)) {
+                // Pass 1: Directory names
+                InputStream in = open(fin, inodes);
+                FsImageProto.INodeSection section = FsImageProto.INodeSection.parseDelimitedFrom(in);
+                for (long ii = 0; ii < section.getNumInodes(); ii++) {
+                    FsImageProto.INodeSection.INode inode = FsImageProto.INodeSection.INode.parseDelimitedFrom(in);
+                    if (inode.getType() == FsImageProto.INodeSection.INode.Type.DIRECTORY) {
+                        String name = inode.getName().toStringUtf8();
+                        if (Strings.isNullOrEmpty(name)) {
+                            rootId = inode.getId();
+                        }
+                        dirNames.put(inode.getId(), name);
+                    }
+                }
+                Preconditions.checkState(rootId >= 0);
+                dirCount = dirNames.size();
+
+                // Parent links
+                in = open(fin, dirs);
+                while (true) {
+                    FsImageProto.INodeDirectorySection.DirEntry entry =
+                            FsImageProto.INodeDirectorySection.DirEntry.parseDelimitedFrom(in);
+                    if (entry == null) break;
+                    for (long cid : entry.getChildrenList()) {
+                        if (dirNames.containsKey(cid)) {
+                            dirParents.put(cid, entry.getParent());
+                        } else {
+                            fileParents.put(cid, entry.getParent());
+                        }
+                    }
+                }
+
+                // Pass 2: Files
+                Map<Long, String> dirPaths = new HashMap<>();
+                dirPaths.put(rootId, "");
+                in = open(fin, inodes);
+                section = FsImageProto.INodeSection.parseDelimitedFrom(in);
+                for (long ii = 0; ii < section.getNumInodes(); ii++) {
+                    FsImageProto.INodeSection.INode inode = FsImageProto.INodeSection.INode.parseDelimitedFrom(in);
+                    if (inode.getType() != FsImageProto.INodeSection.INode.Type.FILE) continue;
+                    long pid = fileParents.get(inode.getId());
+                    if (pid < 0) {
+                        DefaultLogger.LOG.debug(String.format("Parent not found for inode, skipped. [id=%d]", inode.getId()));
+                        continue;
+                    }
+                    String dp = dirPath(pid, dirNames, dirParents, dirPaths);
+                    if (dp == null) continue;
+                    String path = String.format("%s/%s", dp, inode.getName().toStringUtf8());
+                    callback.process(path, new NameNodeReplicator.DFSInode().read(inode, stringTable));
+                    fileCount++;
+                }
+            }
+            return fileCount;
+        } catch (NameNodeError ne) {
+            throw ne;
+        } catch (Exception ex) {
+            throw new NameNodeError(ex);
+        }
+    }
+
+    private String dirPath(long id,
+                           Map<Long, String> dirNames,
+                           Map<Long, Long> dirParents,
+                           Map<Long, String> dirPaths) {
+        String path = dirPaths.get(id);
+        if (path != null) return path;
+        Long pid = dirParents.get(id);
+        if (pid == null) return null;
+        String pp = dirPath(pid, dirNames, dirParents, dirPaths);
+        if (pp == null) return null;
+        path = String.format("%s/%s", pp, dirNames.get(id));
+        dirPaths.put(id, path);
+        return path;
+    }
+
+    private FsImageProto.FileSummary.Section find(FSImageFormatProtobuf.SectionName name) {
+        for (FsImageProto.FileSummary.Section section : summary.getSectionsList()) {
+            if (FSImageFormatProtobuf.SectionName.fromString(section.getName()) == name) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    private InputStream open(FileInputStream fin, FsImageProto.FileSummary.Section section) throws IOException {
+        fin.getChannel().position(section.getOffset());
+        InputStream in = new BufferedInputStream(new LimitInputStream(fin, section.getLength()), BUFFER_SIZE);
+        return FSImageUtil.wrapInputStreamForCompression(conf, codec, in);
+    }
+
+    /**
+     * Open addressing long -> long map, inode IDs are always positive.
+     */
+    private static class LongMap {
+        private static final long EMPTY = -1;
+
+        private long[] keys;
+        private long[] values;
+        private int size = 0;
+
+        private LongMap() {
+            keys = new long[1024];
+            values = new long[1024];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        private void put(long key, long value) {
+            if ((size + 1) * 3L > keys.length * 2L) {
+                resize();
+            }
+            int idx = index(keys, key);
+            if (keys[idx] == EMPTY) {
+                keys[idx] = key;
+                size++;
+            }
+            values[idx] = value;
+        }
+
+        private long get(long key) {
+            int idx = index(keys, key);
+            return (keys[idx] == EMPTY ? EMPTY : values[idx]);
+        }
+
+        private static int index(long[] keys, long key) {
+            int mask = keys.length - 1;
+            int idx = (int) (mix(key) & mask);
+            while (keys[idx] != EMPTY && keys[idx] != key) {
+                idx = (idx + 1) & mask;
+            }
+            return idx;
+        }
+
+        private static long mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (h ^ (h >>> 32));
+        }
+
+        private void resize() {
+            long[] ok = keys;
+            long[] ov = values;
+            keys = new long[ok.length * 2];
+            values = new long[ov.length * 2];
+            Arrays.fill(keys, EMPTY);
+            for (int ii = 0; ii < ok.length; ii++) {
+                if (ok[ii] != EMPTY) {
+                    int idx = index(keys, ok[ii]);
+                    keys[idx] = ok[ii];
+                    values[idx] = ov[ii];
+                }
+            }
+        }
+    }
+}
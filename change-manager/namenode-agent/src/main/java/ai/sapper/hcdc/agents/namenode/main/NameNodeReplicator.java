@@ -2,6 +2,7 @@ package ai.sapper.hcdc.agents.namenode.main;
 
 import ai.sapper.hcdc.agents.common.NameNodeEnv;
 import ai.sapper.hcdc.agents.common.NameNodeError;
+import ai.sapper.hcdc.agents.common.ZkStateBulkWriter;
 import ai.sapper.hcdc.agents.common.ZkStateManager;
 import ai.sapper.hcdc.agents.namenode.model.NameNodeTxState;
 import ai.sapper.hcdc.common.ConfigReader;
@@ -23,26 +24,16 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.apache.commons.configuration2.HierarchicalConfiguration;
 import org.apache.commons.configuration2.tree.ImmutableNode;
-import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
-import org.apache.hadoop.hdfs.tools.offlineImageViewer.PBImageXmlWriter;
+import org.apache.hadoop.hdfs.protocol.proto.HdfsProtos;
+import org.apache.hadoop.hdfs.server.namenode.FsImageProto;
 
 import javax.naming.ConfigurationException;
-import java.io.File;
-import java.io.PrintStream;
-import java.io.RandomAccessFile;
 import java.util.*;
 
 @Getter
 @Accessors(fluent = true)
 public class NameNodeReplicator {
-    private static class Constants {
-        private static final String NODE_INODES = "INodeSection.inode";
-        private static final String NODE_TX_ID = "NameSection.txid";
-        private static final String NODE_DIR_SECTION = "INodeDirectorySection";
-        private static final String NODE_DIR_NODE = String.format("%s.directory", NODE_DIR_SECTION);
-    }
-
     private ZookeeperConnection zkConnection;
     private HdfsConnection hdfsConnection;
     private FileSystem fs;
@@ -50,6 +41,8 @@ public class NameNodeReplicator {
     private ReplicatorConfig replicatorConfig;
     private ZkStateManager stateManager;
 
+    private static final long PROGRESS_INTERVAL = 10000;
+
     @Parameter(names = {"--image", "-i"}, required = true, description = "Path to the FS Image file.")
     private String fsImageFile;
     @Parameter(names = {"--config", "-c"}, required = true, description = "Path to the configuration file.")
@@ -57,12 +50,9 @@ public class NameNodeReplicator {
     @Parameter(names = {"--type", "-t"}, description = "Configuration file type. (File, Resource, Remote)")
     private String configSource;
     private EConfigFileType fileSource = EConfigFileType.File;
-    @Parameter(names = {"--tmp"}, description = "Temp directory to use to create local files. [DEFAULT=System.getProperty(\"java.io.tmpdir\")]")
-    private String tempDir = System.getProperty("java.io.tmpdir");
 
     private long txnId;
-    private final Map<Long, DFSInode> inodes = new HashMap<>();
-    private final Map<Long, DFSDirectory> directoryMap = new HashMap<>();
+    private ZkStateBulkWriter writer;
 
     public void init() throws NameNodeError {
         try {
@@ -99,12 +89,23 @@ public class NameNodeReplicator {
         try {
             NameNodeEnv.globalLock().lock();
             try {
-                String output = generateFSImageSnapshot();
-                DefaultLogger.LOG.info(String.format("Generated FS Image XML. [path=%s]", output));
-                readFSImageXml(output);
-                DefaultLogger.LOG.warn(String.format("WARNING: Will delete existing file structure, if present. [path=%s]", stateManager.getFilePath(null)));
+                FSImageLoader loader = new FSImageLoader(fsImageFile).init();
+                txnId = loader.txId();
+                DefaultLogger.LOG.info(String.format("Loading FS Image. [path=%s][TXID=%d]", fsImageFile, txnId));
+                DefaultLogger.LOG.warn(String.format("WARNING: Will delete existing file structure, if present. [path=%s]", stateManager.zkInodePath()));
                 stateManager.deleteAll();
-                copy();
+                try (ZkStateBulkWriter writer = new ZkStateBulkWriter(stateManager,
+                        replicatorConfig.writerThreads(),
+                        replicatorConfig.writerMaxInFlight())) {
+                    this.writer = writer;
+                    long count = loader.load(this::copy);
+                    writer.flush();
+                    Preconditions.checkState(count == writer.files().get());
+                    DefaultLogger.LOG.info(String.format("Copied HDFS file entries. [directories=%d]%s",
+                            loader.dirCount(), writer.progress()));
+                } finally {
+                    this.writer = null;
+                }
                 NameNodeTxState txState = stateManager.initState(txnId);
                 String tp = stateManager.updateSnapshotTxId(txnId);
 
@@ -119,111 +120,38 @@ public class NameNodeReplicator {
         }
     }
 
-    private void copy() throws Exception {
-        for (long id : inodes.keySet()) {
-            DFSInode inode = inodes.get(id);
-            if (inode.type == EInodeType.DIRECTORY) continue;
-            DefaultLogger.LOG.debug(String.format("Copying HDFS file entry. [path=%s]", inode.path()));
-
-            DFSFileState fileState = stateManager.create(inode.path(),
-                    inode.id,
-                    inode.mTime,
-                    inode.preferredBlockSize,
-                    EFileState.Finalized,
-                    txnId);
-            if (inode.blocks != null && !inode.blocks.isEmpty()) {
-                long prevBlockId = -1;
-                for (DFSInodeBlock block : inode.blocks) {
-                    fileState = stateManager.addOrUpdateBlock(fileState.getHdfsFilePath(),
-                            block.id,
-                            prevBlockId,
-                            inode.mTime,
-                            block.numBytes,
-                            block.genStamp,
-                            EBlockState.Finalized,
-                            txnId);
-                    prevBlockId = block.id;
-                }
-            }
-            if (DefaultLogger.LOG.isDebugEnabled()) {
-                String json = JSONUtils.asString(fileState, DFSFileState.class);
-                DefaultLogger.LOG.debug(json);
+    private void copy(String path, DFSInode inode) throws Exception {
+        DefaultLogger.LOG.debug(String.format("Copying HDFS file entry. [path=%s]", path));
+
+        DFSFileState fileState = stateManager.build(path,
+                inode.id,
+                inode.mTime,
+                inode.preferredBlockSize,
+                EFileState.Finalized,
+                txnId);
+        if (inode.blocks != null && !inode.blocks.isEmpty()) {
+            long prevBlockId = -1;
+            for (DFSInodeBlock block : inode.blocks) {
+                stateManager.addOrUpdateBlock(fileState,
+                        block.id,
+                        prevBlockId,
+                        inode.mTime,
+                        block.numBytes,
+                        block.genStamp,
+                        EBlockState.Finalized,
+                        txnId);
+                prevBlockId = block.id;
             }
         }
-    }
-
-    private void readFSImageXml(String file) throws Exception {
-        HierarchicalConfiguration<ImmutableNode> rootNode = ConfigReader.read(file, EConfigFileType.File);
-        String s = rootNode.getString(Constants.NODE_TX_ID);
-        if (Strings.isNullOrEmpty(s)) {
-            throw new NameNodeError(String.format("NameNode Last Transaction ID not found. [file=%s]", file));
+        writer.write(fileState);
+        if (DefaultLogger.LOG.isDebugEnabled()) {
+            String json = JSONUtils.asString(fileState, DFSFileState.class);
+            DefaultLogger.LOG.debug(json);
         }
-        txnId = Long.parseLong(s);
-
-        List<HierarchicalConfiguration<ImmutableNode>> nodes = rootNode.configurationsAt(Constants.NODE_INODES);
-        if (nodes != null && !nodes.isEmpty()) {
-            for (HierarchicalConfiguration<ImmutableNode> node : nodes) {
-                DFSInode inode = readInode(node);
-                if (inode != null) {
-                    inodes.put(inode.id, inode);
-                }
-            }
-        }
-        List<HierarchicalConfiguration<ImmutableNode>> dnodes = rootNode.configurationsAt(Constants.NODE_DIR_NODE);
-        if (dnodes != null && !dnodes.isEmpty()) {
-            for (HierarchicalConfiguration<ImmutableNode> node : dnodes) {
-                DFSDirectory dir = new DFSDirectory().read(node);
-                directoryMap.put(dir.id, dir);
-            }
+        long count = writer.files().get();
+        if (count > 0 && count % PROGRESS_INTERVAL == 0) {
+            DefaultLogger.LOG.info(String.format("Replication progress: %s", writer.progress()));
         }
-        long rid = findRootInodeId();
-        Preconditions.checkState(rid >= 0);
-        findChildren(rid);
-    }
-
-    private void findChildren(long id) {
-        if (directoryMap.containsKey(id)) {
-            DFSInode inode = inodes.get(id);
-            Preconditions.checkNotNull(inode);
-            if (inode.children != null && !inode.children.isEmpty()) return;
-            DFSDirectory dir = directoryMap.get(id);
-            if (dir.children != null && !dir.children.isEmpty()) {
-                for (long cid : dir.children) {
-                    DFSInode cnode = inodes.get(cid);
-                    Preconditions.checkNotNull(cnode);
-                    inode.addChild(cnode);
-                    findChildren(cnode.id);
-                }
-            }
-        }
-    }
-
-    private long findRootInodeId() {
-        for (long id : inodes.keySet()) {
-            DFSInode inode = inodes.get(id);
-            if (Strings.isNullOrEmpty(inode.name)) {
-                return id;
-            }
-        }
-        return -1L;
-    }
-
-    private DFSInode readInode(HierarchicalConfiguration<ImmutableNode> node) throws Exception {
-        return new DFSInode().read(node);
-    }
-
-    private String generateFSImageSnapshot() throws Exception {
-        File fsImage = new File(fsImageFile);
-        Preconditions.checkState(fsImage.exists());
-
-        String output = String.format("%s/%s.xml", tempDir, fsImage.getName());
-        Configuration conf = new Configuration();
-        try (PrintStream out = new PrintStream(output)) {
-            new PBImageXmlWriter(conf, out).visit(new RandomAccessFile(fsImage.getAbsolutePath(),
-                    "r"));
-        }
-
-        return output;
     }
 
     @Getter
@@ -231,8 +159,12 @@ public class NameNodeReplicator {
     public static class ReplicatorConfig extends ConfigReader {
         private static final String __CONFIG_PATH = "replicator";
         private static final String CONFIG_CONNECTION_HDFS = "connections.hdfs";
+        private static final String CONFIG_WRITER_THREADS = "writer.threads";
+        private static final String CONFIG_WRITER_IN_FLIGHT = "writer.maxInFlight";
 
         private String hdfsConnection;
+        private int writerThreads = 4;
+        private int writerMaxInFlight = 256;
 
         public ReplicatorConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
             super(config, __CONFIG_PATH);
@@ -247,6 +179,14 @@ public class NameNodeReplicator {
             if (Strings.isNullOrEmpty(hdfsConnection)) {
                 throw new ConfigurationException(String.format("NameNode Replicator Configuration Error: missing [%s]", CONFIG_CONNECTION_HDFS));
             }
+            String s = get().getString(CONFIG_WRITER_THREADS);
+            if (!Strings.isNullOrEmpty(s)) {
+                writerThreads = Integer.parseInt(s);
+            }
+            s = get().getString(CONFIG_WRITER_IN_FLIGHT);
+            if (!Strings.isNullOrEmpty(s)) {
+                writerMaxInFlight = Integer.parseInt(s);
+            }
         }
     }
 
@@ -269,16 +209,9 @@ public class NameNodeReplicator {
     @Setter
     @Accessors(fluent = true)
     public static class DFSInode {
-        private static final String NODE_INODE_ID = "id";
-        private static final String NODE_INODE_TYPE = "type";
-        private static final String NODE_INODE_NAME = "name";
-        private static final String NODE_INODE_MTIME = "mtime";
-        private static final String NODE_INODE_ATIME = "atime";
-        private static final String NODE_INODE_BS = "preferredBlockSize";
-        private static final String NODE_INODE_PERM = "permission";
-
-        private static final String NODE_INODE_BLOCKS = "blocks";
-        private static final String NODE_INODE_BLOCK = String.format("%s.block", NODE_INODE_BLOCKS);
+        private static final int PERM_ID_MASK = (1 << 24) - 1;
+        private static final int PERM_USER_OFFSET = 40;
+        private static final int PERM_GROUP_OFFSET = 16;
 
         private long id;
         private EInodeType type;
@@ -288,62 +221,37 @@ public class NameNodeReplicator {
         private long preferredBlockSize;
         private String user;
         private String group;
-        private DFSInode parent = null;
-        private Map<Long, DFSInode> children;
 
         private List<DFSInodeBlock> blocks;
 
-        public DFSInode addChild(@NonNull DFSInode child) {
-            if (children == null) {
-                children = new HashMap<>();
+        public DFSInode read(@NonNull FsImageProto.INodeSection.INode node,
+                             @NonNull Map<Integer, String> stringTable) throws Exception {
+            id = node.getId();
+            type = EInodeType.valueOf(node.getType().name());
+            name = node.getName().toStringUtf8();
+            if (node.hasFile()) {
+                FsImageProto.INodeSection.INodeFile file = node.getFile();
+                mTime = file.getModificationTime();
+                aTime = file.getAccessTime();
+                preferredBlockSize = file.getPreferredBlockSize();
+                readPermission(file.getPermission(), stringTable);
+                if (file.getBlocksCount() > 0) {
+                    blocks = new ArrayList<>(file.getBlocksCount());
+                    for (HdfsProtos.BlockProto bp : file.getBlocksList()) {
+                        blocks.add(new DFSInodeBlock().read(bp));
+                    }
+                    blocks.sort(new DFSInodeBlockComparator());
+                }
+            } else if (node.hasDirectory()) {
+                mTime = node.getDirectory().getModificationTime();
+                readPermission(node.getDirectory().getPermission(), stringTable);
             }
-            children.put(child.id, child);
-            child.parent = this;
-
             return this;
         }
 
-        public String path() {
-            if (parent == null) return "";
-            String pp = parent.path();
-            return String.format("%s/%s", pp, name);
-        }
-
-        public DFSInode read(@NonNull HierarchicalConfiguration<ImmutableNode> node) throws Exception {
-            id = node.getLong(NODE_INODE_ID);
-            String s = node.getString(NODE_INODE_TYPE);
-            if (Strings.isNullOrEmpty(s)) {
-                throw new Exception(String.format("Missing Inode field. [field=%s]", NODE_INODE_TYPE));
-            }
-            type = EInodeType.valueOf(s);
-            name = node.getString(NODE_INODE_NAME);
-            if (node.containsKey(NODE_INODE_MTIME)) {
-                mTime = node.getLong(NODE_INODE_MTIME);
-            }
-            if (node.containsKey(NODE_INODE_ATIME)) {
-                aTime = node.getLong(NODE_INODE_ATIME);
-            }
-            if (node.containsKey(NODE_INODE_BS)) {
-                preferredBlockSize = node.getLong(NODE_INODE_BS);
-            }
-            s = node.getString(NODE_INODE_PERM);
-            if (!Strings.isNullOrEmpty(s)) {
-                String[] parts = s.split(":");
-                if (parts.length == 3) {
-                    user = parts[0];
-                    group = parts[1];
-                }
-            }
-            List<HierarchicalConfiguration<ImmutableNode>> nodes = node.configurationsAt(NODE_INODE_BLOCK);
-            if (nodes != null && !nodes.isEmpty()) {
-                blocks = new ArrayList<>();
-                for (HierarchicalConfiguration<ImmutableNode> nn : nodes) {
-                    DFSInodeBlock block = new DFSInodeBlock().read(nn);
-                    blocks.add(block);
-                }
-                blocks.sort(new DFSInodeBlockComparator());
-            }
-            return this;
+        private void readPermission(long permission, Map<Integer, String> stringTable) {
+            user = stringTable.get((int) ((permission >> PERM_USER_OFFSET) & PERM_ID_MASK));
+            group = stringTable.get((int) ((permission >> PERM_GROUP_OFFSET) & PERM_ID_MASK));
         }
     }
 
@@ -351,18 +259,14 @@ public class NameNodeReplicator {
     @Setter
     @Accessors(fluent = true)
     public static class DFSInodeBlock {
-        private static final String NODE_BLOCK_ID = "id";
-        private static final String NODE_BLOCK_NB = "numBytes";
-        private static final String NODE_BLOCK_GEN = "genstamp";
-
         private long id;
         private long numBytes;
         private long genStamp;
 
-        public DFSInodeBlock read(@NonNull HierarchicalConfiguration<ImmutableNode> node) throws Exception {
-            id = node.getLong(NODE_BLOCK_ID);
-            numBytes = node.getLong(NODE_BLOCK_NB);
-            genStamp = node.getLong(NODE_BLOCK_GEN);
+        public DFSInodeBlock read(@NonNull HdfsProtos.BlockProto block) {
+            id = block.getBlockId();
+            numBytes = block.getNumBytes();
+            genStamp = block.getGenStamp();
 
             return this;
         }
@@ -416,22 +320,4 @@ public class NameNodeReplicator {
         }
     }
 
-    @Getter
-    @Setter
-    @Accessors(fluent = true)
-    public static class DFSDirectory {
-        private static final String NODE_DIR_ID = "parent";
-        private static final String NODE_DIR_CHILD = "child";
-
-        private long id;
-        private List<Long> children;
-
-        public DFSDirectory read(@NonNull HierarchicalConfiguration<ImmutableNode> node) throws Exception {
-            id = node.getLong(NODE_DIR_ID);
-            if (node.containsKey(NODE_DIR_CHILD)) {
-                children = node.getList(Long.class, NODE_DIR_CHILD);
-            }
-            return this;
-        }
-    }
 }
@@ -0,0 +1,184 @@
+package ai.sapper.hcdc.agents.namenode.main;
+
+import ai.sapper.hcdc.agents.common.NameNodeEnv;
+import ai.sapper.hcdc.agents.common.ZkStateManager;
+import ai.sapper.hcdc.agents.namenode.EditLogProcessor;
+import ai.sapper.hcdc.agents.namenode.SourceChangeDeltaProcessor;
+import ai.sapper.hcdc.agents.pipeline.CDCChangeDeltaProcessor;
+import ai.sapper.hcdc.common.ConfigReader;
+import ai.sapper.hcdc.common.model.services.EConfigFileType;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.parquet.Strings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fused pipeline: runs the edit log, source change and CDC stages in a single process.
+ * <p>
+ * The stages are connected by in-process queues (connectionType Memory) carrying the parsed
+ * messages, so the intermediate topics (and their serialize/publish/consume/parse cycles) are
+ * not used. Each stage keeps its own module/instance state, as in the standalone runners.
+ * The source stage only checkpoints its state once the CDC stage has acknowledged the
+ * messages it was sent, and the edit log stage restarts from the checkpoint of the source
+ * stage, so the messages in memory are replayed after a restart.
+ */
+@Getter
+@Setter
+public class PipelineRunner {
+    @Parameter(names = {"--config", "-c"}, required = true, description = "Path to the configuration file.")
+    private String configfile;
+    @Parameter(names = {"--type", "-t"}, description = "Configuration file type. (File, Resource, Remote)")
+    private String configSource;
+    private EConfigFileType fileSource = EConfigFileType.File;
+    @Setter(AccessLevel.NONE)
+    private HierarchicalConfiguration<ImmutableNode> config;
+    @Setter(AccessLevel.NONE)
+    private PipelineConfig pipelineConfig;
+    @Setter(AccessLevel.NONE)
+    private EditLogProcessor editLogProcessor;
+    @Setter(AccessLevel.NONE)
+    private SourceChangeDeltaProcessor sourceProcessor;
+    @Setter(AccessLevel.NONE)
+    private CDCChangeDeltaProcessor cdcProcessor;
+    @Setter(AccessLevel.NONE)
+    private final List<Thread> runners = new ArrayList<>();
+
+    public void init() throws Exception {
+        try {
+            Preconditions.checkState(!Strings.isNullOrEmpty(configfile));
+            if (!Strings.isNullOrEmpty(configSource)) {
+                fileSource = EConfigFileType.parse(configSource);
+            }
+            Preconditions.checkNotNull(fileSource);
+            config = ConfigReader.read(configfile, fileSource);
+            NameNodeEnv.setup(config);
+
+            pipelineConfig = new PipelineConfig(NameNodeEnv.get().configNode());
+            pipelineConfig.read();
+
+            ZkStateManager sourceState = NameNodeEnv.get().createStateManager(pipelineConfig.sourceModule,
+                    pipelineConfig.sourceInstance);
+            if (!sourceState.cacheEnabled()) {
+                throw new ConfigurationException("Fused pipeline requires the file state cache (fileCache.size).");
+            }
+            ZkStateManager cdcState = NameNodeEnv.get().createStateManager(pipelineConfig.cdcModule,
+                    pipelineConfig.cdcInstance);
+
+            cdcProcessor = new CDCChangeDeltaProcessor(cdcState);
+            cdcProcessor.init(NameNodeEnv.get().configNode(), NameNodeEnv.connectionManager());
+            sourceProcessor = new SourceChangeDeltaProcessor(sourceState);
+            sourceProcessor.init(NameNodeEnv.get().configNode(), NameNodeEnv.connectionManager());
+            editLogProcessor = new EditLogProcessor(NameNodeEnv.stateManager());
+            editLogProcessor.init(NameNodeEnv.get().configNode(), NameNodeEnv.connectionManager());
+
+            // The edit log stage has no state of its own: restart from the checkpoint of the source stage.
+            long txId = sourceState.agentTxState().getProcessedTxId();
+            if (NameNodeEnv.stateManager().agentTxState().getProcessedTxId() != txId) {
+                DefaultLogger.LOG.info(String.format("Aligning edit log stage with source stage. [from TXID=%d][to TXID=%d]",
+                        NameNodeEnv.stateManager().agentTxState().getProcessedTxId(), txId));
+                NameNodeEnv.stateManager().resetTo(txId);
+            }
+        } catch (Throwable t) {
+            NameNodeEnv.get().error(t);
+            throw t;
+        }
+    }
+
+    public void run() throws Exception {
+        try {
+            runners.add(start("pipeline-cdc", cdcProcessor));
+            runners.add(start("pipeline-source", sourceProcessor));
+            runners.add(start("pipeline-edits", editLogProcessor));
+        } catch (Throwable t) {
+            NameNodeEnv.get().error(t);
+            throw t;
+        }
+    }
+
+    /**
+     * Run the stage, a stage that stops stops the whole pipeline.
+     */
+    private Thread start(String name, Runnable stage) {
+        Thread runner = new Thread(() -> {
+            stage.run();
+            if (NameNodeEnv.get().state().isAvailable()) {
+                NameNodeEnv.get().error(new Exception(String.format("Pipeline stage stopped. [stage=%s]", name)));
+            }
+        }, name);
+        runner.start();
+        return runner;
+    }
+
+    public void join() throws InterruptedException {
+        for (Thread runner : runners) {
+            runner.join();
+        }
+    }
+
+    public static void main(String[] args) {
+        try {
+            PipelineRunner runner = new PipelineRunner();
+            JCommander.newBuilder().addObject(runner).build().parse(args);
+            runner.init();
+            runner.run();
+            runner.join();
+        } catch (Throwable t) {
+            t.printStackTrace();
+            DefaultLogger.LOG.debug(DefaultLogger.stacktrace(t));
+            DefaultLogger.LOG.error(t.getLocalizedMessage());
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class PipelineConfig extends ConfigReader {
+        private static final String __CONFIG_PATH = "pipeline";
+        private static final String CONFIG_SOURCE_MODULE = "source.module";
+        private static final String CONFIG_SOURCE_INSTANCE = "source.instance";
+        private static final String CONFIG_CDC_MODULE = "cdc.module";
+        private static final String CONFIG_CDC_INSTANCE = "cdc.instance";
+
+        private String sourceModule;
+        private String sourceInstance;
+        private String cdcModule;
+        private String cdcInstance;
+
+        public PipelineConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
+            super(config, __CONFIG_PATH);
+        }
+
+        public void read() throws ConfigurationException {
+            sourceModule = get().getString(CONFIG_SOURCE_MODULE);
+            if (Strings.isNullOrEmpty(sourceModule)) {
+                sourceModule = NameNodeEnv.get().module();
+            }
+            sourceInstance = get().getString(CONFIG_SOURCE_INSTANCE);
+            if (Strings.isNullOrEmpty(sourceInstance)) {
+                throw new ConfigurationException(String.format("Pipeline Configuration Error: missing [%s]", CONFIG_SOURCE_INSTANCE));
+            }
+            cdcModule = get().getString(CONFIG_CDC_MODULE);
+            if (Strings.isNullOrEmpty(cdcModule)) {
+                throw new ConfigurationException(String.format("Pipeline Configuration Error: missing [%s]", CONFIG_CDC_MODULE));
+            }
+            if (cdcModule.compareTo(sourceModule) == 0) {
+                throw new ConfigurationException(String.format("Pipeline Configuration Error: source and CDC stages must use different modules. [module=%s]", cdcModule));
+            }
+            cdcInstance = get().getString(CONFIG_CDC_INSTANCE);
+            if (Strings.isNullOrEmpty(cdcInstance)) {
+                throw new ConfigurationException(String.format("Pipeline Configuration Error: missing [%s]", CONFIG_CDC_INSTANCE));
+            }
+        }
+    }
+}
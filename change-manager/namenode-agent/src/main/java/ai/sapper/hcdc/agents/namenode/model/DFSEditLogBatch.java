@@ -73,4 +73,31 @@ public class DFSEditLogBatch {
         }
     }
 
+    /**
+     * Get the batch transactions with runs of consecutive ignore transactions merged
+     * into single (range) ignore transactions.
+     *
+     * @return - Compacted transaction list
+     */
+    public List<DFSTransactionType<?>> compact() {
+        List<DFSTransactionType<?>> compacted = new ArrayList<>(transactions.size());
+        DFSTransactionType.DFSIgnoreTxType range = null;
+        for (DFSTransactionType<?> tx : transactions) {
+            if (tx instanceof DFSTransactionType.DFSIgnoreTxType) {
+                if (range != null && range.lastTxId() + 1 == tx.id()) {
+                    range.endTxId(tx.lastTxId());
+                    continue;
+                }
+                DFSTransactionType.DFSIgnoreTxType itx = (DFSTransactionType.DFSIgnoreTxType) tx;
+                range = new DFSTransactionType.DFSIgnoreTxType();
+                range.opCode(itx.opCode()).endTxId(itx.endTxId()).id(itx.id()).op(itx.op()).timestamp(itx.timestamp());
+                compacted.add(range);
+            } else {
+                range = null;
+                compacted.add(tx);
+            }
+        }
+        return compacted;
+    }
+
 }
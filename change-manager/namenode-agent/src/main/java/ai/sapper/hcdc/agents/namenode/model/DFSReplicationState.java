@@ -1,7 +1,10 @@
 package ai.sapper.hcdc.agents.namenode.model;
 
 import ai.sapper.hcdc.common.model.SchemaEntity;
+import ai.sapper.hcdc.common.model.DFSReplicationStateData;
+import ai.sapper.hcdc.common.model.SchemaEntityData;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 
 @Getter
@@ -18,4 +21,44 @@ public class DFSReplicationState {
     private boolean snapshotReady = false;
     private long lastReplicationTime;
     private long updateTime = 0;
+
+    public DFSReplicationStateData convertToProto() {
+        DFSReplicationStateData.Builder builder = DFSReplicationStateData.newBuilder()
+                .setInode(inode)
+                .setHdfsPath(hdfsPath)
+                .setZkPath(zkPath)
+                .setEnabled(enabled)
+                .setSnapshotTxId(snapshotTxId)
+                .setLastReplicatedTx(lastReplicatedTx)
+                .setSnapshotTime(snapshotTime)
+                .setSnapshotReady(snapshotReady)
+                .setLastReplicationTime(lastReplicationTime)
+                .setUpdateTime(updateTime);
+        if (entity != null) {
+            SchemaEntityData.Builder eb = SchemaEntityData.newBuilder();
+            if (entity.getDomain() != null) eb.setDomain(entity.getDomain());
+            if (entity.getEntity() != null) eb.setEntity(entity.getEntity());
+            builder.setEntity(eb.build());
+        }
+        return builder.build();
+    }
+
+    public DFSReplicationState parseFrom(@NonNull DFSReplicationStateData proto) {
+        inode = proto.getInode();
+        hdfsPath = proto.getHdfsPath();
+        zkPath = proto.getZkPath();
+        enabled = proto.getEnabled();
+        snapshotTxId = proto.getSnapshotTxId();
+        lastReplicatedTx = proto.getLastReplicatedTx();
+        snapshotTime = proto.getSnapshotTime();
+        snapshotReady = proto.getSnapshotReady();
+        lastReplicationTime = proto.getLastReplicationTime();
+        updateTime = proto.getUpdateTime();
+        if (proto.hasEntity()) {
+            entity = new SchemaEntity();
+            if (proto.getEntity().hasDomain()) entity.setDomain(proto.getEntity().getDomain());
+            if (proto.getEntity().hasEntity()) entity.setEntity(proto.getEntity().getEntity());
+        }
+        return this;
+    }
 }
@@ -1,12 +1,8 @@
 package ai.sapper.hcdc.agents.namenode.model;
 
 import ai.sapper.hcdc.agents.common.DFSAgentError;
-import ai.sapper.hcdc.agents.common.NameNodeEnv;
-import ai.sapper.hcdc.common.messaging.ChangeDeltaMessage;
 import ai.sapper.hcdc.common.model.*;
 import com.google.common.base.Preconditions;
-import com.google.common.base.Strings;
-import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import lombok.Getter;
 import lombok.NonNull;
@@ -14,7 +10,6 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 
-import java.io.InvalidClassException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -75,6 +70,13 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
         return (int) (id - o.id);
     }
 
+    /**
+     * @return - Last transaction ID covered by this transaction.
+     */
+    public long lastTxId() {
+        return id;
+    }
+
     public DFSTransaction getTransactionProto() {
         return DFSTransaction.newBuilder().setTransactionId(id).setOp(op).setTimestamp(timestamp).build();
     }
@@ -91,34 +93,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
 
     public abstract void parseFrom(T proto) throws DFSAgentError;
 
-    public abstract ChangeDeltaMessage getMessage() throws DFSAgentError;
-
-
-    /**
-     * @param message
-     * @throws DFSAgentError
-     */
-    public static DFSTransactionType<?> parseProtoFrom(byte[] message) throws DFSAgentError {
-        try {
-            Preconditions.checkArgument(message != null && message.length > 0);
-            DFSChangeDelta delta = DFSChangeDelta.parseFrom(message);
-            if (Strings.isNullOrEmpty(delta.getType())) {
-                throw new InvalidProtocolBufferException("NULL/Empty field. [type]");
-            }
-            Class<?> cls = Class.forName(delta.getType());
-            Object obj = cls.newInstance();
-            if (!(obj instanceof DFSTransactionType)) {
-                throw new InvalidClassException(String.format("Specified type is not a valid transaction type. [type=%s]", cls.getCanonicalName()));
-            }
-            DFSTransactionType<?> data = (DFSTransactionType<?>) obj;
-            data.parseFrom(delta.getBody().toByteArray());
-
-            return data;
-        } catch (Exception ex) {
-            throw new DFSAgentError(ex);
-        }
-    }
-
     public static class SortByTxId implements Comparator<DFSTransactionType<?>> {
 
         /**
@@ -282,29 +256,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
                 lastBlock.parse(proto.getLastBlock());
             }
         }
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSAddBlock proto = convertToProto();
-
-            message.setKey(proto.getFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
-
     }
 
     @Getter
@@ -381,28 +332,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
                 }
             }
         }
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSAddFile proto = convertToProto();
-
-            message.setKey(proto.getFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
     }
 
     @Getter
@@ -457,28 +386,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
 
             this.newBlock = proto.getNewBlock();
         }
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSAppendFile proto = convertToProto();
-
-            message.setKey(proto.getFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
     }
 
     @Getter
@@ -561,29 +468,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
                 }
             }
         }
-
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSCloseFile proto = convertToProto();
-
-            message.setKey(proto.getFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
     }
 
     @Getter
@@ -637,29 +521,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
 
             timestamp(proto.getTimestamp());
         }
-
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSDeleteFile proto = convertToProto();
-
-            message.setKey(proto.getFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
     }
 
     @Getter
@@ -721,29 +582,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
             block = new DFSBlockType();
             block.parse(proto.getBlock());
         }
-
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSTruncateBlock proto = convertToProto();
-
-            message.setKey(proto.getFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
     }
 
     @Getter
@@ -806,29 +644,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
                 blocks.add(bt);
             }
         }
-
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSUpdateBlocks proto = convertToProto();
-
-            message.setKey(proto.getFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
     }
 
     @Getter
@@ -893,29 +708,6 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
             length = proto.getLength();
             opts = proto.getOpts();
         }
-
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSRenameFile proto = convertToProto();
-
-            message.setKey(proto.getDestFile().getPath());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity(proto.getDestFile().getPath());
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
-        }
     }
 
     @Getter
@@ -924,6 +716,15 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
     @ToString
     public static class DFSIgnoreTxType extends DFSTransactionType<DFSIgnoreTx> {
         private String opCode;
+        private long endTxId = -1;
+
+        /**
+         * @return - Last transaction ID of the ignored range.
+         */
+        @Override
+        public long lastTxId() {
+            return Math.max(id(), endTxId);
+        }
 
         /**
          * @return
@@ -933,7 +734,11 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
         public DFSIgnoreTx convertToProto() throws DFSAgentError {
             DFSIgnoreTx.Builder builder = DFSIgnoreTx.newBuilder();
 
-            return builder.setTransaction(getTransactionProto()).setOpCode(opCode).build();
+            builder.setTransaction(getTransactionProto()).setOpCode(opCode);
+            if (endTxId > id()) {
+                builder.setEndTransactionId(endTxId);
+            }
+            return builder.build();
         }
 
         /**
@@ -959,28 +764,9 @@ public abstract class DFSTransactionType<T> implements Comparable<DFSTransaction
             Preconditions.checkArgument(proto.hasTransaction());
             this.parseFrom(proto.getTransaction());
             this.opCode = proto.getOpCode();
-        }
-
-        /**
-         * @return
-         * @throws DFSAgentError
-         */
-        @Override
-        public ChangeDeltaMessage getMessage() throws DFSAgentError {
-            ChangeDeltaMessage message = new ChangeDeltaMessage();
-            DFSIgnoreTx proto = convertToProto();
-
-            message.setKey(NameNodeEnv.get().ignoreTnxKey());
-            DFSChangeDelta.Builder builder = DFSChangeDelta.newBuilder();
-            builder.setNamespace(NameNodeEnv.get().source());
-            builder.setType(proto.getClass().getCanonicalName());
-            builder.setEntity("");
-            builder.setTimestamp(System.currentTimeMillis());
-            builder.setTxId(String.valueOf(proto.getTransaction().getTransactionId()));
-            builder.setBody(ByteString.copyFrom(proto.toByteArray()));
-            message.setData(builder.build());
-
-            return message;
+            if (proto.hasEndTransactionId()) {
+                this.endTxId = proto.getEndTransactionId();
+            }
         }
     }
 }
@@ -1,6 +1,8 @@
 package ai.sapper.hcdc.agents.namenode.model;
 
+import ai.sapper.hcdc.common.model.NameNodeTxStateData;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -11,4 +13,19 @@ public class NameNodeTxState {
     private String namespace;
     private long updatedTime;
     private long processedTxId = 0;
+
+    public NameNodeTxStateData convertToProto() {
+        return NameNodeTxStateData.newBuilder()
+                .setNamespace(namespace)
+                .setUpdatedTime(updatedTime)
+                .setProcessedTxId(processedTxId)
+                .build();
+    }
+
+    public NameNodeTxState parseFrom(@NonNull NameNodeTxStateData proto) {
+        namespace = proto.getNamespace();
+        updatedTime = proto.getUpdatedTime();
+        processedTxId = proto.getProcessedTxId();
+        return this;
+    }
 }
@@ -18,6 +18,8 @@ import ai.sapper.hcdc.core.model.BlockTnxDelta;
 import ai.sapper.hcdc.core.model.DFSBlockState;
 import ai.sapper.hcdc.core.model.DFSFileState;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
@@ -27,7 +29,12 @@ import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Getter
 @Accessors(fluent = true)
@@ -35,6 +42,7 @@ public class CDCChangeDeltaProcessor extends ChangeDeltaProcessor {
     private static Logger LOG = LoggerFactory.getLogger(CDCChangeDeltaProcessor.class.getCanonicalName());
 
     private CDCTransactionProcessor processor;
+    private ExecutorService[] workers;
 
     private long receiveBatchTimeout = 1000;
 
@@ -50,6 +58,16 @@ public class CDCChangeDeltaProcessor extends ChangeDeltaProcessor {
                 .withSenderQueue(sender())
                 .withStateManager(stateManager())
                 .withErrorQueue(errorSender());
+        int count = ((CDCChangeDeltaProcessorConfig) processorConfig()).workers();
+        if (count > 1) {
+            workers = new ExecutorService[count];
+            for (int ii = 0; ii < count; ii++) {
+                workers[ii] = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                        .setNameFormat(String.format("cdc-worker-%d", ii))
+                        .setDaemon(true)
+                        .build());
+            }
+        }
         return this;
     }
 
@@ -77,37 +95,181 @@ public class CDCChangeDeltaProcessor extends ChangeDeltaProcessor {
                     continue;
                 }
                 LOG.debug(String.format("Received messages. [count=%d]", batch.size()));
-                for (MessageObject<String, DFSChangeDelta> message : batch) {
-                    stateManager().replicationLock().lock();
-                    try {
+                if (workers != null) {
+                    processParallel(batch);
+                } else {
+                    for (MessageObject<String, DFSChangeDelta> message : batch) {
+                        stateManager().replicationLock().lock();
                         try {
-                            long txId = process(message);
-                            if (txId > 0) {
-                                if (message.mode() == MessageObject.MessageMode.New) {
-                                    stateManager().update(txId);
-                                    LOG.debug(String.format("Processed transaction delta. [TXID=%d]", txId));
-                                } else if (message.mode() == MessageObject.MessageMode.Snapshot){
-                                    if (stateManager().agentTxState().getProcessedTxId() < txId) {
-                                        stateManager().update(txId);
-                                        LOG.debug(String.format("Processed transaction delta. [TXID=%d]", txId));
-                                    }
-                                }
-                            }
-                        } catch (InvalidMessageError ie) {
-                            LOG.error("Error processing message.", ie);
-                            DefaultLogger.stacktrace(LOG, ie);
-                            errorSender().send(message);
+                            processMessage(message);
+                        } finally {
+                            stateManager().replicationLock().unlock();
                         }
-                        receiver().ack(message.id());
-                    } finally {
-                        stateManager().replicationLock().unlock();
                     }
                 }
+                flush();
+                stateManager().replicationLock().lock();
+                try {
+                    checkpoint();
+                } finally {
+                    stateManager().replicationLock().unlock();
+                }
             }
             LOG.warn(String.format("Delta Change Processor thread stopped. [env state=%s]", NameNodeEnv.get().state().state().name()));
         } catch (Throwable t) {
             LOG.error("Delta Change Processor terminated with error", t);
             DefaultLogger.stacktrace(LOG, t);
+        } finally {
+            if (workers != null) {
+                for (ExecutorService worker : workers) {
+                    worker.shutdownNow();
+                }
+            }
+        }
+    }
+
+    private void processMessage(MessageObject<String, DFSChangeDelta> message) throws Exception {
+        try {
+            long txId = process(message);
+            processed(message, txId);
+        } catch (InvalidMessageError ie) {
+            LOG.error("Error processing message.", ie);
+            DefaultLogger.stacktrace(LOG, ie);
+            errorSender().send(message);
+        }
+        ack(message.id());
+    }
+
+    private void processed(MessageObject<String, DFSChangeDelta> message, long txId) throws Exception {
+        if (txId > 0) {
+            if (message.mode() == MessageObject.MessageMode.New) {
+                stateManager().update(txId);
+                LOG.debug(String.format("Processed transaction delta. [TXID=%d]", txId));
+            } else if (message.mode() == MessageObject.MessageMode.Snapshot) {
+                if (stateManager().agentTxState().getProcessedTxId() < txId) {
+                    stateManager().update(txId);
+                    LOG.debug(String.format("Processed transaction delta. [TXID=%d]", txId));
+                }
+            }
+        }
+    }
+
+    /**
+     * Process the batch on the worker threads. Messages are sharded by the HDFS file path,
+     * so changes to a file are applied in order while unrelated files are processed in parallel.
+     * Sequence checks are done in batch order on the calling thread, and the processed transaction
+     * ID/acks are only advanced over the contiguous prefix of completed messages.
+     * Messages that span files (renames) or carry no path are processed after all in-flight messages complete.
+     * Workers send their output as they complete, so the next stage can receive the transactions out of order.
+     * <p>
+     * Note: the ZkStateManager operations are serialized on the state manager, only the message parsing,
+     * filtering and sending runs in parallel (most of the gain requires the file state cache).
+     *
+     * @param batch - Received message batch
+     * @throws Exception
+     */
+    private void processParallel(List<MessageObject<String, DFSChangeDelta>> batch) throws Exception {
+        stateManager().replicationLock().lock();
+        try {
+            List<PendingMessage> pending = new ArrayList<>();
+            long lastTxId = stateManager().agentTxState().getProcessedTxId();
+            for (MessageObject<String, DFSChangeDelta> message : batch) {
+                if (isBarrier(message)) {
+                    complete(pending);
+                    processMessage(message);
+                    lastTxId = stateManager().agentTxState().getProcessedTxId();
+                    continue;
+                }
+                long txId;
+                try {
+                    if (!isValidMessage(message)) {
+                        throw new InvalidMessageError(message.id(),
+                                String.format("Invalid Message mode. [id=%s][mode=%s]", message.id(), message.mode().name()));
+                    }
+                    txId = processor.checkMessageSequence(message, lastTxId);
+                } catch (InvalidMessageError ie) {
+                    complete(pending);
+                    LOG.error("Error processing message.", ie);
+                    DefaultLogger.stacktrace(LOG, ie);
+                    errorSender().send(message);
+                    ack(message.id());
+                    continue;
+                } catch (Exception ex) {
+                    complete(pending);
+                    throw ex;
+                }
+                if (message.mode() == MessageObject.MessageMode.New) {
+                    lastTxId = txId;
+                }
+                Future<?> future = workers[shard(message)].submit(() -> {
+                    processor.processTxMessage(message, txId);
+                    return null;
+                });
+                pending.add(new PendingMessage(message, txId, future));
+            }
+            complete(pending);
+        } finally {
+            stateManager().replicationLock().unlock();
+        }
+    }
+
+    /**
+     * Wait for all the dispatched messages to complete, then update the processed transaction ID
+     * and acknowledge the messages in batch order. State is only advanced once no worker is running,
+     * so a checkpoint never captures partially applied changes. On a fatal error the messages
+     * following the failed one are not acknowledged, and the error is re-thrown.
+     */
+    private void complete(List<PendingMessage> pending) throws Exception {
+        for (PendingMessage pm : pending) {
+            try {
+                pm.future.get();
+            } catch (ExecutionException ee) {
+                pm.error = ee.getCause();
+            }
+        }
+        try {
+            for (PendingMessage pm : pending) {
+                if (pm.error == null) {
+                    processed(pm.message, pm.txId);
+                } else if (pm.error instanceof InvalidMessageError) {
+                    LOG.error("Error processing message.", pm.error);
+                    DefaultLogger.stacktrace(LOG, pm.error);
+                    errorSender().send(pm.message);
+                } else if (pm.error instanceof Exception) {
+                    throw (Exception) pm.error;
+                } else {
+                    throw new Exception(pm.error);
+                }
+                ack(pm.message.id());
+            }
+        } finally {
+            pending.clear();
+        }
+    }
+
+    private int shard(MessageObject<String, DFSChangeDelta> message) {
+        String key = message.value().getEntity();
+        if (Strings.isNullOrEmpty(key)) {
+            key = message.value().getNamespace();
+        }
+        return ((key.hashCode() & Integer.MAX_VALUE) % workers.length);
+    }
+
+    private boolean isBarrier(MessageObject<String, DFSChangeDelta> message) {
+        return (Strings.isNullOrEmpty(message.value().getEntity())
+                || ChangeDeltaSerDe.isType(message.value(), DFSChangeDelta.DeltaType.RENAME_FILE));
+    }
+
+    private static class PendingMessage {
+        private final MessageObject<String, DFSChangeDelta> message;
+        private final long txId;
+        private final Future<?> future;
+        private Throwable error;
+
+        private PendingMessage(MessageObject<String, DFSChangeDelta> message, long txId, Future<?> future) {
+            this.message = message;
+            this.txId = txId;
+            this.future = future;
         }
     }
 
@@ -133,16 +295,30 @@ public class CDCChangeDeltaProcessor extends ChangeDeltaProcessor {
                     || message.mode() == MessageObject.MessageMode.Snapshot);
         }
         if (ret) {
-            ret = message.value().hasTxId();
+            ret = ChangeDeltaSerDe.hasTxId(message.value());
         }
         return ret;
     }
 
+    @Getter
+    @Accessors(fluent = true)
     public static class CDCChangeDeltaProcessorConfig extends ChangeDeltaProcessorConfig {
         public static final String __CONFIG_PATH = "processor.cdc";
+        public static final String CONFIG_WORKERS = "workers";
+
+        private int workers = 1;
 
         public CDCChangeDeltaProcessorConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
             super(config, __CONFIG_PATH);
         }
+
+        @Override
+        public void read() throws ConfigurationException {
+            super.read();
+            String s = get().getString(CONFIG_WORKERS);
+            if (!Strings.isNullOrEmpty(s)) {
+                workers = Integer.parseInt(s);
+            }
+        }
     }
 }
@@ -2,7 +2,6 @@ package ai.sapper.hcdc.agents.pipeline;
 
 import ai.sapper.hcdc.agents.common.InvalidTransactionError;
 import ai.sapper.hcdc.agents.common.TransactionProcessor;
-import ai.sapper.hcdc.agents.namenode.HDFSSnapshotProcessor;
 import ai.sapper.hcdc.agents.namenode.model.DFSReplicationState;
 import ai.sapper.hcdc.common.model.*;
 import ai.sapper.hcdc.core.messaging.ChangeDeltaSerDe;
@@ -23,7 +22,13 @@ public class CDCTransactionProcessor extends TransactionProcessor {
         return this;
     }
 
-    private void sendIgnoreTx(MessageObject<String, DFSChangeDelta> message, Object data) throws Exception {
+    @Override
+    protected void send(MessageObject<String, DFSChangeDelta> message) throws Exception {
+        sender.send(message);
+    }
+
+    @Override
+    protected void sendIgnoreTx(MessageObject<String, DFSChangeDelta> message, Object data) throws Exception {
         DFSTransaction tnx = extractTransaction(data);
         if (tnx != null) {
             MessageObject<String, DFSChangeDelta> im = ChangeDeltaSerDe.createIgnoreTx(message.value().getNamespace(),
@@ -387,6 +392,9 @@ public class CDCTransactionProcessor extends TransactionProcessor {
      */
     @Override
     public void processRenameFileTxMessage(DFSRenameFile data, MessageObject<String, DFSChangeDelta> message, long txId) throws Exception {
+        if (processRenameDirectory(data, message, txId)) {
+            return;
+        }
         DFSFileState fileState = stateManager().get(data.getSrcFile().getPath());
         if (fileState == null || fileState.checkDeleted()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
@@ -399,42 +407,20 @@ public class CDCTransactionProcessor extends TransactionProcessor {
                     String.format("NameNode Replica out of sync, file not marked for update. [path=%s]",
                             data.getSrcFile().getPath()));
         }
-        fileState = stateManager().markDeleted(data.getSrcFile().getPath());
         EFileState state = (fileState.getState() == EFileState.Error ? fileState.getState() : EFileState.New);
-        DFSFileState nfs = stateManager().create(data.getDestFile().getPath(),
-                data.getDestFile().getInodeId(),
-                fileState.getCreatedTime(),
-                fileState.getBlockSize(),
-                state,
-                txId);
-        nfs.setBlocks(fileState.getBlocks());
-        nfs.setNumBlocks(fileState.getNumBlocks());
-        nfs.setDataSize(fileState.getDataSize());
+        DFSFileState nfs = stateManager().rename(data.getSrcFile().getPath(),
+                data.getDestFile().getPath(),
+                data.getOpts() == DFSRenameFile.RenameOpts.OVERWRITE);
+        nfs.setState(state);
+        nfs.setLastTnxId(txId);
         nfs.setUpdatedTime(data.getTransaction().getTimestamp());
 
         nfs = stateManager().update(nfs);
 
-        DFSReplicationState rState = stateManager().get(fileState.getId());
-        if (rState != null) {
-            stateManager().delete(rState.getInode());
+        if (replicateRenamed(nfs, message, txId)) {
+            return;
         }
-        SchemaEntity schemaEntity = isRegistered(nfs.getHdfsFilePath());
-        if (schemaEntity != null) {
-            rState = stateManager().create(nfs.getId(), nfs.getHdfsFilePath(), schemaEntity, true);
-            rState.setSnapshotTxId(nfs.getLastTnxId());
-            rState.setSnapshotTime(System.currentTimeMillis());
-            rState.setSnapshotReady(true);
-
-            stateManager().update(rState);
-            DFSAddFile addFile = HDFSSnapshotProcessor.generateSnapshot(nfs, true);
-            MessageObject<String, DFSChangeDelta> m = ChangeDeltaSerDe.create(message.value().getNamespace(),
-                    addFile,
-                    DFSAddFile.class,
-                    rState.getEntity().getDomain(),
-                    rState.getEntity().getEntity(),
-                    MessageObject.MessageMode.New);
-            sender.send(m);
-        } else if (nfs.hasError()) {
+        if (nfs.hasError()) {
             throw new InvalidTransactionError(DFSError.ErrorCode.SYNC_STOPPED,
                     nfs.getHdfsFilePath(),
                     String.format("FileSystem sync error. [path=%s]", nfs.getHdfsFilePath()));
@@ -2,14 +2,21 @@ package ai.sapper.hcdc.agents.pipeline;
 
 import ai.sapper.hcdc.agents.common.ChangeDeltaProcessor;
 import ai.sapper.hcdc.agents.common.NameNodeEnv;
+import ai.sapper.hcdc.agents.common.TransactionProcessor;
+import ai.sapper.hcdc.agents.common.TxLowWaterMark;
 import ai.sapper.hcdc.agents.common.ZkStateManager;
 import ai.sapper.hcdc.common.model.DFSChangeDelta;
 import ai.sapper.hcdc.common.utils.DefaultLogger;
+import ai.sapper.hcdc.core.messaging.ChangeDeltaSerDe;
 import ai.sapper.hcdc.core.messaging.InvalidMessageError;
 import ai.sapper.hcdc.core.messaging.MessageObject;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.experimental.Accessors;
 import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +27,7 @@ public class FileDeltaProcessor extends ChangeDeltaProcessor {
     private static Logger LOG = LoggerFactory.getLogger(FileDeltaProcessor.class);
     private FileTransactionProcessor processor;
     private long receiveBatchTimeout = 1000;
+    private TxLowWaterMark lowWaterMark = null;
 
     public FileDeltaProcessor(@NonNull ZkStateManager stateManager) {
         super(stateManager);
@@ -49,16 +57,23 @@ public class FileDeltaProcessor extends ChangeDeltaProcessor {
                     continue;
                 }
                 LOG.debug(String.format("Received messages. [count=%d]", batch.size()));
+                if (lowWaterMark == null) {
+                    lowWaterMark = new TxLowWaterMark(stateManager().agentTxState().getProcessedTxId(), sequenceWindow());
+                }
                 for (MessageObject<String, DFSChangeDelta> message : batch) {
                     try {
                         long txId = process(message);
                         if (txId > 0) {
                             if (message.mode() == MessageObject.MessageMode.New) {
-                                stateManager().update(txId);
-                                LOG.debug(String.format("Processed transaction delta. [TXID=%d]", txId));
+                                long startTxId = ChangeDeltaSerDe.txId(message.value());
+                                if (lowWaterMark.processed(startTxId, txId)) {
+                                    stateManager().update(lowWaterMark.mark());
+                                }
+                                LOG.debug(String.format("Processed transaction delta. [TXID=%d][MARK=%d]", txId, lowWaterMark.mark()));
                             } else if (message.mode() == MessageObject.MessageMode.Snapshot) {
                                 if (stateManager().agentTxState().getProcessedTxId() < txId) {
-                                    stateManager().update(txId);
+                                    lowWaterMark.reset(txId);
+                                    stateManager().update(lowWaterMark.mark());
                                     LOG.debug(String.format("Processed transaction delta. [TXID=%d]", txId));
                                 }
                             }
@@ -68,8 +83,9 @@ public class FileDeltaProcessor extends ChangeDeltaProcessor {
                         DefaultLogger.stacktrace(LOG, ie);
                         errorSender().send(message);
                     }
-                    receiver().ack(message.id());
+                    ack(message.id());
                 }
+                checkpoint();
             }
             LOG.warn(String.format("Delta Change Processor thread stopped. [env state=%s]", NameNodeEnv.get().state().state().name()));
         } catch (Throwable t) {
@@ -84,13 +100,38 @@ public class FileDeltaProcessor extends ChangeDeltaProcessor {
             throw new InvalidMessageError(message.id(),
                     String.format("Invalid Message mode. [id=%s][mode=%s]", message.id(), message.mode().name()));
         }
-        txId = processor.checkMessageSequence(message);
+        txId = checkMessageSequence(message);
 
         processor.processTxMessage(message, txId);
 
         return txId;
     }
 
+    /**
+     * The CDC stage can send the transactions out of order when it runs parallel workers, so the
+     * sequence is checked against the low-water mark: transactions up to sequence.window ahead of
+     * the mark are accepted, and only the mark is saved as the processed transaction ID.
+     */
+    private long checkMessageSequence(MessageObject<String, DFSChangeDelta> message) throws Exception {
+        long txId = ChangeDeltaSerDe.txId(message.value());
+        long lastTxId = TransactionProcessor.lastTxId(message, txId);
+        if (message.mode() == MessageObject.MessageMode.New) {
+            if (!lowWaterMark.check(txId, lastTxId)) {
+                throw new InvalidMessageError(message.id(),
+                        String.format("Duplicate message: Transaction already processed. [TXID=%d][CURRENT=%d]",
+                                lastTxId, lowWaterMark.mark()));
+            }
+        }
+        return lastTxId;
+    }
+
+    private long sequenceWindow() {
+        if (processorConfig() instanceof FileDeltaProcessorConfig) {
+            return ((FileDeltaProcessorConfig) processorConfig()).sequenceWindow();
+        }
+        return FileDeltaProcessorConfig.DEFAULT_SEQUENCE_WINDOW;
+    }
+
     private boolean isValidMessage(MessageObject<String, DFSChangeDelta> message) {
         boolean ret = false;
         if (message.mode() != null) {
@@ -99,16 +140,31 @@ public class FileDeltaProcessor extends ChangeDeltaProcessor {
                     || message.mode() == MessageObject.MessageMode.Snapshot);
         }
         if (ret) {
-            ret = message.value().hasTxId();
+            ret = ChangeDeltaSerDe.hasTxId(message.value());
         }
         return ret;
     }
 
+    @Getter
+    @Accessors(fluent = true)
     public static class FileDeltaProcessorConfig extends ChangeDeltaProcessorConfig {
         public static final String __CONFIG_PATH = "processor.files";
+        public static final String CONFIG_SEQUENCE_WINDOW = "sequence.window";
+        public static final long DEFAULT_SEQUENCE_WINDOW = 4096;
+
+        private long sequenceWindow = DEFAULT_SEQUENCE_WINDOW;
 
         public FileDeltaProcessorConfig(@NonNull HierarchicalConfiguration<ImmutableNode> config) {
             super(config, __CONFIG_PATH);
         }
+
+        @Override
+        public void read() throws ConfigurationException {
+            super.read();
+            String s = get().getString(CONFIG_SEQUENCE_WINDOW);
+            if (!Strings.isNullOrEmpty(s)) {
+                sequenceWindow = Long.parseLong(s);
+            }
+        }
     }
 }
@@ -0,0 +1,98 @@
+package ai.sapper.hcdc.utils;
+
+import ai.sapper.hcdc.agents.common.NameNodeEnv;
+import ai.sapper.hcdc.common.ConfigReader;
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.common.model.services.EConfigFileType;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import ai.sapper.hcdc.core.messaging.ChangeDeltaCompressor;
+import ai.sapper.hcdc.core.messaging.ChangeDeltaSerDe;
+import ai.sapper.hcdc.core.messaging.HCDCMessagingBuilders;
+import ai.sapper.hcdc.core.messaging.MessageObject;
+import ai.sapper.hcdc.core.messaging.MessageReceiver;
+import ai.sapper.hcdc.core.messaging.MessagingError;
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.configuration2.XMLConfiguration;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Trains the Zstd dictionary used for the change delta record compression, from records read
+ * off an existing change delta queue (see ChangeDeltaCompressor). The receiver does not
+ * acknowledge what it reads, use a connection with its own consumer group.
+ */
+@Getter
+@Setter
+public class CompressionDictionaryTrainer {
+    @Parameter(names = {"--config", "-c"}, required = true, description = "Path to the configuration file.")
+    private String configfile;
+    @Parameter(names = {"--connection", "-n"}, required = true, description = "Name of the connection to read the sample records from.")
+    private String connection;
+    @Parameter(names = {"--type", "-t"}, description = "Connection type (Kafka, Log, Memory).")
+    private String type = HCDCMessagingBuilders.EConnectionType.Kafka.name();
+    @Parameter(names = {"--output", "-o"}, required = true, description = "Path of the dictionary file to write.")
+    private String output;
+    @Parameter(names = {"--samples", "-s"}, description = "Number of sample records.")
+    private int samples = 10000;
+    @Parameter(names = {"--size"}, description = "Dictionary size (bytes).")
+    private int size = 16 * 1024;
+    @Parameter(names = {"--timeout"}, description = "Stop reading after no records were received for this long (milliseconds).")
+    private long timeout = 30000;
+
+    public List<byte[]> read(MessageReceiver<String, DFSChangeDelta> receiver) throws MessagingError {
+        List<byte[]> records = new ArrayList<>(samples);
+        while (records.size() < samples) {
+            List<MessageObject<String, DFSChangeDelta>> batch = receiver.nextBatch(timeout);
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            for (MessageObject<String, DFSChangeDelta> message : batch) {
+                records.add(ChangeDeltaSerDe.serialize(message));
+                if (records.size() >= samples) break;
+            }
+        }
+        return records;
+    }
+
+    public void run() throws Exception {
+        try (MessageReceiver<String, DFSChangeDelta> receiver = new HCDCMessagingBuilders.ReceiverBuilder()
+                .type(type)
+                .connection(connection)
+                .manager(NameNodeEnv.connectionManager())
+                .build()) {
+            List<byte[]> records = read(receiver);
+            if (records.isEmpty()) {
+                throw new Exception(String.format("No sample records read. [connection=%s]", connection));
+            }
+            byte[] dictionary = ChangeDeltaCompressor.train(records, size);
+            File file = new File(output);
+            Files.write(file.toPath(), dictionary);
+            DefaultLogger.LOG.info(String.format("Dictionary written. [path=%s][id=%d][size=%d][samples=%d]",
+                    file.getAbsolutePath(), ChangeDeltaCompressor.dictionaryId(dictionary), dictionary.length, records.size()));
+        }
+    }
+
+    public static void main(String[] args) {
+        try {
+            CompressionDictionaryTrainer trainer = new CompressionDictionaryTrainer();
+            JCommander.newBuilder().addObject(trainer).build().parse(args);
+            XMLConfiguration config = ConfigReader.read(trainer.configfile, EConfigFileType.File);
+            NameNodeEnv.setup(config);
+            try {
+                trainer.run();
+            } finally {
+                NameNodeEnv.dispose();
+            }
+        } catch (Throwable t) {
+            DefaultLogger.LOG.debug(DefaultLogger.stacktrace(t));
+            DefaultLogger.LOG.error(t.getLocalizedMessage());
+            t.printStackTrace();
+        }
+    }
+}
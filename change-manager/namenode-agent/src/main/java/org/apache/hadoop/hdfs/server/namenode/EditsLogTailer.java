@@ -0,0 +1,111 @@
+package org.apache.hadoop.hdfs.server.namenode;
+
+import ai.sapper.hcdc.agents.common.DFSAgentError;
+import ai.sapper.hcdc.agents.namenode.model.DFSEditLogBatch;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.apache.hadoop.hdfs.protocol.LayoutFlags;
+import org.apache.hadoop.hdfs.protocol.LayoutVersion;
+import org.apache.hadoop.hdfs.tools.offlineEditsViewer.EditsLogReader;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Incremental reader for the in-progress edits segment (edits_inprogress_N).
+ * <p>
+ * The reader remembers the byte offset and transaction ID of the last completely
+ * decoded operation, so every call to next() only decodes the operations appended
+ * since the previous call. A partially written operation at the tail of the file
+ * is not consumed and will be re-read on the next call.
+ */
+@Getter
+@Accessors(fluent = true)
+public class EditsLogTailer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String path;
+    private int logVersion = -1;
+    private long offset = -1;
+    private long lastTxId = -1;
+    private boolean finalized = false;
+
+    public EditsLogTailer(@NonNull String path) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(path));
+        this.path = path;
+    }
+
+    /**
+     * Decode the operations appended to the in-progress segment since the last call.
+     *
+     * @param processedTxId - Last transaction ID already processed, operations up to this ID are skipped.
+     * @return - Batch of new transactions (possibly empty), NULL if the segment has been rolled.
+     * @throws DFSAgentError
+     */
+    public DFSEditLogBatch next(long processedTxId) throws DFSAgentError {
+        File file = new File(path);
+        if (!file.exists()) {
+            finalized = true;
+            return null;
+        }
+        try {
+            DFSEditLogBatch batch = new DFSEditLogBatch(path);
+            batch.setup();
+            if (finalized) return batch;
+
+            DFSEditLogParser parser = new DFSEditLogParser().withStartTxId(processedTxId + 1);
+            try (FileInputStream fis = new FileInputStream(file)) {
+                long start = Math.max(offset, 0);
+                if (start >= fis.getChannel().size()) return batch;
+                fis.getChannel().position(start);
+                FSEditLogLoader.PositionTrackingInputStream tracker =
+                        new FSEditLogLoader.PositionTrackingInputStream(new BufferedInputStream(fis, BUFFER_SIZE));
+                DataInputStream in = new DataInputStream(tracker);
+                if (offset < 0) {
+                    logVersion = EditLogFileInputStream.readLogVersion(in, true);
+                    if (NameNodeLayoutVersion.supports(LayoutVersion.Feature.ADD_LAYOUT_FLAGS, logVersion)) {
+                        LayoutFlags.read(in);
+                    }
+                    offset = start + tracker.getPos();
+                }
+                batch.version(logVersion);
+                FSEditLogOp.Reader reader = FSEditLogOp.Reader.create(in, tracker, logVersion);
+                while (true) {
+                    FSEditLogOp op;
+                    try {
+                        op = reader.readOp(false);
+                    } catch (IOException ex) {
+                        // Incomplete operation at the tail, will be retried on the next call.
+                        DefaultLogger.LOG.debug(String.format("Stopped reading at partial operation. [file=%s][offset=%d][error=%s]",
+                                path, start + tracker.getPos(), ex.getLocalizedMessage()));
+                        break;
+                    }
+                    if (op == null || op.opCode == FSEditLogOpCodes.OP_INVALID) break;
+                    int size = batch.transactions().size();
+                    parser.parse(op, batch);
+                    if (op.getTransactionId() > processedTxId
+                            && batch.transactions().size() == size) {
+                        batch.transactions().add(EditsLogReader.buildIgnoreTx(op.getTransactionId()));
+                    }
+                    if (op.opCode == FSEditLogOpCodes.OP_END_LOG_SEGMENT) {
+                        finalized = true;
+                    }
+                    offset = start + tracker.getPos();
+                    lastTxId = op.getTransactionId();
+                    if (finalized) break;
+                }
+            }
+            return batch;
+        } catch (Throwable t) {
+            DefaultLogger.LOG.debug(DefaultLogger.stacktrace(t));
+            throw new DFSAgentError(t);
+        }
+    }
+}
@@ -23,6 +23,16 @@ public class EditsLogReader {
     private DFSEditLogBatch batch;
     private CustomEditsVisitor visitor;
 
+    /**
+     * Read the transactions after startTxId (last processed transaction) up to endTxId.
+     * Segments can be partially processed, the range starts after startTxId so that
+     * transactions already sent are not covered again (by the ignore ranges either).
+     *
+     * @param file      - Edits log file
+     * @param startTxId - Last processed transaction ID (-1 to read from the start of the file)
+     * @param endTxId   - Last transaction ID to read (-1 to read to the end of the file)
+     * @throws DFSAgentError
+     */
     public void run(@NonNull DFSEditsFileFinder.EditsLogFile file, long startTxId, long endTxId) throws DFSAgentError {
         try {
             Preconditions.checkArgument(!Strings.isNullOrEmpty(file.path()));
@@ -34,30 +44,25 @@ public class EditsLogReader {
 
             DFSEditLogBatch b = visitor.getBatch();
             batch = new DFSEditLogBatch(b);
-            long stx = Math.max(startTxId, file.startTxId());
+            long stx = Math.max(startTxId + 1, file.startTxId());
             long etx = Math.min(endTxId, file.endTxId());
             if (b.transactions() == null || b.transactions().isEmpty()) {
-                for (long ii = stx; ii <= etx; ii++) {
-                    DFSTransactionType<?> tx = buildIgnoreTx(ii);
-                    batch.transactions().add(tx);
+                if (stx <= etx) {
+                    batch.transactions().add(buildIgnoreTx(stx, etx));
                 }
             } else {
-                long lastTx = stx;
+                long lastTx = stx - 1;
                 for (DFSTransactionType<?> tx : b.transactions()) {
                     if (tx.id() > lastTx) {
-                        for (long ii = lastTx + 1; ii < tx.id(); ii++) {
-                            DFSTransactionType<?> ntx = buildIgnoreTx(ii);
-                            batch.transactions().add(ntx);
+                        if (lastTx + 1 < tx.id()) {
+                            batch.transactions().add(buildIgnoreTx(lastTx + 1, tx.id() - 1));
                         }
                         batch.transactions().add(tx);
                         lastTx = tx.id();
                     }
                 }
-                if (lastTx < etx) {
-                    for (long ii = lastTx + 1; ii < etx; ii++) {
-                        DFSTransactionType<?> ntx = buildIgnoreTx(ii);
-                        batch.transactions().add(ntx);
-                    }
+                if (lastTx + 1 < etx) {
+                    batch.transactions().add(buildIgnoreTx(lastTx + 1, etx - 1));
                 }
             }
         } catch (Throwable t) {
@@ -66,10 +71,20 @@ public class EditsLogReader {
         }
     }
 
-    private DFSTransactionType<?> buildIgnoreTx(long txId) {
+    public static DFSTransactionType<?> buildIgnoreTx(long txId) {
+        return buildIgnoreTx(txId, txId);
+    }
+
+    /**
+     * Build a single ignore transaction for the range [startTxId, endTxId].
+     */
+    public static DFSTransactionType<?> buildIgnoreTx(long startTxId, long endTxId) {
         DFSTransactionType.DFSIgnoreTxType ift = new DFSTransactionType.DFSIgnoreTxType();
-        ift.id(txId).op(DFSTransaction.Operation.IGNORE);
+        ift.id(startTxId).op(DFSTransaction.Operation.IGNORE);
         ift.opCode(FSEditLogOpCodes.OP_INVALID.name());
+        if (endTxId > startTxId) {
+            ift.endTxId(endTxId);
+        }
 
         return ift;
     }
@@ -0,0 +1,294 @@
+package ai.sapper.hcdc.agents.common;
+
+import ai.sapper.hcdc.common.ConfigReader;
+import ai.sapper.hcdc.common.model.DFSChangeDelta;
+import ai.sapper.hcdc.common.model.DFSTransaction;
+import ai.sapper.hcdc.common.model.services.EConfigFileType;
+import ai.sapper.hcdc.core.connections.ConnectionManager;
+import ai.sapper.hcdc.core.connections.MemoryQueueConnection;
+import ai.sapper.hcdc.core.connections.ZookeeperConnection;
+import ai.sapper.hcdc.core.messaging.*;
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.XMLConfiguration;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.curator.test.TestingServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives messages between two stages connected by an in-process queue, as in the fused
+ * pipeline (PipelineRunner): the upstream stage only checkpoints once the downstream stage
+ * has acknowledged what it was sent, and on restart the edit log stage is realigned to it.
+ */
+class MemoryPipelineTest {
+    private static final String NAMESPACE = "test-pipeline";
+    private static final String ZK_CONNECTION = "test-zk";
+    private static final String ZK_BASE_PATH = "/test/hcdc/pipeline";
+    private static final String QUEUE = "test-pipeline-queue";
+    private static final String SENDER = "test-queue-sender";
+    private static final String RECEIVER = "test-queue-receiver";
+    private static final String __CONFIG_FILE = "src/test/resources/configs/pipeline-agent.xml";
+
+    private static TestingServer server;
+    private static ConnectionManager connections;
+    private static ZookeeperConnection connection;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        server = new TestingServer();
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("zookeeper.name", ZK_CONNECTION);
+        config.addProperty("zookeeper.connectionString", server.getConnectString());
+        connection = new ZookeeperConnection();
+        connection.init(config);
+        connection.connect();
+        connections = new ConnectionManager();
+        connections.addConnection(ZK_CONNECTION, connection);
+        connections.addConnection(SENDER, queueConnection(SENDER, MemoryQueueConnection.EQueueMode.Producer));
+        connections.addConnection(RECEIVER, queueConnection(RECEIVER, MemoryQueueConnection.EQueueMode.Consumer));
+    }
+
+    @AfterAll
+    static void dispose() throws Exception {
+        connection.close();
+        server.close();
+    }
+
+    private static MemoryQueueConnection queueConnection(String name,
+                                                         MemoryQueueConnection.EQueueMode mode) throws Exception {
+        return queueConnection(name, QUEUE, mode);
+    }
+
+    private static MemoryQueueConnection queueConnection(String name,
+                                                         String queue,
+                                                         MemoryQueueConnection.EQueueMode mode) throws Exception {
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("memory.name", name);
+        config.addProperty("memory.queue", queue);
+        config.addProperty("memory.mode", mode.name());
+        config.addProperty("memory.size", 16);
+        config.addProperty("memory.ackTimeout", 200);
+        MemoryQueueConnection qc = new MemoryQueueConnection();
+        qc.init(config);
+        return qc;
+    }
+
+    private static ZkStateManager stateManager(String module, int fileCacheSize) throws Exception {
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("state.manager.basePath", ZK_BASE_PATH);
+        config.addProperty("state.manager.connection", ZK_CONNECTION);
+        config.addProperty("state.manager.fileCache.size", fileCacheSize);
+        return new ZkStateManager().init(config, connections, module, NAMESPACE);
+    }
+
+    private static MessageObject<String, DFSChangeDelta> message(long txId) throws Exception {
+        DFSTransaction tnx = DFSTransaction.newBuilder()
+                .setTransactionId(txId)
+                .setOp(DFSTransaction.Operation.IGNORE)
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+        return ChangeDeltaSerDe.createIgnoreTx(NAMESPACE, tnx, MessageObject.MessageMode.New);
+    }
+
+    private static MessageSender<String, DFSChangeDelta> sender() throws Exception {
+        return sender(SENDER);
+    }
+
+    private static MessageSender<String, DFSChangeDelta> sender(String connection) throws Exception {
+        return new HCDCMessagingBuilders.SenderBuilder()
+                .type(HCDCMessagingBuilders.EConnectionType.Memory.name())
+                .connection(connection)
+                .manager(connections)
+                .build();
+    }
+
+    private static MessageReceiver<String, DFSChangeDelta> receiver() throws Exception {
+        return receiver(RECEIVER);
+    }
+
+    private static MessageReceiver<String, DFSChangeDelta> receiver(String connection) throws Exception {
+        return new HCDCMessagingBuilders.ReceiverBuilder()
+                .type(HCDCMessagingBuilders.EConnectionType.Memory.name())
+                .connection(connection)
+                .manager(connections)
+                .build();
+    }
+
+    /**
+     * Upstream (source) stage: state saved on checkpoint only, after the sender flush.
+     */
+    private static void send(MessageSender<String, DFSChangeDelta> sender,
+                             ZkStateManager edits,
+                             ZkStateManager source,
+                             long fromTxId, long toTxId) throws Exception {
+        for (long txId = fromTxId; txId <= toTxId; txId++) {
+            edits.update(txId);
+            sender.send(message(txId));
+            source.update(txId);
+        }
+    }
+
+    @Test
+    void flushAndRestart() {
+        try {
+            ZkStateManager edits = stateManager("edits", 0);
+            ZkStateManager source = stateManager("source", 16);
+            edits.initState(100);
+            source.initState(100);
+
+            MessageSender<String, DFSChangeDelta> sender = sender();
+            MessageReceiver<String, DFSChangeDelta> receiver = receiver();
+            send(sender, edits, source, 101, 105);
+            // Nothing received yet: the flush times out, the source stage can't checkpoint.
+            assertThrows(MessagingError.class, sender::flush);
+
+            List<MessageObject<String, DFSChangeDelta>> batch = receiver.nextBatch(1000);
+            assertNotNull(batch);
+            assertEquals(5, batch.size());
+            for (int ii = 0; ii < 3; ii++) {
+                receiver.ack(batch.get(ii).id());
+            }
+            assertThrows(MessagingError.class, sender::flush);
+            for (int ii = 3; ii < batch.size(); ii++) {
+                receiver.ack(batch.get(ii).id());
+            }
+            sender.flush();
+            source.checkpoint();
+            assertEquals(105, stateManager("source", 16).agentTxState().getProcessedTxId());
+
+            // Received but never acknowledged (lost on crash): no checkpoint.
+            send(sender, edits, source, 106, 108);
+            batch = receiver.nextBatch(1000);
+            assertNotNull(batch);
+            assertEquals(3, batch.size());
+            assertThrows(MessagingError.class, sender::flush);
+
+            // Restart: the queue is dropped with the connections.
+            sender.close();
+            receiver.close();
+            connections.getConnection(SENDER).close();
+            connections.getConnection(RECEIVER).close();
+            edits.close();
+            source.close();
+
+            edits = stateManager("edits", 0);
+            source = stateManager("source", 16);
+            assertEquals(108, edits.agentTxState().getProcessedTxId());
+            long txId = source.agentTxState().getProcessedTxId();
+            assertEquals(105, txId);
+            edits.resetTo(txId);
+            assertEquals(105, stateManager("edits", 0).agentTxState().getProcessedTxId());
+
+            sender = sender();
+            receiver = receiver();
+            assertNull(receiver.nextBatch(100));
+            // The lost transactions are sent again from the realigned edit log stage.
+            send(sender, edits, source, 106, 108);
+            batch = receiver.nextBatch(1000);
+            assertNotNull(batch);
+            assertEquals(3, batch.size());
+            for (MessageObject<String, DFSChangeDelta> message : batch) {
+                receiver.ack(message.id());
+            }
+            sender.flush();
+            source.checkpoint();
+            assertEquals(108, stateManager("source", 16).agentTxState().getProcessedTxId());
+
+            sender.close();
+            receiver.close();
+            edits.close();
+            source.close();
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    /**
+     * Message IDs are not unique (snapshots of the same transaction): every received copy can be
+     * acknowledged once.
+     */
+    @Test
+    void duplicateIds() {
+        try {
+            String queue = "test-duplicate-queue";
+            String senderName = "test-duplicate-sender";
+            String receiverName = "test-duplicate-receiver";
+            connections.addConnection(senderName,
+                    queueConnection(senderName, queue, MemoryQueueConnection.EQueueMode.Producer));
+            connections.addConnection(receiverName,
+                    queueConnection(receiverName, queue, MemoryQueueConnection.EQueueMode.Consumer));
+            MessageSender<String, DFSChangeDelta> sender = sender(senderName);
+            MessageReceiver<String, DFSChangeDelta> receiver = receiver(receiverName);
+            try {
+                sender.send(message(201));
+                sender.send(message(201));
+                List<MessageObject<String, DFSChangeDelta>> batch = receiver.nextBatch(1000);
+                assertNotNull(batch);
+                assertEquals(2, batch.size());
+                assertEquals(batch.get(0).id(), batch.get(1).id());
+                receiver.ack(batch.get(0).id());
+                assertThrows(MessagingError.class, sender::flush);
+                receiver.ack(batch.get(1).id());
+                sender.flush();
+                assertThrows(MessagingError.class, () -> receiver.ack(batch.get(0).id()));
+            } finally {
+                sender.close();
+                receiver.close();
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    /**
+     * The stage queues of the sample fused pipeline configuration connect the stages.
+     */
+    @Test
+    void pipelineConfig() {
+        try {
+            XMLConfiguration xml = ConfigReader.read(__CONFIG_FILE, EConfigFileType.File);
+            Map<String, MemoryQueueConnection> queues = new HashMap<>();
+            for (HierarchicalConfiguration<ImmutableNode> node : xml.configurationsAt("config.connections.connection")) {
+                if (MemoryQueueConnection.class.getCanonicalName().equals(node.getString("type"))) {
+                    MemoryQueueConnection qc = new MemoryQueueConnection();
+                    qc.init(node);
+                    queues.put(qc.name(), qc);
+                }
+            }
+            assertEquals(4, queues.size());
+            String[][] pairs = {{"edits-queue-out", "edits-queue-in"}, {"cdc-queue-out", "cdc-queue-in"}};
+            for (String[] pair : pairs) {
+                MemoryQueueConnection out = queues.get(pair[0]);
+                MemoryQueueConnection in = queues.get(pair[1]);
+                assertTrue(out.canSend());
+                assertTrue(in.canReceive());
+                out.connect();
+                in.connect();
+                try {
+                    assertSame(out.queue(), in.queue());
+                    MessageObject<String, DFSChangeDelta> message = message(1024);
+                    assertTrue(out.queue().put(message, 1000));
+                    assertSame(message, in.queue().poll(1000));
+                    in.queue().ack(1);
+                    assertTrue(out.queue().await(1000));
+                } finally {
+                    out.close();
+                    in.close();
+                }
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ai.sapper.hcdc.agents.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TxLowWaterMarkTest {
+
+    @Test
+    void outOfOrder() {
+        try {
+            TxLowWaterMark mark = new TxLowWaterMark(100, 16);
+            assertTrue(mark.check(103, 103));
+            assertFalse(mark.processed(103, 103));
+            assertTrue(mark.check(102, 102));
+            assertFalse(mark.processed(102, 102));
+            assertEquals(100, mark.mark());
+            assertEquals(2, mark.pending());
+
+            assertFalse(mark.check(103, 103));
+            assertFalse(mark.check(99, 99));
+
+            assertTrue(mark.processed(101, 101));
+            assertEquals(103, mark.mark());
+            assertEquals(0, mark.pending());
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void ranges() {
+        try {
+            TxLowWaterMark mark = new TxLowWaterMark(10, 16);
+            assertTrue(mark.check(15, 20));
+            mark.processed(15, 20);
+            assertFalse(mark.check(18, 18));
+            assertTrue(mark.check(11, 14));
+            assertTrue(mark.processed(11, 14));
+            assertEquals(20, mark.mark());
+
+            assertThrows(Exception.class, () -> mark.check(40, 40));
+
+            mark.processed(23, 23);
+            mark.reset(22);
+            assertEquals(23, mark.mark());
+            assertEquals(0, mark.pending());
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package ai.sapper.hcdc.agents.common;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.retry.RetryOneTime;
+import org.apache.curator.test.TestingServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZkPathIndexTest {
+    private static final String ZK_PATH = "/test/hcdc/index";
+
+    private static TestingServer server;
+    private static CuratorFramework client;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        server = new TestingServer();
+        client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(100));
+        client.start();
+    }
+
+    @AfterAll
+    static void dispose() throws Exception {
+        client.close();
+        server.close();
+    }
+
+    @BeforeEach
+    void reset() throws Exception {
+        new ZkPathIndex(client, ZK_PATH, 16).reset();
+    }
+
+    @Test
+    void linkAndRename() {
+        try {
+            ZkPathIndex index = new ZkPathIndex(client, ZK_PATH, 16).init();
+            index.link("/data/a/f1", 1);
+            index.link("/data/a/b/f2", 2);
+            index.link("/data/c/f3", 3);
+            assertEquals(1, index.resolve("/data/a/f1"));
+            assertEquals(-1, index.resolve("/data/a"));
+            assertTrue(index.isDirectory("/data/a/b"));
+            assertFalse(index.isDirectory("/data/a/f1"));
+
+            // File rename
+            assertNotNull(index.rename("/data/a/f1", "/data/c/f4"));
+            assertEquals(-1, index.resolve("/data/a/f1"));
+            assertEquals(1, index.resolve("/data/c/f4"));
+
+            // Directory rename (move to trash): all the files under it are moved.
+            assertTrue(index.rename("/data/a", "/user/.Trash/Current/data/a").directory());
+            assertFalse(index.isDirectory("/data/a"));
+            assertEquals(-1, index.resolve("/data/a/b/f2"));
+            assertEquals(2, index.resolve("/user/.Trash/Current/data/a/b/f2"));
+            Map<String, Long> files = index.list("/user/.Trash");
+            assertEquals(1, files.size());
+            assertEquals(2L, files.get("/user/.Trash/Current/data/a/b/f2"));
+
+            assertNull(index.rename("/data/missing", "/data/other"));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void overwrite() {
+        try {
+            ZkPathIndex index = new ZkPathIndex(client, ZK_PATH, 16).init();
+            index.link("/data/f1", 1);
+            index.link("/data/f2", 2);
+            assertThrows(StateManagerError.class, () -> index.rename("/data/f1", "/data/f2"));
+            assertEquals(2, index.resolve("/data/f2"));
+
+            assertNotNull(index.rename("/data/f1", "/data/f2", true));
+            assertEquals(-1, index.resolve("/data/f1"));
+            assertEquals(1, index.resolve("/data/f2"));
+
+            // A non-empty directory cannot be replaced.
+            index.link("/data/d1/f3", 3);
+            index.link("/data/d2/f4", 4);
+            assertThrows(StateManagerError.class, () -> index.rename("/data/d1", "/data/d2", true));
+            assertEquals(3, index.resolve("/data/d1/f3"));
+            assertEquals(4, index.resolve("/data/d2/f4"));
+
+            // An empty directory can be replaced.
+            assertEquals(4, index.unlink("/data/d2/f4"));
+            assertNotNull(index.rename("/data/d1", "/data/d2", true));
+            assertFalse(index.isDirectory("/data/d1"));
+            assertEquals(3, index.resolve("/data/d2/f3"));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void cacheInvalidation() {
+        try {
+            ZkPathIndex index = new ZkPathIndex(client, ZK_PATH, 16).init();
+            // Index of another process, sharing the same ZK nodes.
+            ZkPathIndex other = new ZkPathIndex(client, ZK_PATH, 16).init();
+            index.link("/data/a/b/f1", 1);
+            assertEquals(1, other.resolve("/data/a/b/f1"));
+
+            index.rename("/data/a", "/data/x");
+            // The directories cached by the other index must not be used.
+            assertEquals(-1, other.resolve("/data/a/b/f1"));
+            assertEquals(1, other.resolve("/data/x/b/f1"));
+
+            // A new directory at the old path gets a new container.
+            other.link("/data/a/b/f2", 2);
+            assertEquals(2, index.resolve("/data/a/b/f2"));
+            assertEquals(-1, index.resolve("/data/x/b/f2"));
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package ai.sapper.hcdc.agents.common;
+
+import ai.sapper.hcdc.core.DistributedLock;
+import ai.sapper.hcdc.core.connections.ConnectionManager;
+import ai.sapper.hcdc.core.connections.ZookeeperConnection;
+import ai.sapper.hcdc.core.model.DFSBlockState;
+import ai.sapper.hcdc.core.model.DFSFileState;
+import ai.sapper.hcdc.core.model.EBlockState;
+import ai.sapper.hcdc.core.model.EFileState;
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.apache.curator.test.TestingServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZkStateManagerTest {
+    private static final String ZK_CONNECTION = "test-zk";
+    private static final String ZK_BASE_PATH = "/test/hcdc/state";
+
+    private static TestingServer server;
+    private static ConnectionManager connections;
+    private static ZookeeperConnection connection;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        server = new TestingServer();
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("zookeeper.name", ZK_CONNECTION);
+        config.addProperty("zookeeper.connectionString", server.getConnectString());
+        connection = new ZookeeperConnection();
+        connection.init(config);
+        connection.connect();
+        connections = new ConnectionManager();
+        connections.addConnection(ZK_CONNECTION, connection);
+    }
+
+    @AfterAll
+    static void dispose() throws Exception {
+        connection.close();
+        server.close();
+    }
+
+    private static ZkStateManager stateManager(String instance,
+                                               int maxDeltas,
+                                               boolean background,
+                                               long interval) throws Exception {
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("state.manager.basePath", ZK_BASE_PATH);
+        config.addProperty("state.manager.connection", ZK_CONNECTION);
+        config.addProperty("state.manager.fileCache.size", 16);
+        config.addProperty("state.manager.compaction.maxDeltas", maxDeltas);
+        config.addProperty("state.manager.compaction.background", background);
+        config.addProperty("state.manager.compaction.interval", interval);
+        return new ZkStateManager().init(config, connections, instance, instance);
+    }
+
+    private static DFSBlockState block(ZkStateManager manager, String path) throws Exception {
+        DFSFileState fileState = manager.get(path);
+        assertNotNull(fileState);
+        DFSBlockState blockState = fileState.get(1);
+        assertNotNull(blockState);
+        return blockState;
+    }
+
+    @Test
+    void sweep() {
+        try {
+            // Runs are triggered by the test.
+            ZkStateManager manager = stateManager("sweep", 2, true, 10 * 60 * 1000);
+            try {
+                manager.initState(100);
+                String path = "/data/sweep/f1";
+                long now = System.currentTimeMillis();
+                manager.create(path, 1, now, 1024 * 1024, EFileState.New, 10);
+                for (long txId = 11; txId <= 16; txId++) {
+                    manager.addOrUpdateBlock(path, 1, -1, now, (txId - 10) * 100,
+                            1001, EBlockState.Updating, txId);
+                }
+                // Queued for the checkpoint, not compacted inline.
+                assertEquals(6, block(manager, path).getTransactions().size());
+
+                // Transactions 14 and later are not yet acknowledged downstream.
+                manager.updateDownstreamTxId(14);
+                assertEquals(14, manager.retentionTxId());
+                assertEquals(1, manager.sweep());
+                DFSBlockState blockState = block(manager, path);
+                assertEquals(4, blockState.getTransactions().size());
+                assertEquals(13, blockState.getTransactions().get(0).getTnxId());
+                assertEquals(0, blockState.getTransactions().get(0).getStartOffset());
+                assertEquals(0, manager.sweep());
+
+                // The floor moves with the downstream checkpoint.
+                manager.updateDownstreamTxId(101);
+                assertEquals(101, manager.retentionTxId());
+                manager.addOrUpdateBlock(path, 1, -1, now, 700, 1001, EBlockState.Updating, 17);
+                assertEquals(1, manager.sweep());
+                blockState = block(manager, path);
+                assertEquals(3, blockState.getTransactions().size());
+                assertEquals(15, blockState.getTransactions().get(0).getTnxId());
+                assertEquals(16, blockState.getTransactions().get(1).getTnxId());
+                assertEquals(17, blockState.getTransactions().get(2).getTnxId());
+            } finally {
+                manager.close();
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    @Test
+    void inline() {
+        try {
+            ZkStateManager manager = stateManager("inline", 2, false, 0);
+            try {
+                manager.initState(100);
+                String path = "/data/inline/f1";
+                long now = System.currentTimeMillis();
+                manager.create(path, 1, now, 1024 * 1024, EFileState.New, 10);
+                for (long txId = 11; txId <= 16; txId++) {
+                    manager.addOrUpdateBlock(path, 1, -1, now, (txId - 10) * 100,
+                            1001, EBlockState.Updating, txId);
+                }
+                // Not queued, the deltas are merged on update.
+                DFSBlockState blockState = block(manager, path);
+                assertEquals(3, blockState.getTransactions().size());
+                assertEquals(14, blockState.getTransactions().get(0).getTnxId());
+                assertEquals(0, blockState.getTransactions().get(0).getStartOffset());
+                assertEquals(0, manager.sweep());
+            } finally {
+                manager.close();
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
+    /**
+     * The processor thread checkpoints (and runs the queued compaction) while another thread
+     * updates file states under the replication lock, as the snapshot processor does.
+     */
+    @Test
+    void sweepOnCheckpoint() {
+        try {
+            ZkStateManager manager = stateManager("checkpoint", 2, true, 0);
+            DistributedLock lock = new DistributedLock("test", "checkpoint", ZK_BASE_PATH)
+                    .withConnection(connection);
+            manager.withReplicationLock(lock);
+            try {
+                manager.initState(100);
+                long now = System.currentTimeMillis();
+                String source = "/data/checkpoint/source";
+                String snapshot = "/data/checkpoint/snapshot";
+                manager.create(source, 1, now, 1024 * 1024, EFileState.New, 10);
+                manager.create(snapshot, 2, now, 1024 * 1024, EFileState.New, 10);
+                int count = 200;
+                AtomicReference<Throwable> error = new AtomicReference<>();
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (long txId = 11; txId <= count + 10; txId++) {
+                            manager.replicationLock().lock();
+                            try {
+                                manager.addOrUpdateBlock(snapshot, 2, -1, now, (txId - 10) * 100,
+                                        1002, EBlockState.Updating, txId);
+                            } finally {
+                                manager.replicationLock().unlock();
+                            }
+                        }
+                    } catch (Throwable t) {
+                        error.set(t);
+                    }
+                });
+                thread.start();
+                for (long txId = 101; txId <= count + 100; txId++) {
+                    manager.addOrUpdateBlock(source, 1, -1, now, (txId - 100) * 100,
+                            1001, EBlockState.Updating, txId);
+                    manager.update(txId);
+                    manager.updateDownstreamTxId(txId);
+                    manager.checkpoint();
+                }
+                thread.join();
+                assertNull(error.get());
+                manager.updateDownstreamTxId(Long.MAX_VALUE);
+                manager.addOrUpdateBlock(snapshot, 2, -1, now, (count + 1) * 100,
+                        1002, EBlockState.Updating, count + 11);
+                manager.checkpoint();
+
+                DFSBlockState blockState = block(manager, source);
+                assertTrue(blockState.getTransactions().size() <= 3);
+                assertEquals(count * 100, blockState.getDataSize());
+                blockState = block(manager, snapshot);
+                assertTrue(blockState.getTransactions().size() <= 3);
+                assertEquals((count + 1) * 100, blockState.getDataSize());
+                // The lock is free and owned by neither thread.
+                assertTrue(lock.tryLock());
+                lock.unlock();
+            } finally {
+                manager.close();
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ai.sapper.hcdc.agents.namenode.main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FSImageLoaderTest {
+    private static final String FS_IMAGE_FILE = "src/test/resources/edits/fsimage_0000000000000014695";
+
+    @Test
+    void load() {
+        try {
+            FSImageLoader loader = new FSImageLoader(FS_IMAGE_FILE).init();
+            assertEquals(14695, loader.txId());
+
+            Map<String, NameNodeReplicator.DFSInode> files = new HashMap<>();
+            long count = loader.load(files::put);
+            assertTrue(count > 0);
+            assertEquals(count, files.size());
+            assertTrue(loader.dirCount() > 0);
+
+            NameNodeReplicator.DFSInode inode = files.get("/test/hcdc/loader/parquet/tags/2022/06/13/11/tags_54.parquet");
+            assertNotNull(inode);
+            assertEquals(NameNodeReplicator.EInodeType.FILE, inode.type());
+            assertNotNull(inode.blocks());
+            assertFalse(inode.blocks().isEmpty());
+            assertTrue(inode.preferredBlockSize() > 0);
+            for (String path : files.keySet()) {
+                assertTrue(path.startsWith("/"));
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package ai.sapper.hcdc.agents.pipeline;
+
+import ai.sapper.hcdc.agents.common.ProcessorStateManager;
+import ai.sapper.hcdc.agents.common.TransactionProcessor;
+import ai.sapper.hcdc.agents.common.TxLowWaterMark;
+import ai.sapper.hcdc.common.model.*;
+import ai.sapper.hcdc.core.connections.ConnectionManager;
+import ai.sapper.hcdc.core.connections.ZookeeperConnection;
+import ai.sapper.hcdc.core.messaging.ChangeDeltaSerDe;
+import ai.sapper.hcdc.core.messaging.MessageObject;
+import ai.sapper.hcdc.core.messaging.MessageSender;
+import ai.sapper.hcdc.core.messaging.MessagingError;
+import ai.sapper.hcdc.core.model.DFSFileState;
+import ai.sapper.hcdc.core.model.EFileState;
+import lombok.NonNull;
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.apache.curator.test.TestingServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Renames a directory into a registered domain on the CDC stage and replays what it sends
+ * through the sequence checks of the files stage (FileDeltaProcessor).
+ */
+class RenameDirectoryTest {
+    private static final String NAMESPACE = "test-rename";
+    private static final String ZK_CONNECTION = "test-zk";
+    private static final String ZK_BASE_PATH = "/test/hcdc/rename";
+
+    private static TestingServer server;
+    private static ConnectionManager connections;
+    private static ZookeeperConnection connection;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        server = new TestingServer();
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("zookeeper.name", ZK_CONNECTION);
+        config.addProperty("zookeeper.connectionString", server.getConnectString());
+        connection = new ZookeeperConnection();
+        connection.init(config);
+        connection.connect();
+        connections = new ConnectionManager();
+        connections.addConnection(ZK_CONNECTION, connection);
+    }
+
+    @AfterAll
+    static void dispose() throws Exception {
+        connection.close();
+        server.close();
+    }
+
+    private static ProcessorStateManager stateManager(String module) throws Exception {
+        BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.addProperty("state.manager.basePath", ZK_BASE_PATH);
+        config.addProperty("state.manager.connection", ZK_CONNECTION);
+        config.addProperty("domain.manager.basePath", ZK_BASE_PATH);
+        config.addProperty("domain.manager.connection", ZK_CONNECTION);
+        return (ProcessorStateManager) new ProcessorStateManager().init(config, connections, module, NAMESPACE);
+    }
+
+    private static class CapturingSender extends MessageSender<String, DFSChangeDelta> {
+        private final List<MessageObject<String, DFSChangeDelta>> messages = new ArrayList<>();
+
+        @Override
+        public MessageObject<String, DFSChangeDelta> send(@NonNull MessageObject<String, DFSChangeDelta> message) throws MessagingError {
+            messages.add(message);
+            return message;
+        }
+
+        @Override
+        public List<MessageObject<String, DFSChangeDelta>> sent(@NonNull List<MessageObject<String, DFSChangeDelta>> messages) throws MessagingError {
+            for (MessageObject<String, DFSChangeDelta> message : messages) {
+                send(message);
+            }
+            return messages;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static MessageObject<String, DFSChangeDelta> rename(long txId, String source, long inodeId, String target) throws Exception {
+        DFSTransaction tnx = DFSTransaction.newBuilder()
+                .setTransactionId(txId)
+                .setOp(DFSTransaction.Operation.RENAME)
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+        DFSRenameFile rename = DFSRenameFile.newBuilder()
+                .setTransaction(tnx)
+                .setSrcFile(DFSFile.newBuilder().setPath(source).setInodeId(inodeId).build())
+                .setDestFile(DFSFile.newBuilder().setPath(target).setInodeId(inodeId).build())
+                .setLength(0)
+                .build();
+        return ChangeDeltaSerDe.create(NAMESPACE, rename, DFSRenameFile.class, null, null,
+                MessageObject.MessageMode.New);
+    }
+
+    @Test
+    void renameIntoDomain() {
+        try {
+            ProcessorStateManager cdc = stateManager("cdc");
+            cdc.domainManager().add("test", "events", "/data/domain", ".*");
+            cdc.initState(100);
+            long now = System.currentTimeMillis();
+            cdc.create("/data/staging/d1/f1", 1001, now, 1024 * 1024, EFileState.New, 10);
+            cdc.create("/data/staging/d1/f2", 1002, now, 1024 * 1024, EFileState.New, 11);
+
+            CapturingSender cdcSender = new CapturingSender();
+            CDCTransactionProcessor cdcProcessor = new CDCTransactionProcessor();
+            cdcProcessor.withSenderQueue(cdcSender)
+                    .withStateManager(cdc)
+                    .withErrorQueue(new CapturingSender());
+            cdcProcessor.processTxMessage(rename(101, "/data/staging/d1", 1000, "/data/domain/d1"), 101);
+
+            // A snapshot for each file (at the transaction of the file) and the rename as an ignore message.
+            assertEquals(3, cdcSender.messages.size());
+            for (int ii = 0; ii < 2; ii++) {
+                MessageObject<String, DFSChangeDelta> m = cdcSender.messages.get(ii);
+                assertTrue(ChangeDeltaSerDe.isType(m.value(), DFSChangeDelta.DeltaType.ADD_FILE));
+                assertEquals(MessageObject.MessageMode.Backlog, m.mode());
+                assertTrue(ChangeDeltaSerDe.txId(m.value()) <= 100);
+            }
+            MessageObject<String, DFSChangeDelta> im = cdcSender.messages.get(2);
+            assertTrue(ChangeDeltaSerDe.isType(im.value(), DFSChangeDelta.DeltaType.IGNORE_TX));
+            assertEquals(MessageObject.MessageMode.New, im.mode());
+            assertEquals(101, ChangeDeltaSerDe.txId(im.value()));
+
+            ProcessorStateManager files = stateManager("files");
+            files.initState(100);
+            FileTransactionProcessor fileProcessor = new FileTransactionProcessor();
+            fileProcessor.withSenderQueue(new CapturingSender())
+                    .withStateManager(files)
+                    .withErrorQueue(new CapturingSender());
+            TxLowWaterMark lowWaterMark = new TxLowWaterMark(files.agentTxState().getProcessedTxId(),
+                    FileDeltaProcessor.FileDeltaProcessorConfig.DEFAULT_SEQUENCE_WINDOW);
+            for (MessageObject<String, DFSChangeDelta> m : cdcSender.messages) {
+                long startTxId = ChangeDeltaSerDe.txId(m.value());
+                long txId = TransactionProcessor.lastTxId(m, startTxId);
+                if (m.mode() == MessageObject.MessageMode.New) {
+                    assertTrue(lowWaterMark.check(startTxId, txId));
+                }
+                fileProcessor.processTxMessage(m, txId);
+                if (m.mode() == MessageObject.MessageMode.New) {
+                    lowWaterMark.processed(startTxId, txId);
+                }
+            }
+            assertEquals(101, lowWaterMark.mark());
+            for (String path : new String[]{"/data/domain/d1/f1", "/data/domain/d1/f2"}) {
+                DFSFileState fileState = files.get(path);
+                assertNotNull(fileState);
+                assertNotNull(files.get(fileState.getId()));
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.apache.hadoop.hdfs.server.namenode;
+
+import ai.sapper.hcdc.agents.namenode.model.DFSEditLogBatch;
+import ai.sapper.hcdc.agents.namenode.model.DFSTransactionType;
+import ai.sapper.hcdc.common.utils.DefaultLogger;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EditsLogTailerTest {
+    private static final String EDITS_FILE_01 = "src/test/resources/edits/edits_0000000000000013861-0000000000000013903";
+    private static final String EDITS_FILE_CURRENT = "edits_inprogress_0000000000000013861";
+
+    @Test
+    void next() {
+        try {
+            byte[] data = Files.readAllBytes(new File(EDITS_FILE_01).toPath());
+            File dir = Files.createTempDirectory("hcdc-edits").toFile();
+            File current = new File(dir, EDITS_FILE_CURRENT);
+            current.deleteOnExit();
+            dir.deleteOnExit();
+
+            int split = data.length / 2;
+            try (FileOutputStream fos = new FileOutputStream(current)) {
+                fos.write(data, 0, split);
+            }
+            EditsLogTailer tailer = new EditsLogTailer(current.getAbsolutePath());
+            DFSEditLogBatch batch = tailer.next(13860);
+            assertNotNull(batch);
+            long lastTxId = 13860;
+            for (DFSTransactionType<?> tnx : batch.transactions()) {
+                assertEquals((lastTxId + 1), tnx.id());
+                lastTxId = tnx.id();
+            }
+            assertEquals(lastTxId, tailer.lastTxId());
+            assertFalse(tailer.finalized());
+            assertTrue(tailer.offset() <= split);
+
+            batch = tailer.next(lastTxId);
+            assertNotNull(batch);
+            assertTrue(batch.transactions().isEmpty());
+
+            try (FileOutputStream fos = new FileOutputStream(current, true)) {
+                fos.write(data, split, data.length - split);
+            }
+            batch = tailer.next(lastTxId);
+            assertNotNull(batch);
+            assertFalse(batch.transactions().isEmpty());
+            for (DFSTransactionType<?> tnx : batch.transactions()) {
+                assertEquals((lastTxId + 1), tnx.id());
+                DefaultLogger.LOG.info(tnx.toString());
+                lastTxId = tnx.id();
+            }
+            assertEquals(13903, lastTxId);
+            assertTrue(tailer.finalized());
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+}
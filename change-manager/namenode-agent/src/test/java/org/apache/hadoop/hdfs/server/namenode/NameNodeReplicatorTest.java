@@ -20,9 +20,7 @@ class NameNodeReplicatorTest {
             String[] args = {"--image",
                     "src/test/resources/edits/fsimage_0000000000000014695",
                     "--config",
-                    __CONFIG_FILE,
-                    "--tmp",
-                    "/Work/temp/output/test"};
+                    __CONFIG_FILE};
             NameNodeReplicator.main(args);
 
             ZkStateManager stateManager = NameNodeEnv.stateManager();
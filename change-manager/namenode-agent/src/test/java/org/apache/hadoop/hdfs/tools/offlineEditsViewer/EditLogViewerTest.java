@@ -42,6 +42,31 @@ class EditLogViewerTest {
         }
     }
 
+    @Test
+    void resume() {
+        try {
+            DFSEditsFileFinder.EditsLogFile file = DFSEditsFileFinder.parseFileName(EDITS_FILE_01);
+            assertNotNull(file);
+            long processed = file.startTxId() + 5;
+            EditsLogReader viewer = new EditsLogReader();
+            viewer.run(file, processed, file.endTxId());
+
+            List<DFSTransactionType<?>> transactions = viewer.batch().transactions();
+            assertNotNull(transactions);
+            assertFalse(transactions.isEmpty());
+            // Starts after the processed transaction, nothing already sent is covered again.
+            assertEquals(processed + 1, transactions.get(0).id());
+            long lastTxId = processed;
+            for (DFSTransactionType<?> tnx : transactions) {
+                assertEquals((lastTxId + 1), tnx.id());
+                lastTxId = tnx.lastTxId();
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            fail(t);
+        }
+    }
+
     @Test
     void runFor() {
         try {